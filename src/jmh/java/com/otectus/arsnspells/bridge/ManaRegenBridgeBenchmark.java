@@ -0,0 +1,49 @@
+package com.otectus.arsnspells.bridge;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pure regen unit conversions, evaluated on every Ars {@code ManaRegenCalcEvent} and
+ * every equipment-driven regen sync. The {@code convert*} wrappers add a read of
+ * {@code AnsConfigSnapshot} and a per-player {@code Factors} lookup keyed by a live
+ * Player, so they are not benchmarked here; {@code ManaRegenFactorsTest} checks that
+ * the cached factors match these conversions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ManaRegenBridgeBenchmark {
+
+    double arsAbsPerSec = 2.5;
+    double ironsRegenAttr = 1.0;
+    double ironsMaxMana = 1000.0;
+
+    @Benchmark
+    public double arsToIrons() {
+        return ManaRegenBridge.arsToIronsRegen(arsAbsPerSec, ironsMaxMana);
+    }
+
+    @Benchmark
+    public double ironsToArs() {
+        return ManaRegenBridge.ironsToArsRegen(ironsRegenAttr, ironsMaxMana);
+    }
+
+    @Benchmark
+    public double roundTrip() {
+        return ManaRegenBridge.ironsToArsRegen(
+            ManaRegenBridge.arsToIronsRegen(arsAbsPerSec, ironsMaxMana), ironsMaxMana);
+    }
+}
@@ -0,0 +1,50 @@
+package com.otectus.arsnspells.compat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scroll LP staging: one stage at the scroll HEAD and one take at its RETURN per
+ * scroll cast by a Cursed Ring wearer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScrollLPTrackerBenchmark {
+
+    final UUID playerId = UUID.randomUUID();
+
+    @Benchmark
+    public ScrollLPTracker.Entry stageTake() {
+        ScrollLPTracker.stage(playerId, 50, false, 25.0f);
+        return ScrollLPTracker.take(playerId);
+    }
+
+    /** Two overlapping scroll casts drained FIFO (ANS-MED-042). */
+    @Benchmark
+    public ScrollLPTracker.Entry stageStageTakeTake() {
+        ScrollLPTracker.stage(playerId, 50, false);
+        ScrollLPTracker.stage(playerId, 75, true);
+        ScrollLPTracker.take(playerId);
+        return ScrollLPTracker.take(playerId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ScrollLPTracker.clear(playerId);
+    }
+}
@@ -0,0 +1,54 @@
+package com.otectus.arsnspells.data;
+
+import com.otectus.arsnspells.affinity.AffinityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fractional affinity decay: one interval's accrual, and the closed-form catch-up
+ * {@code AffinityData} runs when a school is read after a long idle stretch.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DecayAccumulatorBenchmark {
+
+    private static final AffinityType[] TYPES = AffinityType.values();
+
+    DecayAccumulator accumulator;
+
+    @Setup
+    public void setup() {
+        accumulator = new DecayAccumulator();
+    }
+
+    /** One interval's accrual across every school, as the decay pass does per player. */
+    @Benchmark
+    public int accrueAllSchools() {
+        int removed = 0;
+        for (AffinityType type : TYPES) {
+            removed += accumulator.accrue(type, 0.0137);
+        }
+        return removed;
+    }
+
+    /** A level-100 school settled after an hour of game time (60 default intervals). */
+    @Benchmark
+    public int decayHourIdle() {
+        accumulator.clear(TYPES[0]);
+        return accumulator.decay(TYPES[0], 100, 60, 0.0005);
+    }
+}
@@ -0,0 +1,51 @@
+package com.otectus.arsnspells.spell;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-cast {@link CrossCastContext} lifecycle: begin at cast dispatch, peek from
+ * the cost-calc handler, take at the resolver TAIL. Drives the package-private
+ * UUID-keyed core so no Minecraft Player is needed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CrossCastContextBenchmark {
+
+    final UUID playerId = UUID.randomUUID();
+    final UUID attemptId = UUID.randomUUID();
+    long gameTime;
+
+    @Benchmark
+    public CrossCastContext.Entry beginPeekTake() {
+        long now = ++gameTime;
+        CrossCastContext.beginFor(playerId, CrossSpellType.ARS_NOUVEAU, now, attemptId);
+        CrossCastContext.Entry peeked = CrossCastContext.peekFor(playerId, now);
+        if (peeked == null) {
+            throw new IllegalStateException("entry must be live within its TTL");
+        }
+        return CrossCastContext.takeFor(playerId, now);
+    }
+
+    /** Same lifecycle with several server-side callers contending on the shared map. */
+    @Benchmark
+    @Threads(4)
+    public CrossCastContext.Entry beginPeekTakeContended() {
+        return beginPeekTake();
+    }
+}
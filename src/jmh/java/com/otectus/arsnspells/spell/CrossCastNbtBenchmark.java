@@ -0,0 +1,63 @@
+package com.otectus.arsnspells.spell;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cross-cast inscription NBT: writing entries onto a book tag and the read paths
+ * the proxy spell and wheel walk on every cast.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CrossCastNbtBenchmark {
+
+    private static final ResourceLocation SPELL_ID = new ResourceLocation("ars_nouveau", "glyph_ignite");
+
+    CompoundTag arsSpell;
+    CompoundTag fullBook;
+
+    @Setup
+    public void setup() {
+        arsSpell = new CompoundTag();
+        arsSpell.putString("name", "bench");
+        fullBook = new CompoundTag();
+        for (int k = 1; k <= CrossCastNbt.PROXY_POOL_SIZE; k++) {
+            CrossCastNbt.addArsEntryWithMetaToTag(fullBook, SPELL_ID, 1, arsSpell.copy(), k,
+                "Spell " + k, "fire", "flame");
+        }
+    }
+
+    /** Inscribe one entry onto a fresh tag and read it back by pool id. */
+    @Benchmark
+    public CompoundTag addThenFind() {
+        CompoundTag tag = new CompoundTag();
+        int pool = CrossCastNbt.allocateProxyPoolId(tag, CrossCastNbt.PROXY_POOL_SIZE);
+        CrossCastNbt.addArsEntryWithMetaToTag(tag, SPELL_ID, 1, arsSpell, pool, "Bench", "fire", "flame");
+        return CrossCastNbt.findEntryByProxyPoolId(tag, pool);
+    }
+
+    /** Read paths against a book with every proxy slot taken. */
+    @Benchmark
+    public void readFullBook(Blackhole bh) {
+        bh.consume(CrossCastNbt.findEntryByProxyPoolId(fullBook, CrossCastNbt.PROXY_POOL_SIZE));
+        bh.consume(CrossCastNbt.countArsEntries(fullBook));
+        bh.consume(CrossCastNbt.allocateProxyPoolId(fullBook, CrossCastNbt.PROXY_POOL_SIZE));
+    }
+}
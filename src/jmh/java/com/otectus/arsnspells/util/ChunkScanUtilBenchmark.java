@@ -0,0 +1,43 @@
+package com.otectus.arsnspells.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chunk-coverage math run by {@code RegenSynergyHandler} before every Source Jar scan
+ * (once per player per scan interval).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkScanUtilBenchmark {
+
+    @Param({"4", "8", "16"})
+    int radius;
+
+    // Off-grid and negative positions so the arithmetic-shift flooring path is hit.
+    int blockX = -1_337;
+    int blockZ = 2_049;
+
+    @Benchmark
+    public void coveredChunkKeys(Blackhole bh) {
+        long[] keys = ChunkScanUtil.coveredChunkKeys(blockX, blockZ, radius);
+        for (long key : keys) {
+            bh.consume(ChunkScanUtil.chunkX(key) ^ ChunkScanUtil.chunkZ(key));
+        }
+    }
+}
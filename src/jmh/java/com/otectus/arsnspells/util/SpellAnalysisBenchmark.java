@@ -0,0 +1,57 @@
+package com.otectus.arsnspells.util;
+
+import net.minecraft.resources.ResourceLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Glyph registry name to school mapping, run for every Ars cast by the affinity,
+ * progression, scaling and curio-discount handlers. Mixes explicit-map hits
+ * (audit F8) with unknown glyphs that fall through to the substring heuristic.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpellAnalysisBenchmark {
+
+    private static final ResourceLocation[] KNOWN = {
+        new ResourceLocation("ars_nouveau", "glyph_ignite"),
+        new ResourceLocation("ars_nouveau", "glyph_freeze"),
+        new ResourceLocation("ars_nouveau", "glyph_heal"),
+        new ResourceLocation("ars_nouveau", "glyph_firework"),
+    };
+
+    private static final ResourceLocation[] HEURISTIC = {
+        new ResourceLocation("ars_nouveau", "glyph_break"),
+        new ResourceLocation("ars_elemental", "glyph_water_burst"),
+        new ResourceLocation("ars_nouveau", "glyph_harm"),
+        new ResourceLocation("othermod", "glyph_void_rift"),
+    };
+
+    @Benchmark
+    public void knownGlyphs(Blackhole bh) {
+        for (ResourceLocation id : KNOWN) {
+            bh.consume(SpellAnalysis.deriveSchool(id));
+        }
+    }
+
+    @Benchmark
+    public void heuristicGlyphs(Blackhole bh) {
+        for (ResourceLocation id : HEURISTIC) {
+            bh.consume(SpellAnalysis.deriveSchool(id));
+        }
+    }
+}
@@ -16,7 +16,6 @@ import com.otectus.arsnspells.registry.ModItemsRegistry;
 import com.otectus.arsnspells.registry.ModMenus;
 import com.otectus.arsnspells.rituals.RitualRegistryHandler;
 import com.otectus.arsnspells.spell.CrossCastingHandler;
-import com.otectus.arsnspells.spell.CrossCastIronsHandler;
 import com.otectus.arsnspells.util.StartupValidator;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.Entity;
@@ -91,14 +90,15 @@ public class ArsNSpells {
 
         MinecraftForge.EVENT_BUS.addGenericListener(Entity.class, this::onAttachCapabilities);
         // Instance-registered handlers (no @Mod.EventBusSubscriber, use instance @SubscribeEvent methods)
-        MinecraftForge.EVENT_BUS.register(new CooldownHandler());
-        MinecraftForge.EVENT_BUS.register(new AffinityHandler());
-        MinecraftForge.EVENT_BUS.register(new AffinityDecayHandler());
+        // CooldownHandler and AffinityHandler are stages of ArsCastPipeline (the single
+        // SpellCastEvent listener) and no longer register themselves.
+        // AffinityDecayHandler retired: affinity decay is applied lazily by AffinityData
+        // from the game time elapsed since each school was last touched.
         // AffinitySyncOnLoginHandler retired in 2.0.0 — its job is subsumed by
         // CapabilityResyncHandler (auto-registered, covers login/respawn/dim).
         // ArsNSpellsCommands has no @Mod.EventBusSubscriber, needs explicit registration
         MinecraftForge.EVENT_BUS.register(ArsNSpellsCommands.class);
-        // Note: CrossCastingHandler, EquipmentHandler, CurioDiscountHandler, CursedRingHandler,
+        // Note: CrossCastingHandler, EquipmentHandler, ArsCostStage, ArsCastPipeline, CursedRingHandler,
         // VirtueRingHandler, LPDeathPrevention, AuraCapabilityProvider,
         // CapabilityResyncHandler are auto-registered via @Mod.EventBusSubscriber —
         // do NOT register them here to avoid double-firing.
@@ -108,14 +108,16 @@ public class ArsNSpells {
             // IronsLPHandler used to auto-subscribe but its Iron's-API imports
             // would crash an Iron's-less server at classload, so it is now
             // gated and instance-registered here too.
-            MinecraftForge.EVENT_BUS.register(new IronsCooldownHandler());
+            // IronsCastPipeline is the single listener set for Iron's PreCast/OnCast;
+            // IronsCooldownHandler, IronsAffinityHandler, IronsProgressionHandler and
+            // CrossCastIronsHandler are its stages and no longer register themselves.
+            // IronsLPHandler is a stage too, but still listens for its sweep and logout.
+            MinecraftForge.EVENT_BUS.register(new IronsCastPipeline());
             MinecraftForge.EVENT_BUS.register(new ProgressionHandler());
-            MinecraftForge.EVENT_BUS.register(new IronsProgressionHandler());
-            MinecraftForge.EVENT_BUS.register(new IronsAffinityHandler());
             MinecraftForge.EVENT_BUS.register(new ArsSpellScalingHandler());
             MinecraftForge.EVENT_BUS.register(new ResonanceEvents());
             MinecraftForge.EVENT_BUS.register(new RegenSynergyHandler());
-            MinecraftForge.EVENT_BUS.register(new CrossCastIronsHandler());
+            MinecraftForge.EVENT_BUS.register(new SourceJarIndex());
             MinecraftForge.EVENT_BUS.register(new IronsLPHandler());
             // IronsAuraHandler deleted: Covenant of the Seven's own Iron's integration
             // deducts aura natively for Iron's spells. We were double-paying.
@@ -131,8 +133,8 @@ public class ArsNSpells {
     }
 
     private void onAttachCapabilities(AttachCapabilitiesEvent<Entity> event) {
-        if (event.getObject() instanceof Player) {
-            event.addCapability(new ResourceLocation(MODID, "bridge_data"), new ModCapabilityProvider());
+        if (event.getObject() instanceof Player player) {
+            event.addCapability(new ResourceLocation(MODID, "bridge_data"), new ModCapabilityProvider(player));
         }
     }
 
@@ -171,7 +173,10 @@ public class ArsNSpells {
         // an unloaded spec — i.e. from defaults. Without this refresh, the mode a
         // server owner set in ars_n_spells-server.toml was silently ignored until
         // someone ran /ans mode set. Re-select bridges now that real values exist.
+        // The snapshot is published first: refreshMode() and every runtime reader
+        // go through it.
         try {
+            com.otectus.arsnspells.config.AnsConfigSnapshot.rebuild();
             com.otectus.arsnspells.bridge.BridgeManager.refreshMode();
         } catch (Exception e) {
             LOGGER.error("FAILED to refresh mana bridge mode from loaded config", e);
@@ -218,6 +223,7 @@ public class ArsNSpells {
             return;
         }
         try {
+            com.otectus.arsnspells.config.AnsConfigSnapshot.rebuild();
             com.otectus.arsnspells.bridge.BridgeManager.refreshMode();
         } catch (Exception e) {
             LOGGER.error("FAILED to refresh mana bridge mode after config reload", e);
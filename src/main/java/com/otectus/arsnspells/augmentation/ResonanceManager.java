@@ -1,6 +1,6 @@
 package com.otectus.arsnspells.augmentation;
 
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import io.redspace.ironsspellbooks.api.magic.MagicData;
 import io.redspace.ironsspellbooks.api.registry.AttributeRegistry;
 import net.minecraft.server.MinecraftServer;
@@ -26,7 +26,7 @@ public class ResonanceManager {
     private static volatile double clientResonance = 1.0;
 
     public static double getResonance(Player player) {
-        if (player == null || !AnsConfig.ENABLE_RESONANCE_SYSTEM.get()) {
+        if (player == null || !AnsConfigSnapshot.get().enableResonanceSystem) {
             return 1.0;
         }
         if (player.level().isClientSide()) {
@@ -47,7 +47,7 @@ public class ResonanceManager {
 
     public static void computeResonance(Player player) {
         try {
-            if (player == null || !AnsConfig.ENABLE_RESONANCE_SYSTEM.get()) {
+            if (player == null || !AnsConfigSnapshot.get().enableResonanceSystem) {
                 return;
             }
             if (!ModList.get().isLoaded("irons_spellbooks")) {
@@ -63,8 +63,8 @@ public class ResonanceManager {
             // without the clamp, resonance scales unboundedly into spell damage.
             double rawPercent = data.getMana() / Math.max(1.0, maxMana);
             double manaPercent = Math.max(0.0, Math.min(1.0, rawPercent));
-            double strength = AnsConfig.RESONANCE_STRENGTH.get();
-            double cap = AnsConfig.MAX_DAMAGE_MULTIPLIER.get();
+            double strength = AnsConfigSnapshot.get().resonanceStrength;
+            double cap = AnsConfigSnapshot.get().maxDamageMultiplier;
 
             // Cap the final resonance to the documented MAX_DAMAGE_MULTIPLIER ceiling.
             double resonance = Math.min(cap, 1.0 + (manaPercent * strength * 0.2));
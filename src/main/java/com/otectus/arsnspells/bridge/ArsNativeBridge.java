@@ -1,33 +1,41 @@
 package com.otectus.arsnspells.bridge;
 
 import com.hollingsworth.arsnouveau.api.mana.IManaCap;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.util.ManaUtil;
 import net.minecraft.world.entity.player.Player;
 
 public class ArsNativeBridge implements IManaBridge {
+    // Resolved once per player entity instead of a getCapability/LazyOptional walk on
+    // every call; see PlayerHandleCache for invalidation.
+    private static final PlayerHandleCache<IManaCap> MANA_CAPS =
+        PlayerHandleCache.create(p -> ManaUtil.getNativeMana(p).resolve().orElse(null));
+
     @Override
     public float getMana(Player player) {
         // Unifying to float as per IManaBridge signature
-        return ManaUtil.getNativeMana(player).map(cap -> (float)cap.getCurrentMana()).orElse(0.0f);
+        IManaCap cap = MANA_CAPS.get(player);
+        return cap != null ? (float) cap.getCurrentMana() : 0.0f;
     }
 
     @Override
     public void setMana(Player player, float amount) {
         if (player == null || player.level().isClientSide()) return;
-        ManaUtil.getNativeMana(player).ifPresent(cap -> cap.setMana((double)amount));
+        IManaCap cap = MANA_CAPS.get(player);
+        if (cap != null) {
+            cap.setMana((double) amount);
+        }
     }
 
     @Override
     public boolean consumeMana(Player player, float amount) {
         if (player == null || player.level().isClientSide()) return false;
-        return ManaUtil.getNativeMana(player).map(cap -> {
-            if (cap.getCurrentMana() >= (double)amount) {
-                cap.removeMana((double)amount);
-                return true;
-            }
-            return false;
-        }).orElse(false);
+        IManaCap cap = MANA_CAPS.get(player);
+        if (cap != null && cap.getCurrentMana() >= (double) amount) {
+            cap.removeMana((double) amount);
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -35,13 +43,17 @@ public class ArsNativeBridge implements IManaBridge {
         if (player == null || player.level().isClientSide() || amount == 0.0f) return;
         // IManaCap.addMana is the atomic add — do NOT route through get+set or
         // we lose concurrent regen between the read and the write.
-        ManaUtil.getNativeMana(player).ifPresent(cap -> cap.addMana((double) amount));
+        IManaCap cap = MANA_CAPS.get(player);
+        if (cap != null) {
+            cap.addMana((double) amount);
+        }
     }
 
     @Override
     public float getMaxMana(Player player) {
-        return ManaUtil.getNativeMana(player).map(cap -> (float)cap.getMaxMana())
-            .orElse(AnsConfig.DEFAULT_MAX_MANA.get().floatValue());
+        IManaCap cap = MANA_CAPS.get(player);
+        return cap != null ? (float) cap.getMaxMana()
+            : (float) AnsConfigSnapshot.get().defaultMaxMana;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.otectus.arsnspells.bridge;
 
 import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
@@ -64,11 +65,17 @@ public class BridgeManager {
      * is safe. {@code synchronized} serialises concurrent refreshes; the volatile
      * fields give readers a consistent latest reference. Callers must persist the
      * config value ({@code AnsConfig.MANA_UNIFICATION_MODE.set} + {@code safeSave})
-     * first, and invoke this on the server thread (command handlers already are; the
-     * config screen marshals via the integrated server executor).
+     * and publish it with {@link AnsConfigSnapshot#rebuild()} first, and invoke this on
+     * the server thread (command handlers already are; the config screen marshals via
+     * the integrated server executor).
      */
     public static synchronized void refreshMode() {
-        currentMode = AnsConfig.getManaMode();
+        // Staged ledger deltas are keyed by bridge identity; land them on the old
+        // instances before those are replaced.
+        ManaLedger.flushAll();
+        // Callers rebuild AnsConfigSnapshot after writing the config, so the
+        // published snapshot already carries the new mode.
+        currentMode = AnsConfigSnapshot.get().manaMode;
         initializeBridges();
         logInitialization();
     }
@@ -157,11 +164,11 @@ public class BridgeManager {
         if (secondaryBridge != null) {
             LOGGER.info("Secondary Bridge: {}", secondaryBridge.getBridgeType());
         }
-        LOGGER.info("Mana Unification Enabled: {}", AnsConfig.ENABLE_MANA_UNIFICATION.get());
+        LOGGER.info("Mana Unification Enabled: {}", AnsConfigSnapshot.get().enableManaUnification);
         LOGGER.info("NOTE: mana_unification_mode can be changed live via '/ans mode set' or the in-game config screen (applied by refreshMode()).");
         if (currentMode == ManaUnificationMode.SEPARATE) {
-            double arsPercent = AnsConfig.DUAL_COST_ARS_PERCENTAGE.get();
-            double issPercent = AnsConfig.DUAL_COST_ISS_PERCENTAGE.get();
+            double arsPercent = AnsConfigSnapshot.get().dualCostArsPercentage;
+            double issPercent = AnsConfigSnapshot.get().dualCostIssPercentage;
             double total = arsPercent + issPercent;
             if (Math.abs(total - 1.0) > 0.01) {
                 LOGGER.warn("Dual-cost percentages sum to {} (Ars: {}, ISS: {}) - expected 1.0", total, arsPercent, issPercent);
@@ -224,7 +231,7 @@ public class BridgeManager {
      * rule lives in exactly one place.
      */
     public static boolean isUnificationEnabled() {
-        if (!AnsConfig.ENABLE_MANA_UNIFICATION.get()) {
+        if (!AnsConfigSnapshot.get().enableManaUnification) {
             return false;
         }
         ManaUnificationMode mode = getCurrentMode();
@@ -248,15 +255,18 @@ public class BridgeManager {
     }
 
     /**
-     * Get mana from the appropriate bridge based on mode
+     * Get mana from the appropriate bridge based on mode.
+     *
+     * <p>Reads through {@link ManaLedger#available} so callers see this tick's staged
+     * consumes/credits, matching what {@link #consumeManaForMode} validates against.
      */
     public static float getManaForMode(net.minecraft.world.entity.player.Player player, boolean fromArs) {
         if (!isUnificationEnabled()) {
             if (fromArs) {
-                return activeBridge != null ? activeBridge.getMana(player) : 0;
+                return activeBridge != null ? ManaLedger.available(player, activeBridge) : 0;
             }
-            return secondaryBridge != null ? secondaryBridge.getMana(player) :
-                   (activeBridge != null ? activeBridge.getMana(player) : 0);
+            return secondaryBridge != null ? ManaLedger.available(player, secondaryBridge) :
+                   (activeBridge != null ? ManaLedger.available(player, activeBridge) : 0);
         }
 
         ManaUnificationMode mode = getCurrentMode();
@@ -264,28 +274,33 @@ public class BridgeManager {
             case ISS_PRIMARY:
             case ARS_PRIMARY:
             case HYBRID:
-                return activeBridge.getMana(player);
+                return ManaLedger.available(player, activeBridge);
                 
             case SEPARATE:
                 return fromArs ?
-                    activeBridge.getMana(player) :
-                    (secondaryBridge != null ? secondaryBridge.getMana(player) : activeBridge.getMana(player));
+                    ManaLedger.available(player, activeBridge) :
+                    (secondaryBridge != null ? ManaLedger.available(player, secondaryBridge)
+                        : ManaLedger.available(player, activeBridge));
                 
             default:
-                return activeBridge.getMana(player);
+                return ManaLedger.available(player, activeBridge);
         }
     }
 
     /**
-     * Consume mana based on current mode
+     * Consume mana based on current mode.
+     *
+     * <p>Debits are staged in the {@link ManaLedger} and validated against the staged
+     * balance; the backing pools receive one net write per tick. The SEPARATE dual cost
+     * reserves both legs before committing either.
      */
     public static boolean consumeManaForMode(net.minecraft.world.entity.player.Player player, float amount, boolean fromArs) {
         if (!isUnificationEnabled()) {
             if (fromArs) {
-                return activeBridge != null && activeBridge.consumeMana(player, amount);
+                return activeBridge != null && ManaLedger.consume(player, activeBridge, amount);
             }
-            return secondaryBridge != null ? secondaryBridge.consumeMana(player, amount) :
-                   (activeBridge != null && activeBridge.consumeMana(player, amount));
+            return secondaryBridge != null ? ManaLedger.consume(player, secondaryBridge, amount) :
+                   (activeBridge != null && ManaLedger.consume(player, activeBridge, amount));
         }
 
         ManaUnificationMode mode = getCurrentMode();
@@ -294,7 +309,7 @@ public class BridgeManager {
             case ARS_PRIMARY:
             case HYBRID:
                 // Shared pool - consume from primary bridge
-                return activeBridge.consumeMana(player, amount);
+                return ManaLedger.consume(player, activeBridge, amount);
                 
             case SEPARATE:
                 // Dual-cost mode - consume from both pools.
@@ -302,52 +317,36 @@ public class BridgeManager {
                 // base cost. The init-time sum check (logInitialization) only WARNs; without
                 // normalizing here a split summing to e.g. 1.2 would silently overcharge the
                 // player by 20% on every cast (and an under-1.0 split would undercharge).
-                double arsPct = AnsConfig.DUAL_COST_ARS_PERCENTAGE.get();
-                double issPct = AnsConfig.DUAL_COST_ISS_PERCENTAGE.get();
-                double pctTotal = arsPct + issPct;
-                float arsCost;
-                float issCost;
-                if (pctTotal <= 0.0) {
-                    // Degenerate config — treat the whole cost as Ars-side.
-                    arsCost = amount;
-                    issCost = 0.0f;
-                } else {
-                    arsCost = (float) (amount * (arsPct / pctTotal));
-                    issCost = (float) (amount * (issPct / pctTotal));
-                }
+                // The normalized shares are precomputed per config change in
+                // AnsConfigSnapshot (a degenerate 0/0 split puts the whole cost Ars-side).
+                AnsConfigSnapshot cfg = AnsConfigSnapshot.get();
+                float arsCost = (float) (amount * cfg.dualCostArsShare);
+                float issCost = (float) (amount * cfg.dualCostIssShare);
                 IManaBridge arsBridge = activeBridge;
                 IManaBridge issBridge = secondaryBridge;
 
                 if (issBridge == null) {
-                    return arsBridge.consumeMana(player, arsCost);
+                    return ManaLedger.consume(player, arsBridge, arsCost);
                 }
 
-                boolean arsHas = arsBridge.getMana(player) >= arsCost;
-                boolean issHas = issBridge.getMana(player) >= issCost;
-                if (!arsHas || !issHas) {
+                // ANS-CRIT-003: two reservations, one commit. Each reserve validates its
+                // own pool, so no separate sufficiency read is needed, and a failed Iron's
+                // leg releases the Ars hold without staging or writing anything.
+                // Concurrent regen/buff/ritual deltas are untouched: nothing reaches the
+                // backing pools until the tick-end flush.
+                ManaLedger.Reservation arsHold = ManaLedger.reserve(player, arsBridge, arsCost);
+                if (arsHold == null) {
                     return false;
                 }
-
-                // ANS-CRIT-003: compensating refund (addMana) instead of snapshot+restore.
-                // The earlier setMana(arsManaBefore) pattern would clobber any concurrent
-                // regen/buff/ritual mana mutation landing between the snapshot and the
-                // rollback. addMana delegates to the backing API's atomic add, preserving
-                // concurrent deltas.
-                boolean arsSuccess = arsBridge.consumeMana(player, arsCost);
-                if (!arsSuccess) {
+                ManaLedger.Reservation issHold = ManaLedger.reserve(player, issBridge, issCost);
+                if (issHold == null) {
+                    ManaLedger.abort(arsHold);
                     return false;
                 }
-
-                boolean issSuccess = issBridge.consumeMana(player, issCost);
-                if (!issSuccess) {
-                    arsBridge.addMana(player, arsCost);
-                    return false;
-                }
-
-                return true;
+                return ManaLedger.commit(arsHold, issHold);
                 
             default:
-                return activeBridge.consumeMana(player, amount);
+                return ManaLedger.consume(player, activeBridge, amount);
         }
     }
 }
@@ -3,7 +3,10 @@ package com.otectus.arsnspells.bridge;
 import io.redspace.ironsspellbooks.api.magic.MagicData;
 import io.redspace.ironsspellbooks.api.registry.AttributeRegistry;
 import net.minecraft.world.entity.player.Player;
-import com.otectus.arsnspells.config.AnsConfig;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.CapabilityToken;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,11 +17,21 @@ public class IronsBridge implements IManaBridge {
     // errors — masking genuine regressions that happen after an unrelated startup hiccup.
     private static final java.util.Set<String> loggedOps =
         java.util.concurrent.ConcurrentHashMap.newKeySet();
+    // Iron's player magic capability, looked up by type (the same instance Iron's
+    // registers) so the provider class is not referenced directly.
+    private static final Capability<MagicData> MAGIC_CAP = CapabilityManager.get(new CapabilityToken<>() {});
+    // Resolved once per player entity instead of MagicData.getPlayerMagicData on every
+    // call; see PlayerHandleCache for invalidation. Cached only once the capability is
+    // attached: before that getPlayerMagicData returns a fresh throwaway MagicData,
+    // and caching it would swallow every write until the slot was invalidated.
+    private static final PlayerHandleCache<MagicData> MAGIC_DATA = PlayerHandleCache.create(
+        p -> p.getCapability(MAGIC_CAP).isPresent() ? MagicData.getPlayerMagicData(p) : null,
+        MagicData::getPlayerMagicData);
 
     @Override
     public float getMana(Player player) {
         try {
-            MagicData data = MagicData.getPlayerMagicData(player);
+            MagicData data = MAGIC_DATA.get(player);
             if (data == null) {
                 return 0.0f;
             }
@@ -33,7 +46,7 @@ public class IronsBridge implements IManaBridge {
     public void setMana(Player player, float amount) {
         if (player == null || player.level().isClientSide()) return;
         try {
-            MagicData data = MagicData.getPlayerMagicData(player);
+            MagicData data = MAGIC_DATA.get(player);
             if (data == null) return;
             data.setMana(amount);
         } catch (Throwable e) {
@@ -45,7 +58,7 @@ public class IronsBridge implements IManaBridge {
     public boolean consumeMana(Player player, float amount) {
         if (player == null || player.level().isClientSide()) return false;
         try {
-            MagicData data = MagicData.getPlayerMagicData(player);
+            MagicData data = MAGIC_DATA.get(player);
             if (data == null) {
                 return false;
             }
@@ -64,7 +77,7 @@ public class IronsBridge implements IManaBridge {
     public void addMana(Player player, float amount) {
         if (player == null || player.level().isClientSide() || amount == 0.0f) return;
         try {
-            MagicData data = MagicData.getPlayerMagicData(player);
+            MagicData data = MAGIC_DATA.get(player);
             if (data == null) return;
             // MagicData.addMana is the atomic add; do NOT route through get+set or
             // we lose concurrent regen between the read and the write.
@@ -78,12 +91,12 @@ public class IronsBridge implements IManaBridge {
     public float getMaxMana(Player player) {
         try {
             if (player == null) {
-                return AnsConfig.DEFAULT_MAX_MANA.get().floatValue();
+                return (float) AnsConfigSnapshot.get().defaultMaxMana;
             }
             return (float) player.getAttributeValue(AttributeRegistry.MAX_MANA.get());
         } catch (Throwable e) {
             logCriticalError("getMaxMana", e);
-            return AnsConfig.DEFAULT_MAX_MANA.get().floatValue();
+            return (float) AnsConfigSnapshot.get().defaultMaxMana;
         }
     }
 
@@ -0,0 +1,576 @@
+package com.otectus.arsnspells.bridge;
+
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tick mana transaction ledger sitting under {@link BridgeManager}.
+ *
+ * <p>Before this existed every consume / refund / boost went straight to
+ * {@link IManaBridge#consumeMana}/{@link IManaBridge#addMana}/{@link IManaBridge#setMana}.
+ * A single SEPARATE-mode cast could do a dual-cost consume, a compensating refund, a
+ * Source Jar synergy boost and a Mana Well grant in the same tick, and each write
+ * re-entered {@code MixinManaCapability}/{@code MixinIronsMagicDataMana} and triggered
+ * its own ManaCap / MagicData update (and client sync).
+ *
+ * <p>The ledger stages signed per-player, per-pool deltas during the tick. Consumes are
+ * validated against the <i>staged</i> balance ({@link #available}), so two casts in the
+ * same tick cannot both spend the same mana. At {@code ServerTickEvent} END each pool
+ * with a non-zero net delta receives exactly one write. A rollback is a
+ * {@link #reverse} of the staged entry — no second {@code addMana} round trip reaches
+ * the backing capability unless the original debit was already flushed.
+ *
+ * <p>A debit the pool can no longer cover at flush (a native Iron's cast drained it in
+ * the same tick) is paid down to zero and the unpaid remainder is carried into the
+ * next tick's book, where it keeps {@link #available} negative until regen repays it.
+ * Only a logout flush drops a remainder, with a warning. Both are counted.
+ *
+ * <p>Multi-leg costs use {@link #reserve} / {@link #commit} / {@link #abort} instead
+ * of consume-then-reverse. A reservation holds part of the staged balance out of
+ * {@link #available} without staging anything, so a failed leg is released with no
+ * ledger entry and no write at all, and the legs that succeed are committed together.
+ * Holds outlive the tick flush (a cross-cast's Ars leg can resolve after it) and are
+ * released after {@link #RESERVATION_TTL_TICKS} if never committed or aborted.
+ *
+ * <p>ANS sends no mana sync packet of its own: the one write per pool reaches the client
+ * through the owning mod's sync, so every op folded into it is a native write (and sync)
+ * saved. {@link #getStats()} reports that count.
+ *
+ * <p>Pools are keyed by bridge identity. Bridges are stateless, so
+ * {@link BridgeManager#refreshMode()} flushes the ledger before swapping instances.
+ * Client-side calls bypass the ledger entirely (the bridges are server-authoritative
+ * and ignore client writes anyway).
+ */
+@Mod.EventBusSubscriber(modid = "ars_n_spells")
+public final class ManaLedger {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManaLedger.class);
+
+    /** Open reservations expire after this many ticks; also the {@code CrossCastContext} entry TTL. */
+    public static final long RESERVATION_TTL_TICKS = 100L; // 5 seconds at 20 TPS
+
+    private static final Map<UUID, Book> BOOKS = new ConcurrentHashMap<>();
+    private static final Map<UUID, Holds> HOLDS = new ConcurrentHashMap<>();
+
+    private static final AtomicLong stagedOps = new AtomicLong();
+    private static final AtomicLong flushedWrites = new AtomicLong();
+    private static final AtomicLong reversals = new AtomicLong();
+    private static final AtomicLong shortfalls = new AtomicLong();
+    private static final AtomicLong reservations = new AtomicLong();
+    private static final AtomicLong commits = new AtomicLong();
+    private static final AtomicLong aborts = new AtomicLong();
+    private static final AtomicLong expirations = new AtomicLong();
+
+    private ManaLedger() {}
+
+    // ---------------------------------------------------------------------
+    // Public API
+    // ---------------------------------------------------------------------
+
+    /**
+     * Balance of {@code pool} for {@code player} including deltas staged this tick,
+     * less any amount held by open reservations.
+     */
+    public static float available(Player player, IManaBridge pool) {
+        if (bypass(player, pool)) {
+            return pool != null ? pool.getMana(player) : 0.0f;
+        }
+        return available(player.getUUID(), player, pool);
+    }
+
+    /**
+     * Stage a debit of {@code amount} against {@code pool}. Validated against the staged
+     * balance; returns {@code false} (and stages nothing) when it would overdraw.
+     */
+    public static boolean consume(Player player, IManaBridge pool, float amount) {
+        if (bypass(player, pool)) {
+            return pool != null && pool.consumeMana(player, amount);
+        }
+        return consume(player.getUUID(), player, pool, amount);
+    }
+
+    /**
+     * Stage a credit of {@code amount} to {@code pool}. The net credit is clamped to the
+     * pool's max at flush time, so callers do not need their own {@code min(cur + x, max)}.
+     */
+    public static void credit(Player player, IManaBridge pool, float amount) {
+        if (bypass(player, pool)) {
+            if (pool != null) pool.addMana(player, amount);
+            return;
+        }
+        credit(player.getUUID(), player, pool, amount);
+    }
+
+    /**
+     * Roll back a debit previously made through {@link #consume}. While the debit is
+     * still staged this only cancels the ledger entry; if it was already flushed the
+     * reversal becomes a credit on the next flush.
+     */
+    public static void reverse(Player player, IManaBridge pool, float consumedAmount) {
+        if (bypass(player, pool)) {
+            if (pool != null) pool.addMana(player, consumedAmount);
+            return;
+        }
+        reverse(player.getUUID(), player, pool, consumedAmount);
+    }
+
+    /**
+     * Hold {@code amount} of {@code pool} for {@code player} until {@link #commit} or
+     * {@link #abort}. Validated like {@link #consume}; returns {@code null} (and holds
+     * nothing) when it would overdraw. Nothing is staged or written until the commit.
+     */
+    public static Reservation reserve(Player player, IManaBridge pool, float amount) {
+        if (amount <= 0.0f) {
+            return Reservation.EMPTY;
+        }
+        if (bypass(player, pool)) {
+            return pool != null && pool.getMana(player) >= amount
+                ? new Reservation(null, player, pool, amount, Long.MAX_VALUE) : null;
+        }
+        return reserve(player.getUUID(), player, pool, amount, player.level().getGameTime());
+    }
+
+    /**
+     * Turn each open reservation into a staged debit (one ledger entry per leg, no
+     * re-validation). {@code null} entries are ignored.
+     *
+     * @return {@code false} if any reservation was already closed or had expired
+     */
+    public static boolean commit(Reservation... legs) {
+        boolean all = true;
+        for (Reservation r : legs) {
+            if (r == null || r.amount <= 0.0f) {
+                continue;
+            }
+            if (!r.close()) {
+                all = false;
+                continue;
+            }
+            if (r.playerId == null) {
+                // Bypass reservation (client side): nothing was held in the ledger.
+                r.pool.consumeMana(r.player, r.amount);
+                continue;
+            }
+            release(r);
+            Book book = book(r.playerId, r.player);
+            synchronized (book) {
+                book.stage(r.pool, -r.amount);
+            }
+            commits.incrementAndGet();
+        }
+        return all;
+    }
+
+    /** Release a reservation without charging anything. No-op if already closed or {@code null}. */
+    public static void abort(Reservation reservation) {
+        if (reservation == null || reservation.amount <= 0.0f || !reservation.close()) {
+            return;
+        }
+        if (reservation.playerId != null) {
+            release(reservation);
+            aborts.incrementAndGet();
+        }
+    }
+
+    /** Apply and clear every staged delta for {@code player} now. */
+    public static void flush(Player player) {
+        if (player == null) return;
+        settle(player.getUUID(), true);
+    }
+
+    /** Apply and clear every staged delta for every player. */
+    public static void flushAll() {
+        if (BOOKS.isEmpty()) return;
+        // Snapshot: a carried shortfall re-creates the player's book, which must wait
+        // for the next flush rather than be retried in this one.
+        for (UUID id : new ArrayList<>(BOOKS.keySet())) {
+            settle(id, true);
+        }
+    }
+
+    public static String getStats() {
+        return String.format("Mana ledger: %d staged ops, %d flushed writes, %d reversals, %d native writes saved, "
+                + "%d shortfalls, %d pending players; "
+                + "reservations: %d made, %d committed, %d aborted, %d expired, %d players holding",
+            stagedOps.get(), flushedWrites.get(), reversals.get(), savedWriteCount(), shortfalls.get(), BOOKS.size(),
+            reservations.get(), commits.get(), aborts.get(), expirations.get(), HOLDS.size());
+    }
+
+    // ---------------------------------------------------------------------
+    // UUID-keyed core (package-private so tests can drive it without a Player)
+    // ---------------------------------------------------------------------
+
+    static float available(UUID id, Player player, IManaBridge pool) {
+        Book book = BOOKS.get(id);
+        float staged = book != null ? book.staged(pool) : 0.0f;
+        return pool.getMana(player) + staged - held(id, pool);
+    }
+
+    static boolean consume(UUID id, Player player, IManaBridge pool, float amount) {
+        if (amount <= 0.0f) {
+            return true;
+        }
+        Book book = book(id, player);
+        synchronized (book) {
+            if (pool.getMana(player) + book.staged(pool) - held(id, pool) < amount) {
+                return false;
+            }
+            book.stage(pool, -amount);
+        }
+        stagedOps.incrementAndGet();
+        return true;
+    }
+
+    static Reservation reserve(UUID id, Player player, IManaBridge pool, float amount, long gameTime) {
+        if (amount <= 0.0f) {
+            return Reservation.EMPTY;
+        }
+        Holds holds = HOLDS.computeIfAbsent(id, k -> new Holds());
+        synchronized (holds) {
+            if (available(id, player, pool) < amount) {
+                return null;
+            }
+            Reservation r = new Reservation(id, player, pool, amount, gameTime + RESERVATION_TTL_TICKS);
+            holds.hold(r);
+            reservations.incrementAndGet();
+            return r;
+        }
+    }
+
+    /** Release every reservation whose TTL has passed at {@code gameTime}. */
+    static void expireReservations(long gameTime) {
+        if (HOLDS.isEmpty()) return;
+        for (Holds holds : HOLDS.values()) {
+            synchronized (holds) {
+                Iterator<Reservation> it = holds.open.iterator();
+                while (it.hasNext()) {
+                    Reservation r = it.next();
+                    if (gameTime >= r.expiresAt && r.close()) {
+                        it.remove();
+                        holds.adjust(r.pool, -r.amount);
+                        expirations.incrementAndGet();
+                    }
+                }
+            }
+        }
+        HOLDS.values().removeIf(Holds::isEmpty);
+    }
+
+    private static float held(UUID id, IManaBridge pool) {
+        Holds holds = HOLDS.get(id);
+        return holds != null ? holds.held(pool) : 0.0f;
+    }
+
+    private static void release(Reservation r) {
+        Holds holds = HOLDS.get(r.playerId);
+        if (holds == null) return;
+        synchronized (holds) {
+            if (holds.open.remove(r)) {
+                holds.adjust(r.pool, -r.amount);
+            }
+        }
+    }
+
+    static void credit(UUID id, Player player, IManaBridge pool, float amount) {
+        if (amount <= 0.0f) {
+            return;
+        }
+        Book book = book(id, player);
+        synchronized (book) {
+            book.stage(pool, amount);
+        }
+        stagedOps.incrementAndGet();
+    }
+
+    static void reverse(UUID id, Player player, IManaBridge pool, float consumedAmount) {
+        if (consumedAmount <= 0.0f) {
+            return;
+        }
+        Book book = book(id, player);
+        synchronized (book) {
+            book.stage(pool, consumedAmount);
+        }
+        reversals.incrementAndGet();
+    }
+
+    static void flush(UUID id) {
+        settle(id, true);
+    }
+
+    static long flushedWriteCount() {
+        return flushedWrites.get();
+    }
+
+    /**
+     * Staged ops and reversals that did not become a pool write of their own. Without
+     * the ledger each was a native write and client sync; carried shortfalls can make
+     * the raw difference negative, hence the clamp.
+     */
+    static long savedWriteCount() {
+        return Math.max(0L, stagedOps.get() + reversals.get() - flushedWrites.get());
+    }
+
+    static long shortfallCount() {
+        return shortfalls.get();
+    }
+
+    /**
+     * Flush {@code id}'s book. Unpaid debits are re-staged in a fresh book when
+     * {@code carry}, otherwise (logout) dropped with a warning.
+     */
+    private static void settle(UUID id, boolean carry) {
+        Book book = BOOKS.remove(id);
+        if (book == null) {
+            return;
+        }
+        Map<IManaBridge, float[]> unpaid = book.flush();
+        if (unpaid == null) {
+            return;
+        }
+        for (Map.Entry<IManaBridge, float[]> e : unpaid.entrySet()) {
+            float owed = e.getValue()[0];
+            shortfalls.incrementAndGet();
+            if (carry) {
+                Book next = book(id, book.player);
+                synchronized (next) {
+                    next.stage(e.getKey(), -owed);
+                }
+                LOGGER.debug("[ANS] Mana ledger carried {} unpaid {} mana into the next tick for {}",
+                    owed, e.getKey().getBridgeType(), id);
+            } else {
+                LOGGER.warn("[ANS] Mana ledger dropped {} unpaid {} mana for {} on logout",
+                    owed, e.getKey().getBridgeType(), id);
+            }
+        }
+    }
+
+    private static Book book(UUID id, Player player) {
+        Book book = BOOKS.computeIfAbsent(id, k -> new Book());
+        book.player = player;
+        return book;
+    }
+
+    private static boolean bypass(Player player, IManaBridge pool) {
+        return player == null || pool == null || player.level().isClientSide();
+    }
+
+    // ---------------------------------------------------------------------
+    // Flush hooks
+    // ---------------------------------------------------------------------
+
+    /**
+     * LOWEST so every other END-phase listener (regen synergy, ritual ticks, cast
+     * handlers) has staged its delta before the single net write goes out.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+        expireReservations(event.getServer().overworld().getGameTime());
+        flushAll();
+    }
+
+    /**
+     * Flush before the player's capabilities are saved on disconnect. Open reservations
+     * are dropped uncharged: their transaction cannot complete without the player.
+     */
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        UUID id = event.getEntity().getUUID();
+        dropHolds(HOLDS.remove(id));
+        settle(id, false);
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        for (UUID id : HOLDS.keySet()) {
+            dropHolds(HOLDS.remove(id));
+        }
+        flushAll();
+    }
+
+    private static void dropHolds(Holds holds) {
+        if (holds == null) return;
+        synchronized (holds) {
+            for (Reservation r : holds.open) {
+                if (r.close()) {
+                    aborts.incrementAndGet();
+                }
+            }
+            holds.open.clear();
+            holds.amounts.clear();
+        }
+    }
+
+    /**
+     * A hold on part of one pool's balance, returned by {@link #reserve}. Closed exactly
+     * once, by {@link #commit}, {@link #abort} or expiry.
+     */
+    public static final class Reservation {
+        /** Zero-amount reservation: commit and abort are no-ops. */
+        static final Reservation EMPTY = new Reservation(null, null, null, 0.0f, Long.MAX_VALUE);
+
+        final UUID playerId; // null for bypass (client-side) reservations
+        final Player player;
+        final IManaBridge pool;
+        final float amount;
+        final long expiresAt;
+        private final AtomicBoolean open = new AtomicBoolean(true);
+
+        private Reservation(UUID playerId, Player player, IManaBridge pool, float amount, long expiresAt) {
+            this.playerId = playerId;
+            this.player = player;
+            this.pool = pool;
+            this.amount = amount;
+            this.expiresAt = expiresAt;
+        }
+
+        public float amount() {
+            return amount;
+        }
+
+        public boolean isOpen() {
+            return amount > 0.0f && open.get();
+        }
+
+        private boolean close() {
+            return open.compareAndSet(true, false);
+        }
+    }
+
+    /**
+     * Open reservations for one player and the total each holds per pool. Guarded by
+     * its own monitor; like {@link Book}, keyed by bridge identity.
+     */
+    private static final class Holds {
+        final List<Reservation> open = new ArrayList<>(2);
+        final Map<IManaBridge, float[]> amounts = new IdentityHashMap<>(4);
+
+        float held(IManaBridge pool) {
+            synchronized (this) {
+                float[] h = amounts.get(pool);
+                return h != null ? h[0] : 0.0f;
+            }
+        }
+
+        void hold(Reservation r) {
+            open.add(r);
+            adjust(r.pool, r.amount);
+        }
+
+        void adjust(IManaBridge pool, float delta) {
+            float[] h = amounts.computeIfAbsent(pool, k -> new float[1]);
+            h[0] += delta;
+            if (delta < 0.0f && h[0] <= 1.0e-4f) {
+                amounts.remove(pool); // last hold on this pool released; drop float drift
+            }
+        }
+
+        boolean isEmpty() {
+            synchronized (this) {
+                return open.isEmpty();
+            }
+        }
+    }
+
+    /**
+     * Staged deltas for one player. Guarded by its own monitor; the map is tiny
+     * (one entry per pool, at most two in SEPARATE mode), so an IdentityHashMap with
+     * a mutable float holder avoids boxing on every stage.
+     */
+    private static final class Book {
+        volatile Player player;
+        private final Map<IManaBridge, float[]> deltas = new IdentityHashMap<>(4);
+
+        float staged(IManaBridge pool) {
+            synchronized (this) {
+                float[] d = deltas.get(pool);
+                return d != null ? d[0] : 0.0f;
+            }
+        }
+
+        void stage(IManaBridge pool, float delta) {
+            deltas.computeIfAbsent(pool, k -> new float[1])[0] += delta;
+        }
+
+        /** Apply every staged delta; returns the unpaid part of each short debit, or {@code null}. */
+        Map<IManaBridge, float[]> flush() {
+            Player target = resolveLivePlayer(player);
+            Map<IManaBridge, float[]> unpaid = null;
+            synchronized (this) {
+                for (Map.Entry<IManaBridge, float[]> e : deltas.entrySet()) {
+                    float net = e.getValue()[0];
+                    if (net == 0.0f) {
+                        continue;
+                    }
+                    try {
+                        float owed = apply(e.getKey(), target, net);
+                        flushedWrites.incrementAndGet();
+                        if (owed > 0.0f) {
+                            if (unpaid == null) unpaid = new IdentityHashMap<>(2);
+                            unpaid.put(e.getKey(), new float[] {owed});
+                        }
+                    } catch (Exception ex) {
+                        LOGGER.warn("[ANS] Mana ledger flush failed for pool {} (net {})",
+                            e.getKey().getBridgeType(), net, ex);
+                    }
+                }
+                deltas.clear();
+            }
+            return unpaid;
+        }
+
+        /** @return the part of a debit the pool could not cover, else 0 */
+        private static float apply(IManaBridge pool, Player player, float net) {
+            if (net < 0.0f) {
+                float debit = -net;
+                // Validated against the staged balance at consume time; a native write
+                // landing in the same tick (Iron's own cast, upstream drain) can still
+                // have taken the pool below it. Take what is there and report the rest
+                // so it is carried, not forgiven.
+                if (pool.consumeMana(player, debit)) {
+                    return 0.0f;
+                }
+                float current = Math.max(0.0f, pool.getMana(player));
+                pool.setMana(player, Math.max(0.0f, current - debit));
+                return Math.max(0.0f, debit - current);
+            }
+            float headroom = pool.getMaxMana(player) - pool.getMana(player);
+            float add = Math.min(net, Math.max(0.0f, headroom));
+            if (add > 0.0f) {
+                pool.addMana(player, add);
+            }
+            return 0.0f;
+        }
+
+        /**
+         * Respawn/dimension change replaces the entity; write to the live instance so
+         * the delta lands on the capability that will actually be saved. A player who
+         * is no longer online is skipped (logout already flushed them).
+         */
+        private static Player resolveLivePlayer(Player player) {
+            if (player instanceof ServerPlayer sp && sp.isRemoved() && sp.getServer() != null) {
+                return sp.getServer().getPlayerList().getPlayer(sp.getUUID());
+            }
+            return player;
+        }
+    }
+}
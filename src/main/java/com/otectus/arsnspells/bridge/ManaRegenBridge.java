@@ -1,9 +1,18 @@
 package com.otectus.arsnspells.bridge;
 
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import io.redspace.ironsspellbooks.api.registry.AttributeRegistry;
 import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Single point of truth for converting mana regen values between Ars Nouveau
@@ -19,7 +28,14 @@ import net.minecraftforge.fml.ModList;
  * to the other MUST go through this class. Direct multiplication by
  * {@code CONVERSION_RATE_*} alone is not sufficient — those rates handle pool
  * scaling, not unit conversion.
+ *
+ * <p>Both conversions are one multiply by a per-player {@link Factors} entry. It is
+ * keyed on the config snapshot version (mode, reference pool, multiplier) and, in
+ * EQUAL_EFFECT mode only, on the live Iron's MAX_MANA value it was computed for. A
+ * reload or any MAX_MANA change (gear, potions, the Ars-primary sync) rebuilds it on
+ * the next call. REFERENCE_POOL and DISABLED never read the attribute.
  */
+@Mod.EventBusSubscriber(modid = "ars_n_spells")
 public final class ManaRegenBridge {
 
     /**
@@ -30,8 +46,44 @@ public final class ManaRegenBridge {
      */
     public static final double IRONS_REGEN_PER_SECOND_FACTOR = 0.01;
 
+    private static final Map<UUID, Factors> FACTORS = new ConcurrentHashMap<>();
+
+    private static final AtomicLong factorHits = new AtomicLong();
+    private static final AtomicLong factorRebuilds = new AtomicLong();
+
     private ManaRegenBridge() {}
 
+    /**
+     * Precomputed multipliers for one player: Ars mana/sec to Iron's MANA_REGEN delta,
+     * and back. Both include {@code crossSystemRegenMultiplier}; both are 0 when the
+     * mode is DISABLED or the pool is empty. Package-private so tests can check them
+     * against {@link #arsToIronsRegen} and {@link #ironsToArsRegen}.
+     */
+    static final class Factors {
+        final int configVersion;
+        final ConversionMode mode;
+        final double maxMana;
+        final double arsToIrons;
+        final double ironsToArs;
+
+        Factors(int configVersion, ConversionMode mode, double maxMana, double multiplier) {
+            this.configVersion = configVersion;
+            this.mode = mode;
+            this.maxMana = maxMana;
+            boolean active = mode != ConversionMode.DISABLED && maxMana > 0.0;
+            this.arsToIrons = active ? multiplier / (maxMana * IRONS_REGEN_PER_SECOND_FACTOR) : 0.0;
+            this.ironsToArs = active ? maxMana * IRONS_REGEN_PER_SECOND_FACTOR * multiplier : 0.0;
+        }
+
+        double toIrons(double arsAbsPerSec) {
+            return arsAbsPerSec * arsToIrons;
+        }
+
+        double toArs(double ironsRegenAttr) {
+            return ironsRegenAttr * ironsToArs;
+        }
+    }
+
     /**
      * Conversion strategies for cross-system regen translation.
      */
@@ -89,15 +141,7 @@ public final class ManaRegenBridge {
      */
     public static double convertArsToIrons(double arsAbsPerSec, Player player) {
         if (arsAbsPerSec == 0.0) return 0.0;
-        ConversionMode mode = getConversionMode();
-        if (mode == ConversionMode.DISABLED) return 0.0;
-
-        double maxMana = (mode == ConversionMode.REFERENCE_POOL)
-            ? AnsConfig.CROSS_SYSTEM_REGEN_REFERENCE_POOL.get()
-            : getCurrentIronsMaxMana(player);
-
-        double base = arsToIronsRegen(arsAbsPerSec, maxMana);
-        return base * AnsConfig.CROSS_SYSTEM_REGEN_MULTIPLIER.get();
+        return factors(player).toIrons(arsAbsPerSec);
     }
 
     /**
@@ -110,15 +154,33 @@ public final class ManaRegenBridge {
      */
     public static double convertIronsToArs(double ironsRegenAttr, Player player) {
         if (ironsRegenAttr == 0.0) return 0.0;
-        ConversionMode mode = getConversionMode();
-        if (mode == ConversionMode.DISABLED) return 0.0;
-
-        double maxMana = (mode == ConversionMode.REFERENCE_POOL)
-            ? AnsConfig.CROSS_SYSTEM_REGEN_REFERENCE_POOL.get()
-            : getCurrentIronsMaxMana(player);
+        return factors(player).toArs(ironsRegenAttr);
+    }
 
-        double base = ironsToArsRegen(ironsRegenAttr, maxMana);
-        return base * AnsConfig.CROSS_SYSTEM_REGEN_MULTIPLIER.get();
+    /**
+     * The player's conversion factors, rebuilt only when the config version moved or,
+     * in EQUAL_EFFECT mode, when the live Iron's MAX_MANA differs from the cached pool.
+     */
+    private static Factors factors(Player player) {
+        AnsConfigSnapshot config = AnsConfigSnapshot.get();
+        Factors cached = player == null ? null : FACTORS.get(player.getUUID());
+        if (cached != null && cached.configVersion == config.version
+                && (cached.mode != ConversionMode.EQUAL_EFFECT || cached.maxMana == getCurrentIronsMaxMana(player))) {
+            factorHits.incrementAndGet();
+            return cached;
+        }
+        factorRebuilds.incrementAndGet();
+        ConversionMode mode = ConversionMode.fromString(config.crossSystemRegenConversion);
+        double maxMana = switch (mode) {
+            case REFERENCE_POOL -> config.crossSystemRegenReferencePool;
+            case EQUAL_EFFECT -> getCurrentIronsMaxMana(player);
+            case DISABLED -> 0.0;
+        };
+        Factors fresh = new Factors(config.version, mode, maxMana, config.crossSystemRegenMultiplier);
+        if (player != null) {
+            FACTORS.put(player.getUUID(), fresh);
+        }
+        return fresh;
     }
 
     /**
@@ -136,7 +198,18 @@ public final class ManaRegenBridge {
         }
     }
 
-    private static ConversionMode getConversionMode() {
-        return ConversionMode.fromString(AnsConfig.CROSS_SYSTEM_REGEN_CONVERSION.get());
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        FACTORS.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        FACTORS.clear();
+    }
+
+    public static String getStats() {
+        return String.format("Regen conversion factors: %d cached, %d hits, %d rebuilds",
+            FACTORS.size(), factorHits.get(), factorRebuilds.get());
     }
 }
@@ -0,0 +1,154 @@
+package com.otectus.arsnspells.bridge;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Per-player cache of resolved capability handles (Ars {@code IManaCap}, Iron's
+ * {@code MagicData}) for the mana bridges.
+ *
+ * <p>A single Ars cast in ISS_PRIMARY/HYBRID reaches the bridges several times through
+ * {@code MixinManaCapability}, {@code MixinSpellResolverMana} and
+ * {@link BridgeManager#consumeManaForMode}; each call used to go through
+ * {@code getCapability(...)}/LazyOptional or {@code MagicData.getPlayerMagicData}.
+ * The handle is resolved once per player entity and reused until the entity is
+ * replaced.
+ *
+ * <p>Each slot remembers the entity it was resolved for and is re-resolved on an
+ * identity mismatch, so a stale handle can never be served even if an invalidation
+ * event is missed. Clone, respawn, dimension change and logout drop the slot
+ * explicitly. Server-side only: the client and integrated server share player UUIDs
+ * in singleplayer, so client reads bypass the cache rather than thrash it.
+ *
+ * <p>Only real handles are cached. When the resolver finds none (the capability is not
+ * attached yet, early in login), the optional fallback's value is returned for that call
+ * only, so a throwaway object a mod hands out in that window is never pinned.
+ */
+@Mod.EventBusSubscriber(modid = "ars_n_spells")
+public final class PlayerHandleCache<T> {
+    private static final List<PlayerHandleCache<?>> CACHES = new CopyOnWriteArrayList<>();
+
+    private final Function<Player, T> resolver;
+    private final Function<Player, T> fallback;
+    private final Map<UUID, Slot<T>> slots = new ConcurrentHashMap<>();
+
+    private PlayerHandleCache(Function<Player, T> resolver, Function<Player, T> fallback) {
+        this.resolver = resolver;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Create a cache and register it for the shared invalidation hooks.
+     *
+     * @param resolver looks the handle up from scratch; may return {@code null}, which
+     *                 is passed through and not cached
+     */
+    static <T> PlayerHandleCache<T> create(Function<Player, T> resolver) {
+        return create(resolver, p -> null);
+    }
+
+    /**
+     * @param resolver returns the attached handle, or {@code null} if there is none yet
+     * @param fallback uncached value to serve while {@code resolver} returns {@code null}
+     */
+    static <T> PlayerHandleCache<T> create(Function<Player, T> resolver, Function<Player, T> fallback) {
+        PlayerHandleCache<T> cache = new PlayerHandleCache<>(resolver, fallback);
+        CACHES.add(cache);
+        return cache;
+    }
+
+    /** Resolved handle for {@code player}, or {@code null} if it has none. */
+    T get(Player player) {
+        if (player == null) {
+            return null;
+        }
+        if (player.level().isClientSide()) {
+            T handle = resolver.apply(player);
+            return handle != null ? handle : fallback.apply(player);
+        }
+        return get(player.getUUID(), player, player);
+    }
+
+    /**
+     * UUID-keyed core behind {@link #get(Player)}, package-private so tests can drive it
+     * with plain owner objects: serves the slot while {@code owner} is the entity it was
+     * resolved for, otherwise resolves {@code player} again.
+     */
+    T get(UUID id, Object owner, Player player) {
+        Slot<T> slot = slots.get(id);
+        if (slot != null && slot.owner == owner) {
+            return slot.handle;
+        }
+        T handle = resolver.apply(player);
+        if (handle != null) {
+            slots.put(id, new Slot<>(owner, handle));
+            return handle;
+        }
+        return fallback.apply(player);
+    }
+
+    void invalidate(UUID id) {
+        slots.remove(id);
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    /** Drop every cached handle for {@code id} across all registered caches. */
+    public static void invalidateAll(UUID id) {
+        for (PlayerHandleCache<?> cache : CACHES) {
+            cache.invalidate(id);
+        }
+    }
+
+    private static final class Slot<T> {
+        final Object owner;
+        final T handle;
+
+        Slot(Object owner, T handle) {
+            this.owner = owner;
+            this.handle = handle;
+        }
+    }
+
+    // HIGHEST on clone so nothing else in the clone pipeline (e.g. capability copy in
+    // ModCapabilityProvider) can observe the dead entity's handle.
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public static void onPlayerClone(PlayerEvent.Clone event) {
+        invalidateAll(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        invalidateAll(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        invalidateAll(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        invalidateAll(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        for (PlayerHandleCache<?> cache : CACHES) {
+            cache.slots.clear();
+        }
+    }
+}
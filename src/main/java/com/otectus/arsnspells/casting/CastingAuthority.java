@@ -4,7 +4,7 @@ import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
 import com.hollingsworth.arsnouveau.api.spell.SpellResolver;
 import com.otectus.arsnspells.bridge.BridgeManager;
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.player.Player;
 import org.slf4j.Logger;
@@ -164,7 +164,7 @@ public class CastingAuthority {
         }
         float effectiveCost = manaCost;
         if (BridgeManager.isUnificationEnabled()) {
-            effectiveCost = (float) (manaCost * AnsConfig.CONVERSION_RATE_IRON_TO_ARS.get());
+            effectiveCost = (float) (manaCost * AnsConfigSnapshot.get().conversionRateIronToArs);
         }
         return BridgeManager.consumeManaForMode(player, effectiveCost, false);
     }
@@ -193,8 +193,8 @@ public class CastingAuthority {
         } else {
             // Apply conversion rate if needed
             double conversionRate = fromArs ?
-                AnsConfig.CONVERSION_RATE_ARS_TO_IRON.get() :
-                AnsConfig.CONVERSION_RATE_IRON_TO_ARS.get();
+                AnsConfigSnapshot.get().conversionRateArsToIron :
+                AnsConfigSnapshot.get().conversionRateIronToArs;
 
             effectiveCost = (float) (cost * conversionRate);
             availableMana = BridgeManager.getManaForMode(player, fromArs);
@@ -229,7 +229,7 @@ public class CastingAuthority {
      * Log debug message if debug mode is enabled.
      */
     private static void logDebug(String message, Object... args) {
-        if (AnsConfig.DEBUG_MODE != null && AnsConfig.DEBUG_MODE.get()) {
+        if (AnsConfigSnapshot.get().debugMode) {
             LOGGER.info("[CastingAuthority] [DEBUG] " + message, args);
         }
     }
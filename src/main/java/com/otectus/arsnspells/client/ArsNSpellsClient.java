@@ -1,7 +1,7 @@
 package com.otectus.arsnspells.client;
 
 import com.otectus.arsnspells.ArsNSpells;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.client.screen.ConfigScreenFactory;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.ConfigScreenHandler;
@@ -36,7 +36,7 @@ public class ArsNSpellsClient {
             com.otectus.arsnspells.client.screen.SpellLoomScreen::new));
 
         // Enable overlay diagnostics if debug mode is on
-        if (AnsConfig.DEBUG_MODE.get()) {
+        if (AnsConfigSnapshot.get().debugMode) {
             LOGGER.info("Debug mode enabled - activating overlay diagnostics");
             OverlayDiagnostics.enable();
         }
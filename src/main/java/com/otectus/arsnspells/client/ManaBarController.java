@@ -3,12 +3,14 @@ package com.otectus.arsnspells.client;
 import com.otectus.arsnspells.ArsNSpells;
 import com.otectus.arsnspells.bridge.BridgeManager;
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
+import com.otectus.arsnspells.equipment.CurioSnapshot;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.RenderGuiOverlayEvent;
 import net.minecraftforge.client.gui.overlay.VanillaGuiOverlay;
 import net.minecraftforge.eventbus.api.EventPriority;
@@ -44,11 +46,11 @@ public class ManaBarController {
             // LP or Aura in that state, so showing a mana bar is misleading. This runs
             // independently of mana unification so it still applies when unification is off.
             if (isManaOverlay(overlayNamespace, overlayPath)
-                && AnsConfig.HIDE_MANA_BAR_WITH_RING.get()
+                && AnsConfigSnapshot.get().hideManaBarWithRing
                 && SanctifiedLegacyCompat.isAvailable()) {
                 LocalPlayer localPlayer = Minecraft.getInstance().player;
                 if (localPlayer != null) {
-                    boolean cursed = AnsConfig.ENABLE_LP_SYSTEM.get()
+                    boolean cursed = AnsConfigSnapshot.get().enableLpSystem
                         && SanctifiedLegacyCompat.isWearingCursedRing(localPlayer);
                     boolean virtue = SanctifiedLegacyCompat.isWearingVirtueRing(localPlayer);
                     if (cursed || virtue) {
@@ -68,21 +70,21 @@ public class ManaBarController {
             ManaUnificationMode mode = BridgeManager.getCurrentMode();
             
             // Log once for debugging
-            if (!loggedOnce && AnsConfig.DEBUG_MODE.get()) {
+            if (!loggedOnce && AnsConfigSnapshot.get().debugMode) {
                 LOGGER.info("[ManaBarController] Mana mode: {}, Overlay: {}", mode, overlayId);
                 loggedOnce = true;
             }
             
             // Determine which bar to show in hybrid mode
             boolean hybridShowIrons = mode == ManaUnificationMode.HYBRID
-                && "irons".equalsIgnoreCase(AnsConfig.HYBRID_MANA_BAR.get());
+                && "irons".equalsIgnoreCase(AnsConfigSnapshot.get().hybridManaBar);
 
             // Handle Iron's Spellbooks mana bar
             if (isIronsManaOverlay(overlayNamespace, overlayPath)) {
                 if (mode == ManaUnificationMode.ARS_PRIMARY ||
                     (mode == ManaUnificationMode.HYBRID && !hybridShowIrons)) {
                     event.setCanceled(true);
-                    if (AnsConfig.DEBUG_MODE.get()) {
+                    if (AnsConfigSnapshot.get().debugMode) {
                         LOGGER.debug("[ManaBarController] Cancelled ISS mana bar (mode: {})", mode);
                     }
                 }
@@ -93,19 +95,28 @@ public class ManaBarController {
                 if (mode == ManaUnificationMode.ISS_PRIMARY ||
                     (mode == ManaUnificationMode.HYBRID && hybridShowIrons)) {
                     event.setCanceled(true);
-                    if (AnsConfig.DEBUG_MODE.get()) {
+                    if (AnsConfigSnapshot.get().debugMode) {
                         LOGGER.debug("[ManaBarController] Cancelled Ars mana bar (mode: {})", mode);
                     }
                 }
             }
         } catch (Exception e) {
             // Fail silently to prevent crashes
-            if (AnsConfig.DEBUG_MODE.get()) {
+            if (AnsConfigSnapshot.get().debugMode) {
                 LOGGER.error("[ManaBarController] Error in overlay handler", e);
             }
         }
     }
 
+    /**
+     * The ring checks above read CurioSnapshot's client map, which holds the
+     * LocalPlayer; drop it with the world so it does not outlive the session.
+     */
+    @SubscribeEvent
+    public static void onClientLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        CurioSnapshot.invalidateClient();
+    }
+
     // Package-private + pure (namespace/path strings) so they're allocation-free on the
     // render path and unit-testable without a Minecraft bootstrap (OPT-009).
     static boolean isManaOverlay(String namespace, String path) {
@@ -2,6 +2,7 @@ package com.otectus.arsnspells.client.screen;
 
 import com.otectus.arsnspells.bridge.BridgeManager;
 import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.GuiGraphics;
@@ -403,8 +404,12 @@ public class ConfigScreenFactory {
             // ANS 2.0.1: apply config changes (notably a Mana Mode cycle) live. This
             // screen runs on the render thread; BridgeManager.refreshMode() mutates
             // state the server thread reads, so marshal it onto the integrated server.
+            // The snapshot is republished there first so refreshMode() sees the new mode.
             if (minecraft != null && minecraft.getSingleplayerServer() != null) {
-                minecraft.getSingleplayerServer().execute(BridgeManager::refreshMode);
+                minecraft.getSingleplayerServer().execute(() -> {
+                    AnsConfigSnapshot.rebuild();
+                    BridgeManager.refreshMode();
+                });
             }
 
             // Show message to player
@@ -6,9 +6,26 @@ import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import com.otectus.arsnspells.augmentation.ResonanceManager;
 import com.otectus.arsnspells.bridge.BridgeManager;
+import com.otectus.arsnspells.bridge.ManaLedger;
+import com.otectus.arsnspells.bridge.ManaRegenBridge;
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
 import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
+import com.otectus.arsnspells.cooldown.CooldownPrediction;
+import com.otectus.arsnspells.cooldown.SpellCooldownWheel;
+import com.otectus.arsnspells.cooldown.UnifiedCooldownManager;
+import com.otectus.arsnspells.data.AppliedBonuses;
+import com.otectus.arsnspells.equipment.CurioSnapshot;
+import com.otectus.arsnspells.equipment.EquipmentIntegration;
+import com.otectus.arsnspells.events.ArsCastPipeline;
+import com.otectus.arsnspells.events.ArsCostStage;
+import com.otectus.arsnspells.events.ArsManaCalcHandler;
+import com.otectus.arsnspells.events.EquipmentHandler;
+import com.otectus.arsnspells.events.IronsCastPipeline;
+import com.otectus.arsnspells.events.SourceJarIndex;
+import com.otectus.arsnspells.util.AttributeModifierSync;
+import com.otectus.arsnspells.util.SpellAnalysis;
 import net.minecraft.ChatFormatting;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -22,6 +39,9 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Admin commands for Ars 'n' Spells.
  */
@@ -60,6 +80,9 @@ public class ArsNSpellsCommands {
                 .then(Commands.literal("debug")
                     .requires(source -> source.hasPermission(2))
                     .executes(ArsNSpellsCommands::toggleDebug)
+                    .then(Commands.literal("stats")
+                        .executes(ArsNSpellsCommands::showStats)
+                    )
                 )
                 .then(Commands.literal("info")
                     .requires(source -> source.hasPermission(2))
@@ -97,6 +120,7 @@ public class ArsNSpellsCommands {
         double value = DoubleArgumentType.getDouble(context, "value");
         AnsConfig.DEFAULT_MAX_MANA.set(value);
         AnsConfig.safeSave();
+        AnsConfigSnapshot.rebuild();
 
         context.getSource().sendSuccess(
             () -> Component.translatable("commands.ans.mana.setdefault.success", String.format("%.1f", value)),
@@ -109,7 +133,7 @@ public class ArsNSpellsCommands {
     }
 
     private static int getDefaultMana(CommandContext<CommandSourceStack> context) {
-        double current = AnsConfig.DEFAULT_MAX_MANA.get();
+        double current = AnsConfigSnapshot.get().defaultMaxMana;
         context.getSource().sendSuccess(
             () -> Component.translatable("commands.ans.mana.getdefault", String.format("%.1f", current)),
             false
@@ -118,9 +142,10 @@ public class ArsNSpellsCommands {
     }
 
     private static int toggleDebug(CommandContext<CommandSourceStack> context) {
-        boolean current = AnsConfig.DEBUG_MODE.get();
+        boolean current = AnsConfigSnapshot.get().debugMode;
         AnsConfig.DEBUG_MODE.set(!current);
         AnsConfig.safeSave();
+        AnsConfigSnapshot.rebuild();
 
         context.getSource().sendSuccess(
             () -> Component.translatable(current ? "commands.ans.debug.disabled" : "commands.ans.debug.enabled")
@@ -130,6 +155,43 @@ public class ArsNSpellsCommands {
         return 1;
     }
 
+    private static int showStats(CommandContext<CommandSourceStack> context) {
+        context.getSource().sendSuccess(
+            () -> Component.translatable("commands.ans.debug.stats.header").withStyle(ChatFormatting.GOLD),
+            false
+        );
+        for (String line : collectStats()) {
+            context.getSource().sendSuccess(() -> Component.literal(line).withStyle(ChatFormatting.GRAY), false);
+        }
+        return 1;
+    }
+
+    /** One line per hot-path counter, in the order the subsystems run during a cast. */
+    private static List<String> collectStats() {
+        List<String> lines = new ArrayList<>();
+        lines.add(ArsCastPipeline.getStats());
+        lines.add(ArsCostStage.getStats());
+        lines.add(ArsManaCalcHandler.getStats());
+        // IronsCastPipeline's listener signatures name Iron's event types; only touch
+        // the class when Iron's is present.
+        if (com.otectus.arsnspells.compat.IronsCompat.isLoaded()) {
+            lines.add(IronsCastPipeline.getStats());
+        }
+        lines.add(SpellAnalysis.getStats());
+        lines.add(ManaLedger.getStats());
+        lines.add(ManaRegenBridge.getStats());
+        lines.add(UnifiedCooldownManager.getStats());
+        lines.add(SpellCooldownWheel.getStats());
+        lines.add(CooldownPrediction.getStats());
+        lines.add(EquipmentHandler.getStats());
+        lines.add(EquipmentIntegration.getStats());
+        lines.add(CurioSnapshot.getStats());
+        lines.add(AttributeModifierSync.getStats());
+        lines.add(AppliedBonuses.getStats());
+        lines.add(SourceJarIndex.getStats());
+        return lines;
+    }
+
     private static int showPlayerInfo(CommandContext<CommandSourceStack> context) throws com.mojang.brigadier.exceptions.CommandSyntaxException {
         ServerPlayer target = EntityArgument.getPlayer(context, "target");
 
@@ -192,7 +254,7 @@ public class ArsNSpellsCommands {
                     .getMethod("getPlayerMagicData", net.minecraft.world.entity.LivingEntity.class)
                     .invoke(null, target);
                 float rawMana = (Float) magicDataClass.getMethod("getMana").invoke(md);
-                boolean bypassActive = (cursed && AnsConfig.ENABLE_LP_SYSTEM.get())
+                boolean bypassActive = (cursed && AnsConfigSnapshot.get().enableLpSystem)
                     || virtue;
                 context.getSource().sendSuccess(
                     () -> net.minecraft.network.chat.Component.literal(String.format(
@@ -328,7 +390,7 @@ public class ArsNSpellsCommands {
     }
 
     private static int showMode(CommandContext<CommandSourceStack> context) {
-        ManaUnificationMode mode = AnsConfig.getManaMode();
+        ManaUnificationMode mode = AnsConfigSnapshot.get().manaMode;
         context.getSource().sendSuccess(
             () -> Component.translatable("commands.ans.mode.current", mode.name())
                 .withStyle(ChatFormatting.YELLOW),
@@ -359,6 +421,7 @@ public class ArsNSpellsCommands {
 
         AnsConfig.MANA_UNIFICATION_MODE.set(parsed.getConfigName());
         AnsConfig.safeSave();
+        AnsConfigSnapshot.rebuild();
         // Apply live: re-read the config and re-select bridges (server thread — command
         // handlers run there). refreshMode() may downgrade the effective mode when a
         // mode needs Iron's and it is absent (e.g. ISS_PRIMARY -> ARS_PRIMARY), so we
@@ -1,20 +1,15 @@
 package com.otectus.arsnspells.compat;
 
 import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
-import com.hollingsworth.arsnouveau.api.util.CuriosUtil;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
+import com.otectus.arsnspells.equipment.CurioSnapshot;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.registries.ForgeRegistries;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Locale;
-import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,35 +39,13 @@ public class SanctifiedLegacyCompat {
     // code change.
 
     // ------------------------------------------------------------------
-    // Curio-state cache
+    // Curio state
     //
-    // Scanning the entire curio inventory runs once per spell cast per player
-    // for ring/blasphemy detection. We scan once, cache the result for a short
-    // TTL, and serve subsequent queries from cache. Entries are evicted on
-    // player logout (see clearCacheFor / CursedRingHandler listener).
+    // Ring and Blasphemy presence is read from the player's CurioSnapshot, the
+    // one curio pass shared with EquipmentIntegration. It is retaken only when
+    // Curios reports a slot change (or on clone/respawn/logout/tag reload), so a
+    // ring check is a map lookup and a field read.
     // ------------------------------------------------------------------
-    private static final int CURIO_CACHE_TTL_TICKS = 20; // 1 second at 20 TPS
-    private static final ConcurrentHashMap<UUID, CurioState> CURIO_STATE_CACHE = new ConcurrentHashMap<>();
-
-    /**
-     * Snapshot of the Covenant-of-the-Seven / Enigmatic Legacy curio state for
-     * a single player. Populated by {@link #scanCurios(Player, long)}.
-     */
-    private static final class CurioState {
-        final boolean cursedRing;
-        final boolean virtueRing;
-        final Set<ResourceLocation> blasphemies; // immutable
-        final long cachedAtTick;
-
-        CurioState(boolean cursedRing, boolean virtueRing, Set<ResourceLocation> blasphemies, long cachedAtTick) {
-            this.cursedRing = cursedRing;
-            this.virtueRing = virtueRing;
-            this.blasphemies = blasphemies;
-            this.cachedAtTick = cachedAtTick;
-        }
-    }
-
-    private static final CurioState EMPTY_STATE = new CurioState(false, false, Collections.emptySet(), Long.MIN_VALUE);
 
     // Blood Magic reflection cache
     private static Class<?> bloodMagicNetworkClass = null;
@@ -351,12 +324,9 @@ public class SanctifiedLegacyCompat {
      * first degraded decision per session logs at WARN so pack makers can see it.
      */
     private static boolean degradedAuraAnswer(String reason) {
-        boolean failOpen = true;
-        try {
-            failOpen = !"closed".equalsIgnoreCase(com.otectus.arsnspells.config.AnsConfig.AURA_FAILURE_MODE.get());
-        } catch (Exception ignored) {
-            // Config not loaded yet — keep the historical fail-open default.
-        }
+        // Before the config loads the snapshot serves the "open" default.
+        boolean failOpen = !"closed".equalsIgnoreCase(
+            com.otectus.arsnspells.config.AnsConfigSnapshot.get().auraFailureMode);
         if (loggedAuraDegraded.compareAndSet(false, true)) {
             LOGGER.warn("[ANS] Covenant aura bridge is degraded ({}); aura_failure_mode={} so Virtue Ring "
                     + "casts are {} until the bridge works again (further occurrences logged at debug)",
@@ -541,9 +511,8 @@ public class SanctifiedLegacyCompat {
         if (!isEnigmaticLegacyLoaded && !isLoaded) {
             return false;
         }
-        CurioState state = getState(player);
         // Cursed Ring only active if wearing it WITHOUT Virtue Ring
-        return state.cursedRing && !state.virtueRing;
+        return CurioSnapshot.get(player).cursedRingActive;
     }
 
     /**
@@ -554,9 +523,8 @@ public class SanctifiedLegacyCompat {
         if (!isLoaded) {
             return false;
         }
-        CurioState state = getState(player);
         // Virtue Ring only active if wearing it WITHOUT Cursed Ring
-        return state.virtueRing && !state.cursedRing;
+        return CurioSnapshot.get(player).virtueRingActive;
     }
 
     /**
@@ -566,75 +534,15 @@ public class SanctifiedLegacyCompat {
      */
     public static boolean hasBothRings(Player player) {
         if (!isLoaded && !isEnigmaticLegacyLoaded) return false;
-        CurioState state = getState(player);
-        return state.cursedRing && state.virtueRing;
-    }
-
-    /**
-     * Scan curio inventory once and cache ring/blasphemy presence for {@value #CURIO_CACHE_TTL_TICKS}
-     * ticks. Called by all ring/blasphemy checks; scans are deduplicated within the TTL window.
-     */
-    private static CurioState getState(Player player) {
-        if (player == null) {
-            return EMPTY_STATE;
-        }
-        UUID id = player.getUUID();
-        // ANS-HIGH-011: server-global gameTime (monotonic per world) instead of the
-        // per-player tickCount, for consistency with the ring handlers. The now >=
-        // cachedAtTick guard still cheaply rejects any non-monotonic edge (e.g. /time set).
-        long now = player.level().getGameTime();
-        CurioState cached = CURIO_STATE_CACHE.get(id);
-        if (cached != null && now - cached.cachedAtTick < CURIO_CACHE_TTL_TICKS && now >= cached.cachedAtTick) {
-            return cached;
-        }
-        CurioState fresh = scanCurios(player, now);
-        CURIO_STATE_CACHE.put(id, fresh);
-        return fresh;
-    }
-
-    /**
-     * Single-pass scan of the player's curio inventory. Populates ring presence and
-     * collects every equipped Blasphemy curio ID in one traversal.
-     */
-    private static CurioState scanCurios(Player player, long tick) {
-        boolean[] cursed = {false};
-        boolean[] virtue = {false};
-        @SuppressWarnings("unchecked")
-        Set<ResourceLocation>[] blasphemiesRef = new Set[]{null};
-        try {
-            CuriosUtil.getAllWornItems(player).ifPresent(handler -> {
-                for (int i = 0; i < handler.getSlots(); i++) {
-                    ItemStack stack = handler.getStackInSlot(i);
-                    if (stack.isEmpty()) continue;
-                    // Audit F-1: tag-driven membership (datapack-extensible).
-                    if (stack.is(com.otectus.arsnspells.registry.ModTags.CURSED_RINGS)) {
-                        cursed[0] = true;
-                    } else if (stack.is(com.otectus.arsnspells.registry.ModTags.VIRTUE_RINGS)) {
-                        virtue[0] = true;
-                    } else if (stack.is(com.otectus.arsnspells.registry.ModTags.BLASPHEMY_CURIOS)) {
-                        ResourceLocation itemId = ForgeRegistries.ITEMS.getKey(stack.getItem());
-                        if (itemId == null) continue;
-                        if (blasphemiesRef[0] == null) blasphemiesRef[0] = new HashSet<>(2);
-                        blasphemiesRef[0].add(itemId);
-                    }
-                }
-            });
-        } catch (Exception e) {
-            LOGGER.error("Failed to scan curios for {}", player.getName().getString(), e);
-        }
-        Set<ResourceLocation> blasphemies = blasphemiesRef[0];
-        return new CurioState(cursed[0], virtue[0],
-            blasphemies == null ? Collections.emptySet() : Collections.unmodifiableSet(blasphemies),
-            tick);
+        CurioSnapshot curios = CurioSnapshot.get(player);
+        return curios.cursedRing && curios.virtueRing;
     }
 
     /**
      * Evict cached curio state for a player (call on logout).
      */
     public static void clearCacheFor(UUID playerId) {
-        if (playerId != null) {
-            CURIO_STATE_CACHE.remove(playerId);
-        }
+        CurioSnapshot.invalidate(playerId);
     }
 
     /**
@@ -650,7 +558,7 @@ public class SanctifiedLegacyCompat {
         }
         
         // Get base multiplier from config
-        double baseMultiplier = com.otectus.arsnspells.config.AnsConfig.ARS_LP_BASE_MULTIPLIER.get();
+        double baseMultiplier = com.otectus.arsnspells.config.AnsConfigSnapshot.get().arsLpBaseMultiplier;
         double baseLPCost = manaCost * baseMultiplier;
         
         // Get tier multiplier from config
@@ -659,13 +567,13 @@ public class SanctifiedLegacyCompat {
         
         switch (tier) {
             case 1:
-                tierMultiplier = com.otectus.arsnspells.config.AnsConfig.ARS_LP_TIER1_MULTIPLIER.get();
+                tierMultiplier = com.otectus.arsnspells.config.AnsConfigSnapshot.get().arsLpTier1Multiplier;
                 break;
             case 2:
-                tierMultiplier = com.otectus.arsnspells.config.AnsConfig.ARS_LP_TIER2_MULTIPLIER.get();
+                tierMultiplier = com.otectus.arsnspells.config.AnsConfigSnapshot.get().arsLpTier2Multiplier;
                 break;
             case 3:
-                tierMultiplier = com.otectus.arsnspells.config.AnsConfig.ARS_LP_TIER3_MULTIPLIER.get();
+                tierMultiplier = com.otectus.arsnspells.config.AnsConfigSnapshot.get().arsLpTier3Multiplier;
                 break;
             default:
                 tierMultiplier = 1.0;
@@ -675,7 +583,7 @@ public class SanctifiedLegacyCompat {
         int finalCost = (int) Math.round(baseLPCost * tierMultiplier);
         
         // Apply minimum cost from config
-        int minimumCost = com.otectus.arsnspells.config.AnsConfig.ARS_LP_MINIMUM_COST.get();
+        int minimumCost = com.otectus.arsnspells.config.AnsConfigSnapshot.get().arsLpMinimumCost;
         return Math.max(minimumCost, finalCost);
     }
     
@@ -693,11 +601,11 @@ public class SanctifiedLegacyCompat {
         }
         
         // Get base multiplier from config
-        double baseMultiplier = com.otectus.arsnspells.config.AnsConfig.IRONS_LP_BASE_MULTIPLIER.get();
+        double baseMultiplier = com.otectus.arsnspells.config.AnsConfigSnapshot.get().ironsLpBaseMultiplier;
         double baseLPCost = manaCost * baseMultiplier;
         
         // Apply level scaling
-        double levelMultiplier = com.otectus.arsnspells.config.AnsConfig.IRONS_LP_PER_LEVEL_MULTIPLIER.get();
+        double levelMultiplier = com.otectus.arsnspells.config.AnsConfigSnapshot.get().ironsLpPerLevelMultiplier;
         double levelScaling = 1.0 + (spellLevel * levelMultiplier);
         baseLPCost *= levelScaling;
         
@@ -706,7 +614,7 @@ public class SanctifiedLegacyCompat {
         int finalCost = (int) Math.round(baseLPCost * rarityMultiplier);
         
         // Apply minimum cost from config
-        int minimumCost = com.otectus.arsnspells.config.AnsConfig.IRONS_LP_MINIMUM_COST.get();
+        int minimumCost = com.otectus.arsnspells.config.AnsConfigSnapshot.get().ironsLpMinimumCost;
         return Math.max(minimumCost, finalCost);
     }
     
@@ -723,15 +631,15 @@ public class SanctifiedLegacyCompat {
         
         switch (rarity.toUpperCase()) {
             case "COMMON":
-                return com.otectus.arsnspells.config.AnsConfig.IRONS_LP_COMMON_MULTIPLIER.get();
+                return com.otectus.arsnspells.config.AnsConfigSnapshot.get().ironsLpCommonMultiplier;
             case "UNCOMMON":
-                return com.otectus.arsnspells.config.AnsConfig.IRONS_LP_UNCOMMON_MULTIPLIER.get();
+                return com.otectus.arsnspells.config.AnsConfigSnapshot.get().ironsLpUncommonMultiplier;
             case "RARE":
-                return com.otectus.arsnspells.config.AnsConfig.IRONS_LP_RARE_MULTIPLIER.get();
+                return com.otectus.arsnspells.config.AnsConfigSnapshot.get().ironsLpRareMultiplier;
             case "EPIC":
-                return com.otectus.arsnspells.config.AnsConfig.IRONS_LP_EPIC_MULTIPLIER.get();
+                return com.otectus.arsnspells.config.AnsConfigSnapshot.get().ironsLpEpicMultiplier;
             case "LEGENDARY":
-                return com.otectus.arsnspells.config.AnsConfig.IRONS_LP_LEGENDARY_MULTIPLIER.get();
+                return com.otectus.arsnspells.config.AnsConfigSnapshot.get().ironsLpLegendaryMultiplier;
             default:
                 return 1.0;
         }
@@ -741,7 +649,7 @@ public class SanctifiedLegacyCompat {
      * Get the configured LP source mode.
      */
     public static LPSourceMode getLPSourceMode() {
-        String mode = com.otectus.arsnspells.config.AnsConfig.LP_SOURCE_MODE.get();
+        String mode = com.otectus.arsnspells.config.AnsConfigSnapshot.get().lpSourceMode;
         try {
             return LPSourceMode.valueOf(mode.toUpperCase());
         } catch (Exception e) {
@@ -953,7 +861,7 @@ public class SanctifiedLegacyCompat {
         // named "<school>_blasphemy", tagged ars_n_spells:blasphemy_curios)
         // school-match exactly like Covenant's own.
         String wantedPath = schoolType.toLowerCase(Locale.ROOT) + "_blasphemy";
-        for (ResourceLocation worn : getState(player).blasphemies) {
+        for (ResourceLocation worn : CurioSnapshot.get(player).blasphemies) {
             if (worn.getPath().equals(wantedPath)) {
                 return true;
             }
@@ -979,7 +887,7 @@ public class SanctifiedLegacyCompat {
      */
     public static double getBlasphemyLPMultiplier(Player player, String schoolType) {
         return hasMatchingBlasphemy(player, schoolType)
-            ? (1.0 - AnsConfig.BLASPHEMY_LP_DISCOUNT.get()) : 1.0;
+            ? (1.0 - AnsConfigSnapshot.get().blasphemyLpDiscount) : 1.0;
     }
 
     // getBlasphemyAuraMultiplier removed alongside the parallel aura subsystem.
@@ -1001,7 +909,7 @@ public class SanctifiedLegacyCompat {
         if (!isLoaded) {
             return false;
         }
-        return getState(player).virtueRing;
+        return CurioSnapshot.get(player).virtueRing;
     }
     
     /**
@@ -1014,7 +922,7 @@ public class SanctifiedLegacyCompat {
         if (!isAvailable()) {
             return false;
         }
-        return !getState(player).blasphemies.isEmpty();
+        return !CurioSnapshot.get(player).blasphemies.isEmpty();
     }
 
     /**
@@ -1028,7 +936,7 @@ public class SanctifiedLegacyCompat {
         if (!isLoaded || blasphemyType == null) {
             return false;
         }
-        return getState(player).blasphemies.contains(new ResourceLocation(MOD_ID, blasphemyType));
+        return CurioSnapshot.get(player).blasphemies.contains(new ResourceLocation(MOD_ID, blasphemyType));
     }
     
     /**
@@ -63,6 +63,7 @@ public class AnsConfig {
     public static final ForgeConfigSpec.BooleanValue ENABLE_CROSS_MOD_COOLDOWNS;
     public static final ForgeConfigSpec.IntValue COOLDOWN_CATEGORY_DURATION;
     public static final ForgeConfigSpec.DoubleValue CROSS_MOD_COOLDOWN_MULTIPLIER;
+    public static final ForgeConfigSpec.BooleanValue ENABLE_PER_SPELL_COOLDOWNS;
     // ANS-MED-044: ENABLE_CATEGORY_COOLDOWNS and COOLDOWN_REDUCTION_CAP removed —
     // never read; the unified cooldown path only honors ENABLE_UNIFIED_COOLDOWNS,
     // ENABLE_CROSS_MOD_COOLDOWNS, COOLDOWN_CATEGORY_DURATION, and the multiplier.
@@ -78,6 +79,7 @@ public class AnsConfig {
     public static final ForgeConfigSpec.BooleanValue ENABLE_CROSS_MOD_PROGRESSION;
     public static final ForgeConfigSpec.DoubleValue PROGRESSION_BONUS_PER_CAST;
     public static final ForgeConfigSpec.DoubleValue PROGRESSION_BONUS_CAP;
+    public static final ForgeConfigSpec.DoubleValue PROGRESSION_BONUS_QUANTUM;
 
     // ========================================
     // AFFINITY SYSTEM
@@ -96,7 +98,7 @@ public class AnsConfig {
     public static final ForgeConfigSpec.DoubleValue BLASPHEMY_DISCOUNT;
     public static final ForgeConfigSpec.DoubleValue BLASPHEMY_MATCHING_SCHOOL_BONUS;
     // ANS-MED-044: ALLOW_DISCOUNT_STACKING removed — never read. The Virtue Ring
-    // moved to aura conversion (zeroes cost before CurioDiscountHandler runs), so
+    // moved to aura conversion (zeroes cost before the curio discount step runs), so
     // there is no second discount left to stack with Blasphemy's.
     public static final ForgeConfigSpec.BooleanValue READ_CURIO_ATTRIBUTE_MODIFIERS;
     
@@ -183,8 +185,8 @@ public class AnsConfig {
     // ========================================
     public static final ForgeConfigSpec.DoubleValue SOURCE_JAR_CACHE_MOVE_THRESHOLD;
     // ANS-MED-044: MANA_SYNC_INTERVAL, ENABLE_CACHING, and CACHE_DURATION removed —
-    // never read. Sync cadence and the equipment/curio caches use fixed internal
-    // constants (e.g. EquipmentIntegration.CACHE_DURATION_MS).
+    // never read. Sync cadence and the curio caches use fixed internal constants; the
+    // equipment bonus cache is invalidated by equipment/curio change events.
 
     static {
         // ========================================
@@ -402,6 +404,11 @@ public class AnsConfig {
         CROSS_MOD_COOLDOWN_MULTIPLIER = BUILDER
             .comment("Multiplier for cross-mod cooldowns (0.5 = 50% of normal)")
             .defineInRange("cross_mod_cooldown_multiplier", 0.5, 0.0, 10.0);
+
+        ENABLE_PER_SPELL_COOLDOWNS = BUILDER
+            .comment("Lock only the spell that was cast instead of its whole category.",
+                     "Uses cooldown_category_duration; the HUD category bars are not shown in this mode.")
+            .define("enable_per_spell_cooldowns", false);
         
         // ANS-MED-044: cooldown_reduction_cap removed — never enforced.
 
@@ -436,6 +443,12 @@ public class AnsConfig {
                      "(250 casts at defaults).")
             .defineInRange("progression_bonus_cap", 0.25, 0.0, 2.0);
 
+        PROGRESSION_BONUS_QUANTUM = BUILDER
+            .comment("Smallest bonus change written to the spell power attribute.",
+                     "0.02 = the modifier is refreshed every +2% (every 20 casts at defaults) and",
+                     "on reaching the cap, instead of on every cast. 0 = refresh on every cast.")
+            .defineInRange("progression_bonus_quantum", 0.02, 0.0, 1.0);
+
         BUILDER.pop();
 
         // ========================================
@@ -465,7 +478,7 @@ public class AnsConfig {
             .defineInRange("affinity_decay_rate", 0.01, 0.0, 1.0);
 
         AFFINITY_DECAY_INTERVAL_TICKS = BUILDER
-            .comment("How often (in ticks) the decay handler ticks each player. 1200 = once per minute.")
+            .comment("Length of one affinity decay interval (ticks). 1200 = once per minute.")
             .defineInRange("affinity_decay_interval_ticks", 1200, 20, 24000);
 
         BUILDER.pop();
@@ -0,0 +1,253 @@
+package com.otectus.arsnspells.config;
+
+import net.minecraftforge.common.ForgeConfigSpec;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable, final-field copy of every value in {@link AnsConfig}, plus values derived
+ * from them.
+ *
+ * <p>Runtime code used to call {@code ForgeConfigSpec.ConfigValue.get()} directly, often
+ * several times per event ({@code BridgeManager.isUnificationEnabled} on every mana
+ * read, the dual-cost split on every SEPARATE-mode cast, five reads per player tick in
+ * {@code RegenSynergyHandler}). Each of those goes through NightConfig's synchronized
+ * lookup. A snapshot is built once per config change and published through a single
+ * volatile, so a hot-path read is one volatile load plus a field access.
+ *
+ * <p>Rebuilt on {@code ModConfigEvent.Loading}/{@code Reloading} (see
+ * {@code ArsNSpells}) and by every in-game writer ({@code /ans mode set},
+ * {@code /ans mana setdefault}, {@code /ans debug}, the config screen) right after
+ * it calls {@code set}. Before the SERVER config has loaded, {@link #get()} serves a
+ * snapshot of the spec defaults rather than throwing, which is what the scattered
+ * {@code try/catch (IllegalStateException)} wrappers used to approximate.
+ *
+ * <p>The config screen keeps reading the live values: it edits them.
+ */
+public final class AnsConfigSnapshot {
+    private static final AtomicInteger VERSIONS = new AtomicInteger();
+    private static volatile AnsConfigSnapshot defaults;
+    private static volatile AnsConfigSnapshot current;
+
+    /**
+     * Monotonic id of this snapshot. Caches that fold config values into a memoized
+     * result can key on it instead of re-reading individual values.
+     */
+    public final int version;
+
+    // Derived
+    /** Same precedence as {@link AnsConfig#getManaMode()}: the master toggle wins. */
+    public final ManaUnificationMode manaMode;
+    /**
+     * {@code dual_cost_ars_percentage} normalized so the two shares always sum to 1.
+     * A degenerate split (both 0) puts the whole cost on the Ars side.
+     */
+    public final double dualCostArsShare;
+    /** {@code dual_cost_iss_percentage} normalized; see {@link #dualCostArsShare}. */
+    public final double dualCostIssShare;
+
+    // Raw values, one per AnsConfig entry, in declaration order
+    public final String manaUnificationMode;
+    public final boolean enableManaUnification;
+    public final boolean enableResonanceSystem;
+    public final boolean enableCooldownSystem;
+    public final boolean enableProgressionSystem;
+    public final boolean enableAffinitySystem;
+    public final boolean debugMode;
+    public final double conversionRateArsToIron;
+    public final double conversionRateIronToArs;
+    public final String hybridManaBar;
+    public final boolean hideManaBarWithRing;
+    public final double dualCostArsPercentage;
+    public final double dualCostIssPercentage;
+    public final double defaultMaxMana;
+    public final boolean respectArmorBonuses;
+    public final boolean respectEnchantments;
+    public final String crossSystemRegenConversion;
+    public final double crossSystemRegenMultiplier;
+    public final double crossSystemRegenReferencePool;
+    public final boolean enableArsResonance;
+    public final boolean enableIronsResonance;
+    public final double resonanceStrength;
+    public final double resonanceThreshold;
+    public final int resonanceDuration;
+    public final double maxDamageMultiplier;
+    public final boolean enableUnifiedCooldowns;
+    public final boolean enableCrossModCooldowns;
+    public final int cooldownCategoryDuration;
+    public final double crossModCooldownMultiplier;
+    public final boolean enablePerSpellCooldowns;
+    public final boolean enableCrossModProgression;
+    public final double progressionBonusPerCast;
+    public final double progressionBonusCap;
+    public final double progressionBonusQuantum;
+    public final boolean enableAffinityDecay;
+    public final double affinityDecayRate;
+    public final int affinityDecayIntervalTicks;
+    public final boolean enableCurioDiscounts;
+    public final double blasphemyDiscount;
+    public final double blasphemyMatchingSchoolBonus;
+    public final boolean readCurioAttributeModifiers;
+    public final boolean enableLpSystem;
+    public final String lpSourceMode;
+    public final boolean deathOnInsufficientLp;
+    public final boolean showLpCostMessages;
+    public final double arsLpBaseMultiplier;
+    public final double arsLpTier1Multiplier;
+    public final double arsLpTier2Multiplier;
+    public final double arsLpTier3Multiplier;
+    public final int arsLpMinimumCost;
+    public final double ironsLpBaseMultiplier;
+    public final double ironsLpPerLevelMultiplier;
+    public final int ironsLpMinimumCost;
+    public final double ironsLpCommonMultiplier;
+    public final double ironsLpUncommonMultiplier;
+    public final double ironsLpRareMultiplier;
+    public final double ironsLpEpicMultiplier;
+    public final double ironsLpLegendaryMultiplier;
+    public final boolean enableVirtueAuraSystem;
+    public final double arsVirtueAuraMultiplier;
+    public final String auraFailureMode;
+    public final String scrollCostMode;
+    public final double spellPowerCap;
+    public final double blasphemyLpDiscount;
+    public final boolean enableSourceJarSynergy;
+    public final int sourceJarScanIntervalTicks;
+    public final int sourceJarScanRadius;
+    public final double sourceJarSynergyMultiplier;
+    public final double ritualManaInfusionAmount;
+    public final int manaWellRange;
+    public final double manaWellRegenRate;
+    public final double crossCastCostMultiplier;
+    public final boolean allowArsSpellsInIronsSpellbooks;
+    public final int maxArsCrossSpellsPerIronsSpellbook;
+    public final double sourceJarCacheMoveThreshold;
+
+    private AnsConfigSnapshot(Reader r) {
+        this.version = VERSIONS.incrementAndGet();
+        this.manaUnificationMode = r.read(AnsConfig.MANA_UNIFICATION_MODE);
+        this.enableManaUnification = r.read(AnsConfig.ENABLE_MANA_UNIFICATION);
+        this.enableResonanceSystem = r.read(AnsConfig.ENABLE_RESONANCE_SYSTEM);
+        this.enableCooldownSystem = r.read(AnsConfig.ENABLE_COOLDOWN_SYSTEM);
+        this.enableProgressionSystem = r.read(AnsConfig.ENABLE_PROGRESSION_SYSTEM);
+        this.enableAffinitySystem = r.read(AnsConfig.ENABLE_AFFINITY_SYSTEM);
+        this.debugMode = r.read(AnsConfig.DEBUG_MODE);
+        this.conversionRateArsToIron = r.read(AnsConfig.CONVERSION_RATE_ARS_TO_IRON);
+        this.conversionRateIronToArs = r.read(AnsConfig.CONVERSION_RATE_IRON_TO_ARS);
+        this.hybridManaBar = r.read(AnsConfig.HYBRID_MANA_BAR);
+        this.hideManaBarWithRing = r.read(AnsConfig.HIDE_MANA_BAR_WITH_RING);
+        this.dualCostArsPercentage = r.read(AnsConfig.DUAL_COST_ARS_PERCENTAGE);
+        this.dualCostIssPercentage = r.read(AnsConfig.DUAL_COST_ISS_PERCENTAGE);
+        this.defaultMaxMana = r.read(AnsConfig.DEFAULT_MAX_MANA);
+        this.respectArmorBonuses = r.read(AnsConfig.respectArmorBonuses);
+        this.respectEnchantments = r.read(AnsConfig.respectEnchantments);
+        this.crossSystemRegenConversion = r.read(AnsConfig.CROSS_SYSTEM_REGEN_CONVERSION);
+        this.crossSystemRegenMultiplier = r.read(AnsConfig.CROSS_SYSTEM_REGEN_MULTIPLIER);
+        this.crossSystemRegenReferencePool = r.read(AnsConfig.CROSS_SYSTEM_REGEN_REFERENCE_POOL);
+        this.enableArsResonance = r.read(AnsConfig.ENABLE_ARS_RESONANCE);
+        this.enableIronsResonance = r.read(AnsConfig.ENABLE_IRONS_RESONANCE);
+        this.resonanceStrength = r.read(AnsConfig.RESONANCE_STRENGTH);
+        this.resonanceThreshold = r.read(AnsConfig.RESONANCE_THRESHOLD);
+        this.resonanceDuration = r.read(AnsConfig.RESONANCE_DURATION);
+        this.maxDamageMultiplier = r.read(AnsConfig.MAX_DAMAGE_MULTIPLIER);
+        this.enableUnifiedCooldowns = r.read(AnsConfig.ENABLE_UNIFIED_COOLDOWNS);
+        this.enableCrossModCooldowns = r.read(AnsConfig.ENABLE_CROSS_MOD_COOLDOWNS);
+        this.cooldownCategoryDuration = r.read(AnsConfig.COOLDOWN_CATEGORY_DURATION);
+        this.crossModCooldownMultiplier = r.read(AnsConfig.CROSS_MOD_COOLDOWN_MULTIPLIER);
+        this.enablePerSpellCooldowns = r.read(AnsConfig.ENABLE_PER_SPELL_COOLDOWNS);
+        this.enableCrossModProgression = r.read(AnsConfig.ENABLE_CROSS_MOD_PROGRESSION);
+        this.progressionBonusPerCast = r.read(AnsConfig.PROGRESSION_BONUS_PER_CAST);
+        this.progressionBonusCap = r.read(AnsConfig.PROGRESSION_BONUS_CAP);
+        this.progressionBonusQuantum = r.read(AnsConfig.PROGRESSION_BONUS_QUANTUM);
+        this.enableAffinityDecay = r.read(AnsConfig.ENABLE_AFFINITY_DECAY);
+        this.affinityDecayRate = r.read(AnsConfig.AFFINITY_DECAY_RATE);
+        this.affinityDecayIntervalTicks = r.read(AnsConfig.AFFINITY_DECAY_INTERVAL_TICKS);
+        this.enableCurioDiscounts = r.read(AnsConfig.ENABLE_CURIO_DISCOUNTS);
+        this.blasphemyDiscount = r.read(AnsConfig.BLASPHEMY_DISCOUNT);
+        this.blasphemyMatchingSchoolBonus = r.read(AnsConfig.BLASPHEMY_MATCHING_SCHOOL_BONUS);
+        this.readCurioAttributeModifiers = r.read(AnsConfig.READ_CURIO_ATTRIBUTE_MODIFIERS);
+        this.enableLpSystem = r.read(AnsConfig.ENABLE_LP_SYSTEM);
+        this.lpSourceMode = r.read(AnsConfig.LP_SOURCE_MODE);
+        this.deathOnInsufficientLp = r.read(AnsConfig.DEATH_ON_INSUFFICIENT_LP);
+        this.showLpCostMessages = r.read(AnsConfig.SHOW_LP_COST_MESSAGES);
+        this.arsLpBaseMultiplier = r.read(AnsConfig.ARS_LP_BASE_MULTIPLIER);
+        this.arsLpTier1Multiplier = r.read(AnsConfig.ARS_LP_TIER1_MULTIPLIER);
+        this.arsLpTier2Multiplier = r.read(AnsConfig.ARS_LP_TIER2_MULTIPLIER);
+        this.arsLpTier3Multiplier = r.read(AnsConfig.ARS_LP_TIER3_MULTIPLIER);
+        this.arsLpMinimumCost = r.read(AnsConfig.ARS_LP_MINIMUM_COST);
+        this.ironsLpBaseMultiplier = r.read(AnsConfig.IRONS_LP_BASE_MULTIPLIER);
+        this.ironsLpPerLevelMultiplier = r.read(AnsConfig.IRONS_LP_PER_LEVEL_MULTIPLIER);
+        this.ironsLpMinimumCost = r.read(AnsConfig.IRONS_LP_MINIMUM_COST);
+        this.ironsLpCommonMultiplier = r.read(AnsConfig.IRONS_LP_COMMON_MULTIPLIER);
+        this.ironsLpUncommonMultiplier = r.read(AnsConfig.IRONS_LP_UNCOMMON_MULTIPLIER);
+        this.ironsLpRareMultiplier = r.read(AnsConfig.IRONS_LP_RARE_MULTIPLIER);
+        this.ironsLpEpicMultiplier = r.read(AnsConfig.IRONS_LP_EPIC_MULTIPLIER);
+        this.ironsLpLegendaryMultiplier = r.read(AnsConfig.IRONS_LP_LEGENDARY_MULTIPLIER);
+        this.enableVirtueAuraSystem = r.read(AnsConfig.ENABLE_VIRTUE_AURA_SYSTEM);
+        this.arsVirtueAuraMultiplier = r.read(AnsConfig.ARS_VIRTUE_AURA_MULTIPLIER);
+        this.auraFailureMode = r.read(AnsConfig.AURA_FAILURE_MODE);
+        this.scrollCostMode = r.read(AnsConfig.SCROLL_COST_MODE);
+        this.spellPowerCap = r.read(AnsConfig.SPELL_POWER_CAP);
+        this.blasphemyLpDiscount = r.read(AnsConfig.BLASPHEMY_LP_DISCOUNT);
+        this.enableSourceJarSynergy = r.read(AnsConfig.ENABLE_SOURCE_JAR_SYNERGY);
+        this.sourceJarScanIntervalTicks = r.read(AnsConfig.SOURCE_JAR_SCAN_INTERVAL_TICKS);
+        this.sourceJarScanRadius = r.read(AnsConfig.SOURCE_JAR_SCAN_RADIUS);
+        this.sourceJarSynergyMultiplier = r.read(AnsConfig.SOURCE_JAR_SYNERGY_MULTIPLIER);
+        this.ritualManaInfusionAmount = r.read(AnsConfig.RITUAL_MANA_INFUSION_AMOUNT);
+        this.manaWellRange = r.read(AnsConfig.MANA_WELL_RANGE);
+        this.manaWellRegenRate = r.read(AnsConfig.MANA_WELL_REGEN_RATE);
+        this.crossCastCostMultiplier = r.read(AnsConfig.CROSS_CAST_COST_MULTIPLIER);
+        this.allowArsSpellsInIronsSpellbooks = r.read(AnsConfig.ALLOW_ARS_SPELLS_IN_IRONS_SPELLBOOKS);
+        this.maxArsCrossSpellsPerIronsSpellbook = r.read(AnsConfig.MAX_ARS_CROSS_SPELLS_PER_IRONS_SPELLBOOK);
+        this.sourceJarCacheMoveThreshold = r.read(AnsConfig.SOURCE_JAR_CACHE_MOVE_THRESHOLD);
+
+        this.manaMode = enableManaUnification
+            ? ManaUnificationMode.fromString(manaUnificationMode)
+            : ManaUnificationMode.DISABLED;
+        double pctTotal = dualCostArsPercentage + dualCostIssPercentage;
+        if (pctTotal <= 0.0) {
+            this.dualCostArsShare = 1.0;
+            this.dualCostIssShare = 0.0;
+        } else {
+            this.dualCostArsShare = dualCostArsPercentage / pctTotal;
+            this.dualCostIssShare = dualCostIssPercentage / pctTotal;
+        }
+    }
+
+    /**
+     * The published snapshot. Never {@code null}: falls back to the spec defaults
+     * until the first {@link #rebuild()} after the config loads.
+     */
+    public static AnsConfigSnapshot get() {
+        AnsConfigSnapshot snap = current;
+        return snap != null ? snap : defaults();
+    }
+
+    /**
+     * Re-read every value from {@link AnsConfig} and publish the result. Call after any
+     * {@code ConfigValue#set}; cheap enough for command/screen paths, never needed per
+     * tick.
+     */
+    public static AnsConfigSnapshot rebuild() {
+        AnsConfigSnapshot snap = AnsConfig.SPEC.isLoaded()
+            ? new AnsConfigSnapshot(ForgeConfigSpec.ConfigValue::get)
+            : defaults();
+        current = snap;
+        return snap;
+    }
+
+    /** Snapshot of the spec defaults; needs no loaded config. */
+    static AnsConfigSnapshot defaults() {
+        AnsConfigSnapshot snap = defaults;
+        if (snap == null) {
+            snap = new AnsConfigSnapshot(ForgeConfigSpec.ConfigValue::getDefault);
+            defaults = snap;
+        }
+        return snap;
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        <T> T read(ForgeConfigSpec.ConfigValue<T> value);
+    }
+}
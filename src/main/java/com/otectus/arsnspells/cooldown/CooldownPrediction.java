@@ -0,0 +1,199 @@
+package com.otectus.arsnspells.cooldown;
+
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-side model of what each client's cooldown HUD currently believes, so the
+ * server only sends a {@code CooldownSyncPacket} when that belief is wrong.
+ *
+ * <p>A client that sees the cast itself predicts the new end tick locally
+ * ({@link UnifiedCooldownManager#predictClientCooldown}) from the synced SERVER config —
+ * the same {@code cooldownCategoryDuration} the server uses. The first prediction per
+ * cast {@link Source} in a session is announced with a {@code CooldownPredictionPacket};
+ * until then the server keeps sending one packet per cast, so a client that never sees
+ * the cast event (or an older client) behaves exactly as before.
+ *
+ * <p>For a predicting source the server skips the per-cast packet only when it knows
+ * the client predicted that cast, and sends it otherwise:
+ * <ul>
+ *   <li>a cast the server drives itself ({@link #beginServerCast}: cross-casts, the
+ *       Iron's proxy spell) fires no cast event on the client, so nothing was
+ *       predicted;</li>
+ *   <li>a cast while the client's view of the category may still be on cooldown
+ *       (within {@link #CLIENT_LAG_TICKS} of the last end tick) — the client skips its
+ *       prediction while its own bar runs, and its clock trails the server's;</li>
+ *   <li>a cast the server rejected while the client thought the category was free
+ *       (the client already predicted a fresh end);</li>
+ *   <li>an end set outside a cast ({@code /ans} clears, resync) that differs from the
+ *       client's view.</li>
+ * </ul>
+ * The client predicts from its own game time, which trails the server's by the ping,
+ * so the HUD can be off by a tick or two. A cast the server drops for another reason
+ * (e.g. mana) before the cooldown stage leaves a predicted bar that expires on its own.
+ * Enforcement is always the server's {@link com.otectus.arsnspells.data.CooldownData};
+ * the client tracker is display-only. Config changes need no correction: the SERVER
+ * config is synced, so both sides switch durations together.
+ *
+ * <p>Keyed by UUID so the bookkeeping is unit-testable without a Player.
+ */
+@Mod.EventBusSubscriber(modid = "ars_n_spells")
+public final class CooldownPrediction {
+
+    /** Which mod's cast event triggered the cooldown; prediction support is per source. */
+    public enum Source { ARS, IRONS }
+
+    private static final CooldownCategory[] CATEGORIES = CooldownCategory.values();
+
+    private static final Map<UUID, View> VIEWS = new ConcurrentHashMap<>();
+
+    /**
+     * How far the client's game time may trail the server's. A cast this close to the
+     * end of the previous cooldown may have found the client's bar still running, so
+     * the client predicted nothing.
+     */
+    static final long CLIENT_LAG_TICKS = 20L;
+
+    private static final AtomicLong packetsSent = new AtomicLong();
+    private static final AtomicLong packetsSkipped = new AtomicLong();
+
+    private CooldownPrediction() {}
+
+    /** The client announced that it predicts cooldowns for casts from {@code source}. */
+    public static void markPredicting(UUID id, Source source) {
+        View view = view(id);
+        synchronized (view) {
+            view.predicting |= 1 << source.ordinal();
+        }
+    }
+
+    /**
+     * A cast the server starts on the player's behalf (no client cast event, so no
+     * prediction) is about to run. Pair with {@link #endServerCast} in a finally.
+     */
+    public static void beginServerCast(UUID id) {
+        View view = view(id);
+        synchronized (view) {
+            view.serverCasts++;
+        }
+    }
+
+    public static void endServerCast(UUID id) {
+        View view = VIEWS.get(id);
+        if (view == null) {
+            return;
+        }
+        synchronized (view) {
+            if (view.serverCasts > 0) {
+                view.serverCasts--;
+            }
+        }
+    }
+
+    /**
+     * The server applied a cooldown for a cast at game time {@code now}. Returns
+     * {@code true} if the end tick must be sent: the client does not predict casts from
+     * {@code source}, the server drove the cast itself, or the client may still have
+     * shown the category on cooldown and so predicted nothing.
+     */
+    public static boolean onApplied(UUID id, Source source, CooldownCategory category, long serverEnd, long now) {
+        View view = view(id);
+        boolean send;
+        synchronized (view) {
+            send = !view.predicts(source)
+                || view.serverCasts > 0
+                || view.ends[category.ordinal()] > now - CLIENT_LAG_TICKS;
+            view.ends[category.ordinal()] = serverEnd;
+        }
+        return count(send);
+    }
+
+    /**
+     * The server rejected a cast because {@code category} is on cooldown until
+     * {@code serverEnd}. Returns {@code true} if the client predicted a fresh cooldown for
+     * it (it believed the category was free) and needs the real end tick.
+     */
+    public static boolean onRejected(UUID id, Source source, CooldownCategory category, long serverEnd, long now) {
+        View view = view(id);
+        boolean send;
+        synchronized (view) {
+            send = view.predicts(source) && view.ends[category.ordinal()] <= now;
+            if (send) {
+                view.ends[category.ordinal()] = serverEnd;
+            }
+        }
+        return count(send);
+    }
+
+    /**
+     * The server set {@code category}'s end tick outside a cast (admin clear, login
+     * resync). Returns {@code true} if the client's view differs and needs the new value.
+     * A player with no recorded view always gets the packet.
+     */
+    public static boolean onOverride(UUID id, CooldownCategory category, long serverEnd, long now) {
+        View existing = VIEWS.get(id);
+        View view = existing != null ? existing : view(id);
+        boolean send;
+        synchronized (view) {
+            long seen = view.ends[category.ordinal()];
+            send = existing == null || active(seen, now) != active(serverEnd, now);
+            view.ends[category.ordinal()] = serverEnd;
+        }
+        return count(send);
+    }
+
+    /** Record the end tick a full resync just sent, without counting it as a decision. */
+    public static void record(UUID id, CooldownCategory category, long sentEnd) {
+        View view = view(id);
+        synchronized (view) {
+            view.ends[category.ordinal()] = sentEnd;
+        }
+    }
+
+    /** Forget a player's view, e.g. on logout; the next login resyncs from scratch. */
+    public static void forget(UUID id) {
+        VIEWS.remove(id);
+    }
+
+    public static String getStats() {
+        return String.format("Cooldown prediction: %d sync packets sent, %d skipped, %d tracked players",
+            packetsSent.get(), packetsSkipped.get(), VIEWS.size());
+    }
+
+    /** Expired and cleared ends look the same on the HUD. */
+    private static long active(long end, long now) {
+        return end > now ? end : 0L;
+    }
+
+    private static boolean count(boolean send) {
+        (send ? packetsSent : packetsSkipped).incrementAndGet();
+        return send;
+    }
+
+    private static View view(UUID id) {
+        return VIEWS.computeIfAbsent(id, k -> new View());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        forget(event.getEntity().getUUID());
+    }
+
+    private static final class View {
+        /** Bit {@code Source.ordinal()} set once the client announced prediction for it. */
+        int predicting;
+        /** Server-driven casts in flight ({@link #beginServerCast}); they always sync. */
+        int serverCasts;
+        final long[] ends = new long[CATEGORIES.length];
+
+        boolean predicts(Source source) {
+            return (predicting & (1 << source.ordinal())) != 0;
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package com.otectus.arsnspells.cooldown;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * Client-side mirror of the per-category cooldown end ticks, fed by
+ * {@code CooldownSyncPacket}. Indexed by {@link CooldownCategory#ordinal()}; a
+ * {@code long[]} instead of a boxed map since the HUD and the cast gate read it
+ * every frame / cast.
+ */
 public class CooldownTracker {
-    private final Map<CooldownCategory, Long> cooldownEndTicks = new HashMap<>();
+    private static final CooldownCategory[] CATEGORIES = CooldownCategory.values();
+
+    private final long[] cooldownEndTicks = new long[CATEGORIES.length];
 
     public void setLastCastTime(CooldownCategory category, long cooldownEndTick) {
-        cooldownEndTicks.put(category, cooldownEndTick);
+        cooldownEndTicks[category.ordinal()] = cooldownEndTick;
     }
 
     public long getLastCastTime(CooldownCategory category) {
-        return cooldownEndTicks.getOrDefault(category, 0L);
+        return cooldownEndTicks[category.ordinal()];
     }
 
     public boolean isOnCooldown(CooldownCategory category, long currentTime) {
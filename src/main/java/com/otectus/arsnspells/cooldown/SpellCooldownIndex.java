@@ -0,0 +1,218 @@
+package com.otectus.arsnspells.cooldown;
+
+import net.minecraft.nbt.CompoundTag;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player per-spell cooldown end ticks, keyed by a compact spell id.
+ *
+ * <p>Spell keys (an Iron's spell id, or an Ars recipe key from
+ * {@code SpellAnalysis.recipeKey}) are interned into a process-wide id table when a
+ * cooldown is first applied; reads use {@link #lookup}, which never interns, so
+ * casting a spell that never goes on cooldown adds nothing. The table is dropped when
+ * the server stops (see {@link SpellCooldownWheel}). Each
+ * player holds an open-addressing {@code int -> long} table, so
+ * {@link #getEnd(int)} is O(1) without boxing. Expired entries are left in place —
+ * a lookup compares against the current tick — until {@link SpellCooldownWheel}
+ * sweeps their slot and calls {@link #removeIfEnd}.
+ *
+ * <p>NBT stores spell keys, not ids, so saves stay valid across restarts. Server main
+ * thread only (ANS-MED-013), like the rest of {@code CooldownData}.
+ */
+public final class SpellCooldownIndex {
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    // Grown geometrically; slots at and above IDS.size() are unused.
+    private static volatile String[] keys = new String[16];
+
+    /** {@link #lookup} result for a key that has never been interned. */
+    public static final int UNKNOWN = -1;
+    private static final int EMPTY = -1;
+
+    private int[] ids = newIdTable(8);
+    private long[] ends = new long[8];
+    private int size;
+
+    /** Id for {@code key}, assigning the next one on first sight. Write paths only. */
+    public static int idOf(String key) {
+        Integer id = IDS.get(key);
+        if (id != null) {
+            return id;
+        }
+        synchronized (IDS) {
+            id = IDS.get(key);
+            if (id == null) {
+                id = IDS.size();
+                String[] table = keys;
+                if (id == table.length) {
+                    table = Arrays.copyOf(table, table.length * 2);
+                }
+                table[id] = key;
+                keys = table;
+                IDS.put(key, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Id for {@code key}, or {@link #UNKNOWN} if it was never interned. A key with no
+     * id cannot have a cooldown recorded, so read paths treat a miss as "not on cooldown".
+     */
+    public static int lookup(String key) {
+        Integer id = IDS.get(key);
+        return id != null ? id : UNKNOWN;
+    }
+
+    /** Drop every interned key. Only once no index holds ids (server stopped). */
+    static void clearIds() {
+        synchronized (IDS) {
+            IDS.clear();
+            keys = new String[16];
+        }
+    }
+
+    static int internedCount() {
+        return IDS.size();
+    }
+
+    static String keyOf(int id) {
+        return keys[id];
+    }
+
+    /** Cooldown end tick for {@code spellId}, or 0 if none is recorded. */
+    public long getEnd(int spellId) {
+        int slot = find(spellId);
+        return slot >= 0 ? ends[slot] : 0L;
+    }
+
+    public void put(int spellId, long endTick) {
+        if (endTick <= 0L) {
+            removeIfEnd(spellId, getEnd(spellId));
+            return;
+        }
+        if ((size + 1) * 4 > ids.length * 3) {
+            rehash(ids.length * 2);
+        }
+        int slot = slotFor(spellId, ids);
+        if (ids[slot] == EMPTY) {
+            ids[slot] = spellId;
+            size++;
+        }
+        ends[slot] = endTick;
+    }
+
+    /**
+     * Drop {@code spellId} if its end tick is still {@code endTick}; a later re-cast
+     * that moved the end forward keeps its entry.
+     */
+    public boolean removeIfEnd(int spellId, long endTick) {
+        int slot = find(spellId);
+        if (slot < 0 || ends[slot] != endTick) {
+            return false;
+        }
+        ids[slot] = EMPTY;
+        ends[slot] = 0L;
+        size--;
+        // Re-insert the rest of the probe cluster so lookups never stop early.
+        int mask = ids.length - 1;
+        for (int i = (slot + 1) & mask; ids[i] != EMPTY; i = (i + 1) & mask) {
+            int id = ids[i];
+            long end = ends[i];
+            ids[i] = EMPTY;
+            ends[i] = 0L;
+            int target = slotFor(id, ids);
+            ids[target] = id;
+            ends[target] = end;
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(ids, EMPTY);
+        Arrays.fill(ends, 0L);
+        size = 0;
+    }
+
+    /** Calls {@code action} for every recorded entry. */
+    public void forEach(EntryConsumer action) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != EMPTY) {
+                action.accept(ids[i], ends[i]);
+            }
+        }
+    }
+
+    public void saveToNBT(CompoundTag nbt, String key) {
+        CompoundTag tag = new CompoundTag();
+        forEach((id, end) -> tag.putLong(keyOf(id), end));
+        nbt.put(key, tag);
+    }
+
+    public void loadFromNBT(CompoundTag nbt, String key) {
+        clear();
+        if (!nbt.contains(key)) {
+            return;
+        }
+        CompoundTag tag = nbt.getCompound(key);
+        for (String spell : tag.getAllKeys()) {
+            put(idOf(spell), tag.getLong(spell));
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int spellId, long endTick);
+    }
+
+    private int find(int spellId) {
+        int mask = ids.length - 1;
+        for (int i = mix(spellId) & mask; ids[i] != EMPTY; i = (i + 1) & mask) {
+            if (ids[i] == spellId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int slotFor(int spellId, int[] table) {
+        int mask = table.length - 1;
+        int i = mix(spellId) & mask;
+        while (table[i] != EMPTY && table[i] != spellId) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldIds = ids;
+        long[] oldEnds = ends;
+        ids = newIdTable(capacity);
+        ends = new long[capacity];
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int slot = slotFor(oldIds[i], ids);
+                ids[slot] = oldIds[i];
+                ends[slot] = oldEnds[i];
+            }
+        }
+    }
+
+    private static int[] newIdTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    /** Ids are sequential; spread them so neighbours don't share a probe run. */
+    private static int mix(int id) {
+        return id * 0x9E3779B9;
+    }
+}
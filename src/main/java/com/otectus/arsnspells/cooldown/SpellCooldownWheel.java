@@ -0,0 +1,79 @@
+package com.otectus.arsnspells.cooldown;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.server.ServerLifecycleHooks;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Sweeps expired per-spell cooldowns out of every player's {@link SpellCooldownIndex}.
+ *
+ * <p>One {@link TimingWheel} for the whole server, advanced to the overworld game time
+ * at the end of each server tick (all dimensions share that clock). An entry scheduled
+ * for a cooldown end fires once, on the tick its slot comes round; until then it costs
+ * nothing, and lookups never wait for it — {@link UnifiedCooldownManager} compares the
+ * stored end against the current tick. A re-cast before the sweep leaves the old entry
+ * to fire harmlessly ({@link SpellCooldownIndex#removeIfEnd} checks the end tick).
+ * Entries reference the index weakly, so a logged-out player's {@code CooldownData}
+ * is not kept alive until its last cooldown comes round.
+ *
+ * <p>Server main thread only (ANS-MED-013).
+ */
+@Mod.EventBusSubscriber(modid = "ars_n_spells")
+public final class SpellCooldownWheel {
+
+    private static final TimingWheel<Entry> WHEEL = new TimingWheel<>();
+
+    private static final Consumer<Entry> EXPIRE = entry -> {
+        SpellCooldownIndex index = entry.index.get();
+        if (index != null && index.removeIfEnd(entry.spellId, entry.endTick)) {
+            swept.incrementAndGet();
+        }
+    };
+
+    private static final AtomicLong scheduled = new AtomicLong();
+    private static final AtomicLong swept = new AtomicLong();
+
+    private SpellCooldownWheel() {}
+
+    /** Queue {@code spellId}'s entry in {@code index} for removal once {@code endTick} passes. */
+    public static void schedule(SpellCooldownIndex index, int spellId, long endTick) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            return;
+        }
+        // Bring the wheel up to date first so a schedule during login (before this
+        // tick's sweep) is placed relative to the real time, not a stale one.
+        WHEEL.advance(server.overworld().getGameTime(), EXPIRE);
+        WHEEL.schedule(new Entry(new WeakReference<>(index), spellId, endTick), endTick);
+        scheduled.incrementAndGet();
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || WHEEL.size() == 0) {
+            return;
+        }
+        WHEEL.advance(event.getServer().overworld().getGameTime(), EXPIRE);
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        WHEEL.clear();
+        // Every index died with its player; the next server re-interns from NBT.
+        SpellCooldownIndex.clearIds();
+    }
+
+    public static String getStats() {
+        return String.format("Per-spell cooldown wheel: %d pending, %d scheduled, %d swept, %d spell keys interned",
+            WHEEL.size(), scheduled.get(), swept.get(), SpellCooldownIndex.internedCount());
+    }
+
+    private record Entry(WeakReference<SpellCooldownIndex> index, int spellId, long endTick) {}
+}
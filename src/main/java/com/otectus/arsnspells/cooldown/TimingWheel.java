@@ -0,0 +1,193 @@
+package com.otectus.arsnspells.cooldown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel over game ticks: four levels of 64 slots (1, 64, 4096 and
+ * 262144 ticks per slot), so scheduling is O(1) and each tick touches one level-0 slot
+ * plus an occasional cascade. Deadlines past the whole wheel (2^24 ticks, ~9.7 days
+ * of server time) wait in an overflow list that is re-examined every top-level lap.
+ *
+ * <p>Entries are never cancelled; the owner checks on expiry whether the entry still
+ * matters (see {@link SpellCooldownWheel}). Not thread-safe — server main thread only.
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    /** Past this many ticks, {@link #advance} re-places everything instead of stepping. */
+    private static final long MAX_STEP = (long) SLOTS * SLOTS;
+
+    @SuppressWarnings("unchecked")
+    private final List<Node<T>>[][] wheels = new List[LEVELS][SLOTS];
+    private final List<Node<T>> overflow = new ArrayList<>();
+
+    private long now;
+    private boolean started;
+    private int size;
+
+    /** Current wheel time; {@link #advance} moves it forward. */
+    long now() {
+        return now;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Schedule {@code item} to expire once the wheel reaches {@code deadline}. A deadline
+     * at or before the current time expires on the next tick.
+     */
+    void schedule(T item, long deadline) {
+        if (!started) {
+            now = deadline - 1;
+            started = true;
+        }
+        place(new Node<>(item, deadline), now + 1);
+        size++;
+    }
+
+    /**
+     * Move the wheel forward to {@code time}, handing every expired item to
+     * {@code expired}. Moving backwards is ignored.
+     */
+    void advance(long time, Consumer<T> expired) {
+        if (!started) {
+            now = time;
+            started = true;
+            return;
+        }
+        if (time - now > MAX_STEP) {
+            // Long jump (e.g. /time add): re-place everything against the new time
+            // instead of stepping through every skipped tick.
+            List<Node<T>> all = drainAll();
+            now = time;
+            size = 0;
+            for (Node<T> node : all) {
+                if (node.deadline <= now) {
+                    expired.accept(node.item);
+                } else {
+                    place(node, now);
+                    size++;
+                }
+            }
+            return;
+        }
+        while (now < time) {
+            now++;
+            cascade();
+            List<Node<T>> slot = wheels[0][(int) (now & MASK)];
+            if (slot == null || slot.isEmpty()) {
+                continue;
+            }
+            List<Node<T>> due = new ArrayList<>(slot);
+            slot.clear();
+            for (Node<T> node : due) {
+                if (node.deadline <= now) {
+                    size--;
+                    expired.accept(node.item);
+                } else {
+                    place(node, now);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        for (List<Node<T>>[] level : wheels) {
+            for (List<Node<T>> slot : level) {
+                if (slot != null) {
+                    slot.clear();
+                }
+            }
+        }
+        overflow.clear();
+        size = 0;
+        started = false;
+    }
+
+    /**
+     * When the lower levels wrap, pull the now-current slot of each higher level down,
+     * highest first so entries land in slots that are still ahead of {@link #now}.
+     */
+    private void cascade() {
+        if ((now & MASK) != 0) {
+            return;
+        }
+        int top = 1;
+        while (top < LEVELS && ((now >> (SLOT_BITS * top)) & MASK) == 0) {
+            top++;
+        }
+        if (top == LEVELS && !overflow.isEmpty()) {
+            List<Node<T>> waiting = new ArrayList<>(overflow);
+            overflow.clear();
+            for (Node<T> node : waiting) {
+                place(node, now);
+            }
+        }
+        for (int level = Math.min(top, LEVELS - 1); level >= 1; level--) {
+            List<Node<T>> slot = wheels[level][(int) ((now >> (SLOT_BITS * level)) & MASK)];
+            if (slot == null || slot.isEmpty()) {
+                continue;
+            }
+            List<Node<T>> moving = new ArrayList<>(slot);
+            slot.clear();
+            for (Node<T> node : moving) {
+                place(node, now);
+            }
+        }
+    }
+
+    /**
+     * File {@code node} by its distance from {@link #now}, no earlier than
+     * {@code earliest}. Cascades pass {@code now} itself: the level-0 slot for the
+     * current tick is swept right after the cascade, so a deadline landing exactly on
+     * a slot boundary still fires on time.
+     */
+    private void place(Node<T> node, long earliest) {
+        long deadline = Math.max(node.deadline, earliest);
+        long delta = deadline - now;
+        for (int level = 0; level < LEVELS; level++) {
+            if ((delta >> (SLOT_BITS * (level + 1))) == 0) {
+                int index = (int) ((deadline >> (SLOT_BITS * level)) & MASK);
+                List<Node<T>> slot = wheels[level][index];
+                if (slot == null) {
+                    slot = new ArrayList<>(2);
+                    wheels[level][index] = slot;
+                }
+                slot.add(node);
+                return;
+            }
+        }
+        overflow.add(node);
+    }
+
+    private List<Node<T>> drainAll() {
+        List<Node<T>> all = new ArrayList<>(overflow);
+        overflow.clear();
+        for (List<Node<T>>[] level : wheels) {
+            for (List<Node<T>> slot : level) {
+                if (slot != null) {
+                    all.addAll(slot);
+                    slot.clear();
+                }
+            }
+        }
+        return all;
+    }
+
+    private static final class Node<T> {
+        final T item;
+        final long deadline;
+
+        Node(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+    }
+}
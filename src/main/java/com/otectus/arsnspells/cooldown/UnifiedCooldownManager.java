@@ -1,11 +1,17 @@
 package com.otectus.arsnspells.cooldown;
 
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.data.CooldownData;
+import com.otectus.arsnspells.network.CooldownPredictionPacket;
+import com.otectus.arsnspells.network.CooldownSyncPacket;
+import com.otectus.arsnspells.network.PacketHandler;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.WeakReference;
+
 /**
  * Manages unified cooldowns across both Ars Nouveau and Iron's Spells 'n Spellbooks.
  * Tracks cooldowns per category per player to prevent spell spam.
@@ -17,12 +23,25 @@ import org.slf4j.LoggerFactory;
  * class accepted a {@code modNamespace} parameter that suggested per-mod
  * isolation, but it was never part of the storage key — only the debug log.
  * The parameter was removed in 1.9.0 to make the surface match the behavior.
+ *
+ * <p>With {@code enable_per_spell_cooldowns} the handlers use
+ * {@link #isSpellOnCooldown}/{@link #applySpellCooldown} instead, which lock only the
+ * cast spell (an Iron's spell id or an Ars recipe key) via {@link SpellCooldownIndex}.
  */
 public class UnifiedCooldownManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UnifiedCooldownManager.class);
     private static final CooldownTracker CLIENT_TRACKER = new CooldownTracker();
 
+    /**
+     * Client-side: the player entity the current {@link CooldownPredictionPacket}
+     * announcements were sent for, and a {@link CooldownPrediction.Source} bitmask of
+     * what was announced. A new entity (login, respawn, dimension change) re-announces;
+     * the server treats repeats as no-ops.
+     */
+    private static WeakReference<Player> announcedFor = new WeakReference<>(null);
+    private static int announcedSources;
+
     /**
      * Check if a spell category is on cooldown for a player.
      */
@@ -88,9 +107,7 @@ public class UnifiedCooldownManager {
         if (!isEnabled() || player == null || category == null) {
             return 0L;
         }
-        int baseDuration = AnsConfig.COOLDOWN_CATEGORY_DURATION.get();
-        double multiplier = isCrossModSpell ? AnsConfig.CROSS_MOD_COOLDOWN_MULTIPLIER.get() : 1.0;
-        long duration = (long) (baseDuration * multiplier);
+        long duration = cooldownDuration(isCrossModSpell);
         long currentTime = player.level().getGameTime();
         long cooldownEnd = currentTime + duration;
 
@@ -108,22 +125,137 @@ public class UnifiedCooldownManager {
         return cooldownEnd;
     }
 
+    /**
+     * Server-side: whether the spell identified by {@code spellKey} is on its own
+     * cooldown. One index lookup; an expired entry the wheel has not swept yet just
+     * compares as past. Does not intern {@code spellKey}: a key never put on cooldown
+     * has no id and is not on cooldown.
+     */
+    public static boolean isSpellOnCooldown(Player player, String spellKey) {
+        if (!isEnabled() || player == null || spellKey == null || player.level().isClientSide()) {
+            return false;
+        }
+        int spellId = SpellCooldownIndex.lookup(spellKey);
+        if (spellId == SpellCooldownIndex.UNKNOWN) {
+            return false;
+        }
+        long currentTime = player.level().getGameTime();
+        return player.getCapability(CooldownData.COOLDOWN_CAP)
+            .map(data -> currentTime < data.getSpellCooldowns().getEnd(spellId))
+            .orElse(false);
+    }
+
+    /**
+     * Server-side: start {@code spellKey}'s own cooldown and queue its expiry on the
+     * {@link SpellCooldownWheel}. Returns the end tick, or 0 if nothing was applied.
+     */
+    public static long applySpellCooldown(Player player, String spellKey, boolean isCrossModSpell) {
+        if (!isEnabled() || player == null || spellKey == null || player.level().isClientSide()) {
+            return 0L;
+        }
+        long duration = cooldownDuration(isCrossModSpell);
+        if (duration <= 0L) {
+            return 0L;
+        }
+        int spellId = SpellCooldownIndex.idOf(spellKey);
+        long cooldownEnd = player.level().getGameTime() + duration;
+        player.getCapability(CooldownData.COOLDOWN_CAP).ifPresent(data -> {
+            data.getSpellCooldowns().put(spellId, cooldownEnd);
+            SpellCooldownWheel.schedule(data.getSpellCooldowns(), spellId, cooldownEnd);
+        });
+
+        logDebug("Applied spell cooldown to {} for {}: {} ticks (cross-mod: {})",
+            player.getName().getString(), spellKey, duration, isCrossModSpell);
+
+        return cooldownEnd;
+    }
+
+    /**
+     * Cooldown length in ticks from the (client-synced) SERVER config. Shared by the
+     * server's {@link #applyCooldownAndGetEnd} and the client's
+     * {@link #predictClientCooldown} so both sides compute the same end tick.
+     */
+    public static long cooldownDuration(boolean isCrossModSpell) {
+        int baseDuration = AnsConfigSnapshot.get().cooldownCategoryDuration;
+        double multiplier = isCrossModSpell ? AnsConfigSnapshot.get().crossModCooldownMultiplier : 1.0;
+        return (long) (baseDuration * multiplier);
+    }
+
+    /**
+     * Client-side: predict the cooldown a cast the local player just made will start,
+     * instead of waiting for the server's {@link CooldownSyncPacket}. The first
+     * prediction per source tells the server (see {@link CooldownPrediction}) so it can
+     * stop sending the per-cast packet. No-op while the category is already on
+     * cooldown locally — the server rejects that cast too.
+     */
+    public static void predictClientCooldown(Player player, CooldownCategory category,
+                                             CooldownPrediction.Source source) {
+        if (!isEnabled() || player == null || category == null || !player.level().isClientSide()) {
+            return;
+        }
+        long currentTime = player.level().getGameTime();
+        if (CLIENT_TRACKER.isOnCooldown(category, currentTime)) {
+            return;
+        }
+        CLIENT_TRACKER.setLastCastTime(category, currentTime + cooldownDuration(false));
+
+        if (announcedFor.get() != player) {
+            announcedFor = new WeakReference<>(player);
+            announcedSources = 0;
+        }
+        int bit = 1 << source.ordinal();
+        if ((announcedSources & bit) == 0) {
+            announcedSources |= bit;
+            PacketHandler.sendToServer(new CooldownPredictionPacket(source));
+        }
+    }
+
+    /**
+     * Server-side, after {@link #applyCooldownAndGetEnd} for a cast: send the end tick
+     * unless the client is known to have predicted this cast.
+     */
+    public static void syncAppliedCooldown(ServerPlayer player, CooldownPrediction.Source source,
+                                           CooldownCategory category, long cooldownEnd) {
+        long now = player.level().getGameTime();
+        if (CooldownPrediction.onApplied(player.getUUID(), source, category, cooldownEnd, now)) {
+            PacketHandler.sendToClient(new CooldownSyncPacket(category, cooldownEnd), player);
+        }
+    }
+
+    /**
+     * Server-side, after a cast was cancelled for being on cooldown: correct a client
+     * that predicted a fresh cooldown for it.
+     */
+    public static void syncRejectedCast(ServerPlayer player, CooldownPrediction.Source source,
+                                        CooldownCategory category) {
+        player.getCapability(CooldownData.COOLDOWN_CAP).ifPresent(data -> {
+            long end = data.getCooldownEnd(category);
+            long now = player.level().getGameTime();
+            if (CooldownPrediction.onRejected(player.getUUID(), source, category, end, now)) {
+                PacketHandler.sendToClient(new CooldownSyncPacket(category, end), player);
+            }
+        });
+    }
+
     /**
      * Clear all cooldowns for a player.
      *
-     * <p>ANS-MED-015: also pushes {@code CooldownSyncPacket(cat, 0L)} per category to
-     * the client so the HUD bar clears. Without this, an admin {@code /ans} command
-     * that cleared cooldowns server-side would leave the client HUD showing the old
-     * timer until the next cast in that category.
+     * <p>ANS-MED-015: also pushes {@code CooldownSyncPacket(cat, 0L)} to the client so
+     * the HUD bar clears. Without this, an admin {@code /ans} command that cleared
+     * cooldowns server-side would leave the client HUD showing the old timer until the
+     * next cast in that category. Categories the client already shows as free are
+     * skipped ({@link CooldownPrediction#onOverride}).
      */
     public static void clearCooldowns(Player player) {
         if (player != null) {
             player.getCapability(CooldownData.COOLDOWN_CAP).ifPresent(data -> {
+                long now = player.level().getGameTime();
+                data.getSpellCooldowns().clear();
                 for (CooldownCategory cat : CooldownCategory.values()) {
                     data.setCooldownEnd(cat, 0);
-                    if (player instanceof net.minecraft.server.level.ServerPlayer sp) {
-                        com.otectus.arsnspells.network.PacketHandler.sendToClient(
-                            new com.otectus.arsnspells.network.CooldownSyncPacket(cat, 0L), sp);
+                    if (player instanceof ServerPlayer sp
+                            && CooldownPrediction.onOverride(sp.getUUID(), cat, 0L, now)) {
+                        PacketHandler.sendToClient(new CooldownSyncPacket(cat, 0L), sp);
                     }
                 }
             });
@@ -134,15 +266,16 @@ public class UnifiedCooldownManager {
     /**
      * Clear cooldown for a specific category for a player.
      *
-     * <p>ANS-MED-015: also pushes a 0-end CooldownSyncPacket to the client.
+     * <p>ANS-MED-015: also pushes a 0-end CooldownSyncPacket to the client when it
+     * still shows the category on cooldown.
      */
     public static void clearCooldown(Player player, CooldownCategory category) {
         if (player != null && category != null) {
             player.getCapability(CooldownData.COOLDOWN_CAP).ifPresent(data -> {
                 data.setCooldownEnd(category, 0);
-                if (player instanceof net.minecraft.server.level.ServerPlayer sp) {
-                    com.otectus.arsnspells.network.PacketHandler.sendToClient(
-                        new com.otectus.arsnspells.network.CooldownSyncPacket(category, 0L), sp);
+                if (player instanceof ServerPlayer sp && CooldownPrediction.onOverride(
+                        sp.getUUID(), category, 0L, player.level().getGameTime())) {
+                    PacketHandler.sendToClient(new CooldownSyncPacket(category, 0L), sp);
                 }
             });
             // ANS-MED-015 (placeholder count fix): only 2 placeholders, 2 args.
@@ -151,22 +284,28 @@ public class UnifiedCooldownManager {
         }
     }
 
+    /**
+     * Whether cooldowns lock single spells rather than whole categories.
+     */
+    public static boolean isPerSpellEnabled() {
+        return isEnabled() && AnsConfigSnapshot.get().enablePerSpellCooldowns;
+    }
+
     /**
      * Check if the unified cooldown system is enabled.
      */
     public static boolean isEnabled() {
-        return AnsConfig.ENABLE_COOLDOWN_SYSTEM != null
-            && AnsConfig.ENABLE_COOLDOWN_SYSTEM.get()
-            && AnsConfig.ENABLE_UNIFIED_COOLDOWNS != null
-            && AnsConfig.ENABLE_UNIFIED_COOLDOWNS.get();
+        return AnsConfigSnapshot.get().enableCooldownSystem
+            && AnsConfigSnapshot.get().enableUnifiedCooldowns;
     }
 
     /**
      * Get statistics about the cooldown system.
      */
     public static String getStats() {
-        return String.format("Unified Cooldown System: %s (Capability Based, global-per-category)",
-                           isEnabled() ? "ACTIVE" : "DISABLED");
+        return String.format("Unified Cooldown System: %s (Capability Based, %s)",
+                           isEnabled() ? "ACTIVE" : "DISABLED",
+                           isPerSpellEnabled() ? "per-spell" : "global-per-category");
     }
 
     /**
@@ -198,7 +337,7 @@ public class UnifiedCooldownManager {
      * Log debug message if debug mode is enabled.
      */
     private static void logDebug(String message, Object... args) {
-        if (AnsConfig.DEBUG_MODE != null && AnsConfig.DEBUG_MODE.get()) {
+        if (AnsConfigSnapshot.get().debugMode) {
             LOGGER.info("[Cooldown] [DEBUG] " + message, args);
         }
     }
@@ -1,32 +1,70 @@
 package com.otectus.arsnspells.data;
 
 import com.otectus.arsnspells.affinity.AffinityType;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
 
 public class AffinityData {
     public static final Capability<AffinityData> AFFINITY_DATA = CapabilityManager.get(new CapabilityToken<>() {});
 
+    private static final AffinityType[] TYPES = AffinityType.values();
+
     /**
      * ANS-MED-013: server-main-thread only. All known mutation sites are event
      * handlers / packet handlers that dispatch via enqueueWork onto the main thread.
-     * Plain HashMap is intentional; do NOT mutate from async tasks.
+     * Unsynchronized array is intentional; do NOT mutate from async tasks.
+     * Indexed by {@link AffinityType#ordinal()} (read on every cast and decay pass,
+     * so no boxing).
      */
-    private final Map<AffinityType, Integer> levels = new HashMap<>();
+    private final int[] levels = new int[TYPES.length];
+
+    /** Bit {@code ordinal} set when that school's level changed since the last client sync. */
+    private int dirty;
 
     /** Fractional decay carried between decay intervals; see {@link DecayAccumulator}. */
     private final DecayAccumulator decayRemainders = new DecayAccumulator();
 
+    /** No game clock: the client mirror, which only ever takes synced levels. */
+    public static final LongSupplier NO_CLOCK = () -> -1L;
+    private static final long UNTOUCHED = Long.MIN_VALUE;
+
+    /**
+     * Affinity decay is applied lazily: each school remembers the game time its decay
+     * was last settled, and any read, write or save first applies the decay intervals
+     * elapsed since then in one {@link DecayAccumulator#decay} step. Not persisted —
+     * after a load the clock starts at the first access, so (as with the old per-tick
+     * handler) only time the player spends online decays.
+     */
+    private final long[] lastTouched = new long[TYPES.length];
+    private final LongSupplier clock;
+
+    public AffinityData() {
+        this(NO_CLOCK);
+    }
+
+    /** @param clock current game time, or a negative value when decay must not run */
+    public AffinityData(LongSupplier clock) {
+        this.clock = clock;
+        Arrays.fill(lastTouched, UNTOUCHED);
+    }
+
     public int getLevel(AffinityType type) {
-        return levels.getOrDefault(type, 0);
+        settleDecay(type.ordinal(), clock.getAsLong());
+        return levels[type.ordinal()];
     }
 
     public void setLevel(AffinityType type, int level) {
-        levels.put(type, Math.max(0, Math.min(100, level)));
+        settleDecay(type.ordinal(), clock.getAsLong());
+        int clamped = Math.max(0, Math.min(100, level));
+        if (levels[type.ordinal()] != clamped) {
+            levels[type.ordinal()] = clamped;
+            dirty |= 1 << type.ordinal();
+        }
     }
 
     public void addLevel(AffinityType type, int amount) {
@@ -34,37 +72,83 @@ public class AffinityData {
     }
 
     /**
-     * Accumulates fractional decay for a school and returns the whole number of
-     * points that should be removed now (0 on most intervals). See
-     * {@link DecayAccumulator#accrue}.
+     * Brings every school's decay up to the current game time, so the dirty mask
+     * reflects decay too (e.g. before syncing changed schools to the client).
      */
-    public int accrueDecay(AffinityType type, double amount) {
-        return decayRemainders.accrue(type, amount);
+    public void settleDecay() {
+        long now = clock.getAsLong();
+        for (int i = 0; i < TYPES.length; i++) {
+            settleDecay(i, now);
+        }
     }
 
-    /** Drops any carried fractional decay, e.g. once a school reaches level 0. */
-    public void clearDecayRemainder(AffinityType type) {
-        decayRemainders.clear(type);
+    private void settleDecay(int i, long now) {
+        if (now < 0) {
+            return;
+        }
+        long last = lastTouched[i];
+        lastTouched[i] = now;
+        if (last == UNTOUCHED || now <= last || levels[i] <= 0) {
+            return;
+        }
+        AnsConfigSnapshot config = AnsConfigSnapshot.get();
+        if (!config.enableAffinitySystem || !config.enableAffinityDecay) {
+            return;
+        }
+        int interval = config.affinityDecayIntervalTicks;
+        if (interval <= 0 || config.affinityDecayRate <= 0.0) {
+            return;
+        }
+        // Per-day rate prorated to per-interval (24000 ticks per Minecraft day);
+        // an interval elapses each time game time crosses a multiple of it.
+        double perInterval = config.affinityDecayRate * (interval / 24000.0);
+        long intervals = Math.floorDiv(now, interval) - Math.floorDiv(last, interval);
+        int lost = decayRemainders.decay(TYPES[i], levels[i], intervals, perInterval);
+        if (lost > 0) {
+            levels[i] = Math.max(0, levels[i] - lost);
+            dirty |= 1 << i;
+        }
+    }
+
+    /**
+     * Clears and returns the changed-since-last-sync mask (bit {@code ordinal} per
+     * school).
+     */
+    public int takeDirtyMask() {
+        int mask = dirty;
+        dirty = 0;
+        return mask;
     }
 
     public void saveToNBT(CompoundTag nbt) {
+        settleDecay();
+        // Same layout as the old map-backed version: one int per school name, zero
+        // schools omitted (an absent key loads as 0).
         CompoundTag tag = new CompoundTag();
-        levels.forEach((type, level) -> tag.putInt(type.name(), level));
+        for (AffinityType type : TYPES) {
+            int level = levels[type.ordinal()];
+            if (level != 0) {
+                tag.putInt(type.name(), level);
+            }
+        }
         nbt.put("AffinityLevels", tag);
         decayRemainders.saveToNBT(nbt, "AffinityDecayRemainders");
     }
 
     public void loadFromNBT(CompoundTag nbt) {
         // ANS-MED-012: clear before load so a second call cannot merge with stale state.
-        levels.clear();
+        Arrays.fill(levels, 0);
         if (nbt.contains("AffinityLevels")) {
             CompoundTag tag = nbt.getCompound("AffinityLevels");
-            for (AffinityType type : AffinityType.values()) {
+            for (AffinityType type : TYPES) {
                 if (tag.contains(type.name())) {
-                    levels.put(type, tag.getInt(type.name()));
+                    levels[type.ordinal()] = tag.getInt(type.name());
                 }
             }
         }
+        // A load replaces everything the client might have mirrored.
+        dirty = (1 << TYPES.length) - 1;
         decayRemainders.loadFromNBT(nbt, "AffinityDecayRemainders");
+        Arrays.fill(lastTouched, UNTOUCHED);
     }
 }
\ No newline at end of file
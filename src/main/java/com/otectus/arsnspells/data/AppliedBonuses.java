@@ -0,0 +1,84 @@
+package com.otectus.arsnspells.data;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The progression bonus last written to each school's {@code <school>_spell_power}
+ * attribute, so a cast only rewrites the modifier when the bonus has moved by at
+ * least {@code progression_bonus_quantum} (or reached the cap, or dropped to zero).
+ * At the default 0.1%-per-cast curve that turns one remove/add and one attribute
+ * sync per cast into one per quantum's worth of casts.
+ *
+ * <p>Not persisted: the modifier is transient, and every path that rebuilds it from
+ * scratch (login, respawn, dimension change) calls {@link #clear()} first. Indexed by
+ * the {@link SchoolCastCounts} school id. Lives outside ProgressionData for the same
+ * reason as {@link DecayAccumulator}. Server main thread only (ANS-MED-013).
+ */
+public final class AppliedBonuses {
+
+    private static final AtomicLong written = new AtomicLong();
+    private static final AtomicLong skipped = new AtomicLong();
+
+    private double[] applied = new double[8];
+
+    /**
+     * Decide whether {@code bonus} must be written for {@code school}. Returns
+     * {@code true} and records it as applied when the change since the last write
+     * reaches {@code quantum}, lands on {@code cap}, or clears the bonus; otherwise
+     * the difference stays pending and {@code false} is returned.
+     */
+    public boolean take(String school, double bonus, double quantum, double cap) {
+        int id = SchoolCastCounts.intern(school);
+        ensureCapacity(id);
+        double last = applied[id];
+        if (!shouldWrite(last, bonus, quantum, cap)) {
+            skipped.incrementAndGet();
+            return false;
+        }
+        applied[id] = bonus;
+        written.incrementAndGet();
+        return true;
+    }
+
+    /** Record an unconditional write of {@code bonus}, e.g. when rebuilding modifiers. */
+    public void set(String school, double bonus) {
+        int id = SchoolCastCounts.intern(school);
+        ensureCapacity(id);
+        applied[id] = bonus;
+        written.incrementAndGet();
+    }
+
+    /** Bonus last written for {@code school}; 0 if none. */
+    public double get(String school) {
+        int id = SchoolCastCounts.find(school);
+        return id >= 0 && id < applied.length ? applied[id] : 0.0;
+    }
+
+    /** Forget every write, e.g. before the modifiers are rebuilt on a fresh entity. */
+    public void clear() {
+        Arrays.fill(applied, 0.0);
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= applied.length) {
+            applied = Arrays.copyOf(applied, Math.max(id + 1, applied.length * 2));
+        }
+    }
+
+    static boolean shouldWrite(double last, double bonus, double quantum, double cap) {
+        if (bonus == last) {
+            return false;
+        }
+        if (quantum <= 0.0 || bonus <= 0.0 || bonus >= cap) {
+            return true;
+        }
+        // Tolerate float drift: 20 * 0.001 must count as a full 0.02 step.
+        return Math.abs(bonus - last) >= quantum - 1e-9;
+    }
+
+    public static String getStats() {
+        return String.format("Progression bonus: %d attribute writes, %d skipped under quantum",
+            written.get(), skipped.get());
+    }
+}
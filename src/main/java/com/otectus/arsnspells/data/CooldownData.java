@@ -1,28 +1,37 @@
 package com.otectus.arsnspells.data;
 
 import com.otectus.arsnspells.cooldown.CooldownCategory;
+import com.otectus.arsnspells.cooldown.SpellCooldownIndex;
+import com.otectus.arsnspells.cooldown.SpellCooldownWheel;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 public class CooldownData {
     public static final Capability<CooldownData> COOLDOWN_CAP = CapabilityManager.get(new CapabilityToken<>() {});
     // Stores cooldown end tick per category. NBT key is "BridgeCooldowns" for
     // backwards-compatibility with existing player save files (ANS-LOW-016).
+    private static final CooldownCategory[] CATEGORIES = CooldownCategory.values();
+
     /**
      * ANS-MED-013: server-main-thread only; see AffinityData for the same invariant.
+     * Indexed by {@link CooldownCategory#ordinal()}; 0 means "no cooldown".
      */
-    private final Map<CooldownCategory, Long> cooldowns = new HashMap<>();
+    private final long[] cooldowns = new long[CATEGORIES.length];
+
+    /** Per-spell end ticks, used when {@code enable_per_spell_cooldowns} is on. */
+    private final SpellCooldownIndex spellCooldowns = new SpellCooldownIndex();
 
     // ANS-MED-039: getLastCast/setLastCast names were misleading — these store the
     // cooldown END tick, not the last-cast tick. Renamed accessors below preserve
     // the old names as deprecated forwarders so the rename can land without breaking
     // every call site in one diff.
-    public long getCooldownEnd(CooldownCategory cat) { return cooldowns.getOrDefault(cat, 0L); }
-    public void setCooldownEnd(CooldownCategory cat, long endTick) { cooldowns.put(cat, endTick); }
+    public long getCooldownEnd(CooldownCategory cat) { return cooldowns[cat.ordinal()]; }
+    public void setCooldownEnd(CooldownCategory cat, long endTick) { cooldowns[cat.ordinal()] = endTick; }
+
+    public SpellCooldownIndex getSpellCooldowns() { return spellCooldowns; }
 
     /** @deprecated use {@link #getCooldownEnd(CooldownCategory)} — historic name */
     @Deprecated
@@ -36,18 +45,26 @@ public class CooldownData {
         // existing player save files dating to when this lived in the bridge module.
         // Do not rename without a migration step.
         CompoundTag tag = new CompoundTag();
-        cooldowns.forEach((cat, time) -> tag.putLong(cat.name(), time));
+        for (CooldownCategory cat : CATEGORIES) {
+            long end = cooldowns[cat.ordinal()];
+            if (end != 0L) {
+                tag.putLong(cat.name(), end);
+            }
+        }
         nbt.put("BridgeCooldowns", tag);
+        spellCooldowns.saveToNBT(nbt, "SpellCooldowns");
     }
 
     public void load(CompoundTag nbt) {
         // ANS-LOW-017: clear before load, mirroring AffinityData (ANS-MED-012).
-        cooldowns.clear();
+        Arrays.fill(cooldowns, 0L);
         if (nbt.contains("BridgeCooldowns")) {
             CompoundTag tag = nbt.getCompound("BridgeCooldowns");
-            for (CooldownCategory cat : CooldownCategory.values()) {
-                if (tag.contains(cat.name())) cooldowns.put(cat, tag.getLong(cat.name()));
+            for (CooldownCategory cat : CATEGORIES) {
+                if (tag.contains(cat.name())) cooldowns[cat.ordinal()] = tag.getLong(cat.name());
             }
         }
+        spellCooldowns.loadFromNBT(nbt, "SpellCooldowns");
+        spellCooldowns.forEach((id, end) -> SpellCooldownWheel.schedule(spellCooldowns, id, end));
     }
 }
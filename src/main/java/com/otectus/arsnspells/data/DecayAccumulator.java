@@ -2,8 +2,8 @@ package com.otectus.arsnspells.data;
 
 import com.otectus.arsnspells.affinity.AffinityType;
 import net.minecraft.nbt.CompoundTag;
-import java.util.HashMap;
-import java.util.Map;
+
+import java.util.Arrays;
 
 /**
  * Fractional decay carried between affinity decay intervals, always in [0, 1)
@@ -16,11 +16,14 @@ import java.util.Map;
  * runtime transformer and cannot load in plain JUnit.
  *
  * <p>Same threading contract as AffinityData (ANS-MED-013): server main
- * thread only; plain HashMap is intentional.
+ * thread only. Indexed by {@link AffinityType#ordinal()}; 0.0 means "no
+ * remainder", which is also what an absent NBT key loads as.
  */
 public final class DecayAccumulator {
 
-    private final Map<AffinityType, Double> remainders = new HashMap<>();
+    private static final AffinityType[] TYPES = AffinityType.values();
+
+    private final double[] remainders = new double[TYPES.length];
 
     /**
      * Accumulates fractional decay for a school and returns the whole number of
@@ -35,35 +38,89 @@ public final class DecayAccumulator {
         if (!Double.isFinite(amount) || amount <= 0.0) {
             return 0;
         }
-        double total = remainders.getOrDefault(type, 0.0) + amount;
+        double total = remainders[type.ordinal()] + amount;
         int whole = (int) Math.floor(total);
-        remainders.put(type, total - whole);
+        remainders[type.ordinal()] = total - whole;
         return whole;
     }
 
+    /**
+     * Closed form of {@code intervals} consecutive {@link #accrue} passes for a school
+     * at {@code level}, where each pass accrues {@code currentLevel * perInterval} and
+     * the level drops by whatever whole points it returns. Returns the total number of
+     * points lost; the remainder is left where the per-interval loop would leave it
+     * (and cleared if the level reaches 0).
+     *
+     * <p>While the level is constant the accrual per interval is too, so the loop jumps
+     * straight to the interval that completes the next point. Work is bounded by the
+     * points lost (at most {@code level}), not by the number of intervals.
+     */
+    public int decay(AffinityType type, int level, long intervals, double perInterval) {
+        if (level <= 0 || intervals <= 0 || !Double.isFinite(perInterval) || perInterval <= 0.0) {
+            return 0;
+        }
+        int i = type.ordinal();
+        double remainder = remainders[i];
+        int current = level;
+        while (intervals > 0 && current > 0) {
+            double step = current * perInterval;
+            if (step >= 1.0) {
+                // A whole point or more every interval: no jump to take.
+                double total = remainder + step;
+                int whole = (int) Math.floor(total);
+                remainder = total - whole;
+                current = Math.max(0, current - whole);
+                intervals--;
+                continue;
+            }
+            long needed = (long) Math.ceil((1.0 - remainder) / step);
+            // Correct the division's rounding so the boundary matches repeated addition.
+            while (needed > 1 && remainder + (needed - 1) * step >= 1.0) {
+                needed--;
+            }
+            while (remainder + needed * step < 1.0) {
+                needed++;
+            }
+            if (needed > intervals) {
+                remainder += intervals * step;
+                break;
+            }
+            remainder = remainder + needed * step - 1.0;
+            current--;
+            intervals -= needed;
+        }
+        remainders[i] = current > 0 ? Math.min(Math.max(remainder, 0.0), Math.nextDown(1.0)) : 0.0;
+        return level - current;
+    }
+
     /** Drops any carried fractional decay, e.g. once a school reaches level 0. */
     public void clear(AffinityType type) {
-        remainders.remove(type);
+        remainders[type.ordinal()] = 0.0;
     }
 
     public void saveToNBT(CompoundTag nbt, String key) {
         CompoundTag tag = new CompoundTag();
-        remainders.forEach((type, remainder) -> tag.putDouble(type.name(), remainder));
+        for (AffinityType type : TYPES) {
+            double remainder = remainders[type.ordinal()];
+            if (remainder > 0.0) {
+                tag.putDouble(type.name(), remainder);
+            }
+        }
         nbt.put(key, tag);
     }
 
     public void loadFromNBT(CompoundTag nbt, String key) {
-        remainders.clear();
+        Arrays.fill(remainders, 0.0);
         if (!nbt.contains(key)) {
             return;
         }
         CompoundTag tag = nbt.getCompound(key);
-        for (AffinityType type : AffinityType.values()) {
+        for (AffinityType type : TYPES) {
             if (tag.contains(type.name())) {
                 double remainder = tag.getDouble(type.name());
                 // Sanitize hand-edited/corrupt NBT: a remainder is by construction in [0, 1).
                 if (Double.isFinite(remainder) && remainder > 0.0) {
-                    remainders.put(type, Math.min(remainder, Math.nextDown(1.0)));
+                    remainders[type.ordinal()] = Math.min(remainder, Math.nextDown(1.0));
                 }
             }
         }
@@ -2,6 +2,7 @@ package com.otectus.arsnspells.data;
 
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.player.Player;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 import net.minecraftforge.common.util.LazyOptional;
@@ -25,14 +26,24 @@ public class ModCapabilityProvider implements ICapabilitySerializable<CompoundTa
     public static final int DATA_VERSION = 1;
     private static final String DATA_VERSION_KEY = "AnsDataVersion";
 
-    private final AffinityData affinityData = new AffinityData();
+    private final AffinityData affinityData;
     private final CooldownData cooldownData = new CooldownData();
     private final ProgressionData progressionData = new ProgressionData();
 
-    private final LazyOptional<AffinityData> affinityOptional = LazyOptional.of(() -> affinityData);
+    private final LazyOptional<AffinityData> affinityOptional;
     private final LazyOptional<CooldownData> cooldownOptional = LazyOptional.of(() -> cooldownData);
     private final LazyOptional<ProgressionData> progressionOptional = LazyOptional.of(() -> progressionData);
 
+    /**
+     * Affinity decay is settled lazily against the owner's game time (server side
+     * only; the client copy is a mirror of synced levels).
+     */
+    public ModCapabilityProvider(Player player) {
+        this.affinityData = new AffinityData(
+            () -> player.level().isClientSide() ? -1L : player.level().getGameTime());
+        this.affinityOptional = LazyOptional.of(() -> affinityData);
+    }
+
     @Override
     public @NotNull <T> LazyOptional<T> getCapability(@NotNull Capability<T> cap, @Nullable Direction side) {
         if (cap == AffinityData.AFFINITY_DATA) return affinityOptional.cast();
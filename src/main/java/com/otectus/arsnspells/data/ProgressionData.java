@@ -5,7 +5,6 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -15,14 +14,18 @@ import java.util.Map;
 public class ProgressionData {
     public static final Capability<ProgressionData> PROGRESSION_DATA = CapabilityManager.get(new CapabilityToken<>() {});
 
-    private final Map<String, Integer> schoolCastCounts = new HashMap<>();
+    /** Compact school-id table + {@code int[]} counters; see {@link SchoolCastCounts}. */
+    private final SchoolCastCounts schoolCastCounts = new SchoolCastCounts();
+
+    /** Bonus last written to each school's attribute; see {@link AppliedBonuses}. */
+    private final AppliedBonuses appliedBonuses = new AppliedBonuses();
 
     public int getCastCount(String school) {
-        return schoolCastCounts.getOrDefault(school, 0);
+        return schoolCastCounts.get(school);
     }
 
     public void incrementCastCount(String school) {
-        schoolCastCounts.put(school, getCastCount(school) + 1);
+        schoolCastCounts.increment(school);
     }
 
     /**
@@ -33,34 +36,43 @@ public class ProgressionData {
      */
     public double getBonusForSchool(String school) {
         int casts = getCastCount(school);
-        double perCast = 0.001;
-        double cap = 0.25;
-        try {
-            perCast = com.otectus.arsnspells.config.AnsConfig.PROGRESSION_BONUS_PER_CAST.get();
-            cap = com.otectus.arsnspells.config.AnsConfig.PROGRESSION_BONUS_CAP.get();
-        } catch (IllegalStateException configNotReady) {
-            // Config not loaded yet (very early tick) — use the historical defaults.
-        }
-        return Math.min(cap, casts * perCast);
+        // Before the config loads the snapshot serves the spec defaults (0.001 / 0.25).
+        com.otectus.arsnspells.config.AnsConfigSnapshot cfg =
+            com.otectus.arsnspells.config.AnsConfigSnapshot.get();
+        return Math.min(cfg.progressionBonusCap, casts * cfg.progressionBonusPerCast);
+    }
+
+    /**
+     * Whether {@code bonus} should be written to {@code school}'s attribute now. The
+     * difference from the last written value stays pending until it reaches
+     * {@code progression_bonus_quantum} or the bonus hits the cap; a {@code true}
+     * answer records {@code bonus} as applied.
+     */
+    public boolean takeBonusUpdate(String school, double bonus) {
+        com.otectus.arsnspells.config.AnsConfigSnapshot cfg =
+            com.otectus.arsnspells.config.AnsConfigSnapshot.get();
+        return appliedBonuses.take(school, bonus, cfg.progressionBonusQuantum, cfg.progressionBonusCap);
+    }
+
+    /** Forget every written bonus; the caller is about to rebuild all modifiers. */
+    public void clearAppliedBonuses() {
+        appliedBonuses.clear();
+    }
+
+    /** Record that {@code bonus} was written to {@code school}'s attribute unconditionally. */
+    public void recordAppliedBonus(String school, double bonus) {
+        appliedBonuses.set(school, bonus);
     }
 
     public Map<String, Integer> getAllCastCounts() {
-        return new HashMap<>(schoolCastCounts);
+        return schoolCastCounts.asMap();
     }
 
     public void saveToNBT(CompoundTag nbt) {
-        CompoundTag tag = new CompoundTag();
-        schoolCastCounts.forEach(tag::putInt);
-        nbt.put("ProgressionCounts", tag);
+        schoolCastCounts.saveToNBT(nbt, "ProgressionCounts");
     }
 
     public void loadFromNBT(CompoundTag nbt) {
-        schoolCastCounts.clear();
-        if (nbt.contains("ProgressionCounts")) {
-            CompoundTag tag = nbt.getCompound("ProgressionCounts");
-            for (String key : tag.getAllKeys()) {
-                schoolCastCounts.put(key, tag.getInt(key));
-            }
-        }
+        schoolCastCounts.loadFromNBT(nbt, "ProgressionCounts");
     }
 }
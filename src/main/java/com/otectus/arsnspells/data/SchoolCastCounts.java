@@ -0,0 +1,113 @@
+package com.otectus.arsnspells.data;
+
+import net.minecraft.nbt.CompoundTag;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-school cast counters backing {@link ProgressionData}.
+ *
+ * <p>School names ("fire", "ender", addon schools, ...) are interned into a
+ * process-wide id table the first time any player casts them; each player then
+ * holds a plain {@code int[]} indexed by that id instead of a
+ * {@code HashMap<String, Integer>} that boxed on every cast. The table only
+ * grows and ids are never persisted — NBT keeps the school-name layout, so
+ * saves stay portable across restarts and addon changes.
+ *
+ * <p>Lives outside ProgressionData for the same reason as
+ * {@link DecayAccumulator}: ProgressionData's static {@code CapabilityToken}
+ * initializer cannot load in plain JUnit. Per-instance state follows the
+ * ANS-MED-013 contract (server main thread only); the id table itself is
+ * thread-safe because client code can look schools up too.
+ */
+public final class SchoolCastCounts {
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[0];
+
+    private int[] counts = new int[8];
+
+    /** Id for {@code school}, or -1 if no player has cast it yet. */
+    static int find(String school) {
+        Integer id = IDS.get(school);
+        return id != null ? id : -1;
+    }
+
+    /** Id for {@code school}, assigning the next one on first sight. */
+    static int intern(String school) {
+        Integer id = IDS.get(school);
+        if (id != null) {
+            return id;
+        }
+        synchronized (IDS) {
+            id = IDS.get(school);
+            if (id == null) {
+                String[] grown = Arrays.copyOf(names, names.length + 1);
+                id = names.length;
+                grown[id] = school;
+                names = grown;
+                IDS.put(school, id);
+            }
+            return id;
+        }
+    }
+
+    static String nameOf(int id) {
+        return names[id];
+    }
+
+    public int get(String school) {
+        int id = find(school);
+        return id >= 0 && id < counts.length ? counts[id] : 0;
+    }
+
+    /** Adds one cast and returns the new count. */
+    public int increment(String school) {
+        int id = intern(school);
+        ensureCapacity(id);
+        return ++counts[id];
+    }
+
+    /** Every school with a non-zero count, keyed by name. */
+    public Map<String, Integer> asMap() {
+        Map<String, Integer> map = new HashMap<>();
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] != 0) {
+                map.put(nameOf(id), counts[id]);
+            }
+        }
+        return map;
+    }
+
+    public void saveToNBT(CompoundTag nbt, String key) {
+        CompoundTag tag = new CompoundTag();
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] != 0) {
+                tag.putInt(nameOf(id), counts[id]);
+            }
+        }
+        nbt.put(key, tag);
+    }
+
+    public void loadFromNBT(CompoundTag nbt, String key) {
+        Arrays.fill(counts, 0);
+        if (!nbt.contains(key)) {
+            return;
+        }
+        CompoundTag tag = nbt.getCompound(key);
+        for (String school : tag.getAllKeys()) {
+            int id = intern(school);
+            ensureCapacity(id);
+            counts[id] = tag.getInt(school);
+        }
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(id + 1, counts.length * 2));
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.otectus.arsnspells.equipment;
+
+import com.otectus.arsnspells.registry.ModTags;
+import net.minecraft.core.NonNullList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.theillusivec4.curios.api.CuriosApi;
+import top.theillusivec4.curios.api.SlotContext;
+import top.theillusivec4.curios.api.SlotResult;
+import top.theillusivec4.curios.api.event.CurioChangeEvent;
+import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
+import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One pass over a player's curio inventory, shared by every curio consumer:
+ * {@link EquipmentIntegration} reads the worn stacks (mana bonuses) and the slot
+ * fingerprint, {@code SanctifiedLegacyCompat} reads the ring flags and the Blasphemy
+ * set, and the curio discounts are derived from both.
+ *
+ * <p>Server side there is no TTL: a snapshot stays valid until Curios reports a slot
+ * change ({@link CurioChangeEvent}, posted from the wearer's tick whenever a curio
+ * stack differs from the previous tick, NBT included), the player is cloned, respawns
+ * or logs out, or a datapack reload changes the ring/Blasphemy tags. Like
+ * {@code PlayerHandleCache}, each snapshot also remembers the entity it was taken from
+ * and is retaken on an identity mismatch. The ring checks in the mixins therefore cost
+ * a map lookup and a final field read.
+ *
+ * <p>Curios does not post {@link CurioChangeEvent} on the client, so client reads
+ * (the mana bar overlay) keep the former {@value #CLIENT_TTL_TICKS}-tick TTL in a
+ * separate map; the integrated server and client share player UUIDs in singleplayer.
+ * That map holds the {@code LocalPlayer}, so the client drops it on logout
+ * ({@link #invalidateClient()}).
+ */
+@Mod.EventBusSubscriber(modid = "ars_n_spells")
+public final class CurioSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CurioSnapshot.class);
+
+    private static final int CLIENT_TTL_TICKS = 20; // 1 second at 20 TPS
+
+    private static final Map<UUID, CurioSnapshot> SERVER = new ConcurrentHashMap<>();
+    private static final Map<UUID, CurioSnapshot> CLIENT = new ConcurrentHashMap<>();
+
+    private static final AtomicLong scans = new AtomicLong();
+    private static final AtomicLong invalidations = new AtomicLong();
+
+    public static final CurioSnapshot EMPTY = new CurioSnapshot(null, Long.MIN_VALUE, false, false,
+        Collections.emptySet(), Collections.emptyList(), new EquipmentFingerprint());
+
+    private final Player owner;
+    private final long scannedAtTick;
+
+    /** A Cursed Ring is worn, regardless of the Virtue Ring. */
+    public final boolean cursedRing;
+    /** A Virtue Ring is worn, regardless of the Cursed Ring. */
+    public final boolean virtueRing;
+    /** Cursed Ring without Virtue Ring; wearing both cancels out. */
+    public final boolean cursedRingActive;
+    /** Virtue Ring without Cursed Ring. */
+    public final boolean virtueRingActive;
+    /** Item IDs of every worn Blasphemy curio (immutable). */
+    public final Set<ResourceLocation> blasphemies;
+    /** Every non-empty curio stack with its slot context, in inventory order. */
+    final List<SlotResult> worn;
+    /** Item identity and tag hash of every curio slot, empty ones included. */
+    final EquipmentFingerprint fingerprint;
+
+    private CurioSnapshot(Player owner, long scannedAtTick, boolean cursedRing, boolean virtueRing,
+                          Set<ResourceLocation> blasphemies, List<SlotResult> worn,
+                          EquipmentFingerprint fingerprint) {
+        this.owner = owner;
+        this.scannedAtTick = scannedAtTick;
+        this.cursedRing = cursedRing;
+        this.virtueRing = virtueRing;
+        this.cursedRingActive = cursedRing && !virtueRing;
+        this.virtueRingActive = virtueRing && !cursedRing;
+        this.blasphemies = blasphemies;
+        this.worn = worn;
+        this.fingerprint = fingerprint;
+    }
+
+    /** Current curio snapshot for {@code player}, taken now if none is valid. */
+    public static CurioSnapshot get(Player player) {
+        if (player == null) {
+            return EMPTY;
+        }
+        UUID id = player.getUUID();
+        long now = player.level().getGameTime();
+        if (player.level().isClientSide()) {
+            CurioSnapshot cached = CLIENT.get(id);
+            if (cached != null && cached.owner == player
+                    && now >= cached.scannedAtTick && now - cached.scannedAtTick < CLIENT_TTL_TICKS) {
+                return cached;
+            }
+            CurioSnapshot fresh = scan(player, now);
+            CLIENT.put(id, fresh);
+            return fresh;
+        }
+        CurioSnapshot cached = SERVER.get(id);
+        if (cached != null && cached.owner == player) {
+            return cached;
+        }
+        CurioSnapshot fresh = scan(player, now);
+        SERVER.put(id, fresh);
+        return fresh;
+    }
+
+    /** Drop the server snapshot for {@code id}; the next read rescans. */
+    public static void invalidate(UUID id) {
+        if (id != null && SERVER.remove(id) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public static void invalidateAll() {
+        SERVER.clear();
+        CLIENT.clear();
+    }
+
+    /** Drop the client-side snapshots; called when the client leaves a world or server. */
+    public static void invalidateClient() {
+        CLIENT.clear();
+    }
+
+    /**
+     * Single pass over every curio slot: worn stacks with their slot context, the slot
+     * fingerprint, ring presence and Blasphemy IDs. Ring and Blasphemy membership is
+     * tag-driven (Audit F-1, see {@link ModTags}).
+     */
+    private static CurioSnapshot scan(Player player, long tick) {
+        scans.incrementAndGet();
+        boolean[] rings = {false, false}; // cursed, virtue
+        Set<ResourceLocation> blasphemies = new HashSet<>(2);
+        List<SlotResult> worn = new ArrayList<>();
+        EquipmentFingerprint fingerprint = new EquipmentFingerprint();
+        try {
+            CuriosApi.getCuriosInventory(player).ifPresent(handler -> {
+                for (Map.Entry<String, ICurioStacksHandler> entry : handler.getCurios().entrySet()) {
+                    IDynamicStackHandler stacks = entry.getValue().getStacks();
+                    NonNullList<Boolean> renders = entry.getValue().getRenders();
+                    for (int i = 0; i < stacks.getSlots(); i++) {
+                        ItemStack stack = stacks.getStackInSlot(i);
+                        if (stack.isEmpty()) {
+                            fingerprint.add(null, null);
+                            continue;
+                        }
+                        CompoundTag tag = stack.getTag();
+                        fingerprint.add(stack.getItem(), tag == null ? null : tag.copy());
+                        boolean visible = i < renders.size() && renders.get(i);
+                        worn.add(new SlotResult(new SlotContext(entry.getKey(), player, i, false, visible), stack));
+
+                        if (stack.is(ModTags.CURSED_RINGS)) {
+                            rings[0] = true;
+                        } else if (stack.is(ModTags.VIRTUE_RINGS)) {
+                            rings[1] = true;
+                        } else if (stack.is(ModTags.BLASPHEMY_CURIOS)) {
+                            ResourceLocation itemId = ForgeRegistries.ITEMS.getKey(stack.getItem());
+                            if (itemId != null) {
+                                blasphemies.add(itemId);
+                            }
+                        }
+                    }
+                }
+            });
+        } catch (Exception e) {
+            LOGGER.error("Failed to scan curios for {}", player.getName().getString(), e);
+        }
+        return new CurioSnapshot(player, tick, rings[0], rings[1],
+            blasphemies.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(blasphemies),
+            worn.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(worn),
+            fingerprint);
+    }
+
+    // HIGHEST so EquipmentHandler's recompute for the same change reads the new state.
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public static void onCurioChange(CurioChangeEvent event) {
+        if (event.getEntity() instanceof Player player && !player.level().isClientSide()) {
+            invalidate(player.getUUID());
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public static void onPlayerClone(PlayerEvent.Clone event) {
+        invalidate(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        invalidate(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        invalidate(event.getEntity().getUUID());
+    }
+
+    /** Ring and Blasphemy membership is tag-driven, so a datapack reload can change it. */
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        invalidateAll();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        invalidateAll();
+    }
+
+    public static String getStats() {
+        return String.format("Curio snapshots: %d cached, %d scans, %d event invalidations",
+            SERVER.size(), scans.get(), invalidations.get());
+    }
+}
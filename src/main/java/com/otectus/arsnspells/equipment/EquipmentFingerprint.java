@@ -0,0 +1,72 @@
+package com.otectus.arsnspells.equipment;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * What a player is wearing, slot by slot: the item (by identity) and the stack's NBT.
+ * Attribute modifiers, {@code IManaEquipment} boosts and enchantments are all functions
+ * of the item, its tag and the slot, so two equal fingerprints give the same
+ * {@link EquipmentIntegration} bonuses and a recompute can be skipped.
+ *
+ * <p>Tags are compared by hash first and then with {@code equals}, as in
+ * {@link ItemBonusMemo}: {@code CompoundTag.hashCode()} is a sum over entries and
+ * collides for different tags. Callers pass a copy, because a worn stack's tag is
+ * mutated in place.
+ *
+ * <p>No Minecraft imports so it is unit-testable without a Forge bootstrap; items are
+ * compared with {@code ==}, as registry singletons.
+ */
+final class EquipmentFingerprint {
+
+    private Object[] items = new Object[16];
+    private Object[] tags = new Object[16];
+    private int[] tagHashes = new int[16];
+    private int size;
+
+    /** Append one slot. Slot order must be stable between fingerprints of one player. */
+    void add(Object item, Object tag) {
+        add(item, tag, Objects.hashCode(tag));
+    }
+
+    private void add(Object item, Object tag, int tagHash) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+            tags = Arrays.copyOf(tags, size * 2);
+            tagHashes = Arrays.copyOf(tagHashes, size * 2);
+        }
+        items[size] = item;
+        tags[size] = tag;
+        tagHashes[size] = tagHash;
+        size++;
+    }
+
+    /** Append every slot of {@code other}, in order. */
+    void addAll(EquipmentFingerprint other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.items[i], other.tags[i], other.tagHashes[i]);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Same slots holding the same items with equal tags. */
+    boolean matches(EquipmentFingerprint other) {
+        if (other == null || other.size != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (items[i] != other.items[i] || tagHashes[i] != other.tagHashes[i]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(tags[i], other.tags[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
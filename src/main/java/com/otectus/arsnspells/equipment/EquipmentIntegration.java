@@ -5,8 +5,10 @@ import com.hollingsworth.arsnouveau.api.mana.IManaEquipment;
 import com.hollingsworth.arsnouveau.api.perk.PerkAttributes;
 import com.otectus.arsnspells.bridge.BridgeManager;
 import com.otectus.arsnspells.bridge.ManaRegenBridge;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
+import com.otectus.arsnspells.util.AttributeModifierSync;
 import io.redspace.ironsspellbooks.api.registry.AttributeRegistry;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.ai.attributes.Attribute;
@@ -14,6 +16,7 @@ import net.minecraft.world.entity.ai.attributes.AttributeInstance;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ArmorItem;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.enchantment.Enchantment;
 import net.minecraft.world.item.enchantment.EnchantmentHelper;
@@ -25,11 +28,11 @@ import top.theillusivec4.curios.api.CuriosApi;
 import top.theillusivec4.curios.api.SlotContext;
 import top.theillusivec4.curios.api.SlotResult;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Handles equipment integration between Ars Nouveau and Iron's Spellbooks.
@@ -42,8 +45,22 @@ public class EquipmentIntegration {
     // PlayerLoggedOutEvent, tick handler, and cost-calc spell handler — HashMap.put mid-resize
     // during another path's iteration produced CME on long-running servers. Matches the
     // ConcurrentHashMap pattern in SanctifiedLegacyCompat.java:72.
+    // No TTL: an entry stays valid until an equipment or curio change event marks it
+    // stale (see invalidate), and a stale entry is reused when the gear's fingerprint
+    // is unchanged. Config edits invalidate through the snapshot version.
     private static final Map<UUID, CachedEquipmentData> equipmentCache = new ConcurrentHashMap<>();
-    private static final long CACHE_DURATION_MS = 1000; // 1 second cache
+
+    private static final AtomicLong cacheHits = new AtomicLong();
+    private static final AtomicLong fingerprintMatches = new AtomicLong();
+    private static final AtomicLong recomputes = new AtomicLong();
+    private static final AtomicInteger equipmentVersions = new AtomicInteger();
+
+    // Per-stack bonuses shared across players, so a recompute re-walks only stacks
+    // nobody has worn in that slot before. Cleared when the config version moves
+    // (respectEnchantments / readCurioAttributeModifiers change the result).
+    private static final int MAX_VARIANTS_PER_ITEM = 64;
+    private static final ItemBonusMemo<Item, ItemBonuses> itemBonusMemo = new ItemBonusMemo<>(MAX_VARIANTS_PER_ITEM);
+    private static volatile int itemBonusMemoVersion = -1;
 
     private static final UUID ARS_TO_IRON_MAX_MANA_ID = UUID.fromString("d3e1f1d1-6b39-4ec7-9a4a-7e6d706a8b9b");
     private static final UUID ARS_TO_IRON_REGEN_ID = UUID.fromString("0c2c7e6a-44e8-4cc6-9b5d-5a43a0e5f23b");
@@ -78,6 +95,15 @@ public class EquipmentIntegration {
         return calculateBonuses(player).ironBonus;
     }
 
+    /**
+     * Version of the player's computed bonuses: it changes whenever they are
+     * recomputed, and stays put while the cached result (or an unchanged-fingerprint
+     * reuse) is served. Lets callers memoize values derived from the bonuses.
+     */
+    public static int getEquipmentVersion(Player player) {
+        return calculateBonuses(player).equipmentVersion;
+    }
+
     /**
      * Apply Ars-derived mana bonuses to Iron's attributes.
      */
@@ -116,10 +142,43 @@ public class EquipmentIntegration {
         if (!ModList.get().isLoaded("irons_spellbooks")) {
             return;
         }
-        double ironsBase = player.getAttributeBaseValue(AttributeRegistry.MAX_MANA.get());
-        double needed = Math.max(0, arsMax - ironsBase);
-        applyAttributeModifier(player, AttributeRegistry.MAX_MANA.get(), ARS_TO_IRON_MAX_MANA_ID,
-            "Ars Max Mana Sync", needed);
+        syncMaxTo(player.getAttribute(AttributeRegistry.MAX_MANA.get()), arsMax);
+    }
+
+    /**
+     * Whether {@link #syncIronsMaxToArs} with this {@code arsMax} would leave Iron's
+     * MAX_MANA untouched, so callers can skip scheduling it.
+     */
+    public static boolean isIronsMaxSyncedTo(Player player, float arsMax) {
+        return isMaxSyncedTo(player.getAttribute(AttributeRegistry.MAX_MANA.get()), arsMax);
+    }
+
+    // Attribute-instance halves of the two methods above (package-private so tests can
+    // check they agree on a plain AttributeInstance, without Iron's). A needed amount of
+    // 0 removes the modifier, so "synced" then means "no modifier".
+    static void syncMaxTo(AttributeInstance instance, float arsMax) {
+        if (instance == null) {
+            return;
+        }
+        double needed = Math.max(0, arsMax - instance.getBaseValue());
+        if (needed != 0.0) {
+            AttributeModifierSync.apply(instance, ARS_TO_IRON_MAX_MANA_ID, "Ars Max Mana Sync", needed,
+                AttributeModifier.Operation.ADDITION);
+        } else {
+            AttributeModifierSync.remove(instance, ARS_TO_IRON_MAX_MANA_ID);
+        }
+    }
+
+    static boolean isMaxSyncedTo(AttributeInstance instance, float arsMax) {
+        if (instance == null) {
+            return true;
+        }
+        double needed = Math.max(0, arsMax - instance.getBaseValue());
+        AttributeModifier existing = instance.getModifier(ARS_TO_IRON_MAX_MANA_ID);
+        if (needed == 0.0) {
+            return existing == null;
+        }
+        return existing != null && AttributeModifierSync.matches(existing, needed, AttributeModifier.Operation.ADDITION);
     }
 
     /**
@@ -141,11 +200,25 @@ public class EquipmentIntegration {
             return CachedEquipmentData.EMPTY;
         }
 
+        int configVersion = AnsConfigSnapshot.get().version;
         CachedEquipmentData cached = equipmentCache.get(player.getUUID());
-        long currentTime = System.currentTimeMillis();
-        if (cached != null && (currentTime - cached.timestamp) < CACHE_DURATION_MS) {
+        if (cached != null && cached.configVersion == configVersion && !cached.stale) {
+            cacheHits.incrementAndGet();
+            return cached;
+        }
+        EquipmentFingerprint fingerprint = fingerprint(player);
+        if (cached != null && cached.configVersion == configVersion && fingerprint.matches(cached.fingerprint)) {
+            // An equipment event fired but nothing that feeds the bonuses changed
+            // (e.g. the same stack moved back, or a curio slot was resized).
+            cached.stale = false;
+            fingerprintMatches.incrementAndGet();
             return cached;
         }
+        recomputes.incrementAndGet();
+        if (itemBonusMemoVersion != configVersion) {
+            itemBonusMemo.clear();
+            itemBonusMemoVersion = configVersion;
+        }
 
         double arsMaxBonus = 0.0;
         double arsRegenBonus = 0.0;
@@ -160,7 +233,7 @@ public class EquipmentIntegration {
                 continue;
             }
 
-            ItemBonuses itemBonuses = calculateItemBonuses(item, slot, ironsLoaded);
+            ItemBonuses itemBonuses = memoizedItemBonuses(item, slot, ironsLoaded);
             arsMaxBonus += itemBonuses.arsBonus.maxMana;
             arsRegenBonus += itemBonuses.arsBonus.manaRegen;
             ironMaxBonus += itemBonuses.ironBonus.maxMana;
@@ -171,13 +244,11 @@ public class EquipmentIntegration {
         // attribute modifiers off each curio slot. The attribute pass is what lets
         // Apotheosis/Apothic-Curios affixes & sockets (and any other curio mana gear) reach the
         // cross-mod bridge, mirroring the armor/weapon path in calculateItemBonuses.
+        // The worn stacks come from the shared CurioSnapshot the fingerprint already took.
         try {
-            boolean readCurioAttributes = AnsConfig.READ_CURIO_ATTRIBUTE_MODIFIERS.get();
-            List<SlotResult> wornCurios = CuriosApi.getCuriosInventory(player)
-                .map(handler -> handler.findCurios(stack -> !stack.isEmpty()))
-                .orElse(Collections.emptyList());
-            for (SlotResult result : wornCurios) {
-                ItemBonuses itemBonuses = calculateCurioBonuses(result, ironsLoaded, readCurioAttributes);
+            boolean readCurioAttributes = AnsConfigSnapshot.get().readCurioAttributeModifiers;
+            for (SlotResult result : CurioSnapshot.get(player).worn) {
+                ItemBonuses itemBonuses = memoizedCurioBonuses(result, ironsLoaded, readCurioAttributes);
                 arsMaxBonus += itemBonuses.arsBonus.maxMana;
                 arsRegenBonus += itemBonuses.arsBonus.manaRegen;
                 ironMaxBonus += itemBonuses.ironBonus.maxMana;
@@ -194,7 +265,8 @@ public class EquipmentIntegration {
             new ManaBonus(arsMaxBonus, arsRegenBonus),
             new ManaBonus(ironMaxBonus, ironRegenBonus),
             curioDiscounts,
-            currentTime
+            fingerprint,
+            configVersion
         );
         equipmentCache.put(player.getUUID(), computed);
 
@@ -209,6 +281,54 @@ public class EquipmentIntegration {
         return computed;
     }
 
+    /**
+     * Item identity and NBT of every vanilla equipment slot and every curio slot,
+     * in a stable order. The curio part comes from the player's {@link CurioSnapshot}.
+     */
+    private static EquipmentFingerprint fingerprint(Player player) {
+        EquipmentFingerprint fingerprint = new EquipmentFingerprint();
+        for (EquipmentSlot slot : EQUIPPED_SLOTS) {
+            addSlot(fingerprint, player.getItemBySlot(slot));
+        }
+        fingerprint.addAll(CurioSnapshot.get(player).fingerprint);
+        return fingerprint;
+    }
+
+    private static void addSlot(EquipmentFingerprint fingerprint, ItemStack stack) {
+        if (stack.isEmpty()) {
+            fingerprint.add(null, null);
+        } else {
+            CompoundTag tag = stack.getTag();
+            fingerprint.add(stack.getItem(), tag == null ? null : tag.copy());
+        }
+    }
+
+    private static ItemBonuses memoizedItemBonuses(ItemStack item, EquipmentSlot slot, boolean ironsLoaded) {
+        CompoundTag tag = item.getTag();
+        ItemBonuses bonuses = itemBonusMemo.get(item.getItem(), slot.getName(), tag);
+        if (bonuses == null) {
+            bonuses = calculateItemBonuses(item, slot, ironsLoaded);
+            itemBonusMemo.put(item.getItem(), slot.getName(), tag == null ? null : tag.copy(), bonuses);
+        }
+        return bonuses;
+    }
+
+    /**
+     * Keyed on the curio slot identifier and index: both feed the slot context (and so
+     * the slot UUID) that Curios hands to the item's modifier hooks.
+     */
+    private static ItemBonuses memoizedCurioBonuses(SlotResult result, boolean ironsLoaded, boolean readAttributes) {
+        ItemStack item = result.stack();
+        CompoundTag tag = item.getTag();
+        String slot = "curio:" + result.slotContext().identifier() + "#" + result.slotContext().index();
+        ItemBonuses bonuses = itemBonusMemo.get(item.getItem(), slot, tag);
+        if (bonuses == null) {
+            bonuses = calculateCurioBonuses(result, ironsLoaded, readAttributes);
+            itemBonusMemo.put(item.getItem(), slot, tag == null ? null : tag.copy(), bonuses);
+        }
+        return bonuses;
+    }
+
     private static ItemBonuses calculateItemBonuses(ItemStack item, EquipmentSlot slot, boolean ironsLoaded) {
         double arsMax = 0.0;
         double arsRegen = 0.0;
@@ -344,7 +464,7 @@ public class EquipmentIntegration {
      * including unrelated ones like {@code mana_steal} or {@code source_friendly}).
      */
     private static ManaBonus getEnchantmentManaBonus(ItemStack armor) {
-        if (!AnsConfig.respectEnchantments.get()) {
+        if (!AnsConfigSnapshot.get().respectEnchantments) {
             return ManaBonus.ZERO;
         }
 
@@ -426,6 +546,19 @@ public class EquipmentIntegration {
         return false;
     }
     
+    /**
+     * Mark a player's cached bonuses stale after an equipment or curio change. The next
+     * read compares the gear fingerprint and recomputes only if it differs.
+     */
+    public static void invalidate(Player player) {
+        if (player != null) {
+            CachedEquipmentData cached = equipmentCache.get(player.getUUID());
+            if (cached != null) {
+                cached.stale = true;
+            }
+        }
+    }
+
     /**
      * Clear equipment cache for a player
      */
@@ -440,13 +573,22 @@ public class EquipmentIntegration {
      */
     public static void clearAllCaches() {
         equipmentCache.clear();
+        itemBonusMemo.clear();
     }
     
+    public static String getStats() {
+        return String.format("Equipment bonuses: %d cache hits, %d unchanged after a change event, %d recomputes; "
+                + "item memo: %d hits, %d misses (%.1f%% hit ratio), %d evictions",
+            cacheHits.get(), fingerprintMatches.get(), recomputes.get(),
+            itemBonusMemo.hits(), itemBonusMemo.misses(), itemBonusMemo.hitRatio() * 100,
+            itemBonusMemo.evictions());
+    }
+
     /**
      * Log debug message if debug mode is enabled
      */
     private static void logDebug(String message, Object... args) {
-        if (AnsConfig.DEBUG_MODE != null && AnsConfig.DEBUG_MODE.get()) {
+        if (AnsConfigSnapshot.get().debugMode) {
             LOGGER.info("[Equipment] [DEBUG] " + message, args);
         }
     }
@@ -456,18 +598,24 @@ public class EquipmentIntegration {
      */
     private static class CachedEquipmentData {
         static final CachedEquipmentData EMPTY = new CachedEquipmentData(
-            ManaBonus.ZERO, ManaBonus.ZERO, CurioDiscountData.NONE, 0L);
+            ManaBonus.ZERO, ManaBonus.ZERO, CurioDiscountData.NONE, new EquipmentFingerprint(), -1);
 
         final ManaBonus arsBonus;
         final ManaBonus ironBonus;
         final CurioDiscountData curioDiscounts;
-        final long timestamp;
+        final EquipmentFingerprint fingerprint;
+        final int configVersion;
+        final int equipmentVersion = equipmentVersions.incrementAndGet();
+        /** Set by {@link #invalidate}; the fingerprint decides whether to recompute. */
+        volatile boolean stale;
         
-        CachedEquipmentData(ManaBonus arsBonus, ManaBonus ironBonus, CurioDiscountData curioDiscounts, long timestamp) {
+        CachedEquipmentData(ManaBonus arsBonus, ManaBonus ironBonus, CurioDiscountData curioDiscounts,
+                            EquipmentFingerprint fingerprint, int configVersion) {
             this.arsBonus = arsBonus;
             this.ironBonus = ironBonus;
             this.curioDiscounts = curioDiscounts;
-            this.timestamp = timestamp;
+            this.fingerprint = fingerprint;
+            this.configVersion = configVersion;
         }
     }
 
@@ -478,14 +626,12 @@ public class EquipmentIntegration {
      * @return Curio discount data
      */
     public static CurioDiscountData getCurioDiscounts(Player player) {
-        if (!AnsConfig.ENABLE_CURIO_DISCOUNTS.get()) {
+        if (!AnsConfigSnapshot.get().enableCurioDiscounts) {
             return CurioDiscountData.NONE;
         }
         
         CachedEquipmentData cached = equipmentCache.get(player.getUUID());
-        long currentTime = System.currentTimeMillis();
-        
-        if (cached != null && (currentTime - cached.timestamp) < CACHE_DURATION_MS) {
+        if (cached != null && !cached.stale && cached.configVersion == AnsConfigSnapshot.get().version) {
             return cached.curioDiscounts;
         }
         
@@ -512,7 +658,7 @@ public class EquipmentIntegration {
      * @return Curio discount data
      */
     private static CurioDiscountData calculateCurioDiscountsInternal(Player player) {
-        if (!AnsConfig.ENABLE_CURIO_DISCOUNTS.get()) {
+        if (!AnsConfigSnapshot.get().enableCurioDiscounts) {
             return CurioDiscountData.NONE;
         }
         if (!ModList.get().isLoaded("covenant_of_the_seven")) {
@@ -522,10 +668,11 @@ public class EquipmentIntegration {
         // ANS-MED-021: direct call instead of Class.forName + Method.invoke. The previous
         // reflection setup silently degraded to "no discount" if a future refactor renamed
         // hasVirtueRing or hasAnyBlasphemy. Since SanctifiedLegacyCompat lives in the same
-        // mod jar, there is no classloader-safety reason for the reflection.
+        // mod jar, there is no classloader-safety reason for the reflection. Both read the
+        // same CurioSnapshot as the mana bonus pass, so no second curio scan happens.
         boolean hasVirtue = com.otectus.arsnspells.compat.SanctifiedLegacyCompat.hasVirtueRing(player);
         boolean hasBlasphemy = com.otectus.arsnspells.compat.SanctifiedLegacyCompat.hasAnyBlasphemy(player);
-        double baseDiscount = hasBlasphemy ? AnsConfig.BLASPHEMY_DISCOUNT.get() : 0.0;
+        double baseDiscount = hasBlasphemy ? AnsConfigSnapshot.get().blasphemyDiscount : 0.0;
         return new CurioDiscountData(hasVirtue, hasBlasphemy, baseDiscount);
     }
 
@@ -571,28 +718,18 @@ public class EquipmentIntegration {
         }
     }
 
+    // Diffed: an unchanged amount leaves the attribute untouched, so the per-event
+    // syncs (MaxManaCalcEvent, equipment changes) no longer dirty it for a client sync.
     private static void applyAttributeModifier(Player player, Attribute attribute, UUID id, String name, double amount) {
         AttributeInstance instance = player.getAttribute(attribute);
-        if (instance == null) {
-            return;
-        }
-        AttributeModifier existing = instance.getModifier(id);
-        if (existing != null) {
-            instance.removeModifier(id);
-        }
         if (amount != 0.0) {
-            instance.addTransientModifier(new AttributeModifier(id, name, amount, AttributeModifier.Operation.ADDITION));
+            AttributeModifierSync.apply(instance, id, name, amount, AttributeModifier.Operation.ADDITION);
+        } else {
+            AttributeModifierSync.remove(instance, id);
         }
     }
 
     private static void removeAttributeModifier(Player player, Attribute attribute, UUID id) {
-        AttributeInstance instance = player.getAttribute(attribute);
-        if (instance == null) {
-            return;
-        }
-        AttributeModifier existing = instance.getModifier(id);
-        if (existing != null) {
-            instance.removeModifier(id);
-        }
+        AttributeModifierSync.remove(player.getAttribute(attribute), id);
     }
 }
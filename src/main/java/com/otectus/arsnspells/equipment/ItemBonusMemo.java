@@ -0,0 +1,107 @@
+package com.otectus.arsnspells.equipment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memo of per-stack equipment bonuses, keyed by (item, NBT, slot) and shared across
+ * players. Two players in identical gear, or one player re-equipping a piece, reuse the
+ * computed value instead of re-walking enchantments, {@code IManaEquipment} and the
+ * stack's attribute-modifier multimap (large on Apotheosis-affixed curios).
+ *
+ * <p>The outer map is weakly keyed on the item, so the memo never pins an item or its
+ * variants. Each item keeps at most {@code maxVariantsPerItem} (slot, tag) variants in
+ * access order; the least recently used is evicted, which bounds growth from tags that
+ * change constantly (durability). Tags are compared with {@code equals}, so a hash
+ * collision can never return another stack's bonuses; callers store an immutable copy.
+ *
+ * <p>No Minecraft imports so it is unit-testable without a Forge bootstrap.
+ * Synchronized: lookups happen only when a player's gear actually changed.
+ */
+final class ItemBonusMemo<I, V> {
+
+    private final int maxVariantsPerItem;
+    private final Map<I, Map<Key, V>> byItem = new WeakHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    ItemBonusMemo(int maxVariantsPerItem) {
+        this.maxVariantsPerItem = maxVariantsPerItem;
+    }
+
+    /** The memoized value for this stack in this slot, or {@code null}. */
+    synchronized V get(I item, String slot, Object tag) {
+        Map<Key, V> variants = byItem.get(item);
+        V value = variants == null ? null : variants.get(new Key(slot, tag));
+        if (value != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return value;
+    }
+
+    /** @param tag an immutable copy of the stack's tag (or {@code null}) */
+    synchronized void put(I item, String slot, Object tag, V value) {
+        byItem.computeIfAbsent(item, k -> new LinkedHashMap<>(8, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, V> eldest) {
+                if (size() > maxVariantsPerItem) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        }).put(new Key(slot, tag), value);
+    }
+
+    synchronized void clear() {
+        byItem.clear();
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    long evictions() {
+        return evictions.get();
+    }
+
+    double hitRatio() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private static final class Key {
+        final String slot;
+        final Object tag;
+        final int hash;
+
+        Key(String slot, Object tag) {
+            this.slot = slot;
+            this.tag = tag;
+            this.hash = 31 * slot.hashCode() + Objects.hashCode(tag);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && hash == other.hash
+                && slot.equals(other.slot) && Objects.equals(tag, other.tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
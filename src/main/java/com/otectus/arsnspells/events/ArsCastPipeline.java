@@ -0,0 +1,176 @@
+package com.otectus.arsnspells.events;
+
+import com.hollingsworth.arsnouveau.api.event.SpellCastEvent;
+import com.hollingsworth.arsnouveau.api.spell.Spell;
+import com.otectus.arsnspells.compat.IronsCompat;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
+import com.otectus.arsnspells.data.AffinityData;
+import com.otectus.arsnspells.data.ProgressionData;
+import com.otectus.arsnspells.util.SpellAnalysis;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The single ANS listener for Ars Nouveau's {@link SpellCastEvent}.
+ *
+ * <p>{@link CooldownHandler}, {@link AffinityHandler}, {@link ProgressionHandler} and
+ * {@link ArsSpellScalingHandler} used to subscribe separately, each re-reading its
+ * config toggles, repeating the {@code ServerPlayer} check, resolving its capability
+ * and analysing the spell. This pipeline builds one {@link CastContext} per cast and
+ * runs them as ordered stages:
+ * <ol>
+ *   <li>cooldown ({@link CooldownHandler#applyCast}) — may cancel the cast, which ends
+ *       the pipeline, as a cancelled event used to skip the other listeners;</li>
+ *   <li>affinity ({@link AffinityHandler#applyCast});</li>
+ *   <li>progression ({@link ProgressionHandler#applyCast}, Iron's only);</li>
+ *   <li>spell-power scaling ({@link ArsSpellScalingHandler#applyCast}, Iron's only).</li>
+ * </ol>
+ * Runs at the default priority and, like the old listeners, never sees a cast another
+ * mod already cancelled.
+ *
+ * <p>Per-stage wall time is accumulated for profiling; see {@link #getStats()}.
+ */
+@Mod.EventBusSubscriber(modid = "ars_n_spells")
+public final class ArsCastPipeline {
+
+    private enum Stage { COOLDOWN, AFFINITY, PROGRESSION, SCALING }
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final AtomicLong[] STAGE_NANOS = new AtomicLong[STAGES.length];
+    private static final AtomicLong[] STAGE_RUNS = new AtomicLong[STAGES.length];
+    private static final AtomicLong casts = new AtomicLong();
+
+    static {
+        for (int i = 0; i < STAGES.length; i++) {
+            STAGE_NANOS[i] = new AtomicLong();
+            STAGE_RUNS[i] = new AtomicLong();
+        }
+    }
+
+    /** The stage bodies, split out so tests can check the sequencing with stubs. */
+    interface Stages {
+        boolean cooldown(CastContext ctx);
+        void affinity(CastContext ctx);
+        void progression(CastContext ctx);
+        void scaling(CastContext ctx);
+    }
+
+    private static final Stages HANDLERS = new Stages() {
+        @Override public boolean cooldown(CastContext ctx) { return CooldownHandler.applyCast(ctx); }
+        @Override public void affinity(CastContext ctx) { AffinityHandler.applyCast(ctx); }
+        @Override public void progression(CastContext ctx) { ProgressionHandler.applyCast(ctx); }
+        @Override public void scaling(CastContext ctx) { ArsSpellScalingHandler.applyCast(ctx); }
+    };
+
+    private ArsCastPipeline() {}
+
+    @SubscribeEvent
+    public static void onSpellCast(SpellCastEvent event) {
+        if (!(event.getEntity() instanceof Player player)) {
+            return;
+        }
+        casts.incrementAndGet();
+        CastContext ctx = new CastContext(player, event.spell, AnsConfigSnapshot.get());
+        if (!runStages(ctx, ctx.serverPlayer != null, IronsCompat.isLoaded(), HANDLERS)) {
+            event.setCanceled(true);
+        }
+    }
+
+    /**
+     * Run the stages in order, timing each. Returns {@code false} when the cooldown
+     * stage rejected the cast; nothing after it runs and the caller cancels the event.
+     */
+    static boolean runStages(CastContext ctx, boolean serverSide, boolean ironsLoaded, Stages stages) {
+        long start = System.nanoTime();
+        boolean allowed = stages.cooldown(ctx);
+        start = record(Stage.COOLDOWN, start);
+        if (!allowed) {
+            return false;
+        }
+        if (!serverSide) {
+            // Everything past the cooldown stage is server-side state.
+            return true;
+        }
+
+        stages.affinity(ctx);
+        start = record(Stage.AFFINITY, start);
+
+        if (ironsLoaded) {
+            stages.progression(ctx);
+            start = record(Stage.PROGRESSION, start);
+            stages.scaling(ctx);
+            record(Stage.SCALING, start);
+        }
+        return true;
+    }
+
+    private static long record(Stage stage, long start) {
+        long end = System.nanoTime();
+        STAGE_NANOS[stage.ordinal()].addAndGet(end - start);
+        STAGE_RUNS[stage.ordinal()].incrementAndGet();
+        return end;
+    }
+
+    public static String getStats() {
+        StringBuilder sb = new StringBuilder("Ars cast pipeline: ").append(casts.get()).append(" casts");
+        for (Stage stage : STAGES) {
+            long runs = STAGE_RUNS[stage.ordinal()].get();
+            long nanos = STAGE_NANOS[stage.ordinal()].get();
+            sb.append(String.format(", %s %d runs / %.1f us avg", stage.name().toLowerCase(Locale.ROOT),
+                runs, runs == 0 ? 0.0 : nanos / 1000.0 / runs));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Everything the stages share for one cast. The spell analysis and capability
+     * handles are resolved on first use, so a cast whose stages are all disabled pays
+     * for none of them. Cooldown state stays behind {@code UnifiedCooldownManager},
+     * which also owns the client-side tracker.
+     */
+    public static final class CastContext {
+        public final Player player;
+        /** The caster on the logical server, or {@code null} for a client-side cast. */
+        public final ServerPlayer serverPlayer;
+        public final Spell spell;
+        public final AnsConfigSnapshot config;
+
+        private SpellAnalysis.Result analysis;
+        private LazyOptional<AffinityData> affinity;
+        private LazyOptional<ProgressionData> progression;
+
+        CastContext(Player player, Spell spell, AnsConfigSnapshot config) {
+            this.player = player;
+            this.serverPlayer = player instanceof ServerPlayer sp ? sp : null;
+            this.spell = spell;
+            this.config = config;
+        }
+
+        public SpellAnalysis.Result analysis() {
+            if (analysis == null) {
+                analysis = SpellAnalysis.analyze(spell);
+            }
+            return analysis;
+        }
+
+        public LazyOptional<AffinityData> affinity() {
+            if (affinity == null) {
+                affinity = player.getCapability(AffinityData.AFFINITY_DATA);
+            }
+            return affinity;
+        }
+
+        public LazyOptional<ProgressionData> progression() {
+            if (progression == null) {
+                progression = player.getCapability(ProgressionData.PROGRESSION_DATA);
+            }
+            return progression;
+        }
+    }
+}
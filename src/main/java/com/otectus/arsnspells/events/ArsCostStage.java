@@ -0,0 +1,153 @@
+package com.otectus.arsnspells.events;
+
+import com.hollingsworth.arsnouveau.api.event.SpellCostCalcEvent;
+import com.hollingsworth.arsnouveau.api.spell.Spell;
+import com.hollingsworth.arsnouveau.api.spell.SpellContext;
+import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
+import com.otectus.arsnspells.spell.CrossCastingHandler;
+import com.otectus.arsnspells.util.SpellAnalysis;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The single ANS listener for Ars Nouveau's {@link SpellCostCalcEvent}.
+ *
+ * <p>Four listeners used to handle every cost-calc: {@code CrossCastingHandler}
+ * (HIGHEST), {@link CursedRingHandler} (HIGHEST), {@link VirtueRingHandler} (HIGHEST) and
+ * {@link CurioDiscountHandler} (LOW). Each repeated the caster unwrap, its ring check and
+ * its own {@link SpellAnalysis}, and Ars fires the event more than once per resolve
+ * ({@code canCast} and {@code expendMana} both call {@code getResolveCost}, see
+ * ANS-HIGH-004). The ring steps staged a fresh pending LP/aura entry on every firing, and
+ * the cross-cast step only applied its multiplier on the first.
+ *
+ * <p>This stage runs the whole ANS transform once per {@link SpellContext}, in a fixed
+ * order:
+ * <ol>
+ *   <li>cross-cast multiplier and SEPARATE-mode dual-cost split
+ *       ({@link CrossCastingHandler#applyArsCrossCastCost}) — first, on the unmodified
+ *       base cost (ANS-CRIT-004);</li>
+ *   <li>Cursed Ring LP substitution ({@link CursedRingHandler#applyToCost});</li>
+ *   <li>Virtue Ring aura substitution ({@link VirtueRingHandler#applyToCost});</li>
+ *   <li>Blasphemy curio discount ({@link CurioDiscountHandler#applyToCost}).</li>
+ * </ol>
+ * The spell is analysed at most once and only when a step needs it. The result is
+ * memoized against the context; a repeated firing with the same incoming cost replays
+ * it without re-running any step's side effects (pending LP/aura, Iron's pre-consume).
+ *
+ * <p>The curio discount used to run at LOW, after third-party listeners. It now runs
+ * inside this HIGHEST stage; the discount is multiplicative, so only additive
+ * third-party adjustments see a different order.
+ */
+@Mod.EventBusSubscriber(modid = "ars_n_spells")
+public final class ArsCostStage {
+
+    /**
+     * How long a memoized result stays valid. Every firing for one resolve happens in the
+     * same tick; the window only guards against a context object being reused for a
+     * later, separate cast.
+     */
+    private static final long MEMO_TTL_TICKS = 20L;
+
+    // Weak keys: a context lives exactly as long as its resolver, and nothing signals
+    // the end of a resolve that did not cast.
+    private static final Map<SpellContext, Memo> MEMO =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicLong computed = new AtomicLong();
+    private static final AtomicLong replayed = new AtomicLong();
+
+    private ArsCostStage() {}
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public static void onSpellCostCalc(SpellCostCalcEvent event) {
+        SpellContext context = event.context;
+        LivingEntity caster = context != null ? context.getUnwrappedCaster() : null;
+        if (!(caster instanceof Player player)) {
+            return;
+        }
+
+        int inputCost = event.currentCost;
+        long now = player.level().getGameTime();
+        Memo memo = MEMO.get(context);
+        if (memo != null && memo.inputCost == inputCost && now - memo.gameTime <= MEMO_TTL_TICKS) {
+            event.currentCost = memo.outputCost;
+            replayed.incrementAndGet();
+            return;
+        }
+
+        int outputCost = transform(player, context, inputCost);
+        MEMO.put(context, new Memo(inputCost, outputCost, now));
+        computed.incrementAndGet();
+        event.currentCost = outputCost;
+    }
+
+    private static int transform(Player player, SpellContext context, int cost) {
+        cost = CrossCastingHandler.applyArsCrossCastCost(player, cost);
+        if (cost == Integer.MAX_VALUE) {
+            // Cross-cast blocked (insufficient Iron's mana); nothing else may stage.
+            return cost;
+        }
+
+        if (!SanctifiedLegacyCompat.isAvailable()) {
+            return cost;
+        }
+
+        // ANS-HIGH-003: the spell comes straight from the event context, never from a
+        // ThreadLocal.
+        Supplier<SpellAnalysis.Result> analysis = new LazyAnalysis(context.getSpell());
+
+        // The ring steps stage server-side state; the client only needs the discount
+        // for its cost display.
+        if (!player.level().isClientSide()) {
+            cost = CursedRingHandler.applyToCost(player, analysis, cost);
+            cost = VirtueRingHandler.applyToCost(player, cost);
+        }
+        return CurioDiscountHandler.applyToCost(player, analysis, cost);
+    }
+
+    public static String getStats() {
+        return String.format("Ars cost stage: %d computed, %d replayed, %d memoized contexts",
+            computed.get(), replayed.get(), MEMO.size());
+    }
+
+    private static final class Memo {
+        final int inputCost;
+        final int outputCost;
+        final long gameTime;
+
+        Memo(int inputCost, int outputCost, long gameTime) {
+            this.inputCost = inputCost;
+            this.outputCost = outputCost;
+            this.gameTime = gameTime;
+        }
+    }
+
+    /** Analyses the spell on first use only; most casts never need it. */
+    private static final class LazyAnalysis implements Supplier<SpellAnalysis.Result> {
+        private final Spell spell;
+        private SpellAnalysis.Result result;
+        private boolean done;
+
+        LazyAnalysis(Spell spell) {
+            this.spell = spell;
+        }
+
+        @Override
+        public SpellAnalysis.Result get() {
+            if (!done) {
+                result = spell != null ? SpellAnalysis.analyze(spell) : null;
+                done = true;
+            }
+            return result;
+        }
+    }
+}
@@ -4,20 +4,73 @@ import com.hollingsworth.arsnouveau.api.event.ManaRegenCalcEvent;
 import com.hollingsworth.arsnouveau.api.event.MaxManaCalcEvent;
 import com.otectus.arsnspells.bridge.BridgeManager;
 import com.otectus.arsnspells.bridge.ManaRegenBridge;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
 import com.otectus.arsnspells.equipment.EquipmentIntegration;
 import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Applies Iron's gear mana bonuses to Ars mana calculations when Ars is primary.
+ *
+ * <p>Ars fires {@link MaxManaCalcEvent} and {@link ManaRegenCalcEvent} for every player
+ * over and over. ANS's contribution to each is cached per player in a
+ * {@link Contribution}, keyed on the equipment version
+ * ({@link EquipmentIntegration#getEquipmentVersion}), the config snapshot version and
+ * the live Iron's MAX_MANA value (the pool the EQUAL_EFFECT regen conversion reads).
+ * While all three are unchanged the events reuse the cached deltas, and the Iron's
+ * MAX_MANA sync is not even scheduled when the modifier already matches.
+ *
+ * <p>The MAX_MANA key is the post-modifier attribute value, not its base value: the
+ * regen conversion divides by the whole pool, so a gear modifier that leaves the base
+ * alone must still invalidate the cached regen delta.
  */
 @Mod.EventBusSubscriber(modid = "ars_n_spells")
 public class ArsManaCalcHandler {
 
+    private static final Map<UUID, Contribution> CONTRIBUTIONS = new ConcurrentHashMap<>();
+
+    private static final AtomicLong contributionHits = new AtomicLong();
+    private static final AtomicLong contributionMisses = new AtomicLong();
+    private static final AtomicLong syncsScheduled = new AtomicLong();
+    private static final AtomicLong syncsSkipped = new AtomicLong();
+
+    /** ANS's additions to the Ars max-mana and regen events for one player. */
+    static final class Contribution {
+        final int equipmentVersion;
+        final int configVersion;
+        final double ironsMaxMana;
+        final boolean hasMax;
+        final double maxDelta;
+        final boolean hasRegen;
+        final double regenDelta;
+
+        Contribution(int equipmentVersion, int configVersion, double ironsMaxMana,
+                     boolean hasMax, double maxDelta, boolean hasRegen, double regenDelta) {
+            this.equipmentVersion = equipmentVersion;
+            this.configVersion = configVersion;
+            this.ironsMaxMana = ironsMaxMana;
+            this.hasMax = hasMax;
+            this.maxDelta = maxDelta;
+            this.hasRegen = hasRegen;
+            this.regenDelta = regenDelta;
+        }
+
+        boolean matches(int equipmentVersion, int configVersion, double ironsMaxMana) {
+            return this.equipmentVersion == equipmentVersion && this.configVersion == configVersion
+                && this.ironsMaxMana == ironsMaxMana;
+        }
+    }
+
     @SubscribeEvent
     public static void onMaxManaCalc(MaxManaCalcEvent event) {
         if (!(event.getEntity() instanceof Player player)) {
@@ -32,7 +85,7 @@ public class ArsManaCalcHandler {
         if (!BridgeManager.isIronsSpellbooksLoaded()) {
             return;
         }
-        if (!AnsConfig.respectArmorBonuses.get()) {
+        if (!AnsConfigSnapshot.get().respectArmorBonuses) {
             return;
         }
 
@@ -41,13 +94,12 @@ public class ArsManaCalcHandler {
             return;
         }
 
-        EquipmentIntegration.ManaBonus ironBonus = EquipmentIntegration.getIronManaBonuses(player);
-        if (ironBonus.maxMana == 0.0) {
+        Contribution contribution = contribution(player);
+        if (!contribution.hasMax) {
             return;
         }
 
-        double conversionRate = AnsConfig.CONVERSION_RATE_IRON_TO_ARS.get();
-        int updatedMax = (int) Math.max(0, Math.round(event.getMax() + ironBonus.maxMana * conversionRate));
+        int updatedMax = (int) Math.max(0, Math.round(event.getMax() + contribution.maxDelta));
         event.setMax(updatedMax);
     }
 
@@ -82,6 +134,12 @@ public class ArsManaCalcHandler {
         // (one-tick latency on attribute sync) but eliminates the stack-overflow
         // hazard if Iron's internal event behaviour ever evolves.
         final int finalMax = event.getMax();
+        // An unchanged max must not even schedule the sync.
+        if (EquipmentIntegration.isIronsMaxSyncedTo(player, finalMax)) {
+            syncsSkipped.incrementAndGet();
+            return;
+        }
+        syncsScheduled.incrementAndGet();
         if (player.getServer() != null) {
             player.getServer().tell(new net.minecraft.server.TickTask(0,
                 () -> EquipmentIntegration.syncIronsMaxToArs(player, finalMax)));
@@ -104,7 +162,7 @@ public class ArsManaCalcHandler {
         if (!BridgeManager.isIronsSpellbooksLoaded()) {
             return;
         }
-        if (!AnsConfig.respectArmorBonuses.get()) {
+        if (!AnsConfigSnapshot.get().respectArmorBonuses) {
             return;
         }
 
@@ -113,18 +171,72 @@ public class ArsManaCalcHandler {
             return;
         }
 
-        EquipmentIntegration.ManaBonus ironBonus = EquipmentIntegration.getIronManaBonuses(player);
-        if (ironBonus.manaRegen == 0.0) {
+        Contribution contribution = contribution(player);
+        if (!contribution.hasRegen) {
             return;
         }
 
+        double updatedRegen = Math.max(0.0, event.getRegen() + contribution.regenDelta);
+        event.setRegen(updatedRegen);
+    }
+
+    /** The cached contribution for {@code player}, recomputed only when its key moved. */
+    private static Contribution contribution(Player player) {
+        int equipmentVersion = EquipmentIntegration.getEquipmentVersion(player);
+        int configVersion = AnsConfigSnapshot.get().version;
+        double ironsMaxMana = ManaRegenBridge.getCurrentIronsMaxMana(player);
+        Contribution cached = cached(player.getUUID(), equipmentVersion, configVersion, ironsMaxMana);
+        if (cached != null) {
+            return cached;
+        }
+
+        EquipmentIntegration.ManaBonus ironBonus = EquipmentIntegration.getIronManaBonuses(player);
+        double conversionRate = AnsConfigSnapshot.get().conversionRateIronToArs;
+        double maxDelta = ironBonus.maxMana * conversionRate;
         // Iron's MANA_REGEN attribute is a percentage-of-pool multiplier; the Ars regen
         // event expects an absolute mana/sec delta. Going through ManaRegenBridge is
         // mandatory — adding ironBonus.manaRegen directly is a unit-mismatch bug that
         // can produce hundreds of mana/sec on geared wizards.
-        double absRegenPerSec = ManaRegenBridge.convertIronsToArs(ironBonus.manaRegen, player);
-        double conversionRate = AnsConfig.CONVERSION_RATE_IRON_TO_ARS.get();
-        double updatedRegen = Math.max(0.0, event.getRegen() + absRegenPerSec * conversionRate);
-        event.setRegen(updatedRegen);
+        double regenDelta = ironBonus.manaRegen == 0.0 ? 0.0
+            : ManaRegenBridge.convertIronsToArs(ironBonus.manaRegen, player) * conversionRate;
+        Contribution fresh = new Contribution(equipmentVersion, configVersion, ironsMaxMana,
+            ironBonus.maxMana != 0.0, maxDelta, ironBonus.manaRegen != 0.0, regenDelta);
+        remember(player.getUUID(), fresh);
+        return fresh;
+    }
+
+    // UUID-keyed memo lookup (package-private so tests can drive it without a player):
+    // the stored contribution if all three keys still match, else null.
+    static Contribution cached(UUID id, int equipmentVersion, int configVersion, double ironsMaxMana) {
+        Contribution cached = CONTRIBUTIONS.get(id);
+        if (cached != null && cached.matches(equipmentVersion, configVersion, ironsMaxMana)) {
+            contributionHits.incrementAndGet();
+            return cached;
+        }
+        contributionMisses.incrementAndGet();
+        return null;
+    }
+
+    static void remember(UUID id, Contribution contribution) {
+        CONTRIBUTIONS.put(id, contribution);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        forget(event.getEntity().getUUID());
+    }
+
+    static void forget(UUID id) {
+        CONTRIBUTIONS.remove(id);
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        CONTRIBUTIONS.clear();
+    }
+
+    public static String getStats() {
+        return String.format("Ars mana calc: %d contribution hits, %d recomputes; Iron's max sync %d scheduled, %d skipped",
+            contributionHits.get(), contributionMisses.get(), syncsScheduled.get(), syncsSkipped.get());
     }
 }
@@ -1,7 +1,6 @@
 package com.otectus.arsnspells.events;
 
-import com.hollingsworth.arsnouveau.api.event.SpellCastEvent;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.util.SpellScalingUtil;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.damagesource.DamageSource;
@@ -23,7 +22,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * untrue. This handler is the missing connector:
  *
  * <ol>
- *   <li>On Ars {@code SpellCastEvent}, compute the scaling multiplier with
+ *   <li>On an Ars cast (a stage of {@link ArsCastPipeline}), compute the scaling multiplier with
  *       {@link SpellScalingUtil#getMultiplierForCaster} and stage it for the
  *       casting player with a short tick window.</li>
  *   <li>On {@link LivingHurtEvent} from a magic-flavored damage source whose
@@ -56,13 +55,10 @@ public class ArsSpellScalingHandler {
         }
     }
 
-    @SubscribeEvent
-    public void onArsSpellCast(SpellCastEvent event) {
-        if (!(event.getEntity() instanceof ServerPlayer player)) {
-            return;
-        }
+    static void applyCast(ArsCastPipeline.CastContext ctx) {
+        ServerPlayer player = ctx.serverPlayer;
         try {
-            float multiplier = SpellScalingUtil.getMultiplierForCaster(player, event.spell);
+            float multiplier = SpellScalingUtil.getMultiplierForCaster(player, ctx.analysis());
             // Only stage when scaling actually changes the outcome.
             if (multiplier > 1.001f || multiplier < 0.999f) {
                 ACTIVE.put(player.getUUID(), new ScalingEntry(multiplier, player.tickCount + WINDOW_TICKS));
@@ -97,7 +93,7 @@ public class ArsSpellScalingHandler {
         }
         float scaled = (float) Math.min(
             event.getAmount() * entry.multiplier,
-            event.getAmount() * AnsConfig.SPELL_POWER_CAP.get());
+            event.getAmount() * AnsConfigSnapshot.get().spellPowerCap);
         event.setAmount(scaled);
     }
 
@@ -2,8 +2,9 @@ package com.otectus.arsnspells.events;
 
 import com.otectus.arsnspells.affinity.AffinityType;
 import com.otectus.arsnspells.augmentation.ResonanceManager;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.cooldown.CooldownCategory;
+import com.otectus.arsnspells.cooldown.CooldownPrediction;
 import com.otectus.arsnspells.data.AffinityData;
 import com.otectus.arsnspells.data.CooldownData;
 import com.otectus.arsnspells.network.AffinitySyncPacket;
@@ -71,7 +72,7 @@ public final class CapabilityResyncHandler {
     }
 
     private static void syncAffinity(ServerPlayer player) {
-        if (!AnsConfig.ENABLE_AFFINITY_SYSTEM.get()) {
+        if (!AnsConfigSnapshot.get().enableAffinitySystem) {
             return;
         }
         player.getCapability(AffinityData.AFFINITY_DATA).ifPresent(data -> {
@@ -81,26 +82,30 @@ public final class CapabilityResyncHandler {
                     PacketHandler.sendToClient(new AffinitySyncPacket(type, level), player);
                 }
             }
+            // Full resync: the client mirror now matches, nothing is pending.
+            data.takeDirtyMask();
         });
     }
 
     private static void syncCooldowns(ServerPlayer player) {
-        if (!AnsConfig.ENABLE_COOLDOWN_SYSTEM.get()) {
+        if (!AnsConfigSnapshot.get().enableCooldownSystem) {
             return;
         }
         long now = player.level().getGameTime();
         player.getCapability(CooldownData.COOLDOWN_CAP).ifPresent(data -> {
             for (CooldownCategory cat : CooldownCategory.values()) {
-                long end = data.getLastCast(cat);
-                if (end > now) {
-                    PacketHandler.sendToClient(new CooldownSyncPacket(cat, end), player);
-                }
+                // Every category, expired ones as 0: the client tracker may still hold
+                // ends from a previous world, and CooldownPrediction needs a known
+                // baseline before it can skip per-cast packets.
+                long end = data.getLastCast(cat) > now ? data.getLastCast(cat) : 0L;
+                PacketHandler.sendToClient(new CooldownSyncPacket(cat, end), player);
+                CooldownPrediction.record(player.getUUID(), cat, end);
             }
         });
     }
 
     private static void syncResonance(ServerPlayer player) {
-        if (!AnsConfig.ENABLE_RESONANCE_SYSTEM.get() || !ModList.get().isLoaded("irons_spellbooks")) {
+        if (!AnsConfigSnapshot.get().enableResonanceSystem || !ModList.get().isLoaded("irons_spellbooks")) {
             return;
         }
         ResonanceManager.computeResonance(player);
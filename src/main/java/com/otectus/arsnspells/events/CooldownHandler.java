@@ -1,24 +1,35 @@
 package com.otectus.arsnspells.events;
 
-import com.hollingsworth.arsnouveau.api.event.SpellCastEvent;
-import com.otectus.arsnspells.config.AnsConfig;
 import com.otectus.arsnspells.cooldown.CooldownCategory;
+import com.otectus.arsnspells.cooldown.CooldownPrediction;
 import com.otectus.arsnspells.cooldown.UnifiedCooldownManager;
 import com.otectus.arsnspells.util.SpellAnalysis;
-import com.otectus.arsnspells.network.PacketHandler;
-import com.otectus.arsnspells.network.CooldownSyncPacket;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 
+/**
+ * Cooldown stage of {@link ArsCastPipeline}; no longer an event listener itself.
+ */
 public class CooldownHandler {
-    @SubscribeEvent
-    public void onArsSpellCast(SpellCastEvent event) {
-        if (!UnifiedCooldownManager.isEnabled() || !AnsConfig.ENABLE_COOLDOWN_SYSTEM.get()) {
-            return;
+
+    /**
+     * Returns {@code false} if the cast must be cancelled because it is on cooldown.
+     */
+    static boolean applyCast(ArsCastPipeline.CastContext ctx) {
+        if (!UnifiedCooldownManager.isEnabled() || !ctx.config.enableCooldownSystem) {
+            return true;
         }
-        if (event.getEntity() instanceof ServerPlayer player) {
-            // Use standard Ars Nouveau 4.12.7 field: spell
-            CooldownCategory category = SpellAnalysis.analyze(event.spell).category();
+        if (UnifiedCooldownManager.isPerSpellEnabled()) {
+            // Per-spell mode is server-only: no category HUD bar to predict or sync.
+            if (ctx.serverPlayer != null) {
+                String spellKey = SpellAnalysis.recipeKey(ctx.spell);
+                if (UnifiedCooldownManager.isSpellOnCooldown(ctx.serverPlayer, spellKey)) {
+                    return false;
+                }
+                UnifiedCooldownManager.applySpellCooldown(ctx.serverPlayer, spellKey, false);
+            }
+        } else if (ctx.serverPlayer != null) {
+            ServerPlayer player = ctx.serverPlayer;
+            CooldownCategory category = ctx.analysis().category();
 
             if (UnifiedCooldownManager.isOnCooldown(player, category)) {
                 // ANS-MED-027 (NEEDS VERIFY): Ars Nouveau's SpellCastEvent is documented
@@ -26,12 +37,18 @@ public class CooldownHandler {
                 // version makes it non-cancellable, this will be a silent no-op and
                 // cooldown enforcement will fall back to the per-spell-class gating in
                 // SpellResolver. Verify cancellability in dev when upgrading Ars.
-                event.setCanceled(true);
-            } else {
-                long cooldownEnd = UnifiedCooldownManager.applyCooldownAndGetEnd(player, category, false);
-                // High-fidelity sync ensures the client HUD mirrors the global-per-category lockout.
-                PacketHandler.sendToClient(new CooldownSyncPacket(category, cooldownEnd), player);
+                UnifiedCooldownManager.syncRejectedCast(player, CooldownPrediction.Source.ARS, category);
+                return false;
             }
+            long cooldownEnd = UnifiedCooldownManager.applyCooldownAndGetEnd(player, category, false);
+            // The client HUD mirrors the global-per-category lockout; a client that
+            // predicted this cast already has the end tick and gets no packet.
+            UnifiedCooldownManager.syncAppliedCooldown(player, CooldownPrediction.Source.ARS, category, cooldownEnd);
+        } else if (ctx.player.level().isClientSide()) {
+            // Local cast: predict the HUD cooldown now. Display-only — the server decides.
+            UnifiedCooldownManager.predictClientCooldown(ctx.player, ctx.analysis().category(),
+                CooldownPrediction.Source.ARS);
         }
+        return true;
     }
 }
@@ -1,103 +1,92 @@
 package com.otectus.arsnspells.events;
 
-import com.hollingsworth.arsnouveau.api.event.SpellCostCalcEvent;
-import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
-import com.hollingsworth.arsnouveau.api.spell.Spell;
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.util.SpellAnalysis;
-import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
-import net.minecraftforge.eventbus.api.EventPriority;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
-import net.minecraftforge.fml.common.Mod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Supplier;
+
 /**
  * Handles mana cost discounts from Covenant of the Seven curios.
  * Applies discounts from Ring of Virtue and Blasphemy curios to Ars Nouveau spells.
  * 
- * Priority: LOW - Applied after other cost modifiers to ensure proper stacking
+ * Last step of the Ars cost stage ({@link ArsCostStage}), after the cross-cast and
+ * ring substitutions, so the discount applies to whatever mana cost is left.
  */
-@Mod.EventBusSubscriber(modid = "ars_n_spells")
 public class CurioDiscountHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(CurioDiscountHandler.class);
     
     /**
-     * Apply curio discounts to Ars Nouveau spell costs.
-     * Uses LOW priority to apply discounts after other modifiers.
+     * Apply curio discounts to an Ars Nouveau spell cost.
+     *
+     * @param analysis lazily computed analysis of the cast spell; only consulted when
+     *                 the player wears a Blasphemy curio
+     * @return the discounted cost, or {@code currentCost} unchanged
      */
-    @SubscribeEvent(priority = EventPriority.LOW)
-    public static void onSpellCostCalc(SpellCostCalcEvent event) {
+    static int applyToCost(Player player, Supplier<SpellAnalysis.Result> analysis, int currentCost) {
         // Check if curio discounts are enabled
-        if (!AnsConfig.ENABLE_CURIO_DISCOUNTS.get()) {
-            return;
+        if (!AnsConfigSnapshot.get().enableCurioDiscounts) {
+            return currentCost;
         }
         
         // Check if Sanctified Legacy is available
         if (!SanctifiedLegacyCompat.isAvailable()) {
-            return;
-        }
-        
-        // Only apply to player casters
-        LivingEntity caster = event.context != null ? event.context.getUnwrappedCaster() : null;
-        if (!(caster instanceof Player player)) {
-            return;
+            return currentCost;
         }
         
         // Skip if player is in creative mode
         if (player.isCreative()) {
-            return;
+            return currentCost;
         }
         
-        // Get the current spell cost
-        int currentCost = event.currentCost;
         if (currentCost <= 0) {
-            return; // No cost to discount
+            return currentCost; // No cost to discount
         }
         
         // Calculate total discount multiplier
-        double discountMultiplier = calculateDiscountMultiplier(player, event);
+        double discountMultiplier = calculateDiscountMultiplier(player, analysis);
         
         // Apply discount if any
         if (discountMultiplier < 1.0) {
             int discountedCost = (int) Math.max(1, Math.round(currentCost * discountMultiplier));
             int savedMana = currentCost - discountedCost;
             
-            event.currentCost = discountedCost;
-            
             // ANS-MED-026: SLF4J does not accept the `{:.1f}` placeholder — it took it as
             // a literal and silently dropped the trailing arg. Use String.format for the
             // formatted percent and SLF4J `{}` for the rest.
             logDebug("Applied curio discount to {}: {} mana -> {} mana (saved {} mana, {} discount)",
                 player.getName().getString(), currentCost, discountedCost, savedMana,
                 String.format("%.1f%%", (1.0 - discountMultiplier) * 100));
+            return discountedCost;
         }
+        return currentCost;
     }
     
     /**
      * Calculate the total discount multiplier from all equipped curios.
      * 
      * @param player The player
-     * @param event The spell cost event (for spell school detection)
+     * @param analysis Analysis of the cast spell (for spell school detection)
      * @return Discount multiplier (1.0 = no discount, 0.5 = 50% discount)
      */
-    private static double calculateDiscountMultiplier(Player player, SpellCostCalcEvent event) {
+    private static double calculateDiscountMultiplier(Player player, Supplier<SpellAnalysis.Result> analysis) {
         double multiplier = 1.0;
 
-        // Only Blasphemy discounts apply here. The Virtue Ring zeroed the cost at HIGHEST
-        // priority (VirtueRingHandler) by converting mana to aura, so this LOW-priority
-        // handler doesn't see Virtue Ring wearers (we return early when cost <= 0 above).
+        // Only Blasphemy discounts apply here. The Virtue Ring step (VirtueRingHandler)
+        // already zeroed the cost by converting mana to aura, so this step doesn't see
+        // Virtue Ring wearers (we return early when cost <= 0 above).
         // Blasphemy discount
-        String spellSchool = determineSpellSchool(event);
-        BlasphemyDiscountResult blasphemyResult = calculateBlasphemyDiscount(player, spellSchool);
+        BlasphemyDiscountResult blasphemyResult = calculateBlasphemyDiscount(player, analysis);
+        String spellSchool = blasphemyResult.spellSchool;
 
         if (blasphemyResult.hasBlasphemy) {
             multiplier *= (1.0 - blasphemyResult.totalDiscount);
 
             // ANS-MED-026: SLF4J does not accept `{:.1f}` — format the percent with
-            // String.format and pass plain `{}` args (mirrors the onSpellCostCalc log).
+            // String.format and pass plain `{}` args (mirrors the applyToCost log).
             logDebug("Blasphemy discount applied: {} (school: {}, matching: {})",
                 String.format("%.1f%%", blasphemyResult.totalDiscount * 100), spellSchool, blasphemyResult.isMatching);
         }
@@ -106,36 +95,37 @@ public class CurioDiscountHandler {
     }
     
     /**
-     * Determine the spell school from the spell cost event.
+     * Determine the spell school from the shared spell analysis.
      * 
-     * @param event The spell cost event
+     * @param analysis Analysis of the cast spell
      * @return The spell school identifier
      */
-    private static String determineSpellSchool(SpellCostCalcEvent event) {
-        // ANS-HIGH-003: read the spell directly from the event context instead of a
-        // ThreadLocal. See CursedRingHandler for the full rationale.
-        Spell spell = event.context != null ? event.context.getSpell() : null;
-        if (spell == null) {
-            return "generic";
-        }
-        return SpellAnalysis.analyze(spell).dominantSchool();
+    private static String determineSpellSchool(Supplier<SpellAnalysis.Result> analysis) {
+        // ANS-HIGH-003: the spell comes straight from the event context (read by
+        // ArsCostStage) instead of a ThreadLocal. See CursedRingHandler for the full
+        // rationale.
+        SpellAnalysis.Result result = analysis.get();
+        return result != null ? result.dominantSchool() : "generic";
     }
     
     /**
      * Calculate Blasphemy discount for the player.
      * 
      * @param player The player
-     * @param spellSchool The spell school
+     * @param analysis Analysis of the cast spell; the school is only derived for
+     *                 Blasphemy wearers
      * @return Blasphemy discount result
      */
-    private static BlasphemyDiscountResult calculateBlasphemyDiscount(Player player, String spellSchool) {
+    private static BlasphemyDiscountResult calculateBlasphemyDiscount(Player player,
+                                                                      Supplier<SpellAnalysis.Result> analysis) {
         // Check if player has any Blasphemy curio
         if (!SanctifiedLegacyCompat.hasAnyBlasphemy(player)) {
-            return new BlasphemyDiscountResult(false, 0.0, false);
+            return new BlasphemyDiscountResult(false, 0.0, false, "generic");
         }
+        String spellSchool = determineSpellSchool(analysis);
         
         // Get base Blasphemy discount
-        double baseDiscount = AnsConfig.BLASPHEMY_DISCOUNT.get();
+        double baseDiscount = AnsConfigSnapshot.get().blasphemyDiscount;
         
         // Check if the Blasphemy matches the spell school
         String matchingBlasphemy = SanctifiedLegacyCompat.getMatchingBlasphemyType(spellSchool);
@@ -145,21 +135,21 @@ public class CurioDiscountHandler {
         // Apply matching school bonus if applicable
         double totalDiscount = baseDiscount;
         if (isMatching) {
-            double matchingBonus = AnsConfig.BLASPHEMY_MATCHING_SCHOOL_BONUS.get();
+            double matchingBonus = AnsConfigSnapshot.get().blasphemyMatchingSchoolBonus;
             totalDiscount += matchingBonus;
             
             // Cap at 95% discount
             totalDiscount = Math.min(0.95, totalDiscount);
         }
         
-        return new BlasphemyDiscountResult(true, totalDiscount, isMatching);
+        return new BlasphemyDiscountResult(true, totalDiscount, isMatching, spellSchool);
     }
     
     /**
      * Log debug message if debug mode is enabled.
      */
     private static void logDebug(String message, Object... args) {
-        if (AnsConfig.DEBUG_MODE != null && AnsConfig.DEBUG_MODE.get()) {
+        if (AnsConfigSnapshot.get().debugMode) {
             LOGGER.info("[CurioDiscount] [DEBUG] " + message, args);
         }
     }
@@ -171,11 +161,14 @@ public class CurioDiscountHandler {
         final boolean hasBlasphemy;
         final double totalDiscount;
         final boolean isMatching;
+        final String spellSchool;
         
-        BlasphemyDiscountResult(boolean hasBlasphemy, double totalDiscount, boolean isMatching) {
+        BlasphemyDiscountResult(boolean hasBlasphemy, double totalDiscount, boolean isMatching,
+                                String spellSchool) {
             this.hasBlasphemy = hasBlasphemy;
             this.totalDiscount = totalDiscount;
             this.isMatching = isMatching;
+            this.spellSchool = spellSchool;
         }
     }
 }
@@ -1,12 +1,10 @@
 package com.otectus.arsnspells.events;
 
-import com.hollingsworth.arsnouveau.api.event.SpellCostCalcEvent;
 import com.hollingsworth.arsnouveau.api.event.SpellResolveEvent;
 import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
-import com.hollingsworth.arsnouveau.api.spell.Spell;
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
 import com.otectus.arsnspells.compat.ScrollLPTracker;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.util.SpellAnalysis;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
@@ -24,6 +22,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
 
 /**
  * Handles Cursed Ring LP consumption for Ars Nouveau spells.
@@ -31,7 +30,8 @@ import java.util.concurrent.ConcurrentLinkedDeque;
  *
  * <p>Consumption is split across Pre and Post:
  * <ul>
- *   <li>{@code SpellCostCalcEvent}: stamps pending LP cost, zeros mana cost.</li>
+ *   <li>{@code SpellCostCalcEvent} (via {@link ArsCostStage}): stamps pending LP cost,
+ *       zeros mana cost.</li>
  *   <li>{@code SpellResolveEvent.Pre}: validation-only — re-verifies the player still
  *       wears the Cursed Ring; drops the pending cost if state changed.</li>
  *   <li>{@code SpellResolveEvent.Post}: actually consumes LP. Post only fires for
@@ -53,26 +53,17 @@ public class CursedRingHandler {
     private static final java.util.Set<UUID> ringConflictNotified = ConcurrentHashMap.newKeySet();
 
     /**
-     * Calculate and stamp LP cost when Cursed Ring is equipped.
-     * This runs at the cost-calc event, BEFORE the spell resolves.
+     * Cursed Ring step of the Ars cost stage ({@link ArsCostStage}): stamps the pending
+     * LP cost and returns 0 so Ars doesn't consume mana, or returns {@code manaCost}
+     * unchanged when the ring doesn't apply. Runs once per resolve; the stage replays
+     * the result for repeated cost-calc firings instead of staging a second LP entry.
+     *
+     * @param analysis lazily computed analysis of the cast spell (null result when the
+     *                 context carries no spell)
      */
-    @SubscribeEvent(priority = EventPriority.HIGHEST)
-    public static void onSpellCostCalc(SpellCostCalcEvent event) {
-        if (!SanctifiedLegacyCompat.isAvailable()) {
-            return;
-        }
-
-        if (!AnsConfig.ENABLE_LP_SYSTEM.get()) {
-            return;
-        }
-
-        LivingEntity caster = event.context != null ? event.context.getUnwrappedCaster() : null;
-        if (!(caster instanceof Player player)) {
-            return;
-        }
-
-        if (player.level().isClientSide()) {
-            return;
+    static int applyToCost(Player player, Supplier<SpellAnalysis.Result> analysis, int manaCost) {
+        if (!AnsConfigSnapshot.get().enableLpSystem) {
+            return manaCost;
         }
 
         // Check if wearing Cursed Ring - handle it regardless of mana unification setting
@@ -80,36 +71,34 @@ public class CursedRingHandler {
         if (!SanctifiedLegacyCompat.isWearingCursedRing(player)) {
             // Make sure no stale entry from a previous wearing session can be consumed.
             pendingCosts.remove(player.getUUID());
-            return;
+            return manaCost;
         }
 
-
         LOGGER.debug("Cursed Ring detected on {} - Spell will use LP instead of mana",
             player.getName().getString());
 
-        int manaCost = event.currentCost;
         if (manaCost <= 0) {
             LOGGER.debug("Zero cost spell - allowing");
-            return;
+            return manaCost;
         }
 
-        // ANS-HIGH-003: read the spell directly from the event context instead of a
-        // ThreadLocal. The old CasterContext ThreadLocal leaked between casts when
-        // canCast threw (the @At("RETURN") clear didn't fire on exception), so a
-        // subsequent player's cost-calc could read the previous caster's spell.
-        Spell spell = event.context != null ? event.context.getSpell() : null;
-        SpellAnalysis.Result analysis = spell != null ? SpellAnalysis.analyze(spell) : null;
-        AbstractSpellPart spellPart = analysis != null ? analysis.firstEffect() : null;
+        // ANS-HIGH-003: the spell comes straight from the event context (read by the
+        // stage) instead of a ThreadLocal. The old CasterContext ThreadLocal leaked
+        // between casts when canCast threw (the @At("RETURN") clear didn't fire on
+        // exception), so a subsequent player's cost-calc could read the previous
+        // caster's spell.
+        SpellAnalysis.Result result = analysis.get();
+        AbstractSpellPart spellPart = result != null ? result.firstEffect() : null;
 
         // Calculate LP cost
         int lpCost = SanctifiedLegacyCompat.calculateLPCost(manaCost, spellPart);
 
         // Apply Blasphemy multiplier
-        String spellSchool = analysis != null ? analysis.dominantSchool() : "generic";
+        String spellSchool = result != null ? result.dominantSchool() : "generic";
         double blasphemyMultiplier = SanctifiedLegacyCompat.getBlasphemyLPMultiplier(player, spellSchool);
         if (blasphemyMultiplier < 1.0) {
             int originalCost = lpCost;
-            lpCost = (int) Math.max(AnsConfig.ARS_LP_MINIMUM_COST.get(), Math.round(lpCost * blasphemyMultiplier));
+            lpCost = (int) Math.max(AnsConfigSnapshot.get().arsLpMinimumCost, Math.round(lpCost * blasphemyMultiplier));
             LOGGER.debug("Blasphemy discount applied: {} LP -> {} LP", originalCost, lpCost);
         }
 
@@ -122,10 +111,9 @@ public class CursedRingHandler {
         pendingCosts.computeIfAbsent(player.getUUID(), k -> new ConcurrentLinkedDeque<>())
             .addLast(new PendingLPCost(lpCost, player.level().getGameTime()));
 
-        // Set mana cost to 0 so Ars Nouveau doesn't consume mana
-        event.currentCost = 0;
-
         LOGGER.debug("Mana cost set to 0 (LP will be consumed on spell resolve)");
+        // Zero so Ars Nouveau doesn't consume mana
+        return 0;
     }
 
     /**
@@ -186,7 +174,7 @@ public class CursedRingHandler {
         if (!SanctifiedLegacyCompat.isAvailable()) {
             return;
         }
-        if (!AnsConfig.ENABLE_LP_SYSTEM.get()) {
+        if (!AnsConfigSnapshot.get().enableLpSystem) {
             return;
         }
         if (event.context == null) {
@@ -226,7 +214,7 @@ public class CursedRingHandler {
         if (!SanctifiedLegacyCompat.isAvailable()) {
             return;
         }
-        if (!AnsConfig.ENABLE_LP_SYSTEM.get()) {
+        if (!AnsConfigSnapshot.get().enableLpSystem) {
             return;
         }
         if (event.context == null) {
@@ -279,7 +267,7 @@ public class CursedRingHandler {
             LOGGER.warn("LP consumption failed at Post for {} (spell already cast)",
                 player.getName().getString());
 
-            boolean deathPenalty = AnsConfig.DEATH_ON_INSUFFICIENT_LP.get();
+            boolean deathPenalty = AnsConfigSnapshot.get().deathOnInsufficientLp;
 
             if (deathPenalty) {
                 // Death penalty: spell cast, but kill the player.
@@ -297,7 +285,7 @@ public class CursedRingHandler {
                     victim.hurt(victim.damageSources().magic(), Float.MAX_VALUE);
                 }
 
-                if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+                if (AnsConfigSnapshot.get().showLpCostMessages) {
                     player.displayClientMessage(
                         Component.translatable("message.ars_n_spells.lp.death", pending.lpCost)
                             .withStyle(ChatFormatting.DARK_RED, ChatFormatting.BOLD),
@@ -309,7 +297,7 @@ public class CursedRingHandler {
                 LPDeathPrevention.setLPImmune(player);
                 SanctifiedLegacyCompat.applySilentHealthLoss(player, 2.0f);
 
-                if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+                if (AnsConfigSnapshot.get().showLpCostMessages) {
                     player.displayClientMessage(
                         Component.translatable("message.ars_n_spells.lp.insufficient")
                             .withStyle(ChatFormatting.RED),
@@ -323,7 +311,7 @@ public class CursedRingHandler {
         LOGGER.debug("LP consumed successfully");
         pending.consumed = true;
 
-        if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+        if (AnsConfigSnapshot.get().showLpCostMessages) {
             player.displayClientMessage(
                 Component.translatable("message.ars_n_spells.lp.consumed", pending.lpCost)
                     .withStyle(ChatFormatting.GOLD),
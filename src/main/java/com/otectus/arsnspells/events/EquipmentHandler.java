@@ -1,23 +1,48 @@
 package com.otectus.arsnspells.events;
 
 import com.otectus.arsnspells.bridge.BridgeManager;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
 import com.otectus.arsnspells.equipment.EquipmentIntegration;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.players.PlayerList;
 import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import top.theillusivec4.curios.api.event.CurioChangeEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Handles equipment change events to update unified mana bonuses
+ * Handles equipment change events to update unified mana bonuses.
+ *
+ * <p>Change events only mark the player dirty; one recompute per dirty player runs at
+ * {@code ServerTickEvent} END. Login, respawn, armor-stand swaps and inventory-sorting
+ * mods fire several {@link LivingEquipmentChangeEvent}s for one player in one tick, and
+ * each used to trigger a full bonus recalculation plus Iron's attribute writes. The
+ * cached bonuses are still marked stale immediately, so a read in the same tick never
+ * sees the old gear. Server main thread only (ANS-MED-013).
  */
 @Mod.EventBusSubscriber(modid = "ars_n_spells")
 public class EquipmentHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(EquipmentHandler.class);
+
+    // Insertion-ordered so recomputes run in the order players changed gear.
+    private static final Set<UUID> dirtyPlayers = new LinkedHashSet<>();
+
+    private static final AtomicLong recomputes = new AtomicLong();
+    private static final AtomicLong coalesced = new AtomicLong();
     
     /**
      * Handle equipment changes
@@ -34,11 +59,12 @@ public class EquipmentHandler {
         
         Player player = (Player) event.getEntity();
         
-        // Clear equipment cache to force recalculation
-        EquipmentIntegration.clearCache(player);
+        // Mark the cached bonuses stale; they are recomputed only if the gear
+        // fingerprint actually differs.
+        EquipmentIntegration.invalidate(player);
         
-        // Recalculate max mana based on new equipment
-        updatePlayerMaxMana(player);
+        // Recalculate max mana based on new equipment, once, at tick end
+        markDirty(player);
         
         logDebug("Equipment changed for {}, recalculating mana bonuses", player.getName().getString());
     }
@@ -54,8 +80,8 @@ public class EquipmentHandler {
         
         Player player = event.getEntity();
         
-        // Initialize equipment bonuses
-        updatePlayerMaxMana(player);
+        // Initialize equipment bonuses (coalesced with the login equipment events)
+        markDirty(player);
         
         logDebug("Player {} logged in, initializing equipment bonuses", player.getName().getString());
     }
@@ -73,7 +99,7 @@ public class EquipmentHandler {
         
         // Clear cache and recalculate
         EquipmentIntegration.clearCache(player);
-        updatePlayerMaxMana(player);
+        markDirty(player);
         
         logDebug("Player {} respawned, recalculating equipment bonuses", player.getName().getString());
     }
@@ -84,16 +110,88 @@ public class EquipmentHandler {
     @SubscribeEvent
     public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
         EquipmentIntegration.clearCache(event.getEntity());
+        forgetDirty(event.getEntity().getUUID());
     }
 
-    // Note: a CurioChangeEvent listener would invalidate the 20-tick curio cache instantly
-    // and clear pending aura/LP costs on ring swap. It's been deferred because the event
-    // class lives in `top.theillusivec4.curios.api.event`, which isn't on the transitive
-    // compile classpath without an explicit Curios dependency in build.gradle. The
-    // existing 20-tick cache TTL plus the Pre/Post ring-state re-verify already gate the
-    // correctness case (no double-charge after unequip); the only remaining UX gap is
-    // up to ~1 s of "ring just equipped but not active yet" latency on the cast hot-path.
+    /**
+     * Curio slot changes: the curio counterpart of {@link #onEquipmentChange}. The
+     * equipment bonus cache has no TTL, so this is what keeps curio mana gear and the
+     * curio discounts current. The player's CurioSnapshot is dropped by its own
+     * HIGHEST-priority listener first, so the recompute never reads the curios from
+     * before the swap.
+     */
+    @SubscribeEvent
+    public static void onCurioChange(CurioChangeEvent event) {
+        if (!(event.getEntity() instanceof Player player)) {
+            return;
+        }
+        if (!BridgeManager.isUnificationEnabled()) {
+            return;
+        }
+        EquipmentIntegration.invalidate(player);
+        markDirty(player);
+
+        logDebug("Curio slot {} changed for {}, recalculating mana bonuses",
+            event.getIdentifier(), player.getName().getString());
+    }
     
+    private static void markDirty(Player player) {
+        if (player.level().isClientSide()) {
+            return;
+        }
+        markDirty(player.getUUID());
+    }
+
+    // UUID-keyed dirty set (package-private so tests can drive the coalescing without a
+    // server). Returns false when the player already had a recompute pending.
+    static boolean markDirty(UUID id) {
+        if (dirtyPlayers.add(id)) {
+            return true;
+        }
+        coalesced.incrementAndGet();
+        return false;
+    }
+
+    static void forgetDirty(UUID id) {
+        dirtyPlayers.remove(id);
+    }
+
+    /** Every player marked since the last drain, once each, in the order they were marked. */
+    static List<UUID> drainDirty() {
+        List<UUID> drained = new ArrayList<>(dirtyPlayers);
+        dirtyPlayers.clear();
+        return drained;
+    }
+
+    /**
+     * One recompute per player whose gear changed this tick. The player is looked up
+     * again so a respawn in between recomputes the live entity.
+     */
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || dirtyPlayers.isEmpty()) {
+            return;
+        }
+        PlayerList players = event.getServer().getPlayerList();
+        for (UUID id : drainDirty()) {
+            ServerPlayer player = players.getPlayer(id);
+            if (player != null) {
+                recomputes.incrementAndGet();
+                updatePlayerMaxMana(player);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        dirtyPlayers.clear();
+    }
+
+    public static String getStats() {
+        return String.format("Equipment recomputes: %d run at tick end, %d coalesced into an already pending one",
+            recomputes.get(), coalesced.get());
+    }
+
     /**
      * Update player's max mana based on equipment
      */
@@ -109,7 +207,7 @@ public class EquipmentHandler {
                 return;
             }
 
-            if (!AnsConfig.respectArmorBonuses.get()) {
+            if (!AnsConfigSnapshot.get().respectArmorBonuses) {
                 EquipmentIntegration.clearArsBonusesFromIrons(player);
                 return;
             }
@@ -121,7 +219,7 @@ public class EquipmentHandler {
                 logDebug("Synced Iron's max mana to Ars max for {}: arsMax={}",
                     player.getName().getString(), arsMax);
             } else if (mode.isIssPrimary() || mode.isHybrid()) {
-                double conversionRate = AnsConfig.CONVERSION_RATE_ARS_TO_IRON.get();
+                double conversionRate = AnsConfigSnapshot.get().conversionRateArsToIron;
                 EquipmentIntegration.applyArsBonusesToIrons(player, conversionRate);
                 EquipmentIntegration.ManaBonus arsBonus = EquipmentIntegration.getArsManaBonuses(player);
                 logDebug("Applied Ars gear bonuses to Iron's mana for {}: max={}, regen={}",
@@ -138,7 +236,7 @@ public class EquipmentHandler {
      * Log debug message if debug mode is enabled
      */
     private static void logDebug(String message, Object... args) {
-        if (AnsConfig.DEBUG_MODE != null && AnsConfig.DEBUG_MODE.get()) {
+        if (AnsConfigSnapshot.get().debugMode) {
             LOGGER.info("[EquipmentHandler] [DEBUG] " + message, args);
         }
     }
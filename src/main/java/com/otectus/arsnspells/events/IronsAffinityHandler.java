@@ -1,14 +1,8 @@
 package com.otectus.arsnspells.events;
 
 import com.otectus.arsnspells.affinity.AffinityType;
-import com.otectus.arsnspells.config.AnsConfig;
 import com.otectus.arsnspells.data.AffinityData;
-import com.otectus.arsnspells.network.AffinitySyncPacket;
-import com.otectus.arsnspells.network.PacketHandler;
-import io.redspace.ironsspellbooks.api.events.SpellOnCastEvent;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 import java.util.Locale;
 
@@ -22,29 +16,20 @@ import java.util.Locale;
  * have a matching enum value are silently skipped — the new HOLY/ENDER/BLOOD/
  * EVOCATION/ELDRITCH values added in 1.9.0 cover Iron's stock schools.
  *
- * <p>Iron's-only: must only be registered when Iron's is loaded.
+ * <p>Runs as an OnCast stage of {@link IronsCastPipeline}, server side only.
  */
 public class IronsAffinityHandler {
 
-    @SubscribeEvent
-    public void onIronsSpellCast(SpellOnCastEvent event) {
-        if (!AnsConfig.ENABLE_AFFINITY_SYSTEM.get()) {
+    static void applyCast(IronsCastPipeline.IronsCastContext ctx) {
+        if (!ctx.config.enableAffinitySystem) {
             return;
         }
-        if (event.getEntity() == null || event.getSchoolType() == null) {
-            return;
-        }
-        if (!(event.getEntity() instanceof ServerPlayer player)) {
-            return;
-        }
-        ResourceLocation schoolId = event.getSchoolType().getId();
-        if (schoolId == null) {
-            return;
-        }
-        String schoolName = schoolId.getPath().toUpperCase(Locale.ROOT);
-        if (schoolName.isEmpty()) {
+        String school = ctx.schoolPath();
+        if (school == null) {
             return;
         }
+        ServerPlayer player = ctx.serverPlayer;
+        String schoolName = school.toUpperCase(Locale.ROOT);
         AffinityType type;
         try {
             type = AffinityType.valueOf(schoolName);
@@ -53,7 +38,7 @@ public class IronsAffinityHandler {
         }
         player.getCapability(AffinityData.AFFINITY_DATA).ifPresent(data -> {
             data.addLevel(type, 1);
-            PacketHandler.sendToClient(new AffinitySyncPacket(type, data.getLevel(type)), player);
+            AffinityHandler.syncChangedSchools(player, data);
         });
     }
 }
@@ -0,0 +1,270 @@
+package com.otectus.arsnspells.events;
+
+import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
+import com.otectus.arsnspells.spell.CrossCastIronsHandler;
+import io.redspace.ironsspellbooks.api.events.SpellOnCastEvent;
+import io.redspace.ironsspellbooks.api.events.SpellPreCastEvent;
+import io.redspace.ironsspellbooks.api.registry.SpellRegistry;
+import io.redspace.ironsspellbooks.api.spells.AbstractSpell;
+import io.redspace.ironsspellbooks.api.spells.SpellRarity;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.Event;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The single ANS listener set for Iron's Spellbooks' {@link SpellPreCastEvent} and
+ * {@link SpellOnCastEvent}.
+ *
+ * <p>{@link IronsLPHandler}, {@link IronsCooldownHandler}, {@link IronsAffinityHandler},
+ * {@link IronsProgressionHandler} and {@link CrossCastIronsHandler} used to subscribe
+ * separately, each resolving the spell, school, rarity and Cursed Ring state for the
+ * same cast. This pipeline resolves one {@link IronsCastContext} per event and runs
+ * them as ordered stages. The old priorities are kept by listening twice per event:
+ * <ul>
+ *   <li>PreCast at {@code HIGHEST}: LP staging ({@link IronsLPHandler#applyPreCast}),
+ *       which may cancel the cast before any other mod sees it;</li>
+ *   <li>PreCast at {@code NORMAL}: category / per-spell cooldown
+ *       ({@link IronsCooldownHandler#applyPreCast});</li>
+ *   <li>OnCast at {@code HIGHEST}: LP consumption ({@link IronsLPHandler#applyCast});</li>
+ *   <li>OnCast at {@code NORMAL}: cross-cast cost ({@link CrossCastIronsHandler#applyCast}),
+ *       then affinity and progression (server only).</li>
+ * </ul>
+ * Neither {@code NORMAL} listener receives cancelled events, so a cast the LP stage
+ * (or another mod) cancels skips the later stages exactly as before.
+ *
+ * <p>NOT @Mod.EventBusSubscriber — the Iron's API imports would crash an Iron's-less
+ * server at classload. Registered as an instance by ArsNSpells behind
+ * ModList.isLoaded("irons_spellbooks"). Per-stage wall time is accumulated for
+ * profiling; see {@link #getStats()}.
+ */
+public class IronsCastPipeline {
+
+    private enum Stage { LP_STAGE, COOLDOWN, LP_CONSUME, CROSS_CAST_COST, AFFINITY, PROGRESSION }
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final AtomicLong[] STAGE_NANOS = new AtomicLong[STAGES.length];
+    private static final AtomicLong[] STAGE_RUNS = new AtomicLong[STAGES.length];
+    private static final AtomicLong contexts = new AtomicLong();
+
+    static {
+        for (int i = 0; i < STAGES.length; i++) {
+            STAGE_NANOS[i] = new AtomicLong();
+            STAGE_RUNS[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * The context built for the most recent event, so the {@code HIGHEST} and
+     * {@code NORMAL} listeners of one event share it. Matched by event identity and
+     * published by a single reference write; a miss just builds a fresh context.
+     * Dropped once the {@code NORMAL} listener is done with it, and on logout / server
+     * stop for a cancelled event that never reached it, so it never pins a caster.
+     */
+    private static volatile IronsCastContext last;
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public void onIronsSpellPreCastHighest(SpellPreCastEvent event) {
+        IronsCastContext ctx = contextFor(event);
+        if (ctx == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        IronsLPHandler.applyPreCast(ctx, event);
+        record(Stage.LP_STAGE, start);
+    }
+
+    @SubscribeEvent
+    public void onIronsSpellPreCast(SpellPreCastEvent event) {
+        IronsCastContext ctx = contextFor(event);
+        if (ctx == null) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            IronsCooldownHandler.applyPreCast(ctx, event);
+            record(Stage.COOLDOWN, start);
+        } finally {
+            forget(ctx);
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public void onIronsSpellCastHighest(SpellOnCastEvent event) {
+        IronsCastContext ctx = contextFor(event);
+        if (ctx == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        IronsLPHandler.applyCast(ctx, event);
+        record(Stage.LP_CONSUME, start);
+    }
+
+    @SubscribeEvent
+    public void onIronsSpellCast(SpellOnCastEvent event) {
+        IronsCastContext ctx = contextFor(event);
+        if (ctx == null) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            CrossCastIronsHandler.applyCast(ctx, event);
+            start = record(Stage.CROSS_CAST_COST, start);
+            if (ctx.serverPlayer == null) {
+                // Affinity and progression are server-side state.
+                return;
+            }
+            IronsAffinityHandler.applyCast(ctx);
+            start = record(Stage.AFFINITY, start);
+            IronsProgressionHandler.applyCast(ctx);
+            record(Stage.PROGRESSION, start);
+        } finally {
+            forget(ctx);
+        }
+    }
+
+    @SubscribeEvent
+    public void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        IronsCastContext ctx = last;
+        if (ctx != null && ctx.player.getUUID().equals(event.getEntity().getUUID())) {
+            forget(ctx);
+        }
+    }
+
+    @SubscribeEvent
+    public void onServerStopped(ServerStoppedEvent event) {
+        last = null;
+    }
+
+    private static IronsCastContext contextFor(SpellPreCastEvent event) {
+        IronsCastContext ctx = last;
+        if (ctx != null && ctx.event == event) {
+            return ctx;
+        }
+        if (event.getEntity() == null) {
+            return null;
+        }
+        return remember(new IronsCastContext(event, event.getEntity(), event.getSpellId(),
+            event.getSpellLevel(), event.getSchoolType() == null ? null : event.getSchoolType().getId()));
+    }
+
+    private static IronsCastContext contextFor(SpellOnCastEvent event) {
+        IronsCastContext ctx = last;
+        if (ctx != null && ctx.event == event) {
+            return ctx;
+        }
+        if (event.getEntity() == null) {
+            return null;
+        }
+        return remember(new IronsCastContext(event, event.getEntity(), event.getSpellId(),
+            event.getSpellLevel(), event.getSchoolType() == null ? null : event.getSchoolType().getId()));
+    }
+
+    private static IronsCastContext remember(IronsCastContext ctx) {
+        contexts.incrementAndGet();
+        last = ctx;
+        return ctx;
+    }
+
+    /** Clear {@link #last} if it is still {@code ctx}; a newer event's context is kept. */
+    private static void forget(IronsCastContext ctx) {
+        if (last == ctx) {
+            last = null;
+        }
+    }
+
+    private static long record(Stage stage, long start) {
+        long end = System.nanoTime();
+        STAGE_NANOS[stage.ordinal()].addAndGet(end - start);
+        STAGE_RUNS[stage.ordinal()].incrementAndGet();
+        return end;
+    }
+
+    public static String getStats() {
+        StringBuilder sb = new StringBuilder("Iron's cast pipeline: ").append(contexts.get()).append(" contexts");
+        for (Stage stage : STAGES) {
+            long runs = STAGE_RUNS[stage.ordinal()].get();
+            long nanos = STAGE_NANOS[stage.ordinal()].get();
+            sb.append(String.format(", %s %d runs / %.1f us avg", stage.name().toLowerCase(Locale.ROOT),
+                runs, runs == 0 ? 0.0 : nanos / 1000.0 / runs));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Everything the stages share for one Iron's cast event. The registry lookup,
+     * rarity and Cursed Ring check are resolved on first use, so a cast that no
+     * stage needs them for pays for none of them. The config snapshot is the one
+     * current when the context was built.
+     */
+    public static final class IronsCastContext {
+        private final Event event;
+        public final Player player;
+        /** The caster on the logical server, or {@code null} for a client-side event. */
+        public final ServerPlayer serverPlayer;
+        public final String spellId;
+        public final int spellLevel;
+        /** The Iron's school id, e.g. {@code irons_spellbooks:fire}; may be {@code null}. */
+        public final ResourceLocation schoolId;
+        public final AnsConfigSnapshot config;
+
+        private boolean spellResolved;
+        private AbstractSpell spell;
+        private boolean rarityResolved;
+        private SpellRarity rarity;
+        private Boolean wearingCursedRing;
+
+        IronsCastContext(Event event, Player player, String spellId, int spellLevel, ResourceLocation schoolId) {
+            this.event = event;
+            this.player = player;
+            this.serverPlayer = player instanceof ServerPlayer sp ? sp : null;
+            this.spellId = spellId;
+            this.spellLevel = spellLevel;
+            this.schoolId = schoolId;
+            this.config = AnsConfigSnapshot.get();
+        }
+
+        /** The registered spell, or {@code null} if the id is unknown. */
+        public AbstractSpell spell() {
+            if (!spellResolved) {
+                spell = SpellRegistry.getSpell(spellId);
+                spellResolved = true;
+            }
+            return spell;
+        }
+
+        /** The spell's rarity at this cast's level, or {@code null}. */
+        public SpellRarity rarity() {
+            if (!rarityResolved) {
+                AbstractSpell s = spell();
+                rarity = s == null ? null : s.getRarity(spellLevel);
+                rarityResolved = true;
+            }
+            return rarity;
+        }
+
+        /** Whether the caster wears a Sanctified Legacy Cursed Ring. */
+        public boolean wearingCursedRing() {
+            if (wearingCursedRing == null) {
+                wearingCursedRing = SanctifiedLegacyCompat.isWearingCursedRing(player);
+            }
+            return wearingCursedRing;
+        }
+
+        /** The lowercase school path ({@code "fire"}), or {@code null} if there is none. */
+        public String schoolPath() {
+            if (schoolId == null || schoolId.getPath().isEmpty()) {
+                return null;
+            }
+            return schoolId.getPath().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -1,52 +1,71 @@
 package com.otectus.arsnspells.events;
 
-import com.otectus.arsnspells.config.AnsConfig;
 import com.otectus.arsnspells.cooldown.CooldownCategory;
+import com.otectus.arsnspells.cooldown.CooldownPrediction;
 import com.otectus.arsnspells.cooldown.SpellCategorizer;
 import com.otectus.arsnspells.cooldown.UnifiedCooldownManager;
-import com.otectus.arsnspells.network.CooldownSyncPacket;
-import com.otectus.arsnspells.network.PacketHandler;
 import io.redspace.ironsspellbooks.api.events.SpellPreCastEvent;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 
+/**
+ * Unified cooldowns for Iron's Spellbooks casts. Runs as the {@code NORMAL}-priority
+ * PreCast stage of {@link IronsCastPipeline}, after LP staging.
+ */
 public class IronsCooldownHandler {
     /**
-     * ANS-LOW-032: renamed from {@code onIronsSpellCast} because the handler listens
-     * to {@code SpellPreCastEvent}, not {@code SpellOnCastEvent}. Forge auto-discovers
-     * {@code @SubscribeEvent} methods by signature, so the rename is transparent to
-     * the event bus.
+     * ANS-LOW-032: this stage belongs on {@code SpellPreCastEvent}, not
+     * {@code SpellOnCastEvent}, so a cooldown rejection cancels the cast before
+     * Iron's charges mana.
      */
-    @SubscribeEvent
-    public void onIronsSpellPreCast(SpellPreCastEvent event) {
+    static void applyPreCast(IronsCastPipeline.IronsCastContext ctx, SpellPreCastEvent event) {
         // CRITICAL FIX: Do NOT apply unified cooldowns to Iron's Spellbooks
         // Iron's has its own internal cooldown system that should not be interfered with
         // Only apply unified cooldowns if explicitly configured for cross-mod cooldowns
         
-        if (!AnsConfig.ENABLE_COOLDOWN_SYSTEM.get()) {
+        if (!ctx.config.enableCooldownSystem) {
             return;
         }
         
         // Only apply if cross-mod cooldowns are explicitly enabled
-        if (!AnsConfig.ENABLE_CROSS_MOD_COOLDOWNS.get()) {
+        if (!ctx.config.enableCrossModCooldowns) {
             return;
         }
         
-        Player player = event.getEntity();
-        if (player == null || event.getSchoolType() == null) {
+        Player player = ctx.player;
+        if (ctx.schoolId == null) {
             return;
         }
         
-        CooldownCategory category = SpellCategorizer.categorizeIronsSpell(event.getSchoolType().getId());
+        if (UnifiedCooldownManager.isPerSpellEnabled()) {
+            // Per-spell mode is server-only: no category HUD bar to predict or sync.
+            if (ctx.serverPlayer != null) {
+                if (UnifiedCooldownManager.isSpellOnCooldown(ctx.serverPlayer, ctx.spellId)) {
+                    event.setCanceled(true);
+                } else {
+                    UnifiedCooldownManager.applySpellCooldown(ctx.serverPlayer, ctx.spellId, false);
+                }
+            }
+            return;
+        }
+
+        CooldownCategory category = SpellCategorizer.categorizeIronsSpell(ctx.schoolId);
 
         // Cooldowns are global per category — an Iron's OFFENSIVE cast collides with an
         // Ars OFFENSIVE cast and vice versa. This is the documented behavior in 1.9.0+.
         if (UnifiedCooldownManager.isOnCooldown(player, category)) {
             event.setCanceled(true);
+            if (player instanceof ServerPlayer serverPlayer) {
+                UnifiedCooldownManager.syncRejectedCast(serverPlayer, CooldownPrediction.Source.IRONS, category);
+            }
+        } else if (player.level().isClientSide()) {
+            // Local cast: predict the HUD cooldown now. Display-only — the server decides.
+            UnifiedCooldownManager.predictClientCooldown(player, category, CooldownPrediction.Source.IRONS);
         } else {
             long cooldownEnd = UnifiedCooldownManager.applyCooldownAndGetEnd(player, category, false);
-            if (!player.level().isClientSide() && player instanceof net.minecraft.server.level.ServerPlayer serverPlayer) {
-                PacketHandler.sendToClient(new CooldownSyncPacket(category, cooldownEnd), serverPlayer);
+            if (player instanceof ServerPlayer serverPlayer) {
+                UnifiedCooldownManager.syncAppliedCooldown(serverPlayer, CooldownPrediction.Source.IRONS,
+                    category, cooldownEnd);
             }
         }
     }
@@ -1,17 +1,14 @@
 package com.otectus.arsnspells.events;
 
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
-import com.otectus.arsnspells.config.AnsConfig;
 import io.redspace.ironsspellbooks.api.events.SpellOnCastEvent;
 import io.redspace.ironsspellbooks.api.events.SpellPreCastEvent;
-import io.redspace.ironsspellbooks.api.registry.SpellRegistry;
 import io.redspace.ironsspellbooks.api.spells.AbstractSpell;
 import io.redspace.ironsspellbooks.api.spells.SpellRarity;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
-import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +23,10 @@ import java.util.concurrent.ConcurrentLinkedDeque;
  * Handles Cursed Ring LP consumption for Iron's Spellbooks spells.
  * Mirrors Ars Nouveau Cursed Ring behavior across all modes.
  *
+ * The PreCast staging and OnCast consumption run as the {@code HIGHEST}-priority
+ * stages of {@link IronsCastPipeline}; this class still listens for the pending-cost
+ * sweep and logout eviction.
+ *
  * NOT @Mod.EventBusSubscriber — would auto-load this class (which imports Iron's
  * APIs) on Iron's-less servers and crash at classload. Registered as an instance
  * by ArsNSpells behind ModList.isLoaded("irons_spellbooks").
@@ -51,20 +52,18 @@ public class IronsLPHandler {
      * Validate LP cost for Iron's spells.
      * This runs BEFORE the spell actually casts.
      */
-    @SubscribeEvent(priority = EventPriority.HIGHEST)
-    public void onIronsSpellPreCast(SpellPreCastEvent event) {
-        Player player = event.getEntity();
+    static void applyPreCast(IronsCastPipeline.IronsCastContext ctx, SpellPreCastEvent event) {
+        Player player = ctx.player;
         // Guard the per-cast entry trace: this fires for EVERY Iron's cast by every
         // player (before the ring check below), and the args (getName().getString())
         // would allocate on the hot path even with DEBUG off.
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("[IronsLPHandler] PreCast event received from Iron's (player={}, spell={}, level={}, side={})",
-                player == null ? "null" : player.getName().getString(),
-                event.getSpellId(), event.getSpellLevel(),
-                player == null ? "?" : (player.level().isClientSide() ? "CLIENT" : "SERVER"));
+                player.getName().getString(), ctx.spellId, ctx.spellLevel,
+                player.level().isClientSide() ? "CLIENT" : "SERVER");
         }
 
-        if (player == null || player.level().isClientSide()) {
+        if (player.level().isClientSide()) {
             return;
         }
 
@@ -73,12 +72,12 @@ public class IronsLPHandler {
             return;
         }
 
-        if (!AnsConfig.ENABLE_LP_SYSTEM.get()) {
+        if (!ctx.config.enableLpSystem) {
             LOGGER.debug("[IronsLPHandler] PreCast skip: enable_lp_system=false");
             return;
         }
 
-        if (!SanctifiedLegacyCompat.isWearingCursedRing(player)) {
+        if (!ctx.wearingCursedRing()) {
             // Don't log per-cast for non-ring wearers — too noisy.
             return;
         }
@@ -88,23 +87,23 @@ public class IronsLPHandler {
             return;
         }
 
-        AbstractSpell spell = SpellRegistry.getSpell(event.getSpellId());
+        AbstractSpell spell = ctx.spell();
         if (spell == null) {
-            LOGGER.warn("[IronsLPHandler] Spell not found in registry: {}", event.getSpellId());
+            LOGGER.warn("[IronsLPHandler] Spell not found in registry: {}", ctx.spellId);
             return;
         }
 
-        int spellLevel = event.getSpellLevel();
+        int spellLevel = ctx.spellLevel;
         int manaCost = spell.getManaCost(spellLevel);
         if (manaCost <= 0) {
-            LOGGER.debug("[IronsLPHandler] PreCast: zero-cost spell {} — skipping LP charge", event.getSpellId());
+            LOGGER.debug("[IronsLPHandler] PreCast: zero-cost spell {} — skipping LP charge", ctx.spellId);
             return;
         }
 
-        SpellRarity rarity = spell.getRarity(spellLevel);
+        SpellRarity rarity = ctx.rarity();
         if (rarity == null) {
             LOGGER.warn("[IronsLPHandler] Null rarity for spell {} level {} - skipping LP cost",
-                event.getSpellId(), spellLevel);
+                ctx.spellId, spellLevel);
             return;
         }
         int lpCost = SanctifiedLegacyCompat.calculateIronsLPCost(manaCost, spellLevel, rarity.name());
@@ -112,11 +111,11 @@ public class IronsLPHandler {
         boolean hasEnough = SanctifiedLegacyCompat.hasEnoughLP(player, lpCost);
 
         LOGGER.debug("[IronsLPHandler] PreCast fired: player={}, spell={}, level={}, rarity={}, mana={}, lpCost={}, sufficient={}, deathMode={}",
-            player.getName().getString(), event.getSpellId(), spellLevel, rarity.name(),
-            manaCost, lpCost, hasEnough, AnsConfig.DEATH_ON_INSUFFICIENT_LP.get());
+            player.getName().getString(), ctx.spellId, spellLevel, rarity.name(),
+            manaCost, lpCost, hasEnough, ctx.config.deathOnInsufficientLp);
 
         if (!hasEnough) {
-            if (AnsConfig.DEATH_ON_INSUFFICIENT_LP.get()) {
+            if (ctx.config.deathOnInsufficientLp) {
                 // Allow cast; death penalty handled on cast
                 stage(player.getUUID(), new PendingIronsLP(lpCost, manaCost, System.currentTimeMillis()));
                 LPDeathPrevention.markSpellCast(player);
@@ -132,7 +131,7 @@ public class IronsLPHandler {
             // Apply minor health penalty silently (bypasses damage events entirely)
             SanctifiedLegacyCompat.applySilentHealthLoss(player, 2.0f);
 
-            if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+            if (ctx.config.showLpCostMessages) {
                 player.displayClientMessage(
                     Component.literal(ChatFormatting.RED + "Insufficient LP - Spell Cancelled"),
                     true
@@ -150,19 +149,17 @@ public class IronsLPHandler {
     /**
      * Consume LP when the spell actually casts.
      */
-    @SubscribeEvent(priority = EventPriority.HIGHEST)
-    public void onIronsSpellCast(SpellOnCastEvent event) {
-        Player player = event.getEntity();
+    static void applyCast(IronsCastPipeline.IronsCastContext ctx, SpellOnCastEvent event) {
+        Player player = ctx.player;
         int manaCostBefore = event.getManaCost();
         // Hot-path entry trace (fires for every Iron's cast) — gate so the String args
         // are only built when DEBUG is actually enabled.
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("[IronsLPHandler] OnCast event received from Iron's (player={}, spell={}, manaCost={})",
-                player == null ? "null" : player.getName().getString(),
-                event.getSpellId(), manaCostBefore);
+                player.getName().getString(), ctx.spellId, manaCostBefore);
         }
 
-        if (player == null || player.level().isClientSide()) {
+        if (player.level().isClientSide()) {
             return;
         }
 
@@ -170,11 +167,11 @@ public class IronsLPHandler {
             return;
         }
 
-        if (!AnsConfig.ENABLE_LP_SYSTEM.get()) {
+        if (!ctx.config.enableLpSystem) {
             return;
         }
 
-        if (!SanctifiedLegacyCompat.isWearingCursedRing(player)) {
+        if (!ctx.wearingCursedRing()) {
             return;
         }
 
@@ -209,14 +206,14 @@ public class IronsLPHandler {
 
         boolean success = SanctifiedLegacyCompat.consumeLP(player, pending.lpCost);
         LOGGER.debug("[IronsLPHandler] OnCast fired: player={}, spell={}, pending={}, consumed={}, manaCostBefore={}, manaCostAfter=0",
-            player.getName().getString(), event.getSpellId(), pending.lpCost, success, manaCostBefore);
+            player.getName().getString(), ctx.spellId, pending.lpCost, success, manaCostBefore);
         if (!success) {
             LOGGER.warn("[IronsLPHandler] LP consumption failed for {}", player.getName().getString());
 
-            if (AnsConfig.DEATH_ON_INSUFFICIENT_LP.get()) {
+            if (ctx.config.deathOnInsufficientLp) {
                 LOGGER.warn("Death penalty enabled - player will die but spell will cast");
                 player.hurt(player.damageSources().magic(), Float.MAX_VALUE);
-                if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+                if (ctx.config.showLpCostMessages) {
                     player.displayClientMessage(
                         Component.literal(
                             ChatFormatting.DARK_RED.toString() + ChatFormatting.BOLD
@@ -232,7 +229,7 @@ public class IronsLPHandler {
             LPDeathPrevention.setLPImmune(player);
             event.setCanceled(true);
             SanctifiedLegacyCompat.applySilentHealthLoss(player, 2.0f);
-            if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+            if (ctx.config.showLpCostMessages) {
                 player.displayClientMessage(
                     Component.literal(ChatFormatting.RED + "Insufficient LP - Spell Cancelled"),
                     true
@@ -244,7 +241,7 @@ public class IronsLPHandler {
             return;
         }
 
-        if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+        if (ctx.config.showLpCostMessages) {
             player.displayClientMessage(
                 Component.literal(ChatFormatting.GOLD + "Consumed " + pending.lpCost + " LP"),
                 true
@@ -1,6 +1,6 @@
 package com.otectus.arsnspells.events;
 
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
@@ -95,12 +95,12 @@ public class LPDeathPrevention {
             return;
         }
 
-        if (!AnsConfig.ENABLE_LP_SYSTEM.get()) {
+        if (!AnsConfigSnapshot.get().enableLpSystem) {
             return;
         }
 
         // Only intercept if death penalty is disabled (safe mode)
-        if (AnsConfig.DEATH_ON_INSUFFICIENT_LP.get()) {
+        if (AnsConfigSnapshot.get().deathOnInsufficientLp) {
             return;
         }
 
@@ -138,11 +138,11 @@ public class LPDeathPrevention {
             return;
         }
 
-        if (!AnsConfig.ENABLE_LP_SYSTEM.get()) {
+        if (!AnsConfigSnapshot.get().enableLpSystem) {
             return;
         }
 
-        if (AnsConfig.DEATH_ON_INSUFFICIENT_LP.get()) {
+        if (AnsConfigSnapshot.get().deathOnInsufficientLp) {
             return;
         }
 
@@ -159,7 +159,7 @@ public class LPDeathPrevention {
             player.setHealth(2.0f);
             clearLPImmune(player);
 
-            if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+            if (AnsConfigSnapshot.get().showLpCostMessages) {
                 player.displayClientMessage(
                     Component.literal("\u00a7cInsufficient LP - Spell Cancelled"),
                     true
@@ -1,10 +1,8 @@
 package com.otectus.arsnspells.events;
 
-import com.hollingsworth.arsnouveau.api.event.SpellCastEvent;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.data.ProgressionData;
 import com.otectus.arsnspells.progression.ProgressionAttributes;
-import com.otectus.arsnspells.util.SpellAnalysis;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -14,24 +12,29 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
  * that grant a transient bonus to the matching Iron's Spellbooks
  * {@code <school>_spell_power} attribute. The Iron's-side mirror lives in
  * {@link IronsProgressionHandler} and shares storage via {@link ProgressionData}
- * and modifier UUID via {@link ProgressionAttributes}.
+ * and modifier UUID via {@link ProgressionAttributes}. The cast side runs as a stage
+ * of {@link ArsCastPipeline}; this class still listens for the login, respawn and
+ * dimension-change reapplication.
  */
 public class ProgressionHandler {
 
-    @SubscribeEvent
-    public void onArsSpellCast(SpellCastEvent event) {
-        if (!AnsConfig.ENABLE_PROGRESSION_SYSTEM.get() || !AnsConfig.ENABLE_CROSS_MOD_PROGRESSION.get()) {
+    static void applyCast(ArsCastPipeline.CastContext ctx) {
+        if (!ctx.config.enableProgressionSystem || !ctx.config.enableCrossModProgression) {
             return;
         }
-        if (event.getEntity() instanceof ServerPlayer player) {
-            String school = SpellAnalysis.analyze(event.spell).dominantSchool();
-            if (!"generic".equals(school)) {
-                player.getCapability(ProgressionData.PROGRESSION_DATA).ifPresent(data -> {
-                    data.incrementCastCount(school);
-                    ProgressionAttributes.applyTransientBonus(player, school, data.getBonusForSchool(school));
-                });
-            }
+        String school = ctx.analysis().dominantSchool();
+        if ("generic".equals(school)) {
+            return;
         }
+        ctx.progression().ifPresent(data -> {
+            data.incrementCastCount(school);
+            // Rewriting the modifier marks the attribute for client sync; skip it
+            // until the bonus has moved by a whole quantum.
+            double bonus = data.getBonusForSchool(school);
+            if (data.takeBonusUpdate(school, bonus)) {
+                ProgressionAttributes.applyTransientBonus(ctx.serverPlayer, school, bonus);
+            }
+        });
     }
 
     /**
@@ -68,13 +71,17 @@ public class ProgressionHandler {
     }
 
     private void reapplyAllBonuses(ServerPlayer player) {
-        if (!AnsConfig.ENABLE_PROGRESSION_SYSTEM.get() || !AnsConfig.ENABLE_CROSS_MOD_PROGRESSION.get()) {
+        if (!AnsConfigSnapshot.get().enableProgressionSystem || !AnsConfigSnapshot.get().enableCrossModProgression) {
             return;
         }
         player.getCapability(ProgressionData.PROGRESSION_DATA).ifPresent(data -> {
+            // The entity's attributes may be fresh: apply the exact current bonus and
+            // restart quantization from it.
+            data.clearAppliedBonuses();
             data.getAllCastCounts().forEach((school, count) -> {
                 double bonus = data.getBonusForSchool(school);
                 if (bonus > 0) {
+                    data.recordAppliedBonus(school, bonus);
                     ProgressionAttributes.applyTransientBonus(player, school, bonus);
                 }
             });
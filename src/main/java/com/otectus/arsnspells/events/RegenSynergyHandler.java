@@ -1,7 +1,7 @@
 package com.otectus.arsnspells.events;
 
 import com.otectus.arsnspells.bridge.BridgeManager;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.util.ChunkScanUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceKey;
@@ -37,6 +37,10 @@ public class RegenSynergyHandler {
     private static final long SLOW_SCAN_WARN_NANOS = 5_000_000L; // 5 ms
     private static long lastDebugLogGameTime = Long.MIN_VALUE;
 
+    // Reused by every check instead of a key array per scan; player ticks run on the
+    // server main thread (ANS-MED-013).
+    private static final ChunkScanUtil.ScanBox SCAN_BOX = new ChunkScanUtil.ScanBox();
+
     /** Audit D4: log the first boost failure per session so a broken bridge isn't invisible. */
     private static final java.util.concurrent.atomic.AtomicBoolean loggedBoostFailure =
         new java.util.concurrent.atomic.AtomicBoolean(false);
@@ -49,12 +53,14 @@ public class RegenSynergyHandler {
         if (!BridgeManager.isUnificationEnabled()) {
             return;
         }
+        // One snapshot for the whole tick: five values are read below.
+        AnsConfigSnapshot cfg = AnsConfigSnapshot.get();
         // ANS-CRIT-005 follow-up: server-owner kill switch for this feature only.
-        if (!AnsConfig.ENABLE_SOURCE_JAR_SYNERGY.get()) {
+        if (!cfg.enableSourceJarSynergy) {
             return;
         }
 
-        int scanInterval = Math.max(1, AnsConfig.SOURCE_JAR_SCAN_INTERVAL_TICKS.get());
+        int scanInterval = Math.max(1, cfg.sourceJarScanIntervalTicks);
         if (event.phase == TickEvent.Phase.END && !event.player.level().isClientSide() && event.player.tickCount % scanInterval == 0) {
             Player player = event.player;
             Level level = player.level();
@@ -63,7 +69,7 @@ public class RegenSynergyHandler {
             // Check cache: only re-scan if player moved beyond threshold
             UUID playerId = player.getUUID();
             SourceJarCache cached = sourceJarCacheMap.get(playerId);
-            double threshold = AnsConfig.SOURCE_JAR_CACHE_MOVE_THRESHOLD.get();
+            double threshold = cfg.sourceJarCacheMoveThreshold;
             double thresholdSq = threshold * threshold;
 
             boolean needsScan = cached == null
@@ -71,15 +77,16 @@ public class RegenSynergyHandler {
                 || pos.distSqr(cached.scanPosition) > thresholdSq;
 
             // Defensive clamp even though the config spec already enforces 1..8.
-            int radius = Math.min(8, Math.max(1, AnsConfig.SOURCE_JAR_SCAN_RADIUS.get()));
+            int radius = Math.min(8, Math.max(1, cfg.sourceJarScanRadius));
 
             boolean nearSource;
             if (needsScan) {
                 // ANS-CRIT-005: never scan while the covered chunks are still loading.
-                // getBlockState on an unloaded chunk forces a synchronous chunk load on
-                // the server thread (ServerChunkCache.getChunkBlocking), which deadlocked
-                // 2.6.1 during login/teleport chunk streaming. Skip the cycle and leave
-                // the cache untouched so the scan retries next second once chunks arrive;
+                // The old block scan would have forced a synchronous chunk load
+                // (ServerChunkCache.getChunkBlocking, the 2.6.1 login deadlock); the
+                // SourceJarIndex lookup cannot, but an unloaded chunk has no bucket yet
+                // and would read as jar-free. Skip the cycle and leave the cache
+                // untouched so the check retries next second once chunks arrive;
                 // caching a result now would pin a false negative for the whole move
                 // threshold. The guard stays all-or-nothing rather than scanning loaded
                 // chunks individually: a partial scan result cannot be cached safely
@@ -110,13 +117,12 @@ public class RegenSynergyHandler {
 
             if (nearSource) {
                 try {
-                    float boost = AnsConfig.CONVERSION_RATE_ARS_TO_IRON.get().floatValue()
-                        * AnsConfig.SOURCE_JAR_SYNERGY_MULTIPLIER.get().floatValue();
-                    com.otectus.arsnspells.bridge.IManaBridge bridge =
-                        com.otectus.arsnspells.bridge.BridgeManager.getBridge();
-                    float current = bridge.getMana(player);
-                    float max = bridge.getMaxMana(player);
-                    bridge.setMana(player, Math.min(current + boost, max));
+                    float boost = (float) cfg.conversionRateArsToIron
+                        * (float) cfg.sourceJarSynergyMultiplier;
+                    // Staged in the ledger: coalesces with this tick's cast debits and
+                    // ritual grants into one write, clamped to max at flush.
+                    com.otectus.arsnspells.bridge.ManaLedger.credit(player,
+                        com.otectus.arsnspells.bridge.BridgeManager.getBridge(), boost);
                 } catch (Exception e) {
                     // Degrade to no synergy boost if the bridge is unavailable, but say so
                     // once: a silent catch here masked "synergy does nothing" regressions
@@ -149,20 +155,25 @@ public class RegenSynergyHandler {
     // non-loading lookup; the coverage math lives in ChunkScanUtil so it can be
     // unit-tested without a Minecraft bootstrap.
     private static boolean areScanChunksLoaded(Level level, BlockPos pos, int radius) {
-        for (long key : ChunkScanUtil.coveredChunkKeys(pos.getX(), pos.getZ(), radius)) {
-            if (!level.hasChunk(ChunkScanUtil.chunkX(key), ChunkScanUtil.chunkZ(key))) {
-                return false;
+        ChunkScanUtil.ScanBox box = scanBox(level, pos, radius);
+        for (int cx = box.minChunkX; cx <= box.maxChunkX; cx++) {
+            for (int cz = box.minChunkZ; cz <= box.maxChunkZ; cz++) {
+                if (!level.hasChunk(cx, cz)) {
+                    return false;
+                }
             }
         }
         return true;
     }
 
+    private static ChunkScanUtil.ScanBox scanBox(Level level, BlockPos pos, int radius) {
+        int minY = Math.max(pos.getY() - 1, level.getMinBuildHeight());
+        int maxY = Math.min(pos.getY() + 2, level.getMaxBuildHeight() - 1);
+        return SCAN_BOX.set(pos.getX(), pos.getZ(), radius, minY, maxY);
+    }
+
     private static boolean isDebugMode() {
-        try {
-            return AnsConfig.DEBUG_MODE != null && AnsConfig.DEBUG_MODE.get();
-        } catch (IllegalStateException e) {
-            return false; // config not yet loaded
-        }
+        return AnsConfigSnapshot.get().debugMode;
     }
 
     /** Rate-limited counter summary; counters only, never per-block logging. */
@@ -179,20 +190,11 @@ public class RegenSynergyHandler {
             scansRun.getAndSet(0), scansSkippedUnloaded.getAndSet(0), jarsFound.getAndSet(0));
     }
 
+    // Audit F-2: tag-driven (ars_n_spells:source_jars, datapack-extensible). The
+    // tagged positions are indexed per chunk by SourceJarIndex, so this is at most
+    // four bucket lookups rather than a block-state read per position in the volume.
     private static boolean scanForSourceJar(Level level, BlockPos pos, int radius) {
-        int minY = Math.max(pos.getY() - 1, level.getMinBuildHeight());
-        int maxY = Math.min(pos.getY() + 2, level.getMaxBuildHeight() - 1);
-        BlockPos min = new BlockPos(pos.getX() - radius, minY, pos.getZ() - radius);
-        BlockPos max = new BlockPos(pos.getX() + radius, maxY, pos.getZ() + radius);
-        for (BlockPos checkPos : BlockPos.betweenClosed(min, max)) {
-            // Audit F-2: tag-driven (ars_n_spells:source_jars, datapack-extensible)
-            // instead of a per-block registry-key lookup + substring match — also
-            // cheaper: BlockState.is(TagKey) is a set lookup with no allocation.
-            if (level.getBlockState(checkPos).is(com.otectus.arsnspells.registry.ModTags.SOURCE_JARS)) {
-                return true;
-            }
-        }
-        return false;
+        return SourceJarIndex.anyNear(level, scanBox(level, pos, radius));
     }
 
     private static class SourceJarCache {
@@ -1,7 +1,7 @@
 package com.otectus.arsnspells.events;
 
 import com.otectus.arsnspells.augmentation.ResonanceManager;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.network.PacketHandler;
 import com.otectus.arsnspells.network.ResonanceSyncPacket;
 import net.minecraft.server.level.ServerPlayer;
@@ -20,7 +20,7 @@ public class ResonanceEvents {
 
     @SubscribeEvent
     public void onPlayerTick(TickEvent.PlayerTickEvent event) {
-        if (!AnsConfig.ENABLE_RESONANCE_SYSTEM.get() || !ModList.get().isLoaded("irons_spellbooks")) {
+        if (!AnsConfigSnapshot.get().enableResonanceSystem || !ModList.get().isLoaded("irons_spellbooks")) {
             return;
         }
         if (event.phase == TickEvent.Phase.END
@@ -53,7 +53,7 @@ public class ResonanceEvents {
 
     @SubscribeEvent
     public void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
-        if (!AnsConfig.ENABLE_RESONANCE_SYSTEM.get() || !ModList.get().isLoaded("irons_spellbooks")) {
+        if (!AnsConfigSnapshot.get().enableResonanceSystem || !ModList.get().isLoaded("irons_spellbooks")) {
             return;
         }
         if (event.getEntity() instanceof ServerPlayer player) {
@@ -0,0 +1,236 @@
+package com.otectus.arsnspells.events;
+
+import com.otectus.arsnspells.registry.ModTags;
+import com.otectus.arsnspells.util.ChunkBucketIndex;
+import com.otectus.arsnspells.util.ChunkScanUtil;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.server.ServerLifecycleHooks;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-dimension index of {@code ars_n_spells:source_jars}-tagged block positions,
+ * bucketed by chunk ({@link ChunkBucketIndex}). {@link RegenSynergyHandler} asks
+ * {@link #anyNear} instead of reading a 17×4×17 block volume per player, so a crowded
+ * hub costs a few bucket lookups per check and never touches block states.
+ *
+ * <p>Maintenance, all server side:
+ * <ul>
+ *   <li>chunk load: the chunk's sections are scanned once into its bucket, skipping
+ *       every section whose block-state palette holds no tagged state;</li>
+ *   <li>neighbour notify: the changed position is re-tested against the tag. Both
+ *       placing and breaking fire it once the block has actually changed;
+ *       {@code EntityPlaceEvent} and {@code BreakEvent} run before that and may still
+ *       be cancelled by a protection mod, which would leave a phantom entry;</li>
+ *   <li>chunk unload / level unload / server stop: the bucket or dimension is dropped;</li>
+ *   <li>tag reload: the tagged state set is recomputed and every indexed chunk still
+ *       loaded is rescanned, since a datapack may have changed which blocks count.</li>
+ * </ul>
+ * Unloaded chunks have no bucket, so the caller must still check chunk coverage before
+ * caching a negative result.
+ *
+ * <p>NOT @Mod.EventBusSubscriber: the index only serves the Iron's-gated synergy, so
+ * ArsNSpells registers an instance next to {@link RegenSynergyHandler}. Server main
+ * thread only (ANS-MED-013).
+ */
+public class SourceJarIndex {
+
+    private static final Map<ResourceKey<Level>, ChunkBucketIndex> BY_DIMENSION = new ConcurrentHashMap<>();
+
+    private static final AtomicLong chunksScanned = new AtomicLong();
+    private static final AtomicLong sectionsScanned = new AtomicLong();
+    private static final AtomicLong sectionsSkipped = new AtomicLong();
+    private static final AtomicLong blockUpdates = new AtomicLong();
+    private static final AtomicLong rebuilds = new AtomicLong();
+
+    /**
+     * Every block state in {@code ars_n_spells:source_jars}, so a chunk scan can ask a
+     * section's palette whether it may hold one before reading any position. Rebuilt on
+     * each tag reload; {@code null} until first use.
+     */
+    private static volatile Set<BlockState> taggedStates;
+
+    /** Whether any indexed Source Jar lies inside {@code box}. */
+    public static boolean anyNear(Level level, ChunkScanUtil.ScanBox box) {
+        ChunkBucketIndex index = BY_DIMENSION.get(level.dimension());
+        return index != null && index.anyWithin(box);
+    }
+
+    @SubscribeEvent
+    public void onChunkLoad(ChunkEvent.Load event) {
+        if (!(event.getLevel() instanceof ServerLevel level) || !(event.getChunk() instanceof LevelChunk chunk)) {
+            return;
+        }
+        index(level).indexChunk(chunk.getPos().toLong(), scanChunk(chunk));
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+        ChunkBucketIndex index = BY_DIMENSION.get(level.dimension());
+        if (index != null) {
+            index.dropChunk(event.getChunk().getPos().toLong());
+        }
+    }
+
+    @SubscribeEvent
+    public void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        update(event.getLevel(), event.getPos(), event.getState());
+    }
+
+    @SubscribeEvent
+    public void onTagsUpdated(TagsUpdatedEvent event) {
+        if (event.getUpdateCause() != TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            return;
+        }
+        taggedStates = collectTaggedStates();
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            return;
+        }
+        for (ServerLevel level : server.getAllLevels()) {
+            ChunkBucketIndex index = BY_DIMENSION.get(level.dimension());
+            if (index == null) {
+                continue;
+            }
+            for (long key : index.indexedChunks()) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(
+                    ChunkScanUtil.chunkX(key), ChunkScanUtil.chunkZ(key));
+                if (chunk == null) {
+                    index.dropChunk(key);
+                } else {
+                    index.indexChunk(key, scanChunk(chunk));
+                }
+            }
+        }
+        rebuilds.incrementAndGet();
+    }
+
+    @SubscribeEvent
+    public void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            BY_DIMENSION.remove(level.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public void onServerStopped(ServerStoppedEvent event) {
+        BY_DIMENSION.clear();
+    }
+
+    private static void update(LevelAccessor accessor, BlockPos pos, BlockState state) {
+        if (!(accessor instanceof ServerLevel level)) {
+            return;
+        }
+        ChunkBucketIndex index = BY_DIMENSION.get(level.dimension());
+        if (index == null) {
+            return;
+        }
+        blockUpdates.incrementAndGet();
+        if (taggedStates().contains(state)) {
+            index.add(pos.getX(), pos.getY(), pos.getZ());
+        } else {
+            index.remove(pos.getX(), pos.getY(), pos.getZ());
+        }
+    }
+
+    private static ChunkBucketIndex index(Level level) {
+        return BY_DIMENSION.computeIfAbsent(level.dimension(), k -> new ChunkBucketIndex());
+    }
+
+    private static Set<BlockState> taggedStates() {
+        Set<BlockState> states = taggedStates;
+        if (states == null) {
+            states = collectTaggedStates();
+            taggedStates = states;
+        }
+        return states;
+    }
+
+    private static Set<BlockState> collectTaggedStates() {
+        Set<BlockState> states = new HashSet<>();
+        for (Holder<Block> block : BuiltInRegistries.BLOCK.getTagOrEmpty(ModTags.SOURCE_JARS)) {
+            states.addAll(block.value().getStateDefinition().getPossibleStates());
+        }
+        return Set.copyOf(states);
+    }
+
+    /**
+     * Packed positions of every tagged block in {@code chunk}. Each section's palette is
+     * asked first ({@link LevelChunkSection#maybeHas}); a section whose palette holds no
+     * tagged state (nearly every section of ordinary terrain) is skipped without reading
+     * a single position.
+     */
+    private static long[] scanChunk(LevelChunk chunk) {
+        chunksScanned.incrementAndGet();
+        Set<BlockState> tagged = taggedStates();
+        if (tagged.isEmpty()) {
+            return new long[0];
+        }
+        long[] found = new long[0];
+        int count = 0;
+        int baseX = chunk.getPos().getMinBlockX();
+        int baseZ = chunk.getPos().getMinBlockZ();
+        LevelChunkSection[] sections = chunk.getSections();
+        for (int i = 0; i < sections.length; i++) {
+            LevelChunkSection section = sections[i];
+            if (section == null || section.hasOnlyAir() || !section.maybeHas(tagged::contains)) {
+                sectionsSkipped.incrementAndGet();
+                continue;
+            }
+            sectionsScanned.incrementAndGet();
+            int baseY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(i));
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (tagged.contains(section.getBlockState(x, y, z))) {
+                            if (count == found.length) {
+                                found = Arrays.copyOf(found, Math.max(4, count * 2));
+                            }
+                            found[count++] = ChunkBucketIndex.pack(baseX + x, baseY + y, baseZ + z);
+                        }
+                    }
+                }
+            }
+        }
+        return count == found.length ? found : Arrays.copyOf(found, count);
+    }
+
+    public static String getStats() {
+        int chunks = 0;
+        int jars = 0;
+        for (ChunkBucketIndex index : BY_DIMENSION.values()) {
+            chunks += index.chunkCount();
+            jars += index.size();
+        }
+        return String.format("Source Jar index: %d jars in %d chunks, %d chunk scans (%d sections read, %d skipped by palette), "
+                + "%d block updates, %d tag rebuilds",
+            jars, chunks, chunksScanned.get(), sectionsScanned.get(), sectionsSkipped.get(),
+            blockUpdates.get(), rebuilds.get());
+    }
+}
@@ -1,9 +1,8 @@
 package com.otectus.arsnspells.events;
 
-import com.hollingsworth.arsnouveau.api.event.SpellCostCalcEvent;
 import com.hollingsworth.arsnouveau.api.event.SpellResolveEvent;
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
@@ -32,7 +31,8 @@ import java.util.concurrent.ConcurrentLinkedDeque;
  *
  * <p>Consumption is split across Pre and Post:
  * <ul>
- *   <li>{@code SpellCostCalcEvent}: stamps the pending aura cost and zeros the mana cost.</li>
+ *   <li>{@code SpellCostCalcEvent} (via {@link ArsCostStage}): stamps the pending aura
+ *       cost and zeros the mana cost.</li>
  *   <li>{@code SpellResolveEvent.Pre}: validation-only — re-verifies the player still wears
  *       the ring; cancels the cast and drops the pending cost if state changed.</li>
  *   <li>{@code SpellResolveEvent.Post}: actually consumes aura, since Post only fires when
@@ -54,36 +54,24 @@ public class VirtueRingHandler {
     private static final Map<UUID, Deque<PendingAuraCost>> pendingCosts = new ConcurrentHashMap<>();
 
     /**
-     * Calculate aura cost and replace mana cost when Virtue Ring is equipped.
-     * Runs at HIGHEST priority to ensure it processes before other cost modifiers.
+     * Virtue Ring step of the Ars cost stage ({@link ArsCostStage}): stamps the pending
+     * aura cost and returns 0 so Ars doesn't consume mana, or returns {@code manaCost}
+     * unchanged when the ring doesn't apply. Runs once per resolve; the stage replays the
+     * result for repeated cost-calc firings.
      */
-    @SubscribeEvent(priority = EventPriority.HIGHEST)
-    public static void onSpellCostCalc(SpellCostCalcEvent event) {
-        if (!SanctifiedLegacyCompat.isAvailable()) {
-            return;
-        }
-        if (!AnsConfig.ENABLE_VIRTUE_AURA_SYSTEM.get()) {
-            return;
-        }
-
-        LivingEntity caster = event.context != null ? event.context.getUnwrappedCaster() : null;
-        if (!(caster instanceof Player player)) {
-            return;
-        }
-
-        if (player.level().isClientSide()) {
-            return;
+    static int applyToCost(Player player, int manaCost) {
+        if (!AnsConfigSnapshot.get().enableVirtueAuraSystem) {
+            return manaCost;
         }
 
         if (!SanctifiedLegacyCompat.isWearingVirtueRing(player)) {
             // Make sure no stale entry from a previous wearing session can be consumed.
             pendingCosts.remove(player.getUUID());
-            return;
+            return manaCost;
         }
 
-        int manaCost = event.currentCost;
         if (manaCost <= 0) {
-            return;
+            return manaCost;
         }
 
         LOGGER.debug("Virtue Ring detected on {} - Spell will use Aura instead of mana",
@@ -92,7 +80,7 @@ public class VirtueRingHandler {
         // Ars has no native mapping in Covenant's getAuraCost (which expects an Iron's
         // AbstractSpell). Use the mana cost directly, scaled by the configurable
         // ARS_VIRTUE_AURA_MULTIPLIER knob (default 1.0).
-        double multiplier = AnsConfig.ARS_VIRTUE_AURA_MULTIPLIER.get();
+        double multiplier = AnsConfigSnapshot.get().arsVirtueAuraMultiplier;
         int auraCost = (int) Math.max(1, Math.round(manaCost * multiplier));
 
         LOGGER.debug("Spell will cost {} aura (base mana: {}, multiplier: {})",
@@ -105,8 +93,8 @@ public class VirtueRingHandler {
         pendingCosts.computeIfAbsent(player.getUUID(), k -> new ConcurrentLinkedDeque<>())
             .addLast(new PendingAuraCost(auraCost, player.level().getGameTime()));
 
-        // Set mana cost to 0 so Ars Nouveau doesn't consume mana
-        event.currentCost = 0;
+        // Zero so Ars Nouveau doesn't consume mana
+        return 0;
     }
 
     /**
@@ -163,7 +151,7 @@ public class VirtueRingHandler {
         if (!SanctifiedLegacyCompat.isAvailable()) {
             return;
         }
-        if (!AnsConfig.ENABLE_VIRTUE_AURA_SYSTEM.get()) {
+        if (!AnsConfigSnapshot.get().enableVirtueAuraSystem) {
             return;
         }
         if (event.context == null) {
@@ -200,7 +188,7 @@ public class VirtueRingHandler {
         if (!SanctifiedLegacyCompat.isAvailable()) {
             return;
         }
-        if (!AnsConfig.ENABLE_VIRTUE_AURA_SYSTEM.get()) {
+        if (!AnsConfigSnapshot.get().enableVirtueAuraSystem) {
             return;
         }
         if (event.context == null) {
@@ -41,7 +41,7 @@ import java.util.UUID;
  * <p>The cross-cast <em>cost</em> regressions (CRIT-002 SEPARATE-mode one-way Ars drain,
  * CRIT-004 multiplier-before-ring) are guarded in production by inline server-side
  * assertions + {@code CrossCastTrace} logging in
- * {@link CrossCastingHandler#onArsSpellCost} and {@code CrossCastIronsHandler}. They are
+ * {@link CrossCastingHandler#applyArsCrossCastCost} and {@code CrossCastIronsHandler}. They are
  * validated manually per {@code TESTING_GUIDE.md} because reproducing them requires a live
  * mana/LP/Sanctified-Legacy runtime state that the GameTest harness does not stand up;
  * they are deliberately NOT represented here as fake-passing {@code helper.succeed()} stubs.
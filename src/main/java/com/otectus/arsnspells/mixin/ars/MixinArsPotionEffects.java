@@ -3,8 +3,9 @@ package com.otectus.arsnspells.mixin.ars;
 import com.hollingsworth.arsnouveau.common.event.ManaCapEvents;
 import com.otectus.arsnspells.bridge.BridgeManager;
 import com.otectus.arsnspells.bridge.ManaRegenBridge;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
+import com.otectus.arsnspells.util.AttributeModifierSync;
 import io.redspace.ironsspellbooks.api.registry.AttributeRegistry;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.effect.MobEffect;
@@ -78,7 +79,7 @@ public abstract class MixinArsPotionEffects {
                 // arsRegenBonus is absolute mana/sec; Iron's MANA_REGEN is a percentage-of-pool
                 // multiplier. Going through ManaRegenBridge converts units; the pool conversion
                 // rate is then layered on top.
-                double conversionRate = AnsConfig.CONVERSION_RATE_ARS_TO_IRON.get();
+                double conversionRate = AnsConfigSnapshot.get().conversionRateArsToIron;
                 double absRegenPerSec = arsRegenBonus * conversionRate;
                 double ironRegenBonus = ManaRegenBridge.convertArsToIrons(absRegenPerSec, player);
 
@@ -86,19 +87,11 @@ public abstract class MixinArsPotionEffects {
                 // dirties the attribute map and forces a recompute) when the value changed.
                 // The existing modifier carries the last-applied value, so no extra state
                 // is needed — and nothing leaks for disconnected players.
-                AttributeModifier existing = regenAttr.getModifier(POTION_MANA_REGEN_ID);
-                if (existing == null || existing.getAmount() != ironRegenBonus) {
-                    regenAttr.removeModifier(POTION_MANA_REGEN_ID);
-                    regenAttr.addTransientModifier(new AttributeModifier(
-                        POTION_MANA_REGEN_ID,
-                        "Ars Potion Mana Regen",
-                        ironRegenBonus,
-                        AttributeModifier.Operation.ADDITION
-                    ));
-                }
-            } else if (regenAttr.getModifier(POTION_MANA_REGEN_ID) != null) {
-                // Remove the modifier only when one is actually present.
-                regenAttr.removeModifier(POTION_MANA_REGEN_ID);
+                AttributeModifierSync.apply(regenAttr, POTION_MANA_REGEN_ID, "Ars Potion Mana Regen",
+                    ironRegenBonus, AttributeModifier.Operation.ADDITION);
+            } else {
+                // Removes the modifier only when one is actually present.
+                AttributeModifierSync.remove(regenAttr, POTION_MANA_REGEN_ID);
             }
         } catch (Exception e) {
             // Silently fail if Iron's API is unavailable
@@ -117,22 +110,14 @@ public abstract class MixinArsPotionEffects {
             if (maxManaAttr == null) return;
 
             if (arsMaxManaBonus > 0) {
-                double conversionRate = AnsConfig.CONVERSION_RATE_ARS_TO_IRON.get();
+                double conversionRate = AnsConfigSnapshot.get().conversionRateArsToIron;
                 double ironMaxManaBonus = arsMaxManaBonus * conversionRate;
 
                 // OPT-008: skip the per-tick remove/add when the value is unchanged.
-                AttributeModifier existing = maxManaAttr.getModifier(POTION_MAX_MANA_ID);
-                if (existing == null || existing.getAmount() != ironMaxManaBonus) {
-                    maxManaAttr.removeModifier(POTION_MAX_MANA_ID);
-                    maxManaAttr.addTransientModifier(new AttributeModifier(
-                        POTION_MAX_MANA_ID,
-                        "Ars Potion Max Mana",
-                        ironMaxManaBonus,
-                        AttributeModifier.Operation.ADDITION
-                    ));
-                }
-            } else if (maxManaAttr.getModifier(POTION_MAX_MANA_ID) != null) {
-                maxManaAttr.removeModifier(POTION_MAX_MANA_ID);
+                AttributeModifierSync.apply(maxManaAttr, POTION_MAX_MANA_ID, "Ars Potion Max Mana",
+                    ironMaxManaBonus, AttributeModifier.Operation.ADDITION);
+            } else {
+                AttributeModifierSync.remove(maxManaAttr, POTION_MAX_MANA_ID);
             }
         } catch (Exception e) {
             // Silently fail
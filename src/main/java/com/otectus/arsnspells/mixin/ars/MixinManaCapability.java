@@ -34,31 +34,37 @@ public abstract class MixinManaCapability {
      * (ARS_PRIMARY mode), since {@code ArsNativeBridge.getMana()} calls
      * {@code cap.getCurrentMana()} which would trigger this mixin again.
      *
-     * <p>ANS-HIGH-010: per-player UUID set instead of a global boolean. The previous
-     * design used {@code ThreadLocal<Boolean>}, which meant ANY in-flight bridge call
-     * on the current thread blocked all other ManaCap operations for ALL players —
-     * so AoE / party-share spells that read other players' mana while one player's
-     * bridge call was active would silently fall through to native ManaCap data,
-     * bypassing the bridge.
+     * <p>ANS-HIGH-010: the guard must be scoped to ONE player. The original
+     * {@code ThreadLocal<Boolean>} meant any in-flight bridge call on the current
+     * thread blocked all other ManaCap operations for ALL players — so AoE /
+     * party-share spells that read other players' mana while one player's bridge call
+     * was active would silently fall through to native ManaCap data.
+     *
+     * <p>Each ManaCap belongs to exactly one entity, so a depth counter on the cap
+     * instance itself is per-player by construction. It replaces the
+     * {@code ThreadLocal<Set<UUID>>} that followed: every getter hit paid a ThreadLocal
+     * lookup plus UUID hashing, and the set was reallocated after each
+     * {@code ThreadLocal.remove()}. The counter allocates nothing. It is a plain int
+     * because a player's ManaCap is only touched from its side's main thread (client
+     * and server players own separate caps), and a depth rather than a boolean so a
+     * nested bridge call cannot clear an outer call's guard.
      */
     @Unique
-    private static final ThreadLocal<java.util.Set<java.util.UUID>> arsnspells$inBridgeCall =
-        ThreadLocal.withInitial(java.util.HashSet::new);
+    private int arsnspells$bridgeDepth;
 
     @Unique
-    private boolean arsnspells$enterGuard(Player player) {
-        java.util.Set<java.util.UUID> set = arsnspells$inBridgeCall.get();
-        return set.add(player.getUUID());
+    private void arsnspells$enterGuard() {
+        arsnspells$bridgeDepth++;
     }
 
     @Unique
-    private void arsnspells$exitGuard(Player player) {
-        java.util.Set<java.util.UUID> set = arsnspells$inBridgeCall.get();
-        set.remove(player.getUUID());
-        if (set.isEmpty()) {
-            // Avoid ThreadLocal leak on long-lived threads.
-            arsnspells$inBridgeCall.remove();
-        }
+    private void arsnspells$exitGuard() {
+        arsnspells$bridgeDepth--;
+    }
+
+    @Unique
+    private boolean arsnspells$inBridgeCall() {
+        return arsnspells$bridgeDepth > 0;
     }
 
     @Inject(method = "getCurrentMana", at = @At("HEAD"), cancellable = true)
@@ -66,8 +72,8 @@ public abstract class MixinManaCapability {
         if (!(this.livingEntity instanceof Player player)) {
             return;
         }
-        if (arsnspells$inBridgeCall.get().contains(player.getUUID())) {
-            return; // Recursion guard for THIS player only — let native method run
+        if (arsnspells$inBridgeCall()) {
+            return; // Recursion guard for THIS player's cap only — let native method run
         }
         if (!BridgeManager.isUnificationEnabled()) {
             return;
@@ -82,7 +88,7 @@ public abstract class MixinManaCapability {
         if (mode != null && mode.isArsPrimary()) {
             return;
         }
-        arsnspells$enterGuard(player);
+        arsnspells$enterGuard();
         try {
             double current = (double) BridgeManager.getBridge().getMana(player);
             if (mode != null && mode.isHybrid()) {
@@ -91,7 +97,7 @@ public abstract class MixinManaCapability {
             }
             cir.setReturnValue(current);
         } finally {
-            arsnspells$exitGuard(player);
+            arsnspells$exitGuard();
         }
     }
 
@@ -100,8 +106,8 @@ public abstract class MixinManaCapability {
         if (!(this.livingEntity instanceof Player player)) {
             return;
         }
-        if (arsnspells$inBridgeCall.get().contains(player.getUUID())) {
-            return; // Recursion guard for THIS player only — let native method run
+        if (arsnspells$inBridgeCall()) {
+            return; // Recursion guard for THIS player's cap only — let native method run
         }
         if (!BridgeManager.isUnificationEnabled()) {
             return;
@@ -120,11 +126,11 @@ public abstract class MixinManaCapability {
             }
             return;
         }
-        arsnspells$enterGuard(player);
+        arsnspells$enterGuard();
         try {
             cir.setReturnValue((int) BridgeManager.getBridge().getMaxMana(player));
         } finally {
-            arsnspells$exitGuard(player);
+            arsnspells$exitGuard();
         }
     }
 
@@ -154,13 +160,13 @@ public abstract class MixinManaCapability {
         // Read-only sync: update shadow field from Iron's actual value.
         // Do NOT write 'amount' to Iron's — that would overwrite Iron's real mana
         // with stale Ars-internal values (typically 0).
-        arsnspells$enterGuard(player);
+        arsnspells$enterGuard();
         try {
             double ironsCurrentMana = (double) BridgeManager.getBridge().getMana(player);
             this.mana = ironsCurrentMana;  // Sync shadow field from Iron's for consistency
             cir.setReturnValue(amount);     // Return requested value to satisfy API contract
         } finally {
-            arsnspells$exitGuard(player);
+            arsnspells$exitGuard();
         }
     }
 
@@ -180,13 +186,13 @@ public abstract class MixinManaCapability {
         // a no-op. playerOnTick still runs for cap state maintenance and sync, but the
         // actual mana addition is discarded. Any addMana calls from Ars internal code
         // (e.g. potion effects restoring Ars mana) should not affect Iron's pool.
-        arsnspells$enterGuard(player);
+        arsnspells$enterGuard();
         try {
             double ironsCurrentMana = (double) BridgeManager.getBridge().getMana(player);
             this.mana = ironsCurrentMana;
             cir.setReturnValue(ironsCurrentMana);
         } finally {
-            arsnspells$exitGuard(player);
+            arsnspells$exitGuard();
         }
     }
 
@@ -205,13 +211,13 @@ public abstract class MixinManaCapability {
         // Spell consumption goes through MixinSpellResolverMana → BridgeManager →
         // IronsBridge.consumeMana() directly, bypassing ManaCap. Any other removeMana
         // calls from Ars are internal bookkeeping and should not affect Iron's pool.
-        arsnspells$enterGuard(player);
+        arsnspells$enterGuard();
         try {
             double ironsCurrentMana = (double) BridgeManager.getBridge().getMana(player);
             this.mana = ironsCurrentMana;
             cir.setReturnValue(ironsCurrentMana);
         } finally {
-            arsnspells$exitGuard(player);
+            arsnspells$exitGuard();
         }
     }
 
@@ -236,11 +242,11 @@ public abstract class MixinManaCapability {
         if (mode == null || !mode.isIssPrimary()) {
             return;
         }
-        arsnspells$enterGuard(player);
+        arsnspells$enterGuard();
         try {
             this.maxMana = (int) BridgeManager.getBridge().getMaxMana(player);
         } finally {
-            arsnspells$exitGuard(player);
+            arsnspells$exitGuard();
         }
         ci.cancel();
     }
@@ -4,8 +4,9 @@ import com.hollingsworth.arsnouveau.api.spell.SpellContext;
 import com.hollingsworth.arsnouveau.api.spell.SpellResolver;
 import com.otectus.arsnspells.bridge.BridgeManager;
 import com.otectus.arsnspells.bridge.IManaBridge;
+import com.otectus.arsnspells.bridge.ManaLedger;
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
 import com.otectus.arsnspells.spell.CrossCastContext;
 import com.otectus.arsnspells.spell.CrossSpellType;
@@ -32,7 +33,7 @@ public abstract class MixinSpellResolverMana {
             LivingEntity caster = spellContext.getUnwrappedCaster();
             if (caster instanceof Player player) {
                 if (SanctifiedLegacyCompat.isAvailable()) {
-                    if (AnsConfig.ENABLE_LP_SYSTEM.get() && SanctifiedLegacyCompat.isWearingCursedRing(player)) {
+                    if (AnsConfigSnapshot.get().enableLpSystem && SanctifiedLegacyCompat.isWearingCursedRing(player)) {
                         ci.cancel();
                         return;
                     }
@@ -65,7 +66,7 @@ public abstract class MixinSpellResolverMana {
         }
 
         int cost = Math.max(0, getResolveCost());
-        double conversionRate = AnsConfig.CONVERSION_RATE_ARS_TO_IRON.get();
+        double conversionRate = AnsConfigSnapshot.get().conversionRateArsToIron;
         cost = (int) Math.round(cost * conversionRate);
         if (cost == 0) {
             return;
@@ -89,9 +90,10 @@ public abstract class MixinSpellResolverMana {
      * ANS-CRIT-002: this TAIL hook used to consume the Iron's side of a SEPARATE-mode
      * cross-cast AFTER Ars had already drained, and silently swallowed consume failures,
      * producing a one-way Ars drain when Iron's was empty. The Iron's side is now
-     * pre-consumed atomically with the Ars cost-calc in CrossCastingHandler.onArsSpellCost,
-     * which sets entry.issCost to 0 to signal "already paid". This TAIL now exists only
-     * to drain the context entry from ACTIVE_CASTS once the Ars resolve completes.
+     * pre-consumed atomically with the Ars cost-calc in CrossCastingHandler.applyArsCrossCastCost,
+     * which sets entry.issCost to 0 to signal "already paid". This TAIL now commits the
+     * Iron's reservation taken there, now that the Ars leg has expended, and drains the
+     * context entry from ACTIVE_CASTS once the Ars resolve completes.
      */
     @Inject(method = "expendMana", at = @At("TAIL"))
     private void arsnspells$consumeCrossCastSecondary(CallbackInfo ci) {
@@ -113,9 +115,10 @@ public abstract class MixinSpellResolverMana {
         if (entry == null || entry.type != CrossSpellType.ARS_NOUVEAU) {
             return;
         }
-        // Drain the context entry. entry.issCost will be 0 in the happy path (already
-        // pre-consumed by onArsSpellCost); the take() is just lifecycle cleanup.
+        // Drain the context entry and charge the Iron's share reserved by
+        // applyArsCrossCastCost. entry.issCost will be 0 in the happy path.
         CrossCastContext.take(player);
+        ManaLedger.commit(entry.issReservation);
         if (player.isCreative() || entry.issCost <= 0.0f) {
             return;
         }
@@ -126,7 +129,7 @@ public abstract class MixinSpellResolverMana {
         if (issBridge == null) {
             return;
         }
-        boolean consumed = issBridge.consumeMana(player, entry.issCost);
+        boolean consumed = ManaLedger.consume(player, issBridge, entry.issCost);
         if (!consumed) {
             org.slf4j.LoggerFactory.getLogger(MixinSpellResolverMana.class)
                 .warn("Cross-cast Iron's-side consume failed at TAIL for {}: needed {}; pre-consume should have handled this",
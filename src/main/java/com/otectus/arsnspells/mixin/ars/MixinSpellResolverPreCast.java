@@ -9,7 +9,7 @@ import com.hollingsworth.arsnouveau.common.util.PortUtil;
 import com.otectus.arsnspells.bridge.BridgeManager;
 import com.otectus.arsnspells.casting.CastingAuthority;
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.events.CursedRingHandler;
 import com.otectus.arsnspells.events.LPDeathPrevention;
 import com.otectus.arsnspells.events.VirtueRingHandler;
@@ -111,7 +111,7 @@ public abstract class MixinSpellResolverPreCast {
 
         // If cost is zero, validate alternate resource costs.
         // Both CursedRingHandler and VirtueRingHandler set mana cost to 0
-        // during SpellCostCalcEvent and store their respective pending costs.
+        // in ArsCostStage (SpellCostCalcEvent) and store their respective pending costs.
         if (cost <= 0) {
             if (SanctifiedLegacyCompat.isAvailable()) {
                 // Cursed Ring LP validation
@@ -123,7 +123,7 @@ public abstract class MixinSpellResolverPreCast {
 
                         boolean hasEnough = SanctifiedLegacyCompat.hasEnoughLP(player, pendingLpCost);
                         if (!hasEnough) {
-                            boolean deathPenalty = AnsConfig.DEATH_ON_INSUFFICIENT_LP.get();
+                            boolean deathPenalty = AnsConfigSnapshot.get().deathOnInsufficientLp;
                             if (deathPenalty) {
                                 LPDeathPrevention.markSpellCast(player);
                                 cir.setReturnValue(true);
@@ -135,7 +135,7 @@ public abstract class MixinSpellResolverPreCast {
                             CursedRingHandler.clearPendingLPCost(player);
                             SanctifiedLegacyCompat.applySilentHealthLoss(player, 2.0f);
 
-                            if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+                            if (AnsConfigSnapshot.get().showLpCostMessages) {
                                 player.displayClientMessage(
                                     Component.literal("\u00a7cInsufficient LP - Spell Cancelled"), true);
                             }
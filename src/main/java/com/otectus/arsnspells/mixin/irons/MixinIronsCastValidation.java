@@ -2,7 +2,7 @@ package com.otectus.arsnspells.mixin.irons;
 
 import com.otectus.arsnspells.bridge.BridgeManager;
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
 import io.redspace.ironsspellbooks.api.magic.MagicData;
 import io.redspace.ironsspellbooks.api.spells.AbstractSpell;
@@ -81,7 +81,7 @@ public abstract class MixinIronsCastValidation {
         boolean wearsVirtue = false;
         try {
             if (SanctifiedLegacyCompat.isAvailable()) {
-                wearsCursed = AnsConfig.ENABLE_LP_SYSTEM.get()
+                wearsCursed = AnsConfigSnapshot.get().enableLpSystem
                     && SanctifiedLegacyCompat.isWearingCursedRing(player);
                 wearsVirtue = SanctifiedLegacyCompat.isWearingVirtueRing(player);
             }
@@ -99,7 +99,7 @@ public abstract class MixinIronsCastValidation {
             if (BridgeManager.isUnificationEnabled()) {
                 ManaUnificationMode mode = BridgeManager.getCurrentMode();
                 if (mode == ManaUnificationMode.ARS_PRIMARY) {
-                    double rate = AnsConfig.CONVERSION_RATE_IRON_TO_ARS.get();
+                    double rate = AnsConfigSnapshot.get().conversionRateIronToArs;
                     if (rate > 0.0) {
                         return (float) (realMana / rate);
                     }
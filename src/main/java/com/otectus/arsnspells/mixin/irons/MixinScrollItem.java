@@ -2,7 +2,7 @@ package com.otectus.arsnspells.mixin.irons;
 
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
 import com.otectus.arsnspells.compat.ScrollLPTracker;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import io.redspace.ironsspellbooks.api.spells.AbstractSpell;
 import io.redspace.ironsspellbooks.api.spells.ISpellContainer;
 import io.redspace.ironsspellbooks.api.spells.SpellData;
@@ -78,7 +78,7 @@ public class MixinScrollItem {
             return;
         }
 
-        String scrollMode = AnsConfig.SCROLL_COST_MODE.get().toLowerCase();
+        String scrollMode = AnsConfigSnapshot.get().scrollCostMode.toLowerCase();
         int manaCost = spell.getManaCost(spellLevel);
 
         // --- Cursed Ring LP path (always applies regardless of scroll_cost_mode) ---
@@ -86,7 +86,7 @@ public class MixinScrollItem {
         // (CursedRingHandler, IronsLPHandler, MixinSpellResolverMana) gates on
         // ENABLE_LP_SYSTEM ("When disabled, spells use normal mana even with Cursed
         // Ring equipped"); scrolls must not keep charging LP when it is off.
-        if (AnsConfig.ENABLE_LP_SYSTEM.get()
+        if (AnsConfigSnapshot.get().enableLpSystem
             && SanctifiedLegacyCompat.isAvailable() && SanctifiedLegacyCompat.isWearingCursedRing(player)) {
             if (manaCost > 0) {
                 SpellRarity rarity = spell.getRarity(spellLevel);
@@ -101,7 +101,7 @@ public class MixinScrollItem {
 
                 boolean hasEnough = SanctifiedLegacyCompat.hasEnoughLP(player, lpCost);
                 if (!hasEnough) {
-                    if (AnsConfig.DEATH_ON_INSUFFICIENT_LP.get()) {
+                    if (AnsConfigSnapshot.get().deathOnInsufficientLp) {
                         // Death mode: scroll proceeds; RETURN inject will kill the player on success.
                         ScrollLPTracker.stage(player.getUUID(), lpCost, true);
                         return;
@@ -111,7 +111,7 @@ public class MixinScrollItem {
                     LOGGER.warn("Insufficient LP for scroll - cancelling");
                     cir.setReturnValue(InteractionResultHolder.fail(stack));
                     SanctifiedLegacyCompat.applySilentHealthLoss(player, 2.0f);
-                    if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+                    if (AnsConfigSnapshot.get().showLpCostMessages) {
                         player.displayClientMessage(
                             Component.translatable("message.ars_n_spells.lp.scroll_cancelled")
                                 .withStyle(ChatFormatting.RED),
@@ -196,7 +196,7 @@ public class MixinScrollItem {
             // Insufficient LP + death mode: spell proceeded, now collect the death penalty.
             LOGGER.warn("Death penalty for scroll cast with insufficient LP ({} LP required) on {}",
                 pending.lpCost, player.getName().getString());
-            if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+            if (AnsConfigSnapshot.get().showLpCostMessages) {
                 player.displayClientMessage(
                     Component.translatable("message.ars_n_spells.lp.death", pending.lpCost)
                         .withStyle(ChatFormatting.DARK_RED, ChatFormatting.BOLD),
@@ -213,7 +213,7 @@ public class MixinScrollItem {
                 player.getName().getString());
             return;
         }
-        if (AnsConfig.SHOW_LP_COST_MESSAGES.get()) {
+        if (AnsConfigSnapshot.get().showLpCostMessages) {
             player.displayClientMessage(
                 Component.translatable("message.ars_n_spells.lp.consumed", pending.lpCost)
                     .withStyle(ChatFormatting.GOLD),
@@ -1,7 +1,7 @@
 package com.otectus.arsnspells.mixin.sanctified;
 
 import com.otectus.arsnspells.compat.SanctifiedLegacyCompat;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import io.redspace.ironsspellbooks.api.spells.AbstractSpell;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
@@ -54,7 +54,7 @@ public abstract class MixinSanctifiedAbstractSpell {
         // still ran (the double-penalty this mixin exists to prevent), and with
         // unification on + LP off, Covenant's native handling was bypassed with
         // nobody charging LP at all.
-        if (!AnsConfig.ENABLE_LP_SYSTEM.get()) {
+        if (!AnsConfigSnapshot.get().enableLpSystem) {
             return;
         }
         
@@ -0,0 +1,48 @@
+package com.otectus.arsnspells.network;
+
+import com.otectus.arsnspells.cooldown.CooldownPrediction;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Client-to-server notice that the client predicts category cooldowns locally for
+ * casts from one {@link CooldownPrediction.Source}. Sent once per source per player
+ * entity; after it the server stops sending a {@link CooldownSyncPacket} on every
+ * cast from that source it knows the client predicted, and only sends corrections.
+ *
+ * <p>Carries no cooldown values — the server never takes the client's prediction as
+ * authoritative, it only stops repeating what the client already computed.
+ */
+public class CooldownPredictionPacket {
+
+    private final CooldownPrediction.Source source;
+
+    public CooldownPredictionPacket(CooldownPrediction.Source source) {
+        this.source = source;
+    }
+
+    public CooldownPredictionPacket(FriendlyByteBuf buf) {
+        this.source = buf.readEnum(CooldownPrediction.Source.class);
+    }
+
+    public void toBytes(FriendlyByteBuf buf) {
+        buf.writeEnum(source);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctxSupplier) {
+        NetworkEvent.Context ctx = ctxSupplier.get();
+        if (ctx == null) {
+            return;
+        }
+        ctx.enqueueWork(() -> {
+            ServerPlayer sender = ctx.getSender();
+            if (sender != null) {
+                CooldownPrediction.markPredicting(sender.getUUID(), source);
+            }
+        });
+        ctx.setPacketHandled(true);
+    }
+}
@@ -13,7 +13,9 @@ public class PacketHandler {
     // running the old jar would mis-parse our packets — hard-fail at connect instead.
     // Bumped 2 -> 3 in 3.0.0: added SpellLoomExportPacket (C2S). New packet id,
     // so an old client would mis-parse the channel — hard-fail at connect.
-    private static final String PROTOCOL_VERSION = "3";
+    // Bumped 3 -> 4: added CooldownPredictionPacket (C2S) for client-side cooldown
+    // prediction.
+    private static final String PROTOCOL_VERSION = "4";
     public static final SimpleChannel INSTANCE = NetworkRegistry.newSimpleChannel(
             new ResourceLocation(ArsNSpells.MODID, "main"),
             () -> PROTOCOL_VERSION,
@@ -52,6 +54,9 @@ public class PacketHandler {
         INSTANCE.registerMessage(id++, SpellLoomExportPacket.class,
             SpellLoomExportPacket::toBytes, SpellLoomExportPacket::new, SpellLoomExportPacket::handle,
             java.util.Optional.of(NetworkDirection.PLAY_TO_SERVER));
+        INSTANCE.registerMessage(id++, CooldownPredictionPacket.class,
+            CooldownPredictionPacket::toBytes, CooldownPredictionPacket::new, CooldownPredictionPacket::handle,
+            java.util.Optional.of(NetworkDirection.PLAY_TO_SERVER));
     }
 
     /** ANS-LOW-015: defensive null-checks for early-login / mid-disconnect edge cases. */
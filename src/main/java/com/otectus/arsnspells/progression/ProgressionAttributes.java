@@ -1,5 +1,6 @@
 package com.otectus.arsnspells.progression;
 
+import com.otectus.arsnspells.util.AttributeModifierSync;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.ai.attributes.Attribute;
@@ -42,10 +43,12 @@ public final class ProgressionAttributes {
         if (instance == null) {
             return;
         }
-        instance.removeModifier(ELEMENT_XP_ID);
+        // Runs after every cast; an unchanged bonus must not dirty the attribute.
         if (bonus > 0) {
-            instance.addTransientModifier(new AttributeModifier(
-                ELEMENT_XP_ID, MODIFIER_NAME, bonus, AttributeModifier.Operation.ADDITION));
+            AttributeModifierSync.apply(instance, ELEMENT_XP_ID, MODIFIER_NAME, bonus,
+                AttributeModifier.Operation.ADDITION);
+        } else {
+            AttributeModifierSync.remove(instance, ELEMENT_XP_ID);
         }
     }
 }
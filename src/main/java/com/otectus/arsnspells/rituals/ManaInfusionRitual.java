@@ -2,7 +2,8 @@ package com.otectus.arsnspells.rituals;
 
 import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
 import com.otectus.arsnspells.bridge.BridgeManager;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.bridge.ManaLedger;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.AABB;
@@ -32,8 +33,8 @@ public class ManaInfusionRitual extends AbstractRitual {
         if (player == null) {
             return;
         }
-        BridgeManager.getBridge().addMana(player,
-            AnsConfig.RITUAL_MANA_INFUSION_AMOUNT.get().floatValue());
+        ManaLedger.credit(player, BridgeManager.getBridge(),
+            (float) AnsConfigSnapshot.get().ritualManaInfusionAmount);
     }
 
     @Nullable
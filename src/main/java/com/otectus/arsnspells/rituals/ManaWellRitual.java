@@ -2,14 +2,16 @@ package com.otectus.arsnspells.rituals;
 
 import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
 import com.otectus.arsnspells.bridge.BridgeManager;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.bridge.ManaLedger;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.AABB;
 
 /**
  * ANS-HIGH-002: routes the mana grant through {@link BridgeManager}. See
- * {@link ManaInfusionRitual} for full rationale.
+ * {@link ManaInfusionRitual} for full rationale. The per-tick grant is staged in the
+ * {@link ManaLedger} so it coalesces with the rest of the tick's mana deltas.
  */
 public class ManaWellRitual extends AbstractRitual {
     @Override
@@ -17,12 +19,12 @@ public class ManaWellRitual extends AbstractRitual {
         if (this.getWorld() == null || this.getWorld().isClientSide()) {
             return;
         }
-        int range = AnsConfig.MANA_WELL_RANGE.get();
+        int range = AnsConfigSnapshot.get().manaWellRange;
         AABB area = new AABB(this.getPos()).inflate(range);
-        float regenRate = AnsConfig.MANA_WELL_REGEN_RATE.get().floatValue();
+        float regenRate = (float) AnsConfigSnapshot.get().manaWellRegenRate;
 
         this.getWorld().getEntitiesOfClass(Player.class, area).forEach(p ->
-            BridgeManager.getBridge().addMana(p, regenRate));
+            ManaLedger.credit(p, BridgeManager.getBridge(), regenRate));
     }
 
     @Override
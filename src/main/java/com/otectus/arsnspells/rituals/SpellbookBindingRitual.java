@@ -2,7 +2,7 @@ package com.otectus.arsnspells.rituals;
 
 import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
 import com.hollingsworth.arsnouveau.api.spell.Spell;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.spell.ArsSpellExportUtil;
 import com.otectus.arsnspells.spell.IronsBookBindingUtil;
 import net.minecraft.core.BlockPos;
@@ -107,7 +107,7 @@ public class SpellbookBindingRitual extends AbstractRitual {
         CompoundTag entry = entryOpt.get();
         CompoundTag arsTag = entry.getCompound(com.otectus.arsnspells.spell.CrossCastNbt.TAG_ARS_SPELL);
 
-        if (!AnsConfig.ALLOW_ARS_SPELLS_IN_IRONS_SPELLBOOKS.get()) {
+        if (!AnsConfigSnapshot.get().allowArsSpellsInIronsSpellbooks) {
             RitualFeedback.error(level, pos, LANG_PREFIX + "error.disabled");
             return;
         }
@@ -115,7 +115,7 @@ public class SpellbookBindingRitual extends AbstractRitual {
         // Validation complete -- mutation begins here. The util allocates a
         // native-wheel proxy slot and mirrors the entry (with the scroll's chosen
         // display name/nature/icon) into Iron's container.
-        int maxCap = AnsConfig.MAX_ARS_CROSS_SPELLS_PER_IRONS_SPELLBOOK.get();
+        int maxCap = AnsConfigSnapshot.get().maxArsCrossSpellsPerIronsSpellbook;
         IronsBookBindingUtil.AppendResult result =
             IronsBookBindingUtil.appendArsSpellToBook(bookStack, arsTag,
                 entry.getString(com.otectus.arsnspells.spell.CrossCastNbt.TAG_CUSTOM_NAME),
@@ -1,5 +1,6 @@
 package com.otectus.arsnspells.spell;
 
+import com.otectus.arsnspells.bridge.ManaLedger;
 import net.minecraft.world.entity.player.Player;
 
 import java.util.Map;
@@ -11,8 +12,9 @@ public final class CrossCastContext {
     // ANS-OPT-006: 200 -> 100 ticks (5 seconds at 20 TPS) so the cross-cast context
     // TTL aligns with CursedRingHandler.PENDING_COST_TTL_TICKS and
     // VirtueRingHandler.PENDING_COST_TTL_TICKS. Faster eviction = less stale-state
-    // hazard if anything in the pipeline forgets to clear() on its own.
-    private static final long DEFAULT_TTL_TICKS = 100L;
+    // hazard if anything in the pipeline forgets to clear() on its own. Mana
+    // reservations held for a cross-cast expire on the same schedule.
+    private static final long DEFAULT_TTL_TICKS = ManaLedger.RESERVATION_TTL_TICKS;
     private static final Map<UUID, Entry> ACTIVE_CASTS = new ConcurrentHashMap<>();
     private static final ThreadLocal<ManaCheckOverride> MANA_CHECK_OVERRIDE = new ThreadLocal<>();
 
@@ -27,7 +29,7 @@ public final class CrossCastContext {
         if (player == null) {
             return;
         }
-        ACTIVE_CASTS.put(player.getUUID(), new Entry(type, gameTime + DEFAULT_TTL_TICKS, attemptId));
+        beginFor(player.getUUID(), type, gameTime, attemptId);
     }
 
     public static void begin(Player player, CrossSpellType type, long gameTime, float arsCost, float issCost) {
@@ -56,20 +58,35 @@ public final class CrossCastContext {
         if (player == null) {
             return null;
         }
-        Entry entry = ACTIVE_CASTS.get(player.getUUID());
-        if (entry != null && entry.isExpired(player.level().getGameTime())) {
-            ACTIVE_CASTS.remove(player.getUUID());
-            return null;
-        }
-        return entry;
+        return peekFor(player.getUUID(), player.level().getGameTime());
     }
 
     public static Entry take(Player player) {
         if (player == null) {
             return null;
         }
-        Entry entry = ACTIVE_CASTS.remove(player.getUUID());
-        if (entry != null && entry.isExpired(player.level().getGameTime())) {
+        return takeFor(player.getUUID(), player.level().getGameTime());
+    }
+
+    // UUID-keyed core behind the Player overloads. Package-private so tests and the
+    // JMH benchmarks can drive the map without constructing a Minecraft Player.
+
+    static void beginFor(UUID playerId, CrossSpellType type, long gameTime, UUID attemptId) {
+        ACTIVE_CASTS.put(playerId, new Entry(type, gameTime + DEFAULT_TTL_TICKS, attemptId));
+    }
+
+    static Entry peekFor(UUID playerId, long gameTime) {
+        Entry entry = ACTIVE_CASTS.get(playerId);
+        if (entry != null && entry.isExpired(gameTime)) {
+            ACTIVE_CASTS.remove(playerId);
+            return null;
+        }
+        return entry;
+    }
+
+    static Entry takeFor(UUID playerId, long gameTime) {
+        Entry entry = ACTIVE_CASTS.remove(playerId);
+        if (entry != null && entry.isExpired(gameTime)) {
             return null;
         }
         return entry;
@@ -149,6 +166,16 @@ public final class CrossCastContext {
          * a failed cross-cast a one-way Iron's-mana drain.
          */
         public volatile float issPaid;
+        /**
+         * Hold on the Iron's share of an Ars cross-cast (SEPARATE), taken during
+         * cost-calc and committed once the Ars leg expends mana; aborted if it fails.
+         */
+        public volatile ManaLedger.Reservation issReservation;
+        /**
+         * Hold on the Ars share of an Iron's cross-cast (SEPARATE), taken in
+         * {@code castIronsSpell} and committed when Iron's fires {@code SpellOnCastEvent}.
+         */
+        public volatile ManaLedger.Reservation arsReservation;
         /**
          * ANS-HIGH-004: one-shot guard via AtomicBoolean. The Ars cost-calc event can
          * fire more than once during a resolve (preview vs. actual deduction). The
@@ -159,7 +186,8 @@ public final class CrossCastContext {
         private final java.util.concurrent.atomic.AtomicBoolean multiplierApplied =
             new java.util.concurrent.atomic.AtomicBoolean(false);
 
-        private Entry(CrossSpellType type, long expiresAt, UUID attemptId) {
+        // Package-private so tests can build an entry without a player.
+        Entry(CrossSpellType type, long expiresAt, UUID attemptId) {
             this.type = type;
             this.expiresAt = expiresAt;
             this.attemptId = attemptId != null ? attemptId : UUID.randomUUID();
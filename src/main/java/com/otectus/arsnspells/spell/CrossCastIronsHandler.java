@@ -1,26 +1,27 @@
 package com.otectus.arsnspells.spell;
 
 import com.otectus.arsnspells.bridge.BridgeManager;
+import com.otectus.arsnspells.bridge.ManaLedger;
 import com.otectus.arsnspells.bridge.ManaRegenBridge;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
+import com.otectus.arsnspells.events.IronsCastPipeline;
 import com.otectus.arsnspells.util.CrossCastTrace;
 import com.otectus.arsnspells.util.ManaUtil;
 import io.redspace.ironsspellbooks.api.events.SpellOnCastEvent;
 import net.minecraft.world.entity.player.Player;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Iron's-side cross-cast cost adjustment. Runs as the first {@code NORMAL}-priority
+ * OnCast stage of {@link IronsCastPipeline}, after LP consumption.
+ */
 public class CrossCastIronsHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(CrossCastIronsHandler.class);
 
-    @SubscribeEvent
-    public void onIronsSpellCast(SpellOnCastEvent event) {
-        Player player = event.getEntity();
-        if (player == null) {
-            return;
-        }
+    public static void applyCast(IronsCastPipeline.IronsCastContext ctx, SpellOnCastEvent event) {
+        Player player = ctx.player;
 
         ManaUnificationMode mode = BridgeManager.getCurrentMode();
         boolean unified = BridgeManager.isUnificationEnabled();
@@ -29,8 +30,9 @@ public class CrossCastIronsHandler {
         if (entry != null && entry.type == CrossSpellType.IRONS_SPELLBOOKS) {
             // Different spell than the one we tagged: stale or interleaved cast.
             // Drop the entry and let the cast proceed without our adjustments.
-            if (entry.spellId != null && !entry.spellId.equals(event.getSpellId())) {
+            if (entry.spellId != null && !entry.spellId.equals(ctx.spellId)) {
                 CrossCastContext.clear(player);
+                ManaLedger.abort(entry.arsReservation);
                 return;
             }
 
@@ -42,15 +44,14 @@ public class CrossCastIronsHandler {
                 // multiplier is applied exactly once.
                 int issCost = Math.max(0, Math.round(entry.issCost));
                 event.setManaCost(issCost);
-                if (!player.isCreative() && entry.arsCost > 0.0f) {
-                    BridgeManager.getBridge().consumeMana(player, entry.arsCost);
-                }
+                // The Ars share was reserved in castIronsSpell; charge it now.
+                ManaLedger.commit(entry.arsReservation);
             } else {
                 // Non-SEPARATE (or unified=false): Iron's computed the cost
                 // itself. Apply the cross-cast multiplier here, exactly once.
                 // ARS_PRIMARY (only when unified) routes the multiplied Iron's
                 // cost into the Ars pool via the configured conversion rate.
-                float multiplier = (float) Math.max(0.0, AnsConfig.CROSS_CAST_COST_MULTIPLIER.get());
+                float multiplier = (float) Math.max(0.0, ctx.config.crossCastCostMultiplier);
                 int multiplied = Math.max(0, Math.round(baseEventCost * multiplier));
                 if (unified && mode == ManaUnificationMode.ARS_PRIMARY) {
                     multiplied = Math.max(0, (int) Math.round(
@@ -61,17 +62,19 @@ public class CrossCastIronsHandler {
 
             CrossCastTrace.log(entry.attemptId, player, CrossCastTrace.Side.S,
                 CrossCastTrace.Stage.IRON_COST_APPLIED,
-                "spell", event.getSpellId(), "mode", mode, "unified", unified,
+                "spell", ctx.spellId, "mode", mode, "unified", unified,
                 "base", baseEventCost, "final", event.getManaCost());
-            if (AnsConfig.DEBUG_MODE != null && AnsConfig.DEBUG_MODE.get()) {
+            if (ctx.config.debugMode) {
                 LOGGER.info(
                     "[CrossCasting] [DEBUG] Iron's cross-cast spell={} mode={} unified={} baseEventCost={} finalCost={}",
-                    event.getSpellId(), mode, unified, baseEventCost, event.getManaCost());
+                    ctx.spellId, mode, unified, baseEventCost, event.getManaCost());
             }
 
             // Clear after applying so a duplicate event fire (or stale entry
-            // surviving beyond this cast) cannot apply the multiplier twice.
+            // surviving beyond this cast) cannot apply the multiplier twice. A hold
+            // not committed above (mode changed mid-cast) is released.
             CrossCastContext.clear(player);
+            ManaLedger.abort(entry.arsReservation);
             return;
         }
 
@@ -92,11 +95,11 @@ public class CrossCastIronsHandler {
      * Mirrors the design in {@link ManaRegenBridge#convertIronsToArs}.
      */
     private static double effectiveIronToArsRate(Player player) {
-        double base = AnsConfig.CONVERSION_RATE_IRON_TO_ARS.get();
+        double base = AnsConfigSnapshot.get().conversionRateIronToArs;
         if (player == null) return base;
         double arsMax = ManaUtil.getNativeMana(player)
             .map(c -> (double) c.getMaxMana())
-            .orElseGet(() -> AnsConfig.DEFAULT_MAX_MANA.get());
+            .orElseGet(() -> AnsConfigSnapshot.get().defaultMaxMana);
         double ironsMax = ManaRegenBridge.getCurrentIronsMaxMana(player);
         if (ironsMax <= 0.0 || arsMax <= 0.0) return base;
         return base * (arsMax / ironsMax);
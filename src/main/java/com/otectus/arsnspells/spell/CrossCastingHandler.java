@@ -1,13 +1,14 @@
 package com.otectus.arsnspells.spell;
 
-import com.hollingsworth.arsnouveau.api.event.SpellCostCalcEvent;
 import com.hollingsworth.arsnouveau.api.spell.ISpellCaster;
 import com.hollingsworth.arsnouveau.api.spell.Spell;
 import com.hollingsworth.arsnouveau.api.spell.SpellCaster;
 import com.otectus.arsnspells.bridge.BridgeManager;
 import com.otectus.arsnspells.bridge.IManaBridge;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.bridge.ManaLedger;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import com.otectus.arsnspells.config.ManaUnificationMode;
+import com.otectus.arsnspells.cooldown.CooldownPrediction;
 import com.otectus.arsnspells.network.CrossCastRequestPacket;
 import com.otectus.arsnspells.network.PacketHandler;
 import com.otectus.arsnspells.util.CrossCastTrace;
@@ -19,13 +20,11 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResultHolder;
-import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
-import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.common.Mod;
@@ -204,7 +203,7 @@ public class CrossCastingHandler {
      * native-proxy spell ({@code spell.irons.ArsCrossProxySpell}) can delegate
      * here from its {@code onCast}, reusing the exact same cross-cast cost,
      * multiplier, scaling and cooldown path as the sidecar right-click cast — no
-     * parallel pipeline. Opens a {@link CrossCastContext} so {@code onArsSpellCost}
+     * parallel pipeline. Opens a {@link CrossCastContext} so {@code applyArsCrossCastCost}
      * applies the multiplier exactly once.
      */
     public static boolean castArsSpell(Player player, ItemStack item, InteractionHand hand,
@@ -218,11 +217,13 @@ public class CrossCastingHandler {
         Spell spell = Spell.fromTag(arsSpellTag);
         ISpellCaster caster = new SpellCaster(item);
 
-        // Always mark the cast so onArsSpellCost can apply the cross-cast cost
+        // Always mark the cast so applyArsCrossCastCost can apply the cross-cast cost
         // multiplier (and, in SEPARATE mode, the dual-cost split). The
         // attemptId threads through CrossCastContext for trace correlation.
         CrossCastContext.beginWithAttempt(player, CrossSpellType.ARS_NOUVEAU,
             player.level().getGameTime(), attemptId);
+        // Kept locally: the expendMana TAIL takes the entry from the map on success.
+        CrossCastContext.Entry castEntry = CrossCastContext.peek(player);
 
         // ANS-MED-002: wrap upstream cast in try/finally so the CrossCastContext entry
         // is cleared even if caster.castSpell throws. Without this, an exception in
@@ -231,36 +232,59 @@ public class CrossCastingHandler {
         boolean success = false;
         CrossCastTrace.log(attemptId, player, CrossCastTrace.Side.S,
             CrossCastTrace.Stage.UPSTREAM_CAST_ENTER, "runtime", "ARS");
+        // The client fires no cast event for this cast, so it predicts no cooldown.
+        CooldownPrediction.beginServerCast(player.getUUID());
         try {
             InteractionResultHolder<ItemStack> result = caster.castSpell(player.level(), player, hand, null, spell);
             success = result.getResult().consumesAction();
             return success;
         } finally {
+            CooldownPrediction.endServerCast(player.getUUID());
             CrossCastTrace.log(attemptId, player, CrossCastTrace.Side.S,
                 CrossCastTrace.Stage.UPSTREAM_CAST_EXIT, "runtime", "ARS", "success", success);
             if (!success) {
-                // ANS-HIGH-030: SEPARATE mode pre-pays the Iron's share during
-                // cost-calc. If the Ars leg then failed, compensate — matching the
-                // BridgeManager rollback contract (ANS-CRIT-003). take() drains the
-                // entry atomically; blocked paths that already cleared it consumed
-                // nothing, so a missing entry means nothing to refund.
-                CrossCastContext.Entry entry = CrossCastContext.take(player);
-                if (entry != null && entry.issPaid > 0.0f) {
-                    IManaBridge issBridge = BridgeManager.getSecondaryBridge();
-                    if (issBridge != null) {
-                        issBridge.addMana(player, entry.issPaid);
-                        CrossCastTrace.log(attemptId, player, CrossCastTrace.Side.S,
-                            CrossCastTrace.Stage.UPSTREAM_CAST_EXIT, "runtime", "ARS",
-                            "refundIss", entry.issPaid);
-                    } else {
-                        LOGGER.warn("Cross-cast failed after Iron's mana was consumed but no "
-                            + "secondary bridge is available to refund {} mana", entry.issPaid);
-                    }
-                }
+                CrossCastContext.take(player);
+            }
+            if (settleIronsShare(castEntry, success)) {
+                CrossCastTrace.log(attemptId, player, CrossCastTrace.Side.S,
+                    CrossCastTrace.Stage.UPSTREAM_CAST_EXIT, "runtime", "ARS",
+                    "releaseIss", castEntry.issPaid);
             }
         }
     }
 
+    /**
+     * ANS-HIGH-030: record the Iron's share held during the SEPARATE cost-calc on the
+     * entry. issCost must still go to 0 for the TAIL mixin's already-paid contract
+     * (ANS-CRIT-002); issPaid keeps the amount for the failure path.
+     */
+    static void holdIronsShare(CrossCastContext.Entry entry, ManaLedger.Reservation issHold, float issCost) {
+        entry.issReservation = issHold;
+        entry.issPaid = issCost;
+        entry.issCost = 0.0f;
+    }
+
+    /**
+     * Close out the Iron's share held for an Ars cross-cast once the Ars leg is over.
+     * If it paid, commit (normally the expendMana TAIL already did, and this is a no-op).
+     * If it failed, release the hold: nothing was staged, so there is no refund write
+     * (ANS-CRIT-003); a hold the TAIL already committed stays paid.
+     *
+     * @return {@code true} if a hold was released
+     */
+    static boolean settleIronsShare(CrossCastContext.Entry entry, boolean arsLegPaid) {
+        ManaLedger.Reservation issHold = entry != null ? entry.issReservation : null;
+        if (arsLegPaid) {
+            ManaLedger.commit(issHold);
+            return false;
+        }
+        if (issHold == null || !issHold.isOpen()) {
+            return false;
+        }
+        ManaLedger.abort(issHold);
+        return true;
+    }
+
     private static boolean castIronsSpell(Player player, ItemStack item, CompoundTag spellData,
         UUID attemptId) {
         if (!ModList.get().isLoaded("irons_spellbooks")) {
@@ -286,7 +310,7 @@ public class CrossCastingHandler {
         io.redspace.ironsspellbooks.api.spells.CastSource source =
             parseCastSource(spellData, io.redspace.ironsspellbooks.api.spells.CastSource.SPELLBOOK);
 
-        float multiplier = (float) Math.max(0.0, AnsConfig.CROSS_CAST_COST_MULTIPLIER.get());
+        float multiplier = (float) Math.max(0.0, AnsConfigSnapshot.get().crossCastCostMultiplier);
         ManaUnificationMode mode = BridgeManager.getCurrentMode();
         boolean unified = BridgeManager.isUnificationEnabled();
         if (unified && mode == ManaUnificationMode.SEPARATE) {
@@ -295,15 +319,19 @@ public class CrossCastingHandler {
             // SEPARATE-mode dual-cost split. The handler in CrossCastIronsHandler
             // reads entry.issCost as-is to avoid a second application at event time.
             float totalCost = baseCost * multiplier;
-            float arsPercent = AnsConfig.DUAL_COST_ARS_PERCENTAGE.get().floatValue();
-            float issPercent = AnsConfig.DUAL_COST_ISS_PERCENTAGE.get().floatValue();
-            float arsCost = (float) (totalCost * arsPercent * AnsConfig.CONVERSION_RATE_IRON_TO_ARS.get());
+            float arsPercent = (float) AnsConfigSnapshot.get().dualCostArsPercentage;
+            float issPercent = (float) AnsConfigSnapshot.get().dualCostIssPercentage;
+            float arsCost = (float) (totalCost * arsPercent * AnsConfigSnapshot.get().conversionRateIronToArs);
             float issCost = totalCost * issPercent;
 
+            // Hold the Ars share now so nothing else spends it before Iron's fires
+            // SpellOnCastEvent, where CrossCastIronsHandler commits it.
+            ManaLedger.Reservation arsHold = null;
             if (!player.isCreative() && arsCost > 0.0f) {
-                float arsMana = BridgeManager.getBridge().getMana(player);
-                if (arsMana < arsCost) {
-                    logDebug("Insufficient Ars mana for cross-cast: need {}, have {}", arsCost, arsMana);
+                arsHold = ManaLedger.reserve(player, BridgeManager.getBridge(), arsCost);
+                if (arsHold == null) {
+                    logDebug("Insufficient Ars mana for cross-cast: need {}, have {}", arsCost,
+                        ManaLedger.available(player, BridgeManager.getBridge()));
                     return false;
                 }
             }
@@ -313,21 +341,29 @@ public class CrossCastingHandler {
 
             CrossCastContext.begin(player, CrossSpellType.IRONS_SPELLBOOKS,
                 player.level().getGameTime(), arsCost, issCost, spell.getSpellId(), attemptId);
+            CrossCastContext.Entry castEntry = CrossCastContext.peek(player);
+            if (castEntry != null) {
+                castEntry.arsReservation = arsHold;
+            }
 
             // ANS-MED-002: try/finally for context cleanup on exception.
             boolean success = false;
             CrossCastTrace.log(attemptId, player, CrossCastTrace.Side.S,
                 CrossCastTrace.Stage.UPSTREAM_CAST_ENTER,
                 "runtime", "IRON", "spell", spellId, "mode", mode, "unified", unified);
+            CooldownPrediction.beginServerCast(player.getUUID());
             try {
                 success = CrossCastContext.withManaCheckOverride(player, issPercent,
                     () -> spell.attemptInitiateCast(item, castLevel, player.level(), player, source, true, CROSS_CAST_SLOT));
                 return success;
             } finally {
+                CooldownPrediction.endServerCast(player.getUUID());
                 CrossCastTrace.log(attemptId, player, CrossCastTrace.Side.S,
                     CrossCastTrace.Stage.UPSTREAM_CAST_EXIT, "runtime", "IRON", "success", success);
                 if (!success) {
                     CrossCastContext.clear(player);
+                    // No-op if SpellOnCastEvent already committed it.
+                    ManaLedger.abort(arsHold);
                 }
             }
         }
@@ -343,10 +379,12 @@ public class CrossCastingHandler {
         CrossCastTrace.log(attemptId, player, CrossCastTrace.Side.S,
             CrossCastTrace.Stage.UPSTREAM_CAST_ENTER,
             "runtime", "IRON", "spell", spellId, "mode", mode, "unified", unified);
+        CooldownPrediction.beginServerCast(player.getUUID());
         try {
             success = spell.attemptInitiateCast(item, castLevel, player.level(), player, source, true, CROSS_CAST_SLOT);
             return success;
         } finally {
+            CooldownPrediction.endServerCast(player.getUUID());
             CrossCastTrace.log(attemptId, player, CrossCastTrace.Side.S,
                 CrossCastTrace.Stage.UPSTREAM_CAST_EXIT, "runtime", "IRON", "success", success);
             if (!success) {
@@ -371,35 +409,37 @@ public class CrossCastingHandler {
     }
 
     /**
-     * ANS-CRIT-004: runs at HIGHEST so the cross-cast multiplier applies to the
-     * unmodified base cost, BEFORE CursedRingHandler / VirtueRingHandler zero out
-     * event.currentCost to stamp pending LP/aura. Without this, ring wearers paid
-     * zero cross-cast overhead — the documented 1.25× premium silently became 0×1.25.
+     * Cross-cast step of the Ars cost stage ({@code ArsCostStage}): applies the
+     * cross-cast multiplier and, in SEPARATE mode, the dual-cost split with the Iron's
+     * leg pre-consumed. Returns the Ars-side cost, {@code Integer.MAX_VALUE} when the
+     * cast must be blocked, or {@code baseCost} unchanged when this is not an Ars
+     * cross-cast.
+     *
+     * <p>ANS-CRIT-004: the stage runs this first, on the unmodified base cost, BEFORE the
+     * Cursed/Virtue Ring steps zero the cost to stamp pending LP/aura. Without that
+     * ordering ring wearers paid zero cross-cast overhead — the documented 1.25× premium
+     * silently became 0×1.25.
      */
-    @SubscribeEvent(priority = EventPriority.HIGHEST)
-    public static void onArsSpellCost(SpellCostCalcEvent event) {
-        LivingEntity caster = event.context != null ? event.context.getUnwrappedCaster() : null;
-        if (!(caster instanceof Player player)) {
-            return;
-        }
-
+    public static int applyArsCrossCastCost(Player player, int baseCost) {
         CrossCastContext.Entry entry = CrossCastContext.peek(player);
         if (entry == null || entry.type != CrossSpellType.ARS_NOUVEAU) {
-            return;
+            return baseCost;
         }
 
         // ANS-HIGH-004: atomic check-and-mark. The Ars cost-calc event can fire more
-        // than once during a resolve (preview vs. actual deduction). compareAndSet
-        // ensures exactly one caller applies the multiplier even under overlapping
-        // cross-casts on different threads.
+        // than once during a resolve (preview vs. actual deduction); ArsCostStage
+        // replays its memoized result for those, and compareAndSet still ensures
+        // exactly one caller applies the multiplier even under overlapping cross-casts
+        // on different threads.
         if (!entry.tryMarkMultiplierApplied()) {
-            return;
+            return baseCost;
         }
 
         ManaUnificationMode mode = BridgeManager.getCurrentMode();
         boolean unified = BridgeManager.isUnificationEnabled();
-        float multiplier = (float) Math.max(0.0, AnsConfig.CROSS_CAST_COST_MULTIPLIER.get());
-        int baseEventCost = Math.max(0, event.currentCost);
+        AnsConfigSnapshot cfg = AnsConfigSnapshot.get();
+        float multiplier = (float) Math.max(0.0, cfg.crossCastCostMultiplier);
+        int baseEventCost = Math.max(0, baseCost);
         // Apply the cross-cast multiplier to the Ars-computed base cost first;
         // the SEPARATE-mode dual-cost split (below) then operates on the
         // already-multiplied total, matching the Iron's-side accounting where
@@ -407,10 +447,10 @@ public class CrossCastingHandler {
         int totalCost = Math.max(0, Math.round(baseEventCost * multiplier));
 
         if (unified && mode == ManaUnificationMode.SEPARATE) {
-            float arsPercent = AnsConfig.DUAL_COST_ARS_PERCENTAGE.get().floatValue();
-            float issPercent = AnsConfig.DUAL_COST_ISS_PERCENTAGE.get().floatValue();
+            float arsPercent = (float) cfg.dualCostArsPercentage;
+            float issPercent = (float) cfg.dualCostIssPercentage;
             float arsCost = totalCost * arsPercent;
-            float issCost = (float) (totalCost * issPercent * AnsConfig.CONVERSION_RATE_ARS_TO_IRON.get());
+            float issCost = (float) (totalCost * issPercent * cfg.conversionRateArsToIron);
 
             entry.arsCost = arsCost;
             entry.issCost = issCost;
@@ -419,55 +459,45 @@ public class CrossCastingHandler {
             // this handler via tryMarkMultiplierApplied. No further write needed here.
 
             if (!player.isCreative() && issCost > 0.0f) {
-                IManaBridge issBridge = BridgeManager.getSecondaryBridge();
-                float issMana = issBridge != null ? issBridge.getMana(player) : 0.0f;
-                if (issMana < issCost) {
-                    entry.blocked = true;
-                    event.currentCost = Integer.MAX_VALUE;
-                    CrossCastContext.clear(player);
-                    logDebug("Insufficient Iron mana for cross-cast: need {}, have {}", issCost, issMana);
-                    return;
-                }
-                // ANS-CRIT-002: pre-consume Iron's atomically with the Ars cost-calc.
+                // ANS-CRIT-002: secure Iron's share atomically with the Ars cost-calc.
                 // The previous design deferred the Iron's-side consume to the @TAIL of
                 // MixinSpellResolverMana, but the TAIL silently swallowed consume failures,
-                // letting Ars mana drain one-way. Consuming here makes the dual-cost
-                // atomic with the sufficiency check above, and the TAIL is now a no-op
-                // for entries that have already paid (issCost = 0).
-                if (issBridge != null && !issBridge.consumeMana(player, issCost)) {
+                // letting Ars mana drain one-way. The reservation validates and holds the
+                // share here; the TAIL commits it once Ars has expended its leg.
+                IManaBridge issBridge = BridgeManager.getSecondaryBridge();
+                ManaLedger.Reservation issHold = issBridge != null
+                    ? ManaLedger.reserve(player, issBridge, issCost) : null;
+                if (issHold == null) {
                     entry.blocked = true;
-                    event.currentCost = Integer.MAX_VALUE;
                     CrossCastContext.clear(player);
-                    logDebug("Iron mana consume failed for cross-cast: need {}, have {}", issCost, issMana);
-                    return;
+                    logDebug("Insufficient Iron mana for cross-cast: need {}, have {}", issCost,
+                        issBridge != null ? ManaLedger.available(player, issBridge) : 0.0f);
+                    return Integer.MAX_VALUE;
                 }
-                // ANS-HIGH-030: remember what was pre-paid so castArsSpell can
-                // refund it if the Ars leg fails (insufficient Ars mana or a
-                // downstream cancel). issCost must still go to 0 for the TAIL
-                // mixin's already-paid contract (ANS-CRIT-002).
-                entry.issPaid = issCost;
-                entry.issCost = 0.0f;
+                // ANS-HIGH-030: record the held share so castArsSpell can release it
+                // if the Ars leg fails (insufficient Ars mana or a downstream cancel).
+                holdIronsShare(entry, issHold, issCost);
             }
 
-            event.currentCost = Math.max(0, Math.round(arsCost));
+            int finalCost = Math.max(0, Math.round(arsCost));
             CrossCastTrace.log(entry.attemptId, player, CrossCastTrace.Side.S,
                 CrossCastTrace.Stage.ARS_COST_APPLIED,
                 "mode", "SEPARATE", "unified", true, "base", baseEventCost,
-                "final", event.currentCost, "issSecondary", issCost);
+                "final", finalCost, "issSecondary", issCost);
             logDebug("Ars cross-cast (SEPARATE): base={} multiplier={} total={} ars={} iss={}",
                 baseEventCost, multiplier, totalCost, arsCost, issCost);
-            return;
+            return finalCost;
         }
 
         // Non-SEPARATE (or unified=false): Ars deducts the full multiplied
         // cost from its own pool. The multiplier is the only adjustment we
         // make. multiplierApplied was set atomically at the top.
-        event.currentCost = totalCost;
         CrossCastTrace.log(entry.attemptId, player, CrossCastTrace.Side.S,
             CrossCastTrace.Stage.ARS_COST_APPLIED,
             "mode", mode, "unified", unified, "base", baseEventCost, "final", totalCost);
         logDebug("Ars cross-cast ({}, unified={}): base={} multiplier={} total={}",
             mode, unified, baseEventCost, multiplier, totalCost);
+        return totalCost;
     }
 
     @SubscribeEvent
@@ -558,7 +588,7 @@ public class CrossCastingHandler {
      * Log debug message if debug mode is enabled
      */
     private static void logDebug(String message, Object... args) {
-        if (AnsConfig.DEBUG_MODE != null && AnsConfig.DEBUG_MODE.get()) {
+        if (AnsConfigSnapshot.get().debugMode) {
             LOGGER.info("[CrossCasting] [DEBUG] " + message, args);
         }
     }
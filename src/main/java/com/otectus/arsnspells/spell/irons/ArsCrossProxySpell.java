@@ -33,7 +33,7 @@ import java.util.UUID;
  * Iron's deducts nothing for the proxy itself, and at {@code SpellOnCastEvent}
  * time there is no {@code CrossCastContext} yet (it is opened inside the
  * delegated cast), so {@code CrossCastIronsHandler} adds nothing either. The true
- * cost is taken by the delegated Ars cast via {@code onArsSpellCost}.
+ * cost is taken by the delegated Ars cast via {@code applyArsCrossCastCost}.
  *
  * <p><b>Iron's-gated.</b> Only loaded when {@code irons_spellbooks} is present
  * (constructed by {@link ArsCrossProxyRegistry}).
@@ -83,7 +83,7 @@ public class ArsCrossProxySpell extends AbstractSpell {
 
     @Override
     public int getManaCost(int spellLevel) {
-        // Real cost is charged by the delegated Ars cast (onArsSpellCost). The
+        // Real cost is charged by the delegated Ars cast (applyArsCrossCastCost). The
         // proxy must be free to Iron's so the player is never double-charged.
         return 0;
     }
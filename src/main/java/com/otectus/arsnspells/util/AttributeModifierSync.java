@@ -0,0 +1,75 @@
+package com.otectus.arsnspells.util;
+
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Diffed writes for the mod's transient attribute modifiers (Iron's {@code MAX_MANA} /
+ * {@code MANA_REGEN} bridging, potion redirects, school progression).
+ *
+ * <p>Removing and re-adding a modifier dirties the attribute instance, which forces a
+ * value recompute and queues the attribute for the next client sync, even when the
+ * amount is the same. Callers such as {@code ArsManaCalcHandler.syncIronsMaxAfterCalc}
+ * run on every {@code MaxManaCalcEvent}, so {@link #apply} first compares the existing
+ * modifier's operation and amount (within {@link #EPSILON}) and skips the write when
+ * nothing would change. The modifier name is not compared; it is cosmetic.
+ */
+public final class AttributeModifierSync {
+    /** Amounts closer than this are treated as unchanged. */
+    public static final double EPSILON = 1.0e-6;
+
+    private static final AtomicLong writes = new AtomicLong();
+    private static final AtomicLong skipped = new AtomicLong();
+    private static final AtomicLong removals = new AtomicLong();
+
+    private AttributeModifierSync() {}
+
+    /**
+     * Ensure {@code instance} carries modifier {@code id} with this amount and operation.
+     *
+     * @return {@code true} if the instance was written, {@code false} if it already matched
+     */
+    public static boolean apply(AttributeInstance instance, UUID id, String name, double amount,
+                                AttributeModifier.Operation operation) {
+        if (instance == null) {
+            return false;
+        }
+        AttributeModifier existing = instance.getModifier(id);
+        if (existing != null) {
+            if (matches(existing, amount, operation)) {
+                skipped.incrementAndGet();
+                return false;
+            }
+            instance.removeModifier(id);
+        }
+        instance.addTransientModifier(new AttributeModifier(id, name, amount, operation));
+        writes.incrementAndGet();
+        return true;
+    }
+
+    /** Remove modifier {@code id} if present. @return whether anything was removed */
+    public static boolean remove(AttributeInstance instance, UUID id) {
+        if (instance == null || instance.getModifier(id) == null) {
+            return false;
+        }
+        instance.removeModifier(id);
+        removals.incrementAndGet();
+        return true;
+    }
+
+    /** Same operation and an amount within {@link #EPSILON}. */
+    public static boolean matches(AttributeModifier existing, double amount, AttributeModifier.Operation operation) {
+        return existing.getOperation() == operation && Math.abs(existing.getAmount() - amount) <= EPSILON;
+    }
+
+    public static String getStats() {
+        long w = writes.get();
+        long s = skipped.get();
+        long total = w + s;
+        return String.format("Attribute modifiers: %d writes, %d removals, %d unchanged writes avoided (%.1f%%)",
+            w, removals.get(), s, total == 0 ? 0.0 : 100.0 * s / total);
+    }
+}
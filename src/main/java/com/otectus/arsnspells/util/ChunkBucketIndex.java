@@ -0,0 +1,171 @@
+package com.otectus.arsnspells.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Block positions of one dimension, bucketed by chunk (no Minecraft imports so it is
+ * unit-testable without a Forge bootstrap).
+ *
+ * <p>Backs the Source Jar proximity check: instead of reading every block state in a
+ * 17×4×17 volume, {@code RegenSynergyHandler} asks whether any indexed position lies
+ * in that box, which touches at most the 2×2 chunk buckets a
+ * {@link ChunkScanUtil.ScanBox} covers. A chunk with a bucket (even an empty one)
+ * has been indexed; a chunk without one is unknown, e.g. not loaded yet.
+ *
+ * <p>Chunk keys use the {@link ChunkScanUtil} packing; positions inside a bucket use
+ * the same layout as {@code BlockPos.asLong}. Buckets are tiny (a chunk rarely holds
+ * more than a few jars), so they are plain arrays searched linearly. Mutations happen
+ * on the server main thread; the map is concurrent so a query never sees a torn
+ * bucket, and a bucket replaced by {@link #indexChunk} is published whole.
+ */
+public final class ChunkBucketIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /** Replace the bucket for {@code chunkKey} with exactly {@code positions} (packed). */
+    public void indexChunk(long chunkKey, long[] positions) {
+        Bucket bucket = new Bucket();
+        for (long pos : positions) {
+            bucket.add(pos);
+        }
+        buckets.put(chunkKey, bucket);
+    }
+
+    /** Forget a chunk entirely, e.g. on unload. */
+    public void dropChunk(long chunkKey) {
+        buckets.remove(chunkKey);
+    }
+
+    /** Whether {@code chunkKey} has been indexed and not dropped since. */
+    public boolean isIndexed(long chunkKey) {
+        return buckets.containsKey(chunkKey);
+    }
+
+    /**
+     * Record a position. Ignored (returns {@code false}) when its chunk is not indexed:
+     * that chunk's own {@link #indexChunk} scan will pick the position up.
+     */
+    public boolean add(int x, int y, int z) {
+        Bucket bucket = buckets.get(ChunkScanUtil.chunkKey(x >> 4, z >> 4));
+        if (bucket == null) {
+            return false;
+        }
+        bucket.add(pack(x, y, z));
+        return true;
+    }
+
+    public void remove(int x, int y, int z) {
+        Bucket bucket = buckets.get(ChunkScanUtil.chunkKey(x >> 4, z >> 4));
+        if (bucket != null) {
+            bucket.remove(pack(x, y, z));
+        }
+    }
+
+    /**
+     * Whether any indexed position lies within {@code x ± radius}, {@code z ± radius}
+     * and {@code minY..maxY} (inclusive). Allocates a box; hot callers reuse one with
+     * {@link #anyWithin(ChunkScanUtil.ScanBox)}.
+     */
+    public boolean anyWithin(int x, int z, int radius, int minY, int maxY) {
+        return anyWithin(new ChunkScanUtil.ScanBox().set(x, z, radius, minY, maxY));
+    }
+
+    /** Whether any indexed position lies inside {@code box}. */
+    public boolean anyWithin(ChunkScanUtil.ScanBox box) {
+        for (int cx = box.minChunkX; cx <= box.maxChunkX; cx++) {
+            for (int cz = box.minChunkZ; cz <= box.maxChunkZ; cz++) {
+                Bucket bucket = buckets.get(ChunkScanUtil.chunkKey(cx, cz));
+                if (bucket != null && bucket.anyWithin(box)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Keys of every indexed chunk, e.g. to rescan them after a tag reload. */
+    public long[] indexedChunks() {
+        return buckets.keySet().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /** Indexed positions across all chunks. */
+    public int size() {
+        int n = 0;
+        for (Bucket bucket : buckets.values()) {
+            n += bucket.size;
+        }
+        return n;
+    }
+
+    public int chunkCount() {
+        return buckets.size();
+    }
+
+    public void clear() {
+        buckets.clear();
+    }
+
+    // BlockPos.asLong layout: 26 bits X, 26 bits Z, 12 bits Y.
+    public static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | ((long) y & 0xFFFL);
+    }
+
+    public static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    public static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    public static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    private static final class Bucket {
+        // volatile so a query on another thread sees a fully written array.
+        private volatile long[] positions = EMPTY;
+        private volatile int size;
+
+        void add(long pos) {
+            long[] p = positions;
+            for (int i = 0; i < size; i++) {
+                if (p[i] == pos) {
+                    return;
+                }
+            }
+            if (size == p.length) {
+                p = Arrays.copyOf(p, Math.max(4, p.length * 2));
+            }
+            p[size] = pos;
+            positions = p;
+            size = size + 1;
+        }
+
+        void remove(long pos) {
+            long[] p = positions;
+            for (int i = 0; i < size; i++) {
+                if (p[i] == pos) {
+                    p[i] = p[size - 1];
+                    size = size - 1;
+                    return;
+                }
+            }
+        }
+
+        boolean anyWithin(ChunkScanUtil.ScanBox box) {
+            long[] p = positions;
+            int n = Math.min(size, p.length);
+            for (int i = 0; i < n; i++) {
+                if (box.contains(unpackX(p[i]), unpackY(p[i]), unpackZ(p[i]))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
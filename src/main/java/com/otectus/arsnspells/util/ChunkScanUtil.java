@@ -17,7 +17,8 @@ public final class ChunkScanUtil {
 
     /**
      * Chunk positions covered by a horizontal scan of {@code blockX/blockZ ± radius},
-     * packed as {@code ((long) chunkZ << 32) | (chunkX & 0xFFFFFFFFL)}.
+     * packed as {@code ((long) chunkZ << 32) | (chunkX & 0xFFFFFFFFL)}. Allocates a fresh
+     * array per call; per-tick callers use a reusable {@link ScanBox} instead.
      *
      * <p>Uses arithmetic shift ({@code >> 4}) for block→chunk conversion, which
      * floors correctly at negative coordinates (integer division does not).
@@ -31,12 +32,17 @@ public final class ChunkScanUtil {
         int i = 0;
         for (int cx = minCX; cx <= maxCX; cx++) {
             for (int cz = minCZ; cz <= maxCZ; cz++) {
-                keys[i++] = ((long) cz << 32) | (cx & 0xFFFFFFFFL);
+                keys[i++] = chunkKey(cx, cz);
             }
         }
         return keys;
     }
 
+    /** Pack chunk coordinates the way {@link #coveredChunkKeys} does (same as {@code ChunkPos.asLong}). */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkZ << 32) | (chunkX & 0xFFFFFFFFL);
+    }
+
     /** Unpack the chunk X coordinate from a key produced by {@link #coveredChunkKeys}. */
     public static int chunkX(long key) {
         return (int) key;
@@ -46,4 +52,47 @@ public final class ChunkScanUtil {
     public static int chunkZ(long key) {
         return (int) (key >> 32);
     }
+
+    /**
+     * A reusable scan volume: inclusive block bounds plus the chunk range they cover.
+     * Per-tick callers keep one instance and {@link #set} it per scan rather than
+     * allocating a key array with {@link #coveredChunkKeys}. Not thread-safe; keep one
+     * instance per thread.
+     */
+    public static final class ScanBox {
+        public int minX;
+        public int maxX;
+        public int minY;
+        public int maxY;
+        public int minZ;
+        public int maxZ;
+        public int minChunkX;
+        public int maxChunkX;
+        public int minChunkZ;
+        public int maxChunkZ;
+
+        /** Cover {@code blockX/blockZ ± radius} horizontally and {@code minY..maxY}. */
+        public ScanBox set(int blockX, int blockZ, int radius, int minY, int maxY) {
+            this.minX = blockX - radius;
+            this.maxX = blockX + radius;
+            this.minY = minY;
+            this.maxY = maxY;
+            this.minZ = blockZ - radius;
+            this.maxZ = blockZ + radius;
+            // Arithmetic shift floors at negative coordinates, as in coveredChunkKeys.
+            this.minChunkX = minX >> 4;
+            this.maxChunkX = maxX >> 4;
+            this.minChunkZ = minZ >> 4;
+            this.maxChunkZ = maxZ >> 4;
+            return this;
+        }
+
+        public boolean contains(int x, int y, int z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+
+        public int chunkCount() {
+            return (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.otectus.arsnspells.util;
 
 import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import net.minecraft.world.entity.player.Player;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,7 +49,7 @@ public final class CrossCastTrace {
     }
 
     public static boolean enabled() {
-        return AnsConfig.DEBUG_MODE != null && AnsConfig.DEBUG_MODE.get();
+        return AnsConfigSnapshot.get().debugMode;
     }
 
     public static void log(UUID attemptId, Player player, Side side, Stage stage, Object... kv) {
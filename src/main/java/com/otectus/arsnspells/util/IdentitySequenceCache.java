@@ -0,0 +1,95 @@
+package com.otectus.arsnspells.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, direct-mapped memo keyed by the identity sequence of a list — the
+ * elements' {@link System#identityHashCode} and {@code ==}, never their
+ * {@code equals}. Built for spell recipes, whose glyphs are registry singletons:
+ * the same spell cast again has the same glyph instances in the same order, so
+ * the fingerprint is one pass over the list with no allocation.
+ *
+ * <p>Each fingerprint maps to one of {@code capacity} slots; a colliding recipe
+ * simply replaces the slot. A slot holds an immutable entry (a copy of the key
+ * elements plus the value) published by a single reference write, so concurrent
+ * readers see either the old or the new entry and a lookup always verifies the
+ * full sequence before returning a hit. No locks; a racing miss just computes
+ * twice.
+ */
+public final class IdentitySequenceCache<V> {
+
+    private final Entry<V>[] slots;
+    private final int mask;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /** @param capacity slot count, rounded up to a power of two */
+    @SuppressWarnings("unchecked")
+    public IdentitySequenceCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /** The cached value for exactly this element sequence, or {@code null}. */
+    public V get(List<?> key) {
+        Entry<V> entry = slots[fingerprint(key) & mask];
+        if (entry != null && entry.matches(key)) {
+            hits.incrementAndGet();
+            return entry.value;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(List<?> key, V value) {
+        slots[fingerprint(key) & mask] = new Entry<>(key.toArray(), value);
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = null;
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    static int fingerprint(List<?> key) {
+        int hash = 1;
+        for (int i = 0, n = key.size(); i < n; i++) {
+            hash = 31 * hash + System.identityHashCode(key.get(i));
+        }
+        // Spread the high bits into the slot index.
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry<V> {
+        final Object[] elements;
+        final V value;
+
+        Entry(Object[] elements, V value) {
+            this.elements = elements;
+            this.value = value;
+        }
+
+        boolean matches(List<?> key) {
+            if (key.size() != elements.length) {
+                return false;
+            }
+            for (int i = 0; i < elements.length; i++) {
+                if (key.get(i) != elements[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
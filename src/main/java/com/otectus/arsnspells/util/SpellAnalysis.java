@@ -6,6 +6,7 @@ import com.hollingsworth.arsnouveau.api.spell.AbstractEffect;
 import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
 import com.hollingsworth.arsnouveau.api.spell.Spell;
 import com.otectus.arsnspells.cooldown.CooldownCategory;
+import net.minecraft.resources.ResourceLocation;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -24,7 +25,8 @@ import java.util.Map;
 public final class SpellAnalysis {
 
     /**
-     * Immutable result of analyzing a spell recipe.
+     * Immutable result of analyzing a spell recipe; one instance is shared by every
+     * caller that analyzes the same recipe.
      */
     public static final class Result {
         private final @Nullable AbstractSpellPart firstEffect;
@@ -66,6 +68,16 @@ public final class SpellAnalysis {
     private static final Result EMPTY = new Result(
             null, null, Collections.emptyList(), "generic", CooldownCategory.UTILITY);
 
+    /**
+     * Analysis is a pure function of the recipe's glyph sequence, and the affinity,
+     * progression, cooldown, LP, discount and scaling handlers each ask for it on
+     * every cast. Glyphs are registry singletons, so results are memoized by the
+     * identity sequence of the recipe. Players reuse a handful of spells, so nearly
+     * every call is a hit; 256 slots cover far more distinct recipes than a server
+     * casts in practice.
+     */
+    private static final IdentitySequenceCache<Result> CACHE = new IdentitySequenceCache<>(256);
+
     /**
      * Analyze an Ars Nouveau spell and return structured information about its
      * first effect glyph, school, and cooldown category.
@@ -74,7 +86,7 @@ public final class SpellAnalysis {
         if (spell == null || spell.recipe == null || spell.recipe.isEmpty()) {
             return EMPTY;
         }
-        return analyzeRecipe(spell.recipe);
+        return cachedAnalysis(spell.recipe);
     }
 
     /**
@@ -84,7 +96,45 @@ public final class SpellAnalysis {
         if (recipe == null || recipe.isEmpty()) {
             return EMPTY;
         }
-        return analyzeRecipe(recipe);
+        return cachedAnalysis(recipe);
+    }
+
+    public static String getStats() {
+        long hits = CACHE.hits();
+        long misses = CACHE.misses();
+        long total = hits + misses;
+        return String.format("SpellAnalysis cache: %d hits, %d misses (%.1f%% hit rate)",
+            hits, misses, total == 0 ? 0.0 : 100.0 * hits / total);
+    }
+
+    private static Result cachedAnalysis(List<AbstractSpellPart> recipe) {
+        Result cached = CACHE.get(recipe);
+        if (cached != null) {
+            return cached;
+        }
+        Result result = analyzeRecipe(recipe);
+        CACHE.put(recipe, result);
+        return result;
+    }
+
+    /**
+     * Stable per-spell key for per-spell cooldowns: the recipe's glyph registry names
+     * joined with {@code ','}. Two spells with the same glyphs in the same order share
+     * a cooldown regardless of name or color.
+     */
+    public static String recipeKey(@Nullable Spell spell) {
+        if (spell == null || spell.recipe == null || spell.recipe.isEmpty()) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder();
+        for (AbstractSpellPart part : spell.recipe) {
+            if (part == null) continue;
+            if (key.length() > 0) {
+                key.append(',');
+            }
+            key.append(part.getRegistryName());
+        }
+        return key.toString();
     }
 
     private static Result analyzeRecipe(List<AbstractSpellPart> recipe) {
@@ -157,16 +207,28 @@ public final class SpellAnalysis {
      * SpellScalingUtil.
      */
     public static String deriveSchool(@Nullable AbstractSpellPart effect) {
-        if (effect == null || effect.getRegistryName() == null) {
+        if (effect == null) {
+            return "generic";
+        }
+        return deriveSchool(effect.getRegistryName());
+    }
+
+    /**
+     * School mapping for a glyph registry name. Split out of
+     * {@link #deriveSchool(AbstractSpellPart)} so the mapping can be benchmarked
+     * without constructing Ars spell parts.
+     */
+    public static String deriveSchool(@Nullable ResourceLocation glyphId) {
+        if (glyphId == null) {
             return "generic";
         }
 
-        String known = KNOWN_GLYPH_SCHOOLS.get(effect.getRegistryName().toString());
+        String known = KNOWN_GLYPH_SCHOOLS.get(glyphId.toString());
         if (known != null) {
             return known;
         }
 
-        String path = effect.getRegistryName().getPath().toLowerCase(Locale.ROOT);
+        String path = glyphId.getPath().toLowerCase(Locale.ROOT);
 
         if (path.contains("fire") || path.contains("ignite") || path.contains("flare")
                 || path.contains("burn") || path.contains("plasma")) {
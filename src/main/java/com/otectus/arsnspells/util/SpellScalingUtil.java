@@ -5,7 +5,7 @@ import com.hollingsworth.arsnouveau.api.spell.Spell;
 import com.otectus.arsnspells.affinity.AffinityBonuses;
 import com.otectus.arsnspells.affinity.AffinityType;
 import com.otectus.arsnspells.augmentation.ResonanceManager;
-import com.otectus.arsnspells.config.AnsConfig;
+import com.otectus.arsnspells.config.AnsConfigSnapshot;
 import io.redspace.ironsspellbooks.api.registry.AttributeRegistry;
 import net.minecraft.world.entity.ai.attributes.Attribute;
 import net.minecraft.world.entity.player.Player;
@@ -50,9 +50,13 @@ public class SpellScalingUtil {
     }
 
     public static float getMultiplierForCaster(Player player, Spell spell) {
+        return getMultiplierForCaster(player, SpellAnalysis.analyze(spell));
+    }
+
+    /** Same as {@link #getMultiplierForCaster(Player, Spell)} for an already analysed spell. */
+    public static float getMultiplierForCaster(Player player, SpellAnalysis.Result analysis) {
         float multiplier = (float) player.getAttributeValue(AttributeRegistry.SPELL_POWER.get());
 
-        SpellAnalysis.Result analysis = SpellAnalysis.analyze(spell);
         AbstractSpellPart effect = analysis.firstEffect();
         String school = analysis.dominantSchool();
 
@@ -69,7 +73,7 @@ public class SpellScalingUtil {
         }
 
         // Apply affinity bonus: 0.5% per affinity level for matching school
-        if (AnsConfig.ENABLE_AFFINITY_SYSTEM.get() && !"generic".equals(school)) {
+        if (AnsConfigSnapshot.get().enableAffinitySystem && !"generic".equals(school)) {
             try {
                 AffinityType affinityType = AffinityType.valueOf(school.toUpperCase(Locale.ROOT));
                 float affinityMultiplier = AffinityBonuses.getAttributeMultiplier(player, affinityType);
@@ -80,10 +84,10 @@ public class SpellScalingUtil {
         }
 
         // Apply resonance multiplier from cross-mod mana synergy
-        if (AnsConfig.ENABLE_RESONANCE_SYSTEM.get()) {
+        if (AnsConfigSnapshot.get().enableResonanceSystem) {
             multiplier *= (float) ResonanceManager.getResonance(player);
         }
 
-        return Math.min(multiplier, AnsConfig.SPELL_POWER_CAP.get().floatValue());
+        return Math.min(multiplier, (float) AnsConfigSnapshot.get().spellPowerCap);
     }
 }
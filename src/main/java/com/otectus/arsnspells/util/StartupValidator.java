@@ -37,10 +37,9 @@ public class StartupValidator {
         allChecks &= checkJavaVersion();
 
         // Checks 3-4: File I/O checks (debug only — invasive and unnecessary on most setups)
-        boolean debugMode = false;
-        try {
-            debugMode = com.otectus.arsnspells.config.AnsConfig.DEBUG_MODE.get();
-        } catch (Exception ignored) {}
+        // Runs from the mod constructor, before the SERVER config loads: this is the
+        // default unless the snapshot has already been rebuilt.
+        boolean debugMode = com.otectus.arsnspells.config.AnsConfigSnapshot.get().debugMode;
         if (debugMode) {
             allChecks &= checkConfigWritable();
             allChecks &= checkFileLocks();
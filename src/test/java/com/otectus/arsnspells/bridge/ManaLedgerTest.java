@@ -0,0 +1,207 @@
+package com.otectus.arsnspells.bridge;
+
+import net.minecraft.world.entity.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises {@link ManaLedger}'s staging contract: consumes validate against the staged
+ * balance, each pool receives one net write per flush, and a rollback is a reversal
+ * of the staged entry rather than a second write to the backing pool. Reservations hold
+ * balance without staging, commit to one debit per leg, and abort or expire with no write.
+ *
+ * <p>Bootstrap-free: drives the UUID-keyed package-private core with {@code null}
+ * players and stub bridges that ignore the player argument.
+ */
+class ManaLedgerTest {
+
+    private static final class CountingBridge implements IManaBridge {
+        float pool;
+        final float max;
+        int writes;
+
+        CountingBridge(float initial, float max) {
+            this.pool = initial;
+            this.max = max;
+        }
+
+        @Override public float getMana(Player player) { return pool; }
+        @Override public void setMana(Player player, float amount) { pool = amount; writes++; }
+        @Override public boolean consumeMana(Player player, float amount) {
+            if (pool < amount) return false;
+            pool -= amount;
+            writes++;
+            return true;
+        }
+        @Override public void addMana(Player player, float amount) {
+            if (amount == 0.0f) return;
+            pool += amount;
+            writes++;
+        }
+        @Override public float getMaxMana(Player player) { return max; }
+        @Override public String getBridgeType() { return "COUNTING"; }
+    }
+
+    @Test
+    void consumesAreValidatedAgainstStagedBalance() {
+        UUID id = UUID.randomUUID();
+        CountingBridge ars = new CountingBridge(100.0f, 100.0f);
+
+        assertTrue(ManaLedger.consume(id, null, ars, 60.0f));
+        assertEquals(40.0f, ManaLedger.available(id, null, ars), 1.0e-4f);
+        assertFalse(ManaLedger.consume(id, null, ars, 60.0f),
+            "second cast in the same tick must not spend mana the first already claimed");
+        assertEquals(0, ars.writes, "nothing reaches the pool before the flush");
+
+        ManaLedger.flush(id);
+        assertEquals(40.0f, ars.pool, 1.0e-4f);
+        assertEquals(1, ars.writes);
+    }
+
+    @Test
+    void mixedDeltasCollapseToOneWritePerPool() {
+        UUID id = UUID.randomUUID();
+        CountingBridge ars = new CountingBridge(50.0f, 200.0f);
+        CountingBridge iss = new CountingBridge(500.0f, 1000.0f);
+        long savedBefore = ManaLedger.savedWriteCount();
+
+        assertTrue(ManaLedger.consume(id, null, ars, 20.0f));
+        assertTrue(ManaLedger.consume(id, null, iss, 100.0f));
+        ManaLedger.credit(id, null, ars, 5.0f);   // synergy boost
+        ManaLedger.credit(id, null, ars, 3.0f);   // ritual grant
+        ManaLedger.flush(id);
+
+        assertEquals(38.0f, ars.pool, 1.0e-4f);
+        assertEquals(400.0f, iss.pool, 1.0e-4f);
+        assertEquals(1, ars.writes, "one net write for the Ars pool");
+        assertEquals(1, iss.writes, "one net write for the Iron's pool");
+        assertEquals(savedBefore + 2, ManaLedger.savedWriteCount(),
+            "four ops, two writes: the two folded credits are the saved native syncs");
+    }
+
+    @Test
+    void reversalOfStagedDebitWritesNothing() {
+        UUID id = UUID.randomUUID();
+        CountingBridge ars = new CountingBridge(100.0f, 100.0f);
+
+        assertTrue(ManaLedger.consume(id, null, ars, 40.0f));
+        ManaLedger.reverse(id, null, ars, 40.0f);
+        ManaLedger.flush(id);
+
+        assertEquals(100.0f, ars.pool, 1.0e-4f);
+        assertEquals(0, ars.writes, "rollback is a ledger reversal, not an addMana round trip");
+    }
+
+    @Test
+    void netCreditIsClampedToMax() {
+        UUID id = UUID.randomUUID();
+        CountingBridge ars = new CountingBridge(95.0f, 100.0f);
+
+        ManaLedger.credit(id, null, ars, 20.0f);
+        ManaLedger.flush(id);
+
+        assertEquals(100.0f, ars.pool, 1.0e-4f);
+    }
+
+    @Test
+    void debitOverdrawnByNativeWriteCarriesTheShortfall() {
+        UUID id = UUID.randomUUID();
+        CountingBridge iss = new CountingBridge(30.0f, 100.0f);
+        long shortfallsBefore = ManaLedger.shortfallCount();
+
+        assertTrue(ManaLedger.consume(id, null, iss, 25.0f));
+        iss.pool = 10.0f; // Iron's own cast drained the pool natively mid-tick
+        ManaLedger.flush(id);
+
+        assertEquals(0.0f, iss.pool, 1.0e-4f);
+        assertEquals(shortfallsBefore + 1, ManaLedger.shortfallCount());
+        assertEquals(-15.0f, ManaLedger.available(id, null, iss), 1.0e-4f,
+            "the unpaid 15 stays owed instead of being forgiven");
+        assertFalse(ManaLedger.consume(id, null, iss, 1.0f), "no spending while in debt");
+
+        iss.pool = 40.0f; // regen
+        ManaLedger.flush(id);
+        assertEquals(25.0f, iss.pool, 1.0e-4f, "the carried debt is repaid on the next flush");
+        assertEquals(25.0f, ManaLedger.available(id, null, iss), 1.0e-4f);
+    }
+
+    @Test
+    void reservationHoldsBalanceUntilCommit() {
+        UUID id = UUID.randomUUID();
+        CountingBridge ars = new CountingBridge(100.0f, 100.0f);
+
+        ManaLedger.Reservation hold = ManaLedger.reserve(id, null, ars, 70.0f, 0L);
+        assertNotNull(hold);
+        assertEquals(30.0f, ManaLedger.available(id, null, ars), 1.0e-4f);
+        assertFalse(ManaLedger.consume(id, null, ars, 40.0f),
+            "a consume must not spend mana another transaction has reserved");
+        assertNull(ManaLedger.reserve(id, null, ars, 40.0f, 0L));
+
+        assertTrue(ManaLedger.commit(hold));
+        assertFalse(hold.isOpen());
+        assertEquals(30.0f, ManaLedger.available(id, null, ars), 1.0e-4f);
+        ManaLedger.flush(id);
+        assertEquals(30.0f, ars.pool, 1.0e-4f);
+        assertEquals(1, ars.writes);
+    }
+
+    @Test
+    void dualCostIsTwoReservesAndOneCommit() {
+        UUID id = UUID.randomUUID();
+        CountingBridge ars = new CountingBridge(100.0f, 100.0f);
+        CountingBridge iss = new CountingBridge(500.0f, 1000.0f);
+
+        ManaLedger.Reservation arsHold = ManaLedger.reserve(id, null, ars, 40.0f, 0L);
+        ManaLedger.Reservation issHold = ManaLedger.reserve(id, null, iss, 200.0f, 0L);
+        assertTrue(ManaLedger.commit(arsHold, issHold));
+        ManaLedger.flush(id);
+
+        assertEquals(60.0f, ars.pool, 1.0e-4f);
+        assertEquals(300.0f, iss.pool, 1.0e-4f);
+        assertEquals(1, ars.writes);
+        assertEquals(1, iss.writes);
+    }
+
+    @Test
+    void failedSecondLegAbortsFirstWithoutAnyWrite() {
+        UUID id = UUID.randomUUID();
+        CountingBridge ars = new CountingBridge(100.0f, 100.0f);
+        CountingBridge iss = new CountingBridge(5.0f, 1000.0f);
+
+        ManaLedger.Reservation arsHold = ManaLedger.reserve(id, null, ars, 40.0f, 0L);
+        assertNotNull(arsHold);
+        assertNull(ManaLedger.reserve(id, null, iss, 10.0f, 0L), "Iron's leg cannot be covered");
+        ManaLedger.abort(arsHold);
+
+        assertEquals(100.0f, ManaLedger.available(id, null, ars), 1.0e-4f);
+        assertFalse(ManaLedger.commit(arsHold), "an aborted reservation cannot be committed");
+        ManaLedger.flush(id);
+        assertEquals(100.0f, ars.pool, 1.0e-4f);
+        assertEquals(0, ars.writes, "abort is a release, not a refund write");
+    }
+
+    @Test
+    void uncommittedReservationExpiresAfterTtl() {
+        UUID id = UUID.randomUUID();
+        CountingBridge iss = new CountingBridge(50.0f, 100.0f);
+
+        ManaLedger.Reservation hold = ManaLedger.reserve(id, null, iss, 50.0f, 1000L);
+        ManaLedger.expireReservations(1000L + ManaLedger.RESERVATION_TTL_TICKS - 1);
+        assertTrue(hold.isOpen());
+        assertEquals(0.0f, ManaLedger.available(id, null, iss), 1.0e-4f);
+
+        ManaLedger.expireReservations(1000L + ManaLedger.RESERVATION_TTL_TICKS);
+        assertFalse(hold.isOpen());
+        assertEquals(50.0f, ManaLedger.available(id, null, iss), 1.0e-4f);
+        assertFalse(ManaLedger.commit(hold), "an expired reservation charges nothing");
+        ManaLedger.flush(id);
+        assertEquals(0, iss.writes);
+    }
+}
@@ -0,0 +1,74 @@
+package com.otectus.arsnspells.bridge;
+
+import com.otectus.arsnspells.bridge.ManaRegenBridge.ConversionMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The cached {@code ManaRegenBridge.Factors} must convert exactly as the per-call
+ * formula did before they existed: {@code arsToIronsRegen}/{@code ironsToArsRegen} at
+ * the mode's pool, times the cross-system multiplier, and 0 for DISABLED or an empty
+ * pool. Bootstrap-free: the factors take the pool directly instead of a player.
+ */
+class ManaRegenFactorsTest {
+
+    private static final double[] POOLS = {1000.0, 250.5, 1.0, 0.0, -5.0};
+    private static final double[] RATES = {10.0, 0.37, 1.0e-4, 3.0e4, -2.5};
+    private static final double[] MULTIPLIERS = {1.0, 0.5, 2.25, 0.0};
+
+    /** The pre-cache convertArsToIrons, given the pool that mode resolved to. */
+    private static double oldArsToIrons(ConversionMode mode, double rate, double pool, double multiplier) {
+        if (rate == 0.0 || mode == ConversionMode.DISABLED) return 0.0;
+        return ManaRegenBridge.arsToIronsRegen(rate, pool) * multiplier;
+    }
+
+    /** The pre-cache convertIronsToArs, given the pool that mode resolved to. */
+    private static double oldIronsToArs(ConversionMode mode, double attr, double pool, double multiplier) {
+        if (attr == 0.0 || mode == ConversionMode.DISABLED) return 0.0;
+        return ManaRegenBridge.ironsToArsRegen(attr, pool) * multiplier;
+    }
+
+    private static void assertClose(double expected, double actual, String what) {
+        assertEquals(expected, actual, Math.abs(expected) * 1.0e-12, what);
+    }
+
+    @Test
+    void factorsMatchTheDirectFormulaInEveryMode() {
+        for (ConversionMode mode : ConversionMode.values()) {
+            for (double pool : POOLS) {
+                for (double multiplier : MULTIPLIERS) {
+                    ManaRegenBridge.Factors factors = new ManaRegenBridge.Factors(1, mode, pool, multiplier);
+                    for (double rate : RATES) {
+                        String what = mode + " pool=" + pool + " x" + multiplier + " rate=" + rate;
+                        assertClose(oldArsToIrons(mode, rate, pool, multiplier), factors.toIrons(rate), "ars->irons " + what);
+                        assertClose(oldIronsToArs(mode, rate, pool, multiplier), factors.toArs(rate), "irons->ars " + what);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void emptyOrNegativePoolConvertsToZero() {
+        for (double pool : new double[] {0.0, -1.0}) {
+            ManaRegenBridge.Factors factors = new ManaRegenBridge.Factors(1, ConversionMode.EQUAL_EFFECT, pool, 1.0);
+            assertEquals(0.0, factors.toIrons(50.0), 0.0);
+            assertEquals(0.0, factors.toArs(2.0), 0.0);
+        }
+    }
+
+    @Test
+    void disabledConvertsToZeroWhateverThePool() {
+        ManaRegenBridge.Factors factors = new ManaRegenBridge.Factors(1, ConversionMode.DISABLED, 1000.0, 1.0);
+        assertEquals(0.0, factors.toIrons(50.0), 0.0);
+        assertEquals(0.0, factors.toArs(2.0), 0.0);
+    }
+
+    @Test
+    void ironsBaselineOfOneThousandPoolIsTenPerSecond() {
+        ManaRegenBridge.Factors factors = new ManaRegenBridge.Factors(1, ConversionMode.REFERENCE_POOL, 1000.0, 1.0);
+        assertEquals(10.0, factors.toArs(1.0), 1.0e-12);
+        assertEquals(1.0, factors.toIrons(10.0), 1.0e-12);
+    }
+}
@@ -0,0 +1,89 @@
+package com.otectus.arsnspells.bridge;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * {@link PlayerHandleCache} must serve one resolved handle per entity, re-resolve when
+ * the entity is replaced or invalidated, and never cache the fallback served while the
+ * capability is not attached yet.
+ *
+ * <p>Bootstrap-free: drives the UUID-keyed core with plain owner objects and resolvers
+ * that ignore the (null) player.
+ */
+class PlayerHandleCacheTest {
+
+    @Test
+    void resolvesOncePerEntity() {
+        AtomicInteger resolves = new AtomicInteger();
+        PlayerHandleCache<Object> cache = PlayerHandleCache.create(p -> {
+            resolves.incrementAndGet();
+            return new Object();
+        });
+        UUID id = UUID.randomUUID();
+        Object entity = new Object();
+
+        Object first = cache.get(id, entity, null);
+        assertSame(first, cache.get(id, entity, null));
+        assertEquals(1, resolves.get());
+    }
+
+    @Test
+    void replacedEntityIsResolvedAgain() {
+        PlayerHandleCache<Object> cache = PlayerHandleCache.create(p -> new Object());
+        UUID id = UUID.randomUUID();
+
+        Object beforeRespawn = cache.get(id, new Object(), null);
+        Object afterRespawn = cache.get(id, new Object(), null);
+        assertNotSame(beforeRespawn, afterRespawn, "a new entity must never see the old handle");
+    }
+
+    @Test
+    void invalidateDropsTheSlot() {
+        AtomicInteger resolves = new AtomicInteger();
+        PlayerHandleCache<Object> cache = PlayerHandleCache.create(p -> {
+            resolves.incrementAndGet();
+            return new Object();
+        });
+        UUID id = UUID.randomUUID();
+        Object entity = new Object();
+
+        cache.get(id, entity, null);
+        PlayerHandleCache.invalidateAll(id);
+        cache.get(id, entity, null);
+        assertEquals(2, resolves.get());
+    }
+
+    @Test
+    void fallbackIsServedButNotCachedUntilAttached() {
+        Object attached = new Object();
+        boolean[] capPresent = {false};
+        AtomicInteger fallbacks = new AtomicInteger();
+        PlayerHandleCache<Object> cache = PlayerHandleCache.create(
+            p -> capPresent[0] ? attached : null,
+            p -> {
+                fallbacks.incrementAndGet();
+                return new Object();
+            });
+        UUID id = UUID.randomUUID();
+        Object entity = new Object();
+
+        Object early1 = cache.get(id, entity, null);
+        Object early2 = cache.get(id, entity, null);
+        assertNotSame(early1, early2, "the throwaway fallback must not be pinned");
+        assertEquals(2, fallbacks.get());
+        assertEquals(0, cache.size());
+
+        capPresent[0] = true;
+        assertSame(attached, cache.get(id, entity, null));
+        assertSame(attached, cache.get(id, entity, null));
+        assertEquals(2, fallbacks.get(), "once attached the real handle is cached");
+        assertEquals(1, cache.size());
+    }
+}
@@ -52,7 +52,7 @@ class AuraFailureModeTest {
                 + "through degradedAuraAnswer so aura_failure_mode is honored");
         assertTrue(body.contains("degradedAuraAnswer("),
             "degraded paths must call degradedAuraAnswer");
-        assertTrue(src.contains("AURA_FAILURE_MODE.get()"),
+        assertTrue(src.contains("AnsConfigSnapshot.get().auraFailureMode"),
             "degradedAuraAnswer must consult AnsConfig.AURA_FAILURE_MODE");
     }
 
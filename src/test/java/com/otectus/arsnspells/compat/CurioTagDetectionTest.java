@@ -24,12 +24,15 @@ class CurioTagDetectionTest {
 
     @Test
     void scanCurios_usesTagsNotHardcodedSets() throws IOException {
-        String src = read("src/main/java/com/otectus/arsnspells/compat/SanctifiedLegacyCompat.java");
+        // The curio pass lives in the shared CurioSnapshot; SanctifiedLegacyCompat reads it.
+        String src = read("src/main/java/com/otectus/arsnspells/equipment/CurioSnapshot.java");
+        String compat = read("src/main/java/com/otectus/arsnspells/compat/SanctifiedLegacyCompat.java");
         assertTrue(src.contains("ModTags.CURSED_RINGS")
                 && src.contains("ModTags.VIRTUE_RINGS")
                 && src.contains("ModTags.BLASPHEMY_CURIOS"),
             "curio scanning must check the ars_n_spells item tags");
-        assertFalse(src.contains("CURSED_RING_IDS") || src.contains("BLASPHEMY_IDS"),
+        assertFalse(src.contains("CURSED_RING_IDS") || src.contains("BLASPHEMY_IDS")
+                || compat.contains("CURSED_RING_IDS") || compat.contains("BLASPHEMY_IDS"),
             "the hardcoded ResourceLocation sets must be gone (audit F-1)");
     }
 
@@ -0,0 +1,87 @@
+package com.otectus.arsnspells.config;
+
+import net.minecraftforge.common.ForgeConfigSpec;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Verifies {@link AnsConfigSnapshot} covers every {@link AnsConfig} entry and derives its
+ * computed values correctly. Bootstrap-free: the spec is never loaded here, so the
+ * snapshot under test is the defaults one — the same thing runtime readers see before
+ * the SERVER config arrives.
+ */
+class AnsConfigSnapshotTest {
+
+    @Test
+    void everyConfigValue_hasASnapshotField() {
+        for (Field f : AnsConfig.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(f.getModifiers())
+                    || !ForgeConfigSpec.ConfigValue.class.isAssignableFrom(f.getType())) {
+                continue;
+            }
+            String name = snapshotName(f.getName());
+            try {
+                Field snap = AnsConfigSnapshot.class.getField(name);
+                assertTrue(Modifier.isFinal(snap.getModifiers()),
+                    "AnsConfigSnapshot." + name + " must be final");
+            } catch (NoSuchFieldException e) {
+                fail("AnsConfig." + f.getName() + " has no AnsConfigSnapshot." + name
+                    + " — runtime readers would have to fall back to ConfigValue.get()");
+            }
+        }
+    }
+
+    @Test
+    void defaults_matchSpecDefaults() {
+        AnsConfigSnapshot snap = AnsConfigSnapshot.defaults();
+        assertEquals(AnsConfig.DEFAULT_MAX_MANA.getDefault(), snap.defaultMaxMana);
+        assertEquals(AnsConfig.SOURCE_JAR_SCAN_RADIUS.getDefault(), snap.sourceJarScanRadius);
+        assertEquals(AnsConfig.ENABLE_SOURCE_JAR_SYNERGY.getDefault(), snap.enableSourceJarSynergy);
+        assertEquals(AnsConfig.AURA_FAILURE_MODE.getDefault(), snap.auraFailureMode);
+    }
+
+    @Test
+    void manaMode_followsMasterTogglePrecedence() {
+        AnsConfigSnapshot snap = AnsConfigSnapshot.defaults();
+        ManaUnificationMode expected = snap.enableManaUnification
+            ? ManaUnificationMode.fromString(snap.manaUnificationMode)
+            : ManaUnificationMode.DISABLED;
+        assertSame(expected, snap.manaMode);
+    }
+
+    @Test
+    void dualCostShares_areNormalized() {
+        AnsConfigSnapshot snap = AnsConfigSnapshot.defaults();
+        assertEquals(1.0, snap.dualCostArsShare + snap.dualCostIssShare, 1.0e-9);
+        double total = snap.dualCostArsPercentage + snap.dualCostIssPercentage;
+        assertEquals(snap.dualCostArsPercentage / total, snap.dualCostArsShare, 1.0e-9);
+    }
+
+    @Test
+    void get_beforeConfigLoad_servesDefaultsInsteadOfThrowing() {
+        assertNotNull(AnsConfigSnapshot.get());
+        assertSame(AnsConfigSnapshot.defaults(), AnsConfigSnapshot.rebuild(),
+            "rebuild() on an unloaded spec must publish the defaults snapshot");
+        assertSame(AnsConfigSnapshot.defaults(), AnsConfigSnapshot.get());
+    }
+
+    private static String snapshotName(String constant) {
+        if (!constant.equals(constant.toUpperCase())) {
+            return constant;
+        }
+        String[] parts = constant.toLowerCase().split("_");
+        StringBuilder sb = new StringBuilder(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            sb.append(Character.toUpperCase(parts[i].charAt(0))).append(parts[i].substring(1));
+        }
+        return sb.toString();
+    }
+}
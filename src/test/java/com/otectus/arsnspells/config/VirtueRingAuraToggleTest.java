@@ -40,9 +40,9 @@ class VirtueRingAuraToggleTest {
     void virtueRingHandler_gatesAllThreeEntryPoints() throws IOException {
         String src = Files.readString(Paths.get(
             "src/main/java/com/otectus/arsnspells/events/VirtueRingHandler.java"));
-        int count = countOccurrences(src, "AnsConfig.ENABLE_VIRTUE_AURA_SYSTEM.get()");
+        int count = countOccurrences(src, "AnsConfigSnapshot.get().enableVirtueAuraSystem");
         assertTrue(count >= 3,
-            "VirtueRingHandler must gate onSpellCostCalc, onSpellResolvePre, and onSpellResolvePost "
+            "VirtueRingHandler must gate applyToCost, onSpellResolvePre, and onSpellResolvePost "
                 + "on ENABLE_VIRTUE_AURA_SYSTEM (found " + count + " checks, expected >= 3)");
     }
 
@@ -0,0 +1,111 @@
+package com.otectus.arsnspells.cooldown;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CooldownPrediction} decides when the server still has to send a
+ * {@code CooldownSyncPacket}: always for clients that never announced prediction,
+ * and only on divergence for those that did.
+ */
+class CooldownPredictionTest {
+
+    private static final CooldownCategory CAT = CooldownCategory.OFFENSIVE;
+
+    @Test
+    void nonPredictingClient_getsEveryCast() {
+        UUID id = UUID.randomUUID();
+        assertTrue(CooldownPrediction.onApplied(id, CooldownPrediction.Source.ARS, CAT, 140L, 40L));
+        assertTrue(CooldownPrediction.onApplied(id, CooldownPrediction.Source.ARS, CAT, 300L, 200L));
+    }
+
+    @Test
+    void predictingClient_skipsThePerCastPacket_perSource() {
+        UUID id = UUID.randomUUID();
+        CooldownPrediction.markPredicting(id, CooldownPrediction.Source.ARS);
+
+        assertFalse(CooldownPrediction.onApplied(id, CooldownPrediction.Source.ARS, CAT, 140L, 40L),
+            "the client already computed this end tick");
+        assertTrue(CooldownPrediction.onApplied(id, CooldownPrediction.Source.IRONS, CAT, 400L, 300L),
+            "prediction is announced per source; Iron's casts still sync");
+    }
+
+    @Test
+    void predictingClient_serverDrivenCast_alwaysSends() {
+        UUID id = UUID.randomUUID();
+        CooldownPrediction.markPredicting(id, CooldownPrediction.Source.ARS);
+
+        CooldownPrediction.beginServerCast(id);
+        try {
+            assertTrue(CooldownPrediction.onApplied(id, CooldownPrediction.Source.ARS, CAT, 140L, 40L),
+                "a cross-cast fires no client cast event, so nothing was predicted");
+        } finally {
+            CooldownPrediction.endServerCast(id);
+        }
+        assertFalse(CooldownPrediction.onApplied(id, CooldownPrediction.Source.ARS, CAT, 400L, 300L),
+            "the marker is scoped to the server-driven cast");
+    }
+
+    @Test
+    void predictingClient_castNearExpiry_sendsBecauseTheClientMayLag() {
+        UUID id = UUID.randomUUID();
+        CooldownPrediction.markPredicting(id, CooldownPrediction.Source.ARS);
+        CooldownPrediction.record(id, CAT, 140L);
+
+        assertTrue(CooldownPrediction.onApplied(id, CooldownPrediction.Source.ARS, CAT, 245L, 145L),
+            "a client clock a few ticks behind still showed the old bar and predicted nothing");
+        long now = 245L + CooldownPrediction.CLIENT_LAG_TICKS;
+        assertFalse(CooldownPrediction.onApplied(id, CooldownPrediction.Source.ARS, CAT, now + 100L, now),
+            "past the lag window the client saw the category free and predicted the cast");
+    }
+
+    @Test
+    void rejectedCast_correctsOnlyAClientThatThoughtItWasFree() {
+        UUID id = UUID.randomUUID();
+        CooldownPrediction.markPredicting(id, CooldownPrediction.Source.ARS);
+        CooldownPrediction.record(id, CAT, 0L);
+
+        assertTrue(CooldownPrediction.onRejected(id, CooldownPrediction.Source.ARS, CAT, 200L, 100L),
+            "client view was free, so it predicted a fresh cooldown that must be corrected");
+        assertFalse(CooldownPrediction.onRejected(id, CooldownPrediction.Source.ARS, CAT, 200L, 150L),
+            "after the correction the client shows the real cooldown and predicts nothing");
+    }
+
+    @Test
+    void rejectedCast_nonPredictingClient_needsNothing() {
+        UUID id = UUID.randomUUID();
+        CooldownPrediction.record(id, CAT, 0L);
+        assertFalse(CooldownPrediction.onRejected(id, CooldownPrediction.Source.IRONS, CAT, 200L, 100L));
+    }
+
+    @Test
+    void adminClear_sendsOnlyWhereTheClientStillShowsACooldown() {
+        UUID id = UUID.randomUUID();
+        CooldownPrediction.record(id, CooldownCategory.OFFENSIVE, 500L);
+        CooldownPrediction.record(id, CooldownCategory.DEFENSIVE, 50L);
+
+        assertTrue(CooldownPrediction.onOverride(id, CooldownCategory.OFFENSIVE, 0L, 100L));
+        assertFalse(CooldownPrediction.onOverride(id, CooldownCategory.DEFENSIVE, 0L, 100L),
+            "an expired end and a cleared one look the same on the HUD");
+        assertFalse(CooldownPrediction.onOverride(id, CooldownCategory.OFFENSIVE, 0L, 100L),
+            "a repeated clear is a no-op");
+    }
+
+    @Test
+    void unknownPlayer_overrideAlwaysSends() {
+        assertTrue(CooldownPrediction.onOverride(UUID.randomUUID(), CAT, 0L, 100L));
+    }
+
+    @Test
+    void forget_dropsPredictionState() {
+        UUID id = UUID.randomUUID();
+        CooldownPrediction.markPredicting(id, CooldownPrediction.Source.ARS);
+        CooldownPrediction.forget(id);
+        assertTrue(CooldownPrediction.onApplied(id, CooldownPrediction.Source.ARS, CAT, 140L, 40L),
+            "a new session must re-announce before packets are skipped");
+    }
+}
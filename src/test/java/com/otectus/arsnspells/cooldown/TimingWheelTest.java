@@ -0,0 +1,169 @@
+package com.otectus.arsnspells.cooldown;
+
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link TimingWheel} must hand every entry back exactly on its deadline, across
+ * level cascades, overflow laps and long time jumps; {@link SpellCooldownIndex} must
+ * keep O(1) lookups correct through removals and an NBT round trip.
+ */
+class TimingWheelTest {
+
+    @Test
+    void entriesExpireOnTheirDeadline_acrossEveryLevel() {
+        TimingWheel<Long> wheel = new TimingWheel<>();
+        long start = 1_000_003L;
+        wheel.advance(start, x -> {});
+        long[] delays = {1, 2, 63, 64, 65, 4095, 4096, 4097, 262_143, 262_144, 300_000,
+            (1L << 24) - 1, 1L << 24, (1L << 24) + 77};
+        for (long d : delays) {
+            wheel.schedule(start + d, start + d);
+        }
+
+        List<long[]> fired = new ArrayList<>();
+        for (long t = start + 1; t <= start + (1L << 24) + 100; t += 1) {
+            final long now = t;
+            wheel.advance(t, deadline -> fired.add(new long[] {deadline, now}));
+        }
+
+        assertEquals(delays.length, fired.size());
+        for (long[] f : fired) {
+            assertEquals(f[0], f[1], "entry for " + f[0] + " fired at " + f[1]);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void randomDeadlines_matchASortedReference() {
+        Random random = new Random(42);
+        TimingWheel<Long> wheel = new TimingWheel<>();
+        long now = 123_456L;
+        wheel.advance(now, x -> {});
+        List<Long> expected = new ArrayList<>();
+        List<Long> fired = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            if (random.nextInt(4) == 0) {
+                long deadline = now + 1 + random.nextInt(20_000);
+                wheel.schedule(deadline, deadline);
+                expected.add(deadline);
+            }
+            now++;
+            long at = now;
+            wheel.advance(now, deadline -> {
+                assertEquals(at, (long) deadline);
+                fired.add(deadline);
+            });
+        }
+        long done = now;
+        expected.removeIf(d -> d > done);
+        expected.sort(Long::compare);
+        assertEquals(expected, fired);
+    }
+
+    @Test
+    void longJump_firesEverythingDueAndKeepsTheRest() {
+        TimingWheel<Long> wheel = new TimingWheel<>();
+        wheel.advance(10L, x -> {});
+        wheel.schedule(20L, 20L);
+        wheel.schedule(5_000L, 5_000L);
+        wheel.schedule(500_000L, 500_000L);
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(100_000L, fired::add);
+        assertEquals(List.of(20L, 5_000L), fired);
+
+        wheel.advance(499_999L, fired::add);
+        assertEquals(2, fired.size());
+        wheel.advance(500_000L, fired::add);
+        assertEquals(List.of(20L, 5_000L, 500_000L), fired);
+    }
+
+    @Test
+    void pastDeadline_expiresOnTheNextTick() {
+        TimingWheel<Long> wheel = new TimingWheel<>();
+        wheel.advance(1_000L, x -> {});
+        wheel.schedule(900L, 900L);
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(1_001L, fired::add);
+        assertEquals(List.of(900L), fired);
+    }
+
+    @Test
+    void index_lookupsSurviveRemovalAndGrowth() {
+        SpellCooldownIndex index = new SpellCooldownIndex();
+        int[] ids = new int[100];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = SpellCooldownIndex.idOf("test:wheel_spell_" + i);
+            index.put(ids[i], 1_000L + i);
+        }
+        for (int i = 0; i < ids.length; i += 2) {
+            assertTrue(index.removeIfEnd(ids[i], 1_000L + i));
+        }
+        assertEquals(50, index.size());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(i % 2 == 0 ? 0L : 1_000L + i, index.getEnd(ids[i]));
+        }
+    }
+
+    @Test
+    void index_staleExpiryDoesNotDropARecast() {
+        SpellCooldownIndex index = new SpellCooldownIndex();
+        int id = SpellCooldownIndex.idOf("irons_spellbooks:fireball");
+        index.put(id, 100L);
+        index.put(id, 250L);
+        assertFalse(index.removeIfEnd(id, 100L), "the first cast's sweep must not clear the re-cast");
+        assertEquals(250L, index.getEnd(id));
+    }
+
+    @Test
+    void index_nbtRoundTripUsesSpellKeys() {
+        SpellCooldownIndex index = new SpellCooldownIndex();
+        index.put(SpellCooldownIndex.idOf("ars_nouveau:glyph_projectile,ars_nouveau:glyph_harm"), 400L);
+        index.put(SpellCooldownIndex.idOf("irons_spellbooks:heal"), 900L);
+        CompoundTag nbt = new CompoundTag();
+        index.saveToNBT(nbt, "SpellCooldowns");
+
+        assertEquals(400L, nbt.getCompound("SpellCooldowns")
+            .getLong("ars_nouveau:glyph_projectile,ars_nouveau:glyph_harm"));
+
+        SpellCooldownIndex loaded = new SpellCooldownIndex();
+        loaded.loadFromNBT(nbt, "SpellCooldowns");
+        assertEquals(2, loaded.size());
+        assertEquals(900L, loaded.getEnd(SpellCooldownIndex.idOf("irons_spellbooks:heal")));
+    }
+
+    @Test
+    void index_lookupNeverInterns() {
+        String key = "test:lookup_" + System.nanoTime();
+        int before = SpellCooldownIndex.internedCount();
+
+        assertEquals(SpellCooldownIndex.UNKNOWN, SpellCooldownIndex.lookup(key));
+        assertEquals(SpellCooldownIndex.UNKNOWN, SpellCooldownIndex.lookup(key));
+        assertEquals(before, SpellCooldownIndex.internedCount(), "a read must not grow the id table");
+
+        int id = SpellCooldownIndex.idOf(key);
+        assertEquals(id, SpellCooldownIndex.lookup(key));
+    }
+
+    @Test
+    void index_idTableGrowsAndKeepsEveryKey() {
+        String prefix = "test:grow_" + System.nanoTime() + "_";
+        int[] ids = new int[100];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = SpellCooldownIndex.idOf(prefix + i);
+        }
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(prefix + i, SpellCooldownIndex.keyOf(ids[i]));
+            assertEquals(ids[i], SpellCooldownIndex.idOf(prefix + i), "ids are stable");
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.otectus.arsnspells.affinity.AffinityType;
 import net.minecraft.nbt.CompoundTag;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -108,6 +110,54 @@ class AffinityDecayResidualTest {
             "after clear the carried 0.9 is gone (0.2 alone < 1)");
     }
 
+    @Test
+    void closedFormDecay_matchesTheIntervalLoop() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 2_000; trial++) {
+            int level = 1 + random.nextInt(100);
+            double perInterval = random.nextInt(4) == 0
+                ? random.nextDouble()                  // up to rate 1.0 / 24000-tick interval
+                : random.nextDouble() * 0.01;          // realistic settings
+            int intervals = random.nextInt(5_000);
+            double seed = random.nextDouble() * 0.99;
+
+            DecayAccumulator looped = new DecayAccumulator();
+            looped.accrue(TYPE, seed);
+            int loopLevel = level;
+            for (int i = 0; i < intervals && loopLevel > 0; i++) {
+                loopLevel = Math.max(0, loopLevel - looped.accrue(TYPE, loopLevel * perInterval));
+            }
+            if (loopLevel <= 0) {
+                looped.clear(TYPE);
+            }
+
+            DecayAccumulator closed = new DecayAccumulator();
+            closed.accrue(TYPE, seed);
+            int closedLevel = level - closed.decay(TYPE, level, intervals, perInterval);
+
+            assertEquals(loopLevel, closedLevel, "trial " + trial);
+            // Same residual: one more tiny accrual completes a point in both or neither.
+            double probe = 1e-6;
+            assertEquals(looped.accrue(TYPE, probe), closed.accrue(TYPE, probe), "trial " + trial);
+        }
+    }
+
+    @Test
+    void closedFormDecay_level100AtDefaults_takesTwentyIntervalsPerPoint() {
+        DecayAccumulator decay = new DecayAccumulator();
+        assertEquals(0, decay.decay(TYPE, 100, 19, DEFAULT_PER_INTERVAL));
+        assertEquals(1, decay.decay(TYPE, 100, 1, DEFAULT_PER_INTERVAL),
+            "the 19 skipped intervals must carry their residual like 19 accrue calls");
+    }
+
+    @Test
+    void closedFormDecay_reachingZeroClearsTheRemainder() {
+        DecayAccumulator decay = new DecayAccumulator();
+        assertEquals(2, decay.decay(TYPE, 2, 1_000_000, DEFAULT_PER_INTERVAL));
+        assertEquals(0, decay.accrue(TYPE, 0.5),
+            "an emptied school keeps no carried fraction");
+    }
+
     @Test
     void perTypeRemainders_areIndependent() {
         AffinityType other = AffinityType.values()[1];
@@ -0,0 +1,67 @@
+package com.otectus.arsnspells.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AppliedBonuses} gates progression attribute writes: one per quantum of
+ * bonus, plus the cap and a reset to zero, instead of one per cast.
+ */
+class AppliedBonusesTest {
+
+    private static final double PER_CAST = 0.001;
+    private static final double QUANTUM = 0.02;
+    private static final double CAP = 0.25;
+
+    @Test
+    void defaultCurve_writesOncePerQuantumAndAtTheCap() {
+        AppliedBonuses applied = new AppliedBonuses();
+        int writes = 0;
+        for (int casts = 1; casts <= 400; casts++) {
+            double bonus = Math.min(CAP, casts * PER_CAST);
+            if (applied.take("test_quantum_fire", bonus, QUANTUM, CAP)) {
+                writes++;
+            }
+        }
+        // 12 writes at +2%, +4% ... +24%, then one at the 25% cap; nothing after.
+        assertEquals(13, writes, "400 casts must cost 13 attribute writes, not 400");
+        assertEquals(CAP, applied.get("test_quantum_fire"));
+    }
+
+    @Test
+    void pendingDelta_isMeasuredFromTheLastWrite() {
+        AppliedBonuses applied = new AppliedBonuses();
+        assertTrue(applied.take("test_quantum_ice", 0.02, QUANTUM, CAP));
+        assertFalse(applied.take("test_quantum_ice", 0.039, QUANTUM, CAP));
+        assertEquals(0.02, applied.get("test_quantum_ice"), "a skipped bonus is not recorded");
+        assertTrue(applied.take("test_quantum_ice", 0.04, QUANTUM, CAP));
+    }
+
+    @Test
+    void zeroQuantum_writesEveryChange() {
+        AppliedBonuses applied = new AppliedBonuses();
+        assertTrue(applied.take("test_quantum_nature", 0.001, 0.0, CAP));
+        assertTrue(applied.take("test_quantum_nature", 0.002, 0.0, CAP));
+        assertFalse(applied.take("test_quantum_nature", 0.002, 0.0, CAP), "unchanged bonus is never rewritten");
+    }
+
+    @Test
+    void loweredCapOrReset_isWrittenImmediately() {
+        AppliedBonuses applied = new AppliedBonuses();
+        applied.set("test_quantum_holy", 0.2);
+        assertTrue(applied.take("test_quantum_holy", 0.19, QUANTUM, 0.19), "a lowered cap applies at once");
+        assertTrue(applied.take("test_quantum_holy", 0.0, QUANTUM, CAP), "a cleared bonus removes the modifier");
+    }
+
+    @Test
+    void clear_restartsFromNoModifier() {
+        AppliedBonuses applied = new AppliedBonuses();
+        applied.set("test_quantum_ender", 0.1);
+        applied.clear();
+        assertEquals(0.0, applied.get("test_quantum_ender"));
+        assertFalse(applied.take("test_quantum_ender", 0.01, QUANTUM, CAP));
+    }
+}
@@ -0,0 +1,90 @@
+package com.otectus.arsnspells.data;
+
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SchoolCastCounts} replaced ProgressionData's {@code HashMap<String, Integer>};
+ * the school-name NBT layout written by the map version must still load, and the
+ * interned ids must never leak into saves.
+ */
+class SchoolCastCountsTest {
+
+    private static final String KEY = "ProgressionCounts";
+
+    @Test
+    void legacyMapLayout_loads() {
+        // Exactly what the map-backed saveToNBT wrote: one int per school name.
+        CompoundTag legacy = new CompoundTag();
+        legacy.putInt("fire", 42);
+        legacy.putInt("test_addon_school", 7);
+        CompoundTag nbt = new CompoundTag();
+        nbt.put(KEY, legacy);
+
+        SchoolCastCounts counts = new SchoolCastCounts();
+        counts.loadFromNBT(nbt, KEY);
+
+        assertEquals(42, counts.get("fire"));
+        assertEquals(7, counts.get("test_addon_school"));
+        assertEquals(0, counts.get("ice"));
+    }
+
+    @Test
+    void saveWritesSchoolNames_andRoundTrips() {
+        SchoolCastCounts counts = new SchoolCastCounts();
+        for (int i = 0; i < 3; i++) {
+            counts.increment("lightning");
+        }
+        counts.increment("nature");
+
+        CompoundTag nbt = new CompoundTag();
+        counts.saveToNBT(nbt, KEY);
+        CompoundTag tag = nbt.getCompound(KEY);
+        assertEquals(3, tag.getInt("lightning"));
+        assertEquals(1, tag.getInt("nature"));
+        assertEquals(2, tag.getAllKeys().size(), "schools never cast are not written");
+
+        SchoolCastCounts reloaded = new SchoolCastCounts();
+        reloaded.loadFromNBT(nbt, KEY);
+        assertEquals(Map.of("lightning", 3, "nature", 1), reloaded.asMap());
+    }
+
+    @Test
+    void load_replacesPreviousState() {
+        SchoolCastCounts counts = new SchoolCastCounts();
+        counts.increment("holy");
+
+        counts.loadFromNBT(new CompoundTag(), KEY);
+
+        assertEquals(0, counts.get("holy"), "a second load must not merge with stale state");
+        assertTrue(counts.asMap().isEmpty());
+    }
+
+    @Test
+    void idsAreSharedAcrossPlayers_butCountsAreNot() {
+        SchoolCastCounts a = new SchoolCastCounts();
+        SchoolCastCounts b = new SchoolCastCounts();
+        a.increment("eldritch");
+
+        assertEquals(SchoolCastCounts.intern("eldritch"), SchoolCastCounts.find("eldritch"));
+        assertEquals(1, a.get("eldritch"));
+        assertEquals(0, b.get("eldritch"));
+        assertFalse(b.asMap().containsKey("eldritch"));
+    }
+
+    @Test
+    void manySchools_growTheCounterArray() {
+        SchoolCastCounts counts = new SchoolCastCounts();
+        for (int i = 0; i < 40; i++) {
+            counts.increment("grow_school_" + i);
+        }
+        assertEquals(1, counts.get("grow_school_39"));
+        assertEquals(40, counts.asMap().size());
+    }
+}
@@ -0,0 +1,88 @@
+package com.otectus.arsnspells.equipment;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The gear fingerprint that decides whether a change event forces an equipment bonus
+ * recompute. Items are compared by identity, so plain objects stand in for registry
+ * singletons; boxed integers stand in for tags.
+ */
+class EquipmentFingerprintTest {
+
+    private static final Object HELMET = new Object();
+    private static final Object RING = new Object();
+
+    /** A tag whose hash, like {@code CompoundTag}'s entry sum, can collide. */
+    private record CollidingTag(String affix, int hash) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static EquipmentFingerprint of(Object... itemsAndTags) {
+        EquipmentFingerprint fingerprint = new EquipmentFingerprint();
+        for (int i = 0; i < itemsAndTags.length; i += 2) {
+            fingerprint.add(itemsAndTags[i], itemsAndTags[i + 1]);
+        }
+        return fingerprint;
+    }
+
+    @Test
+    void sameItemsAndTags_match() {
+        assertTrue(of(HELMET, 7, null, 0, RING, 42).matches(of(HELMET, 7, null, 0, RING, 42)));
+    }
+
+    @Test
+    void changedTag_doesNotMatch() {
+        // e.g. an Apotheosis reforge rewrites the affix NBT on the same item.
+        assertFalse(of(HELMET, 7, RING, 42).matches(of(HELMET, 7, RING, 43)));
+    }
+
+    @Test
+    void differentTagsWithTheSameHash_doNotMatch() {
+        CollidingTag fire = new CollidingTag("fire", 99);
+        CollidingTag frost = new CollidingTag("frost", 99);
+        assertFalse(of(HELMET, fire).matches(of(HELMET, frost)), "a hash match alone is not equality");
+        assertTrue(of(HELMET, fire).matches(of(HELMET, new CollidingTag("fire", 99))));
+
+        EquipmentFingerprint combined = of(RING, 1);
+        combined.addAll(of(HELMET, fire));
+        assertFalse(combined.matches(of(RING, 1, HELMET, frost)), "addAll keeps the tags");
+    }
+
+    @Test
+    void movedOrRemovedItem_doesNotMatch() {
+        assertFalse(of(HELMET, 7, RING, 42).matches(of(RING, 42, HELMET, 7)), "slot order matters");
+        assertFalse(of(HELMET, 7, RING, 42).matches(of(HELMET, 7, null, 0)));
+        assertFalse(of(HELMET, 7, RING, 42).matches(of(HELMET, 7)), "a resized curio slot set differs");
+        assertFalse(of(HELMET, 7).matches(null));
+    }
+
+    @Test
+    void addAll_appendsTheCurioPartInOrder() {
+        // EquipmentIntegration appends the CurioSnapshot's slots after the vanilla ones.
+        EquipmentFingerprint combined = of(HELMET, 7);
+        combined.addAll(of(null, 0, RING, 42));
+        assertTrue(combined.matches(of(HELMET, 7, null, 0, RING, 42)));
+        assertEquals(3, combined.size());
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        EquipmentFingerprint a = new EquipmentFingerprint();
+        EquipmentFingerprint b = new EquipmentFingerprint();
+        for (int i = 0; i < 40; i++) {
+            a.add(RING, i);
+            b.add(RING, i);
+        }
+        assertEquals(40, a.size());
+        assertTrue(a.matches(b));
+        b.add(RING, 40);
+        assertFalse(a.matches(b));
+    }
+}
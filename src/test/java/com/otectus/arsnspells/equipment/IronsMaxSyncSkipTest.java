@@ -0,0 +1,70 @@
+package com.otectus.arsnspells.equipment;
+
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.attributes.RangedAttribute;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code isIronsMaxSyncedTo} lets {@code ArsManaCalcHandler} skip scheduling
+ * {@code syncIronsMaxToArs}, so the two must agree: "synced" exactly when the sync
+ * would not touch the attribute. Checked on the attribute-instance halves with a plain
+ * instance standing in for Iron's MAX_MANA (base 100).
+ */
+class IronsMaxSyncSkipTest {
+
+    private final int[] dirty = {0};
+    private final AttributeInstance maxMana = new AttributeInstance(
+        new RangedAttribute("test.max_mana", 100.0, 0.0, 1_000_000.0), i -> dirty[0]++);
+
+    /** Syncs, and asserts the skip check predicted whether the sync would write. */
+    private void syncAndCheck(float arsMax) {
+        boolean predictedSynced = EquipmentIntegration.isMaxSyncedTo(maxMana, arsMax);
+        int before = dirty[0];
+        EquipmentIntegration.syncMaxTo(maxMana, arsMax);
+        assertEquals(predictedSynced, dirty[0] == before,
+            "isMaxSyncedTo(" + arsMax + ") must predict whether the sync writes");
+        assertTrue(EquipmentIntegration.isMaxSyncedTo(maxMana, arsMax), "a sync must leave it synced");
+    }
+
+    @Test
+    void arsAboveBase_addsThenHoldsTheModifier() {
+        assertFalse(EquipmentIntegration.isMaxSyncedTo(maxMana, 300.0f));
+        syncAndCheck(300.0f);
+        assertEquals(300.0, maxMana.getValue(), 1e-9);
+        syncAndCheck(300.0f);
+    }
+
+    @Test
+    void neededZero_withModifierPresent_isNotSynced() {
+        syncAndCheck(300.0f);
+        assertFalse(EquipmentIntegration.isMaxSyncedTo(maxMana, 100.0f),
+            "the stale modifier must still be removed");
+        syncAndCheck(100.0f);
+        assertEquals(100.0, maxMana.getValue(), 1e-9);
+    }
+
+    @Test
+    void neededZero_withoutModifier_isSynced() {
+        assertTrue(EquipmentIntegration.isMaxSyncedTo(maxMana, 80.0f), "below base clamps to 0 needed");
+        syncAndCheck(80.0f);
+        syncAndCheck(100.0f);
+    }
+
+    @Test
+    void changedArsMax_isNotSynced() {
+        syncAndCheck(300.0f);
+        assertFalse(EquipmentIntegration.isMaxSyncedTo(maxMana, 320.0f));
+        syncAndCheck(320.0f);
+        assertEquals(320.0, maxMana.getValue(), 1e-9);
+    }
+
+    @Test
+    void missingAttribute_isSyncedAndSyncIsANoOp() {
+        assertTrue(EquipmentIntegration.isMaxSyncedTo(null, 300.0f));
+        EquipmentIntegration.syncMaxTo(null, 300.0f);
+    }
+}
@@ -0,0 +1,74 @@
+package com.otectus.arsnspells.equipment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The shared per-stack bonus memo. Lists stand in for NBT tags: like {@code CompoundTag}
+ * they compare by content, so distinct-but-equal tags must hit.
+ */
+class ItemBonusMemoTest {
+
+    private static final Object RING = new Object();
+    private static final Object AMULET = new Object();
+
+    @Test
+    void equalTagInSameSlot_hits() {
+        ItemBonusMemo<Object, String> memo = new ItemBonusMemo<>(8);
+        memo.put(RING, "curio:ring#0", List.of("affix", 3), "bonus");
+
+        assertEquals("bonus", memo.get(RING, "curio:ring#0", List.of("affix", 3)));
+        assertEquals(1, memo.hits());
+        assertEquals(0, memo.misses());
+    }
+
+    @Test
+    void differentTagSlotOrItem_misses() {
+        ItemBonusMemo<Object, String> memo = new ItemBonusMemo<>(8);
+        memo.put(RING, "curio:ring#0", List.of("affix", 3), "bonus");
+
+        assertNull(memo.get(RING, "curio:ring#0", List.of("affix", 4)), "reforged affix");
+        assertNull(memo.get(RING, "curio:ring#1", List.of("affix", 3)), "other slot index");
+        assertNull(memo.get(AMULET, "curio:ring#0", List.of("affix", 3)));
+        assertNull(memo.get(RING, "curio:ring#0", null));
+        assertEquals(4, memo.misses());
+        assertEquals(0.0, memo.hitRatio());
+    }
+
+    @Test
+    void nullTag_isAKeyLikeAnyOther() {
+        ItemBonusMemo<Object, String> memo = new ItemBonusMemo<>(8);
+        memo.put(RING, "head", null, "plain");
+        assertEquals("plain", memo.get(RING, "head", null));
+    }
+
+    @Test
+    void leastRecentlyUsedVariant_isEvictedPerItem() {
+        ItemBonusMemo<Object, String> memo = new ItemBonusMemo<>(2);
+        memo.put(RING, "head", List.of(1), "one");
+        memo.put(RING, "head", List.of(2), "two");
+        memo.get(RING, "head", List.of(1)); // touch, so 2 is now eldest
+        memo.put(RING, "head", List.of(3), "three");
+        memo.put(AMULET, "head", List.of(1), "other item has its own budget");
+
+        assertEquals(1, memo.evictions());
+        assertEquals("one", memo.get(RING, "head", List.of(1)));
+        assertNull(memo.get(RING, "head", List.of(2)));
+        assertEquals("three", memo.get(RING, "head", List.of(3)));
+        assertEquals("other item has its own budget", memo.get(AMULET, "head", List.of(1)));
+    }
+
+    @Test
+    void clear_dropsEverything_andHitRatioTracksLookups() {
+        ItemBonusMemo<Object, String> memo = new ItemBonusMemo<>(8);
+        memo.put(RING, "head", null, "plain");
+        memo.get(RING, "head", null);
+        memo.clear();
+        assertNull(memo.get(RING, "head", null));
+        assertEquals(0.5, memo.hitRatio());
+    }
+}
@@ -0,0 +1,99 @@
+package com.otectus.arsnspells.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Verifies that {@code ArsCastPipeline} is the only ANS listener for Ars Nouveau's
+ * {@code SpellCastEvent} and that it runs its stages in the documented order, with a
+ * cooldown rejection cancelling the cast before any other stage runs.
+ *
+ * <p>The sequencing is driven through {@code runStages} with recording stub stages and
+ * no cast context. That no stage handler subscribes on its own is a property of the
+ * source, so, like {@code CrossCastingHandlerPriorityTest}, that check reads the text.
+ */
+class ArsCastPipelineOrderTest {
+
+    private static final Path EVENTS = Paths.get("src/main/java/com/otectus/arsnspells/events");
+
+    @Test
+    void pipelineIsTheOnlySpellCastListener() {
+        for (String stage : new String[] {
+                "CooldownHandler", "AffinityHandler", "ProgressionHandler", "ArsSpellScalingHandler"}) {
+            String source = read(EVENTS.resolve(stage + ".java"));
+            assertFalse(source.contains("(SpellCastEvent "),
+                stage + " must not subscribe to SpellCastEvent itself; it runs as a stage of ArsCastPipeline");
+            assertTrue(source.contains("static void applyCast(ArsCastPipeline.CastContext ctx)")
+                    || source.contains("static boolean applyCast(ArsCastPipeline.CastContext ctx)"),
+                stage + " must expose its cast stage as applyCast(CastContext)");
+        }
+    }
+
+    @Test
+    void stagesRunInOrder() {
+        RecordingStages stages = new RecordingStages(true);
+        assertTrue(ArsCastPipeline.runStages(null, true, true, stages));
+        assertEquals(List.of("cooldown", "affinity", "progression", "scaling"), stages.ran);
+    }
+
+    @Test
+    void cooldownRejectionEndsThePipeline() {
+        RecordingStages stages = new RecordingStages(false);
+        assertFalse(ArsCastPipeline.runStages(null, true, true, stages),
+            "a rejected cooldown must tell the listener to cancel the cast");
+        assertEquals(List.of("cooldown"), stages.ran);
+    }
+
+    @Test
+    void clientSideCastOnlyRunsTheCooldownStage() {
+        RecordingStages stages = new RecordingStages(true);
+        assertTrue(ArsCastPipeline.runStages(null, false, true, stages));
+        assertEquals(List.of("cooldown"), stages.ran);
+    }
+
+    @Test
+    void ironsStagesAreSkippedWithoutIrons() {
+        RecordingStages stages = new RecordingStages(true);
+        assertTrue(ArsCastPipeline.runStages(null, true, false, stages));
+        assertEquals(List.of("cooldown", "affinity"), stages.ran);
+    }
+
+    private static final class RecordingStages implements ArsCastPipeline.Stages {
+        final boolean cooldownAllows;
+        final List<String> ran = new ArrayList<>();
+
+        RecordingStages(boolean cooldownAllows) {
+            this.cooldownAllows = cooldownAllows;
+        }
+
+        @Override
+        public boolean cooldown(ArsCastPipeline.CastContext ctx) {
+            ran.add("cooldown");
+            return cooldownAllows;
+        }
+
+        @Override public void affinity(ArsCastPipeline.CastContext ctx) { ran.add("affinity"); }
+        @Override public void progression(ArsCastPipeline.CastContext ctx) { ran.add("progression"); }
+        @Override public void scaling(ArsCastPipeline.CastContext ctx) { ran.add("scaling"); }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            fail("Could not read " + path + ": " + e.getMessage());
+            return "";
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.otectus.arsnspells.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * {@code ArsManaCalcHandler} reuses a player's cached contribution only while the
+ * equipment version, the config snapshot version and the live Iron's MAX_MANA all
+ * match; a change to any one of them forces a recompute.
+ *
+ * <p>Bootstrap-free: drives the UUID-keyed memo directly.
+ */
+class ArsManaCalcContributionTest {
+
+    private static final int EQUIPMENT = 3;
+    private static final int CONFIG = 7;
+    private static final double IRONS_MAX = 250.0;
+
+    private static UUID remembered(ArsManaCalcHandler.Contribution contribution) {
+        UUID id = UUID.randomUUID();
+        ArsManaCalcHandler.remember(id, contribution);
+        return id;
+    }
+
+    private static ArsManaCalcHandler.Contribution contribution() {
+        return new ArsManaCalcHandler.Contribution(EQUIPMENT, CONFIG, IRONS_MAX, true, 40.0, true, 1.5);
+    }
+
+    @Test
+    void unchangedKeysHit() {
+        ArsManaCalcHandler.Contribution stored = contribution();
+        UUID id = remembered(stored);
+        assertSame(stored, ArsManaCalcHandler.cached(id, EQUIPMENT, CONFIG, IRONS_MAX));
+    }
+
+    @Test
+    void equipmentVersionChangeMisses() {
+        UUID id = remembered(contribution());
+        assertNull(ArsManaCalcHandler.cached(id, EQUIPMENT + 1, CONFIG, IRONS_MAX));
+    }
+
+    @Test
+    void configVersionChangeMisses() {
+        UUID id = remembered(contribution());
+        assertNull(ArsManaCalcHandler.cached(id, EQUIPMENT, CONFIG + 1, IRONS_MAX));
+    }
+
+    @Test
+    void ironsMaxManaChangeMisses() {
+        UUID id = remembered(contribution());
+        assertNull(ArsManaCalcHandler.cached(id, EQUIPMENT, CONFIG, IRONS_MAX + 50.0),
+            "the EQUAL_EFFECT regen delta depends on the live Iron's pool");
+    }
+
+    @Test
+    void forgottenPlayerMisses() {
+        UUID id = remembered(contribution());
+        ArsManaCalcHandler.forget(id);
+        assertNull(ArsManaCalcHandler.cached(id, EQUIPMENT, CONFIG, IRONS_MAX));
+    }
+}
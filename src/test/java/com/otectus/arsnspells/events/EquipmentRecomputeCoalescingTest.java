@@ -0,0 +1,56 @@
+package com.otectus.arsnspells.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code EquipmentHandler} change listeners only mark the player dirty; the tick-end
+ * flush drains the dirty set and recomputes each player once, however many equipment
+ * events fired for them that tick.
+ *
+ * <p>Bootstrap-free: drives the UUID-keyed dirty set directly.
+ */
+class EquipmentRecomputeCoalescingTest {
+
+    @Test
+    void repeatedChangesInOneTickDrainOnce() {
+        EquipmentHandler.drainDirty();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+
+        assertTrue(EquipmentHandler.markDirty(a));
+        assertFalse(EquipmentHandler.markDirty(a), "a second change coalesces into the pending recompute");
+        assertTrue(EquipmentHandler.markDirty(b));
+        assertFalse(EquipmentHandler.markDirty(a));
+
+        assertEquals(List.of(a, b), EquipmentHandler.drainDirty(), "once each, in the order first marked");
+        assertTrue(EquipmentHandler.drainDirty().isEmpty(), "the next tick starts clean");
+    }
+
+    @Test
+    void changeAfterTheFlushIsPendingAgain() {
+        EquipmentHandler.drainDirty();
+        UUID id = UUID.randomUUID();
+
+        EquipmentHandler.markDirty(id);
+        EquipmentHandler.drainDirty();
+        assertTrue(EquipmentHandler.markDirty(id));
+        assertEquals(List.of(id), EquipmentHandler.drainDirty());
+    }
+
+    @Test
+    void logoutDropsThePendingRecompute() {
+        EquipmentHandler.drainDirty();
+        UUID id = UUID.randomUUID();
+
+        EquipmentHandler.markDirty(id);
+        EquipmentHandler.forgetDirty(id);
+        assertTrue(EquipmentHandler.drainDirty().isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+package com.otectus.arsnspells.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Verifies that {@code IronsCastPipeline} owns every ANS listener for Iron's
+ * {@code SpellPreCastEvent} / {@code SpellOnCastEvent} and keeps the old priorities:
+ * LP staging and consumption at {@code HIGHEST}, everything else at {@code NORMAL}
+ * in the documented stage order.
+ *
+ * <p>The pipeline references Iron's Spellbooks API types that are not on the
+ * unit-test classpath, so this asserts on the source text.
+ */
+class IronsCastPipelineOrderTest {
+
+    private static final Path EVENTS = Paths.get("src/main/java/com/otectus/arsnspells/events");
+    private static final Path CROSS_CAST = Paths.get(
+        "src/main/java/com/otectus/arsnspells/spell/CrossCastIronsHandler.java");
+
+    @Test
+    void stagesDoNotSubscribeToCastEventsThemselves() {
+        for (Path stage : new Path[] {
+                EVENTS.resolve("IronsLPHandler.java"), EVENTS.resolve("IronsCooldownHandler.java"),
+                EVENTS.resolve("IronsAffinityHandler.java"), EVENTS.resolve("IronsProgressionHandler.java"),
+                CROSS_CAST}) {
+            String source = read(stage);
+            assertFalse(source.contains("(SpellPreCastEvent event)") || source.contains("(SpellOnCastEvent event)"),
+                stage.getFileName() + " must not listen for Iron's cast events; it runs as a stage of IronsCastPipeline");
+        }
+    }
+
+    @Test
+    void lpStagesRunAtHighestPriority() {
+        String source = read(EVENTS.resolve("IronsCastPipeline.java"));
+
+        assertAnnotated(source, "@SubscribeEvent(priority = EventPriority.HIGHEST)",
+            "public void onIronsSpellPreCastHighest(", "IronsLPHandler.applyPreCast(");
+        assertAnnotated(source, "@SubscribeEvent(priority = EventPriority.HIGHEST)",
+            "public void onIronsSpellCastHighest(", "IronsLPHandler.applyCast(");
+        assertAnnotated(source, "@SubscribeEvent\n",
+            "public void onIronsSpellPreCast(", "IronsCooldownHandler.applyPreCast(");
+    }
+
+    @Test
+    void onCastStagesRunInOrder() {
+        String source = read(EVENTS.resolve("IronsCastPipeline.java"));
+
+        int method = source.indexOf("public void onIronsSpellCast(");
+        int crossCast = source.indexOf("CrossCastIronsHandler.applyCast(", method);
+        int affinity = source.indexOf("IronsAffinityHandler.applyCast(", method);
+        int progression = source.indexOf("IronsProgressionHandler.applyCast(", method);
+
+        assertTrue(method > 0 && crossCast > method && affinity > 0 && progression > 0,
+            "onIronsSpellCast must call every OnCast stage: crossCast=" + crossCast
+                + " affinity=" + affinity + " progression=" + progression);
+        assertTrue(crossCast < affinity && affinity < progression,
+            "OnCast stage order must be cross-cast cost -> affinity -> progression");
+    }
+
+    private static void assertAnnotated(String source, String annotation, String method, String stageCall) {
+        int methodIdx = source.indexOf(method);
+        int annotationIdx = source.lastIndexOf(annotation, methodIdx);
+        int callIdx = source.indexOf(stageCall, methodIdx);
+        int nextMethod = source.indexOf("public void ", methodIdx + method.length());
+        assertTrue(methodIdx > 0 && annotationIdx > 0 && methodIdx - annotationIdx < 120,
+            annotation.trim() + " must annotate " + method);
+        assertTrue(callIdx > methodIdx && (nextMethod < 0 || callIdx < nextMethod),
+            method + " must run " + stageCall);
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            fail("Could not read source at " + path.toAbsolutePath() + ": " + e);
+            return "";
+        }
+    }
+}
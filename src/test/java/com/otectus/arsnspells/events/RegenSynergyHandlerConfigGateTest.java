@@ -26,7 +26,7 @@ class RegenSynergyHandlerConfigGateTest {
     void killSwitch_gatesTickBeforeScan() throws IOException {
         String src = source();
         int tickIdx = src.indexOf("public void onPlayerTick");
-        int gateIdx = src.indexOf("ENABLE_SOURCE_JAR_SYNERGY.get()", tickIdx);
+        int gateIdx = src.indexOf("cfg.enableSourceJarSynergy", tickIdx);
         int scanIdx = src.indexOf("scanForSourceJar(level, pos", tickIdx);
         assertTrue(gateIdx > tickIdx,
             "onPlayerTick must check ENABLE_SOURCE_JAR_SYNERGY (server-owner kill switch)");
@@ -37,7 +37,7 @@ class RegenSynergyHandlerConfigGateTest {
     @Test
     void scanCadence_isConfigDriven() throws IOException {
         String src = source();
-        assertTrue(src.contains("SOURCE_JAR_SCAN_INTERVAL_TICKS"),
+        assertTrue(src.contains("cfg.sourceJarScanIntervalTicks"),
             "scan cadence must come from source_jar_scan_interval_ticks");
         assertFalse(src.contains("tickCount % 20"),
             "the hardcoded 20-tick cadence must be gone");
@@ -46,7 +46,7 @@ class RegenSynergyHandlerConfigGateTest {
     @Test
     void radius_isConfigDriven() throws IOException {
         String src = source();
-        assertTrue(src.contains("SOURCE_JAR_SCAN_RADIUS"),
+        assertTrue(src.contains("cfg.sourceJarScanRadius"),
             "scan radius must come from source_jar_scan_radius");
         assertFalse(src.contains("SCAN_RADIUS = 4"),
             "the hardcoded SCAN_RADIUS constant must be gone");
@@ -0,0 +1,94 @@
+package com.otectus.arsnspells.mixin;
+
+import com.otectus.arsnspells.mixin.ars.MixinManaCapability;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ANS-HIGH-010 — the {@code MixinManaCapability} recursion guard must be scoped to a
+ * single player: one player's in-flight bridge call must not make other players'
+ * ManaCap reads fall through to native data.
+ *
+ * <p>The guard is now a per-ManaCap {@code int} depth counter (one cap per entity, so
+ * per-player by construction) instead of a {@code ThreadLocal<Set<UUID>>}, so a bridge
+ * read allocates nothing. The mixin class has no abstract methods, so the tests
+ * drive the guard helpers on plain anonymous instances — one per simulated player.
+ */
+class MixinManaCapabilityPerPlayerGuardTest {
+
+    private static MixinManaCapability newCap() {
+        return new MixinManaCapability() {};
+    }
+
+    private static void call(MixinManaCapability cap, String name) throws Exception {
+        Method m = MixinManaCapability.class.getDeclaredMethod(name);
+        m.setAccessible(true);
+        m.invoke(cap);
+    }
+
+    private static boolean inGuard(MixinManaCapability cap) throws Exception {
+        Method m = MixinManaCapability.class.getDeclaredMethod("arsnspells$inBridgeCall");
+        m.setAccessible(true);
+        return (boolean) m.invoke(cap);
+    }
+
+    @Test
+    void guard_isInstanceIntCounter_notThreadLocal() throws Exception {
+        Field f = MixinManaCapability.class.getDeclaredField("arsnspells$bridgeDepth");
+        assertEquals(int.class, f.getType(), "guard must be a primitive depth counter");
+        assertFalse(Modifier.isStatic(f.getModifiers()),
+            "guard must live on the ManaCap instance so it is scoped to one player");
+        for (Field other : MixinManaCapability.class.getDeclaredFields()) {
+            assertFalse(ThreadLocal.class.isAssignableFrom(other.getType()),
+                "no ThreadLocal guard may remain: " + other.getName());
+        }
+    }
+
+    @Test
+    void guardOnOnePlayer_doesNotBlockAnother() throws Exception {
+        MixinManaCapability playerA = newCap();
+        MixinManaCapability playerB = newCap();
+
+        call(playerA, "arsnspells$enterGuard");
+        assertTrue(inGuard(playerA), "A's own re-entrant read must be guarded");
+        assertFalse(inGuard(playerB),
+            "B's reads must still route through the bridge while A's call is in flight (ANS-HIGH-010)");
+
+        call(playerA, "arsnspells$exitGuard");
+        assertFalse(inGuard(playerA));
+        assertFalse(inGuard(playerB));
+    }
+
+    @Test
+    void nestedEntry_keepsGuardUntilOutermostExit() throws Exception {
+        MixinManaCapability cap = newCap();
+        call(cap, "arsnspells$enterGuard");
+        call(cap, "arsnspells$enterGuard");
+        call(cap, "arsnspells$exitGuard");
+        assertTrue(inGuard(cap), "inner exit must not clear the outer call's guard");
+        call(cap, "arsnspells$exitGuard");
+        assertFalse(inGuard(cap));
+    }
+
+    @Test
+    void source_hasNoPerCallAllocationInGuard() throws IOException {
+        String src = Files.readString(Paths.get(
+            "src/main/java/com/otectus/arsnspells/mixin/ars/MixinManaCapability.java"));
+        assertFalse(src.contains("ThreadLocal<"), "ThreadLocal guard must be gone");
+        assertFalse(src.contains("getUUID()"),
+            "guard checks must not hash the player UUID on every getter call");
+        // ANS-HIGH-010: the old global-boolean pattern must not come back either.
+        assertFalse(src.contains("arsnspells$inBridgeCall.set("),
+            "old global-boolean .set(...) pattern must be gone (ANS-HIGH-010)");
+    }
+}
@@ -50,8 +50,12 @@ class MixinSpellResolverContextDeletedTest {
             "src/main/java/com/otectus/arsnspells/events/CursedRingHandler.java"));
         assertFalse(src.contains("import com.otectus.arsnspells.util.CasterContext"),
             "CursedRingHandler must no longer import CasterContext");
-        assertTrue(src.contains("event.context") && src.contains(".getSpell()"),
-            "CursedRingHandler must read spell directly from event.context.getSpell()");
+        // The spell is read once by the fused cost stage and handed to the ring as a
+        // lazy analysis.
+        String stage = Files.readString(Paths.get(
+            "src/main/java/com/otectus/arsnspells/events/ArsCostStage.java"));
+        assertTrue(stage.contains("event.context") && stage.contains(".getSpell()"),
+            "ArsCostStage must read spell directly from event.context.getSpell()");
     }
 
     @Test
@@ -12,8 +12,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 /**
  * ANS-HIGH-002 — verifies that {@link ManaInfusionRitual} and
  * {@link ManaWellRitual} now route mana grants through
- * {@code BridgeManager.getBridge().addMana(...)} instead of importing
- * Iron's {@code MagicData} directly.
+ * {@code BridgeManager.getBridge()} instead of importing Iron's
+ * {@code MagicData} directly. Grants are staged as ledger credits against the
+ * active bridge so they coalesce with the tick's other mana writes.
  */
 class ManaRitualBridgeRouteTest {
 
@@ -25,8 +26,8 @@ class ManaRitualBridgeRouteTest {
             "ManaInfusionRitual must not import Iron's MagicData directly");
         assertFalse(src.contains("MagicData.getPlayerMagicData"),
             "ManaInfusionRitual must not call MagicData.getPlayerMagicData directly");
-        assertTrue(src.contains("BridgeManager.getBridge().addMana"),
-            "ManaInfusionRitual must route the mana grant through BridgeManager.addMana");
+        assertTrue(src.contains("ManaLedger.credit(") && src.contains("BridgeManager.getBridge()"),
+            "ManaInfusionRitual must route the mana grant through a ledger credit on the active bridge");
     }
 
     @Test
@@ -37,7 +38,7 @@ class ManaRitualBridgeRouteTest {
             "ManaWellRitual must not import Iron's MagicData directly");
         assertFalse(src.contains("MagicData.getPlayerMagicData"),
             "ManaWellRitual must not call MagicData.getPlayerMagicData directly");
-        assertTrue(src.contains("BridgeManager.getBridge().addMana"),
-            "ManaWellRitual must route the mana grant through BridgeManager.addMana");
+        assertTrue(src.contains("ManaLedger.credit(") && src.contains("BridgeManager.getBridge()"),
+            "ManaWellRitual must route the mana grant through a ledger credit on the active bridge");
     }
 }
@@ -1,19 +1,27 @@
 package com.otectus.arsnspells.spell;
 
+import com.otectus.arsnspells.bridge.IManaBridge;
+import com.otectus.arsnspells.bridge.ManaLedger;
+import net.minecraft.world.entity.player.Player;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * ANS-HIGH-030 — SEPARATE mode pre-pays the Iron's share of a cross-cast during
- * the Ars cost-calc event (ANS-CRIT-002). If the Ars leg then fails
- * (insufficient Ars mana or a downstream cancel), that payment must be
- * refunded; zeroing {@code issCost} alone erased the only record of it and made
- * a failed cross-cast a one-way Iron's-mana drain.
+ * ANS-HIGH-030 — SEPARATE mode secures the Iron's share of a cross-cast during
+ * the Ars cost-calc event (ANS-CRIT-002), now as a {@code ManaLedger} reservation.
+ * If the Ars leg then fails (insufficient Ars mana or a downstream cancel), the
+ * hold must be released; zeroing {@code issCost} alone erased the only record of
+ * it and made a failed cross-cast a one-way Iron's-mana drain.
+ *
+ * <p>The hold/settle steps are driven directly with a stub Iron's pool and no player.
  */
 class CrossCastSeparateRefundTest {
 
@@ -37,18 +45,79 @@ class CrossCastSeparateRefundTest {
     }
 
     @Test
-    void failedArsLeg_refundsViaSecondaryBridge() throws IOException {
-        String src = Files.readString(Paths.get(
-            "src/main/java/com/otectus/arsnspells/spell/CrossCastingHandler.java"));
+    void heldShare_isChargedOnlyOnceTheArsLegPays() {
+        StubPool iss = new StubPool(100.0f);
+        CrossCastContext.Entry entry = newEntry();
+        ManaLedger.Reservation hold = ManaLedger.reserve(null, iss, 30.0f);
+
+        CrossCastingHandler.holdIronsShare(entry, hold, 30.0f);
+        assertEquals(0.0f, entry.issCost, 0.0f, "issCost goes to 0 for the TAIL's already-paid contract");
+        assertEquals(30.0f, entry.issPaid, 0.0f);
+        assertEquals(100.0f, iss.mana, 0.0f, "cost-calc only holds the share");
+
+        assertFalse(CrossCastingHandler.settleIronsShare(entry, true));
+        assertEquals(70.0f, iss.mana, 0.0f);
+    }
+
+    @Test
+    void failedArsLeg_releasesReservation() {
+        StubPool iss = new StubPool(100.0f);
+        CrossCastContext.Entry entry = newEntry();
+        CrossCastingHandler.holdIronsShare(entry, ManaLedger.reserve(null, iss, 30.0f), 30.0f);
+
+        assertTrue(CrossCastingHandler.settleIronsShare(entry, false),
+            "castArsSpell's failure path must release the reserved Iron's share (ANS-HIGH-030)");
+        assertFalse(entry.issReservation.isOpen());
+        assertEquals(100.0f, iss.mana, 0.0f, "a failed cross-cast must not drain Iron's mana");
+
+        ManaLedger.commit(entry.issReservation);
+        assertEquals(100.0f, iss.mana, 0.0f, "a released hold cannot be charged later");
+    }
+
+    @Test
+    void shareCommittedByTheTail_staysPaidAndIsNotChargedTwice() {
+        StubPool iss = new StubPool(100.0f);
+        CrossCastContext.Entry entry = newEntry();
+        CrossCastingHandler.holdIronsShare(entry, ManaLedger.reserve(null, iss, 30.0f), 30.0f);
+
+        ManaLedger.commit(entry.issReservation); // expendMana TAIL
+        assertFalse(CrossCastingHandler.settleIronsShare(entry, false));
+        assertFalse(CrossCastingHandler.settleIronsShare(entry, true));
+        assertEquals(70.0f, iss.mana, 0.0f);
+    }
+
+    @Test
+    void entryWithoutHold_settlesAsNoOp() {
+        assertFalse(CrossCastingHandler.settleIronsShare(null, false));
+        assertFalse(CrossCastingHandler.settleIronsShare(newEntry(), false));
+        assertFalse(CrossCastingHandler.settleIronsShare(newEntry(), true));
+    }
+
+    private static CrossCastContext.Entry newEntry() {
+        return new CrossCastContext.Entry(CrossSpellType.ARS_NOUVEAU, Long.MAX_VALUE, UUID.randomUUID());
+    }
+
+    /**
+     * Iron's pool stand-in. With no player the ledger takes its client-side bypass:
+     * a reservation holds nothing and its commit consumes from the pool directly.
+     */
+    private static final class StubPool implements IManaBridge {
+        float mana;
+
+        StubPool(float mana) {
+            this.mana = mana;
+        }
 
-        int castIdx = src.indexOf("public static boolean castArsSpell");
-        assertTrue(castIdx >= 0);
-        int nextMethodIdx = src.indexOf("private static boolean castIronsSpell", castIdx);
-        if (nextMethodIdx < 0) nextMethodIdx = src.length();
-        String body = src.substring(castIdx, nextMethodIdx);
+        @Override public float getMana(Player player) { return mana; }
+        @Override public void setMana(Player player, float amount) { mana = amount; }
+        @Override public float getMaxMana(Player player) { return 100.0f; }
+        @Override public String getBridgeType() { return "STUB_ISS"; }
 
-        assertTrue(body.contains("issPaid") && body.contains("addMana"),
-            "castArsSpell's failure path must refund the pre-paid Iron's mana via "
-                + "the secondary bridge's compensating addMana (ANS-HIGH-030)");
+        @Override
+        public boolean consumeMana(Player player, float amount) {
+            if (mana < amount) return false;
+            mana -= amount;
+            return true;
+        }
     }
 }
@@ -7,59 +7,83 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
- * ANS-CRIT-004 — verifies that {@code CrossCastingHandler.onArsSpellCost} is annotated
- * {@code @SubscribeEvent(priority = EventPriority.HIGHEST)} so it runs BEFORE the
- * {@code CursedRingHandler} / {@code VirtueRingHandler} handlers (also at HIGHEST).
+ * ANS-CRIT-004 — verifies that the cross-cast multiplier is applied BEFORE the
+ * {@code CursedRingHandler} / {@code VirtueRingHandler} cost substitutions.
  *
- * <p>Without this priority, the ring handlers would zero {@code event.currentCost} first,
+ * <p>Without this ordering, the ring steps would zero {@code event.currentCost} first,
  * and then the cross-cast multiplier would multiply 0×1.25 = 0, silently bypassing the
  * documented cross-cast overhead whenever a ring was worn.
  *
- * <p>Verifying via reflection requires loading {@link CrossCastingHandler}, whose
- * other methods reference Ars Nouveau API types (e.g. {@code SpellCostCalcEvent},
+ * <p>All four ANS cost steps now run inside the single {@code ArsCostStage} listener, so
+ * the ordering is the call order in that class rather than listener priorities. The
+ * classes involved reference Ars Nouveau API types (e.g. {@code SpellCostCalcEvent},
  * {@code SpellResolver}) that live in a deobf jar not present on the unit-test
- * classpath. So this test performs a textual assertion on the source file instead —
+ * classpath. So this test performs a textual assertion on the source files instead —
  * brittle but robust to the deobf gap.
  */
 class CrossCastingHandlerPriorityTest {
 
-    private static final Path SOURCE = Paths.get(
-        "src/main/java/com/otectus/arsnspells/spell/CrossCastingHandler.java");
+    private static final Path STAGE = Paths.get(
+        "src/main/java/com/otectus/arsnspells/events/ArsCostStage.java");
 
     @Test
-    void onArsSpellCost_runsAtHighestPriority_perSourceText() {
-        String source;
-        try {
-            source = Files.readString(SOURCE);
-        } catch (IOException e) {
-            fail("Could not read CrossCastingHandler source at " + SOURCE.toAbsolutePath() + ": " + e);
-            return;
-        }
+    void costStage_runsAtHighestPriority_perSourceText() {
+        String source = read(STAGE);
 
         int annotationIdx = source.indexOf("@SubscribeEvent(priority = EventPriority.HIGHEST)");
-        int methodIdx = source.indexOf("public static void onArsSpellCost(");
+        int methodIdx = source.indexOf("public static void onSpellCostCalc(", annotationIdx);
 
-        assertTrue(methodIdx > 0,
-            "onArsSpellCost method declaration not found — has it been renamed or removed?");
         assertTrue(annotationIdx > 0,
             "No @SubscribeEvent(priority = EventPriority.HIGHEST) annotation found in "
-                + "CrossCastingHandler.java — ANS-CRIT-004 fix has regressed.");
-        // The HIGHEST-priority annotation must appear BEFORE the onArsSpellCost method
-        // (i.e., it must be ITS annotation, not some other handler's).
-        int methodFromAnnotation = source.indexOf("public static void onArsSpellCost(", annotationIdx);
-        assertTrue(methodFromAnnotation > annotationIdx,
-            "@SubscribeEvent(priority = EventPriority.HIGHEST) must annotate onArsSpellCost "
-                + "(no other handler in this class should be HIGHEST). Order observed: "
-                + "annotationIdx=" + annotationIdx + " methodIdx=" + methodFromAnnotation);
-        // Within 200 characters of annotation: the method declaration should follow
-        // (catches the case where a later method got the annotation instead).
-        assertTrue(methodFromAnnotation - annotationIdx < 400,
-            "Annotation @SubscribeEvent(priority = EventPriority.HIGHEST) is too far from "
-                + "the onArsSpellCost declaration — likely not annotating it. Gap = "
-                + (methodFromAnnotation - annotationIdx));
+                + "ArsCostStage.java — ANS-CRIT-004 fix has regressed.");
+        assertTrue(methodIdx > annotationIdx && methodIdx - annotationIdx < 400,
+            "@SubscribeEvent(priority = EventPriority.HIGHEST) must annotate onSpellCostCalc. "
+                + "annotationIdx=" + annotationIdx + " methodIdx=" + methodIdx);
+    }
+
+    @Test
+    void crossCastMultiplier_precedesRingSubstitutionAndDiscount() {
+        String source = read(STAGE);
+
+        int crossCast = source.indexOf("CrossCastingHandler.applyArsCrossCastCost(");
+        int cursed = source.indexOf("CursedRingHandler.applyToCost(");
+        int virtue = source.indexOf("VirtueRingHandler.applyToCost(");
+        int curio = source.indexOf("CurioDiscountHandler.applyToCost(");
+
+        assertTrue(crossCast > 0 && cursed > 0 && virtue > 0 && curio > 0,
+            "ArsCostStage must call every cost step: crossCast=" + crossCast
+                + " cursed=" + cursed + " virtue=" + virtue + " curio=" + curio);
+        assertTrue(crossCast < cursed && cursed < virtue && virtue < curio,
+            "Cost steps out of order (expected cross-cast, cursed, virtue, curio): crossCast="
+                + crossCast + " cursed=" + cursed + " virtue=" + virtue + " curio=" + curio);
+    }
+
+    @Test
+    void stepHandlers_noLongerSubscribeToCostCalc() {
+        String[] steps = {
+            "src/main/java/com/otectus/arsnspells/spell/CrossCastingHandler.java",
+            "src/main/java/com/otectus/arsnspells/events/CursedRingHandler.java",
+            "src/main/java/com/otectus/arsnspells/events/VirtueRingHandler.java",
+            "src/main/java/com/otectus/arsnspells/events/CurioDiscountHandler.java",
+        };
+        for (String step : steps) {
+            assertFalse(read(Paths.get(step)).contains("(SpellCostCalcEvent "),
+                step + " must not listen to SpellCostCalcEvent directly — a second listener "
+                    + "would re-apply its step on top of ArsCostStage");
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            fail("Could not read source at " + path.toAbsolutePath() + ": " + e);
+            return "";
+        }
     }
 }
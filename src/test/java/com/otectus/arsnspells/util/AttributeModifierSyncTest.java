@@ -0,0 +1,64 @@
+package com.otectus.arsnspells.util;
+
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.entity.ai.attributes.RangedAttribute;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diffed modifier writes: an unchanged amount must not dirty the attribute instance
+ * (which is what queues it for a client sync). Attribute instances are plain objects,
+ * so no Minecraft bootstrap is needed.
+ */
+class AttributeModifierSyncTest {
+
+    private static final UUID ID = UUID.fromString("d3e1f1d1-6b39-4ec7-9a4a-7e6d706a8b9b");
+    private static final AttributeModifier.Operation ADD = AttributeModifier.Operation.ADDITION;
+
+    private final int[] dirty = {0};
+    private final AttributeInstance instance = new AttributeInstance(
+        new RangedAttribute("test.max_mana", 100.0, 0.0, 1_000_000.0), i -> dirty[0]++);
+
+    @Test
+    void unchangedAmount_withinEpsilon_isNotRewritten() {
+        assertTrue(AttributeModifierSync.apply(instance, ID, "Ars Gear Max Mana", 250.0, ADD));
+        int afterFirst = dirty[0];
+
+        assertFalse(AttributeModifierSync.apply(instance, ID, "Ars Gear Max Mana", 250.0, ADD));
+        assertFalse(AttributeModifierSync.apply(instance, ID, "Ars Max Mana Sync", 250.0 + 1e-9, ADD),
+            "float noise and a different cosmetic name are not changes");
+        assertEquals(afterFirst, dirty[0], "skipped writes must not dirty the attribute");
+        assertEquals(350.0, instance.getValue(), 1e-9);
+    }
+
+    @Test
+    void changedAmountOrOperation_isRewritten() {
+        AttributeModifierSync.apply(instance, ID, "m", 250.0, ADD);
+
+        assertTrue(AttributeModifierSync.apply(instance, ID, "m", 260.0, ADD));
+        assertEquals(360.0, instance.getValue(), 1e-9);
+        assertTrue(AttributeModifierSync.apply(instance, ID, "m", 260.0, AttributeModifier.Operation.MULTIPLY_BASE));
+        assertEquals(AttributeModifier.Operation.MULTIPLY_BASE, instance.getModifier(ID).getOperation());
+    }
+
+    @Test
+    void remove_onlyWritesWhenPresent() {
+        assertFalse(AttributeModifierSync.remove(instance, ID));
+        AttributeModifierSync.apply(instance, ID, "m", 5.0, ADD);
+        assertTrue(AttributeModifierSync.remove(instance, ID));
+        assertNull(instance.getModifier(ID));
+    }
+
+    @Test
+    void missingInstance_isANoOp() {
+        assertFalse(AttributeModifierSync.apply(null, ID, "m", 5.0, ADD));
+        assertFalse(AttributeModifierSync.remove(null, ID));
+    }
+}
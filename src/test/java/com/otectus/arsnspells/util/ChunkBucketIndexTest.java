@@ -0,0 +1,93 @@
+package com.otectus.arsnspells.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Direct coverage for the chunk-bucketed position index behind the Source Jar
+ * proximity check. Pure math and collections, so no Minecraft bootstrap.
+ */
+class ChunkBucketIndexTest {
+
+    private static ChunkBucketIndex indexed(int... chunkXZ) {
+        ChunkBucketIndex index = new ChunkBucketIndex();
+        for (int i = 0; i < chunkXZ.length; i += 2) {
+            index.indexChunk(ChunkScanUtil.chunkKey(chunkXZ[i], chunkXZ[i + 1]), new long[0]);
+        }
+        return index;
+    }
+
+    @Test
+    void pack_roundTripsNegativeAndExtremeCoordinates() {
+        int[][] cases = {{0, 0, 0}, {-1, -64, -1}, {33_554_431, 2047, -33_554_432}, {-30_000_000, 319, 30_000_000}};
+        for (int[] c : cases) {
+            long packed = ChunkBucketIndex.pack(c[0], c[1], c[2]);
+            assertEquals(c[0], ChunkBucketIndex.unpackX(packed));
+            assertEquals(c[1], ChunkBucketIndex.unpackY(packed));
+            assertEquals(c[2], ChunkBucketIndex.unpackZ(packed));
+        }
+    }
+
+    @Test
+    void anyWithin_matchesTheOldScanVolume() {
+        ChunkBucketIndex index = indexed(0, 0);
+        index.add(12, 64, 8);
+
+        assertTrue(index.anyWithin(8, 8, 4, 63, 66), "jar on the +x edge of the box");
+        assertFalse(index.anyWithin(7, 8, 4, 63, 66), "one block past the radius");
+        assertFalse(index.anyWithin(8, 8, 4, 65, 68), "below the y band");
+        assertFalse(index.anyWithin(8, 8, 4, 60, 63), "above the y band");
+    }
+
+    @Test
+    void anyWithin_findsJarsAcrossChunkBorders_atNegativeCoordinates() {
+        ChunkBucketIndex index = indexed(-1, -1, -1, 0, 0, -1, 0, 0);
+        index.add(-3, 70, 2);
+
+        // Player at (1, 70, -1): radius 4 spans chunks -1..0 on both axes.
+        assertTrue(index.anyWithin(1, -1, 4, 69, 72));
+        assertFalse(index.anyWithin(6, -1, 4, 69, 72));
+    }
+
+    @Test
+    void add_isIgnoredForChunksNotYetIndexed() {
+        ChunkBucketIndex index = new ChunkBucketIndex();
+        assertFalse(index.add(5, 64, 5));
+        assertFalse(index.isIndexed(ChunkScanUtil.chunkKey(0, 0)),
+            "a stray add must not make an unscanned chunk look indexed");
+        assertFalse(index.anyWithin(5, 5, 2, 63, 66));
+    }
+
+    @Test
+    void removeAndDropChunk_forgetPositions() {
+        ChunkBucketIndex index = indexed(0, 0, 1, 0);
+        index.add(2, 64, 2);
+        index.add(3, 64, 2);
+        index.add(18, 64, 2);
+        index.add(2, 64, 2); // duplicate add is a no-op
+        assertEquals(3, index.size());
+
+        index.remove(2, 64, 2);
+        assertEquals(2, index.size());
+        assertTrue(index.anyWithin(3, 2, 0, 64, 64));
+        assertFalse(index.anyWithin(2, 2, 0, 64, 64));
+
+        index.dropChunk(ChunkScanUtil.chunkKey(1, 0));
+        assertFalse(index.anyWithin(18, 2, 1, 63, 66));
+        assertEquals(1, index.chunkCount());
+    }
+
+    @Test
+    void indexChunk_replacesTheWholeBucket() {
+        ChunkBucketIndex index = indexed(0, 0);
+        index.add(1, 64, 1);
+        index.indexChunk(ChunkScanUtil.chunkKey(0, 0), new long[] {ChunkBucketIndex.pack(9, 64, 9)});
+
+        assertFalse(index.anyWithin(1, 1, 0, 64, 64));
+        assertTrue(index.anyWithin(9, 9, 0, 64, 64));
+        assertEquals(1, index.indexedChunks().length);
+    }
+}
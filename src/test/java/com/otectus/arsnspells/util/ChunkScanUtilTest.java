@@ -8,6 +8,7 @@ import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -67,4 +68,32 @@ class ChunkScanUtilTest {
             assertTrue(cz <= ((100_000 + 4) >> 4) && cz >= ((100_000 - 4) >> 4));
         }
     }
+
+    @Test
+    void scanBox_coversTheSameChunksAsCoveredChunkKeys_whenReused() {
+        ChunkScanUtil.ScanBox box = new ChunkScanUtil.ScanBox();
+        for (int x = -40; x <= 40; x += 3) {
+            for (int radius = 1; radius <= 8; radius++) {
+                box.set(x, -x, radius, 60, 63);
+                Set<String> fromBox = new TreeSet<>();
+                for (int cx = box.minChunkX; cx <= box.maxChunkX; cx++) {
+                    for (int cz = box.minChunkZ; cz <= box.maxChunkZ; cz++) {
+                        fromBox.add(cx + "," + cz);
+                    }
+                }
+                assertEquals(chunks(x, -x, radius), fromBox, "x=" + x + " radius=" + radius);
+                assertEquals(fromBox.size(), box.chunkCount());
+            }
+        }
+    }
+
+    @Test
+    void scanBox_containsIsInclusive() {
+        ChunkScanUtil.ScanBox box = new ChunkScanUtil.ScanBox().set(0, 0, 4, 63, 66);
+        assertTrue(box.contains(4, 63, -4));
+        assertTrue(box.contains(-4, 66, 4));
+        assertFalse(box.contains(5, 64, 0));
+        assertFalse(box.contains(0, 67, 0));
+        assertFalse(box.contains(0, 62, 0));
+    }
 }
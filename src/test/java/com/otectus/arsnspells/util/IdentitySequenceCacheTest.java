@@ -0,0 +1,73 @@
+package com.otectus.arsnspells.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link IdentitySequenceCache} backs the {@code SpellAnalysis} memo. A hit needs
+ * the same element instances in the same order; equal-but-distinct elements or a
+ * recipe mutated after caching must miss.
+ */
+class IdentitySequenceCacheTest {
+
+    private static final Object PROJECTILE = new Object();
+    private static final Object HARM = new Object();
+    private static final Object AMPLIFY = new Object();
+
+    @Test
+    void sameInstancesSameOrder_hits() {
+        IdentitySequenceCache<String> cache = new IdentitySequenceCache<>(16);
+        cache.put(List.of(PROJECTILE, HARM, AMPLIFY), "harm");
+
+        assertEquals("harm", cache.get(new ArrayList<>(List.of(PROJECTILE, HARM, AMPLIFY))),
+            "a different list holding the same glyph instances is the same recipe");
+        assertNull(cache.get(List.of(PROJECTILE, AMPLIFY, HARM)), "order matters");
+        assertNull(cache.get(List.of(PROJECTILE, HARM)), "length matters");
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void equalButDistinctElements_miss() {
+        IdentitySequenceCache<String> cache = new IdentitySequenceCache<>(16);
+        cache.put(List.of(new String("glyph_harm")), "harm");
+        assertNull(cache.get(List.of(new String("glyph_harm"))),
+            "keys compare by identity, never equals()");
+    }
+
+    @Test
+    void mutatedRecipe_missesInsteadOfReturningStaleResult() {
+        IdentitySequenceCache<String> cache = new IdentitySequenceCache<>(16);
+        List<Object> recipe = new ArrayList<>(List.of(PROJECTILE, HARM));
+        cache.put(recipe, "harm");
+        recipe.set(1, AMPLIFY);
+        assertNull(cache.get(recipe), "the cache keeps a copy of the key, not the live list");
+    }
+
+    @Test
+    void boundedCapacity_collisionsReplaceTheSlot() {
+        IdentitySequenceCache<Object> cache = new IdentitySequenceCache<>(1);
+        List<List<Object>> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            List<Object> key = List.of(new Object());
+            keys.add(key);
+            cache.put(key, key);
+        }
+        int found = 0;
+        for (List<Object> key : keys) {
+            Object value = cache.get(key);
+            if (value != null) {
+                assertSame(key, value, "a hit must never return another key's value");
+                found++;
+            }
+        }
+        assertTrue(found <= 2, "capacity 1 rounds up to two slots, which hold at most two recipes");
+    }
+}